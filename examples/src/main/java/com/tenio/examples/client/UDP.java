@@ -30,6 +30,7 @@ import java.net.InetAddress;
 import java.net.SocketException;
 import java.net.StandardSocketOptions;
 import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
@@ -37,6 +38,7 @@ import com.tenio.common.data.implement.ZeroObjectImpl;
 import com.tenio.common.utilities.OsUtility;
 import com.tenio.common.utilities.OsUtility.OSType;
 import com.tenio.core.entities.data.ServerMessage;
+import com.tenio.core.network.security.DatagramPathUtility;
 
 /**
  * Create an object for handling a Datagram socket connection. It is used to
@@ -54,6 +56,12 @@ public final class UDP {
 	 * The desired port for listening
 	 */
 	private int __port;
+	/**
+	 * Whether the datagrams are prefixed with a connection id
+	 */
+	private boolean __connectionIdFraming;
+	private long __connectionId;
+	private long __connectionKey;
 
 	/**
 	 * Listen in a port on the local machine
@@ -92,6 +100,34 @@ public final class UDP {
 		this(port, false);
 	}
 
+	/**
+	 * Prefix the sending datagrams with a connection id, it should be used when the
+	 * server enables the "datagram-connection-id" property. The id is 0 until the
+	 * server issues one, see {@link #setConnectionId(long)}.
+	 */
+	public void useConnectionIdFraming() {
+		__connectionIdFraming = true;
+	}
+
+	/**
+	 * Set the connection id which was issued by the server
+	 * 
+	 * @param connectionId the connection id
+	 */
+	public void setConnectionId(long connectionId) {
+		__connectionId = connectionId;
+	}
+
+	/**
+	 * Set the secret key which was issued by the server with the connection id, it
+	 * is used to answer the server's challenges when the client's address changed
+	 * 
+	 * @param connectionKey the connection key
+	 */
+	public void setConnectionKey(long connectionKey) {
+		__connectionKey = connectionKey;
+	}
+
 	/**
 	 * Send a message to the server
 	 * 
@@ -99,6 +135,9 @@ public final class UDP {
 	 */
 	public void send(ServerMessage message) {
 		var pack = message.getData().toBinary();
+		if (__connectionIdFraming) {
+			pack = ByteBuffer.allocate(Long.BYTES + pack.length).putLong(__connectionId).put(pack).array();
+		}
 		var request = new DatagramPacket(pack, pack.length, __address, __port);
 		try {
 			__socket.send(request);
@@ -120,6 +159,9 @@ public final class UDP {
 					byte[] buffer = new byte[DEFAULT_BYTE_BUFFER_SIZE];
 					var response = new DatagramPacket(buffer, buffer.length);
 					__socket.receive(response);
+					if (__connectionIdFraming && __answerPathChallenge(response)) {
+						continue;
+					}
 					var data = ZeroObjectImpl.newInstance(buffer);
 					listener.onReceivedUDP(ServerMessage.newInstance().setData(data));
 				} catch (IOException e) {
@@ -130,6 +172,30 @@ public final class UDP {
 		});
 	}
 
+	/**
+	 * The server does not follow a new address of the client until it proves the
+	 * connection key
+	 * 
+	 * @param response the received datagram
+	 * @return <code>true</code> if the datagram was a challenge
+	 * @throws IOException
+	 */
+	private boolean __answerPathChallenge(DatagramPacket response) throws IOException {
+		if (response.getLength() != DatagramPathUtility.PATH_VALIDATION_DATAGRAM_SIZE) {
+			return false;
+		}
+		var buffer = ByteBuffer.wrap(response.getData(), response.getOffset(), response.getLength());
+		long header = buffer.getLong();
+		if (!DatagramPathUtility.isPathValidation(header)) {
+			return false;
+		}
+		long proof = DatagramPathUtility.computeProof(__connectionKey, buffer.getLong());
+		var pack = DatagramPathUtility.newPathValidationDatagram(DatagramPathUtility.getConnectionId(header), proof)
+				.array();
+		__socket.send(new DatagramPacket(pack, pack.length, response.getSocketAddress()));
+		return true;
+	}
+
 	/**
 	 * Close this connection
 	 */
@@ -39,7 +39,7 @@ public final class PlayerLoggedinHandler extends AbstractExtension implements Ev
 			var data = object().putString(SharedEventKey.KEY_PLAYER_LOGIN,
 					String.format("Welcome to server: %s", player.getName()));
 
-			response().setContent(data.toBinary()).setRecipient(player).write();
+			response().setContent(data).setRecipient(player).write();
 		}
 	}
 
@@ -40,7 +40,7 @@ public final class ReceivedMessageFromPlayerHandler extends AbstractExtension
 		var data = object().putString(SharedEventKey.KEY_CLIENT_SERVER_ECHO, String.format("Echo(%s): %s",
 				player.getName(), ((ZeroObject) message.getData()).getString(SharedEventKey.KEY_CLIENT_SERVER_ECHO)));
 
-		response().setContent(data.toBinary()).setRecipient(player).write();
+		response().setContent(data).setRecipient(player).write();
 	}
 
 }
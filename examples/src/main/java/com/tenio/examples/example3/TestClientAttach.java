@@ -69,6 +69,7 @@ public final class TestClientAttach implements SocketListener, DatagramListener
 
 		// create a new UDP object and listen for this port
 		__udp = new UDP(DATAGRAM_PORT);
+		__udp.useConnectionIdFraming();
 		__udp.receive(this);
 
 		// send a login request
@@ -95,7 +96,11 @@ public final class TestClientAttach implements SocketListener, DatagramListener
 			break;
 
 		case UdpEstablishedState.ATTACHED: {
-			// the UDP connected successful, you now can send test requests
+			// the UDP connected successful, all the next datagrams carry the issued
+			// connection id, you now can send test requests
+			var attachedData = (ZeroObject) message.getData();
+			__udp.setConnectionId(attachedData.getLong(SharedEventKey.KEY_DATAGRAM_CONNECTION_ID));
+			__udp.setConnectionKey(attachedData.getLong(SharedEventKey.KEY_DATAGRAM_CONNECTION_KEY));
 			System.out.println("Start the conversation ...");
 
 			for (int i = 1; i <= 100; i++) {
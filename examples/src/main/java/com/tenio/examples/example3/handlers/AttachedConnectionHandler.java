@@ -37,9 +37,13 @@ public final class AttachedConnectionHandler extends AbstractExtension implement
 	@Override
 	public void handle(Player player, AttachedConnectionResult result) {
 		if (result == AttachedConnectionResult.SUCCESS) {
-			var data = object().putByte(SharedEventKey.KEY_ALLOW_TO_ATTACH, UdpEstablishedState.ATTACHED);
+			// the client should prefix its next datagrams with this id, the key proves its
+			// new address when it changes, so it is only sent over the TCP connection
+			var data = object().putByte(SharedEventKey.KEY_ALLOW_TO_ATTACH, UdpEstablishedState.ATTACHED)
+					.putLong(SharedEventKey.KEY_DATAGRAM_CONNECTION_ID, player.getSession().getDatagramConnectionId())
+					.putLong(SharedEventKey.KEY_DATAGRAM_CONNECTION_KEY, player.getSession().getDatagramConnectionKey());
 
-			response().setContent(data.toBinary()).setRecipient(player).write();
+			response().setContent(data).setRecipient(player).write();
 		}
 	}
 
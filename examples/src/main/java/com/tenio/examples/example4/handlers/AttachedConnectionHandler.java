@@ -39,7 +39,7 @@ public final class AttachedConnectionHandler extends AbstractExtension implement
 		if (result == AttachedConnectionResult.SUCCESS) {
 			var data = object().putByte(SharedEventKey.KEY_ALLOW_TO_ATTACH, UdpEstablishedState.ATTACHED);
 
-			response().setContent(data.toBinary()).setRecipient(player).write();
+			response().setContent(data).setRecipient(player).write();
 		}
 	}
 
@@ -39,7 +39,7 @@ public final class PlayerLoggedinHandler extends AbstractExtension implements Ev
 		if (result == PlayerLoggedinResult.SUCCESS) {
 			var data = object().putByte(SharedEventKey.KEY_ALLOW_TO_ATTACH, UdpEstablishedState.ALLOW_TO_ATTACH);
 
-			response().setContent(data.toBinary()).setRecipient(player).write();
+			response().setContent(data).setRecipient(player).write();
 		}
 	}
 
@@ -63,7 +63,7 @@ public final class ServerInitializedHandler extends AbstractExtension implements
 				array.add((int) vehicle.getRotation());
 				data.putIntegerArray(SharedEventKey.KEY_PLAYER_GET_RESPONSE, array);
 
-				response().setRecipients(players).setContent(data.toBinary()).prioritizedUdp().write();
+				response().setRecipients(players).setContent(data).prioritizedUdp().write();
 			}
 
 			@Override
@@ -73,7 +73,7 @@ public final class ServerInitializedHandler extends AbstractExtension implements
 					var data = object();
 					data.putInteger(SharedEventKey.KEY_PLAYER_REQUEST_NEIGHBOURS, currentFps);
 
-					response().setRecipient(player).setContent(data.toBinary()).write();
+					response().setRecipient(player).setContent(data).write();
 				}
 			}
 
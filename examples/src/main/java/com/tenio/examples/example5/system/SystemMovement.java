@@ -24,6 +24,8 @@ THE SOFTWARE.
 package com.tenio.examples.example5.system;
 
 import com.tenio.engine.ecs.bases.Context;
+import com.tenio.engine.ecs.bases.Group;
+import com.tenio.engine.ecs.bases.implement.Matcher;
 import com.tenio.engine.ecs.systems.ExecuteSystem;
 import com.tenio.engine.ecs.systems.InitializeSystem;
 import com.tenio.engine.ecs.systems.implement.AbstractSystem;
@@ -34,8 +36,11 @@ import com.tenio.examples.example5.context.GameEntity;
 
 public final class SystemMovement extends AbstractSystem<GameEntity> implements InitializeSystem, ExecuteSystem {
 
+	private final Group<GameEntity> __movingEntities;
+
 	public SystemMovement(Context<GameEntity> context) {
 		super(context);
+		__movingEntities = context.getGroup(Matcher.allOf(GameComponents.POSITION, GameComponents.MOTION));
 	}
 
 	@Override
@@ -45,14 +50,12 @@ public final class SystemMovement extends AbstractSystem<GameEntity> implements
 
 	@Override
 	public void execute(float deltaTime) {
-		for (var entity : getContext().getEntities().values()) {
-			if (entity.hasComponents(GameComponents.POSITION, GameComponents.MOTION)) {
-				var position = (Position) entity.getComponent(GameComponents.POSITION);
-				if (position.x < Example5Constant.DESIGN_WIDTH) {
-					position.x += deltaTime;
-				} else {
-					position.x = 0;
-				}
+		for (int i = 0; i < __movingEntities.getCount(); i++) {
+			var position = (Position) __movingEntities.getEntity(i).getComponent(GameComponents.POSITION);
+			if (position.x < Example5Constant.DESIGN_WIDTH) {
+				position.x += deltaTime;
+			} else {
+				position.x = 0;
 			}
 		}
 	}
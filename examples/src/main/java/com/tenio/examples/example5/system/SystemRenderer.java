@@ -27,6 +27,8 @@ import java.awt.Color;
 
 import com.tenio.common.utilities.MathUtility;
 import com.tenio.engine.ecs.bases.Context;
+import com.tenio.engine.ecs.bases.Group;
+import com.tenio.engine.ecs.bases.implement.Matcher;
 import com.tenio.engine.ecs.systems.InitializeSystem;
 import com.tenio.engine.ecs.systems.RenderSystem;
 import com.tenio.engine.ecs.systems.implement.AbstractSystem;
@@ -37,8 +39,11 @@ import com.tenio.examples.example5.context.GameEntity;
 
 public final class SystemRenderer extends AbstractSystem<GameEntity> implements InitializeSystem, RenderSystem {
 
+	private final Group<GameEntity> __visibleEntities;
+
 	public SystemRenderer(Context<GameEntity> context) {
 		super(context);
+		__visibleEntities = context.getGroup(Matcher.allOf(GameComponents.POSITION, GameComponents.VIEW));
 	}
 
 	@Override
@@ -48,22 +53,19 @@ public final class SystemRenderer extends AbstractSystem<GameEntity> implements
 
 	@Override
 	public void render(final Paint paint) {
-		for (var entity : getContext().getEntities().values()) {
-			if (entity.hasComponent(GameComponents.POSITION)) {
-				if (entity.hasComponent(GameComponents.VIEW)) {
-					if (entity.hasComponent(GameComponents.ANIMATION)) {
-						if (MathUtility.randBool()) {
-							paint.setPenColor(Color.BLACK);
-						} else {
-							paint.setPenColor(Color.RED);
-						}
-					} else {
-						paint.setPenColor(Color.RED);
-					}
-					var position = (Position) entity.getComponent(GameComponents.POSITION);
-					paint.drawCircle(position.x, position.y, 20);
+		for (int i = 0; i < __visibleEntities.getCount(); i++) {
+			var entity = __visibleEntities.getEntity(i);
+			if (entity.hasComponent(GameComponents.ANIMATION)) {
+				if (MathUtility.randBool()) {
+					paint.setPenColor(Color.BLACK);
+				} else {
+					paint.setPenColor(Color.RED);
 				}
+			} else {
+				paint.setPenColor(Color.RED);
 			}
+			var position = (Position) entity.getComponent(GameComponents.POSITION);
+			paint.drawCircle(position.x, position.y, 20);
 		}
 	}
 
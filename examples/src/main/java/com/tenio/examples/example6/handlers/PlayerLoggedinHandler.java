@@ -41,7 +41,7 @@ public final class PlayerLoggedinHandler extends AbstractExtension implements Ev
 							String.format("Welcome to server: %s", player.getName()))
 					.putString(SharedEventKey.KEY_PLAYER_LOGIN, player.getName());
 
-			response().setContent(data.toBinary()).setRecipient(player).write();
+			response().setContent(data).setRecipient(player).write();
 		}
 	}
 
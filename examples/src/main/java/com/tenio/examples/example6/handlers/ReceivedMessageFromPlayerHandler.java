@@ -47,7 +47,7 @@ public final class ReceivedMessageFromPlayerHandler extends AbstractExtension
 								((ZeroObject) message.getData()).getString(SharedEventKey.KEY_CLIENT_SERVER_ECHO)))
 				.putIntegerArray(SharedEventKey.KEY_INTEGER_ARRAY, __getSortRandomNumberArray());
 
-		response().setContent(data.toBinary()).setRecipient(player).write();
+		response().setContent(data).setRecipient(player).write();
 	}
 
 	private List<Integer> __getSortRandomNumberArray() {
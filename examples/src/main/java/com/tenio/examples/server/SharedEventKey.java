@@ -27,6 +27,8 @@ public final class SharedEventKey {
 
 	public static final String KEY_PLAYER_LOGIN = "u";
 	public static final String KEY_ALLOW_TO_ATTACH = "a";
+	public static final String KEY_DATAGRAM_CONNECTION_ID = "c";
+	public static final String KEY_DATAGRAM_CONNECTION_KEY = "k";
 	public static final String KEY_CLIENT_SERVER_ECHO = "e";
 	public static final String KEY_INTEGER_ARRAY = "i";
 	public static final String KEY_PLAYER_POSITION = "p";
@@ -118,4 +118,36 @@ public interface ZeroArray extends ZeroElement {
 
 	ZeroArray addStringArray(Collection<String> element);
 
+	// the primitive forms of the arrays above, they are named after the plural of
+	// their types because most of the get<Type>Array names already return boxed
+	// collections, and a method can not be overloaded by its return type only. The
+	// getters return a copy, the stored array can not be changed through them
+	boolean[] getBooleans(int index);
+
+	short[] getShorts(int index);
+
+	int[] getInts(int index);
+
+	long[] getLongs(int index);
+
+	float[] getFloats(int index);
+
+	double[] getDoubles(int index);
+
+	String[] getStrings(int index);
+
+	ZeroArray addBooleans(boolean[] element);
+
+	ZeroArray addShorts(short[] element);
+
+	ZeroArray addInts(int[] element);
+
+	ZeroArray addLongs(long[] element);
+
+	ZeroArray addFloats(float[] element);
+
+	ZeroArray addDoubles(double[] element);
+
+	ZeroArray addStrings(String[] element);
+
 }
@@ -23,9 +23,21 @@ THE SOFTWARE.
 */
 package com.tenio.common.data;
 
+import java.nio.ByteBuffer;
+
 public interface ZeroElement {
 
 	byte[] toBinary();
+
+	/**
+	 * Writes the binary form of this element straight into the buffer, starting at
+	 * its current position, so no intermediate array is created.
+	 * 
+	 * @param buffer the destination, see {@link ByteBuffer}
+	 * @return the buffer holding the written data, it is a new bigger one (which
+	 *         also contains the old content) when the given one has not enough room
+	 */
+	ByteBuffer writeTo(ByteBuffer buffer);
 	
 	int size();
 	
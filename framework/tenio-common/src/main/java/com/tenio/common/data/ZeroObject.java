@@ -120,4 +120,36 @@ public interface ZeroObject extends ZeroElement {
 
 	ZeroObject putStringArray(String key, Collection<String> element);
 
+	// the primitive forms of the arrays above, they are named after the plural of
+	// their types because most of the get<Type>Array names already return boxed
+	// collections, and a method can not be overloaded by its return type only. The
+	// getters return a copy, the stored array can not be changed through them
+	boolean[] getBooleans(String key);
+
+	short[] getShorts(String key);
+
+	int[] getInts(String key);
+
+	long[] getLongs(String key);
+
+	float[] getFloats(String key);
+
+	double[] getDoubles(String key);
+
+	String[] getStrings(String key);
+
+	ZeroObject putBooleans(String key, boolean[] element);
+
+	ZeroObject putShorts(String key, short[] element);
+
+	ZeroObject putInts(String key, int[] element);
+
+	ZeroObject putLongs(String key, long[] element);
+
+	ZeroObject putFloats(String key, float[] element);
+
+	ZeroObject putDoubles(String key, double[] element);
+
+	ZeroObject putStrings(String key, String[] element);
+
 }
@@ -0,0 +1,624 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.common.data.implement;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import com.tenio.common.data.ZeroArray;
+import com.tenio.common.data.ZeroDataType;
+import com.tenio.common.data.ZeroObject;
+import com.tenio.common.data.elements.ZeroData;
+import com.tenio.common.data.utilities.ZeroDataArrayUtility;
+import com.tenio.common.data.utilities.ZeroDataSerializerUtility;
+
+/**
+ * A read-mostly {@link ZeroObject} which works on its encoded data. The keys
+ * and the offsets of their values are indexed on the first access, then a
+ * value is only decoded when it is read (nested objects are lazy too), so
+ * reading a few fields of a big message is cheap. The first modification
+ * decodes everything into a {@link ZeroObjectImpl} which handles the later
+ * calls. The original data is only serialized back when no nested container
+ * that was handed out can have been modified.
+ * 
+ * @author kong
+ */
+public final class LazyZeroObjectImpl implements ZeroObject {
+
+	private final byte[] __binary;
+	private final int __offset;
+	private final int __length;
+	private final int __size;
+
+	private String[] __keys;
+	private int[] __valueOffsets;
+	private int[] __valueEnds;
+	private ZeroData[] __values;
+	private ZeroObject __decodedObject;
+
+	/**
+	 * @param binary the encoded data, it must not be changed afterward
+	 * @param offset the start of the object in the array
+	 * @param length the number of bytes of the object
+	 * @return a new instance of {@link LazyZeroObjectImpl}
+	 */
+	public static ZeroObject newInstance(byte[] binary, int offset, int length) {
+		return new LazyZeroObjectImpl(binary, offset, length);
+	}
+
+	private LazyZeroObjectImpl(byte[] binary, int offset, int length) {
+		if (ZeroDataType.getByValue(binary[offset]) != ZeroDataType.ZERO_OBJECT) {
+			throw new IllegalStateException(String.format("Invalid ZeroDataType. Expected: %s, value: %d, but found: %d",
+					ZeroDataType.ZERO_OBJECT.toString(), ZeroDataType.ZERO_OBJECT.getValue(), binary[offset]));
+		}
+
+		__binary = binary;
+		__offset = offset;
+		__length = length;
+		__size = ByteBuffer.wrap(binary, offset + Byte.BYTES, Short.BYTES).getShort();
+
+		if (__size < 0) {
+			throw new NegativeArraySizeException(
+					String.format("Could not create an object with negative size value: %d", __size));
+		}
+	}
+
+	@Override
+	public synchronized byte[] toBinary() {
+		if (__decodedObject != null || !__isOriginal()) {
+			return __decode().toBinary();
+		}
+		// the original data is still valid
+		return Arrays.copyOfRange(__binary, __offset, __offset + __length);
+	}
+
+	@Override
+	public synchronized ByteBuffer writeTo(ByteBuffer buffer) {
+		if (__decodedObject != null || !__isOriginal()) {
+			return __decode().writeTo(buffer);
+		}
+		return ZeroDataSerializerUtility.binaryToBuffer(__binary, __offset, __length, buffer);
+	}
+
+	@Override
+	public boolean isNull(String key) {
+		var data = getZeroData(key);
+		return data == null ? false : data.getType() == ZeroDataType.NULL;
+	}
+
+	@Override
+	public synchronized boolean containsKey(String key) {
+		if (__decodedObject != null) {
+			return __decodedObject.containsKey(key);
+		}
+		return __indexOf(key) >= 0;
+	}
+
+	@Override
+	public synchronized boolean removeElement(String key) {
+		return __decode().removeElement(key);
+	}
+
+	@Override
+	public synchronized Set<String> getKeys() {
+		if (__decodedObject != null) {
+			return __decodedObject.getKeys();
+		}
+		__index();
+		return new LinkedHashSet<String>(Arrays.asList(__keys));
+	}
+
+	@Override
+	public synchronized int size() {
+		if (__decodedObject != null) {
+			return __decodedObject.size();
+		}
+		return __size;
+	}
+
+	@Override
+	public synchronized Iterator<Entry<String, ZeroData>> iterator() {
+		if (__decodedObject != null) {
+			return __decodedObject.iterator();
+		}
+
+		__index();
+		List<Entry<String, ZeroData>> entries = new ArrayList<Entry<String, ZeroData>>(__size);
+		for (int i = 0; i < __size; i++) {
+			entries.add(new SimpleImmutableEntry<String, ZeroData>(__keys[i], __getZeroDataAt(i)));
+		}
+		return entries.iterator();
+	}
+
+	@Override
+	public Boolean getBoolean(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : (Boolean) data.getElement();
+	}
+
+	@Override
+	public Byte getByte(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : (Byte) data.getElement();
+	}
+
+	@Override
+	public Short getShort(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : (Short) data.getElement();
+	}
+
+	@Override
+	public Integer getInteger(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : (Integer) data.getElement();
+	}
+
+	@Override
+	public Long getLong(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : (Long) data.getElement();
+	}
+
+	@Override
+	public Float getFloat(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : (Float) data.getElement();
+	}
+
+	@Override
+	public Double getDouble(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : (Double) data.getElement();
+	}
+
+	@Override
+	public String getString(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : (String) data.getElement();
+	}
+
+	@Override
+	public ZeroArray getZeroArray(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : (ZeroArray) data.getElement();
+	}
+
+	@Override
+	public ZeroObject getZeroObject(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : (ZeroObject) data.getElement();
+	}
+
+	@Override
+	public synchronized ZeroData getZeroData(String key) {
+		if (__decodedObject != null) {
+			return __decodedObject.getZeroData(key);
+		}
+
+		int index = __indexOf(key);
+		return index < 0 ? null : __getZeroDataAt(index);
+	}
+
+	@Override
+	public synchronized ZeroObject putNull(String key) {
+		__decode().putNull(key);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putBoolean(String key, boolean element) {
+		__decode().putBoolean(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putByte(String key, byte element) {
+		__decode().putByte(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putShort(String key, short element) {
+		__decode().putShort(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putInteger(String key, int element) {
+		__decode().putInteger(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putLong(String key, long element) {
+		__decode().putLong(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putFloat(String key, float element) {
+		__decode().putFloat(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putDouble(String key, double element) {
+		__decode().putDouble(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putString(String key, String element) {
+		__decode().putString(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putZeroArray(String key, ZeroArray element) {
+		__decode().putZeroArray(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putZeroObject(String key, ZeroObject element) {
+		__decode().putZeroObject(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putZeroData(String key, ZeroData data) {
+		__decode().putZeroData(key, data);
+		return this;
+	}
+
+	@Override
+	public Collection<Boolean> getBooleanArray(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : ZeroDataArrayUtility.toBooleanCollection(data.getElement());
+	}
+
+	@Override
+	public byte[] getByteArray(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : (byte[]) data.getElement();
+	}
+
+	@Override
+	public Collection<Short> getShortArray(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : ZeroDataArrayUtility.toShortCollection(data.getElement());
+	}
+
+	@Override
+	public Collection<Integer> getIntegerArray(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : ZeroDataArrayUtility.toIntegerCollection(data.getElement());
+	}
+
+	@Override
+	public Collection<Long> getLongArray(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : ZeroDataArrayUtility.toLongCollection(data.getElement());
+	}
+
+	@Override
+	public Collection<Float> getFloatArray(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : ZeroDataArrayUtility.toFloatCollection(data.getElement());
+	}
+
+	@Override
+	public Collection<Double> getDoubleArray(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : ZeroDataArrayUtility.toDoubleCollection(data.getElement());
+	}
+
+	@Override
+	public Collection<String> getStringArray(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : ZeroDataArrayUtility.toStringCollection(data.getElement());
+	}
+
+	@Override
+	public synchronized ZeroObject putBooleanArray(String key, Collection<Boolean> element) {
+		__decode().putBooleanArray(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putByteArray(String key, byte[] element) {
+		__decode().putByteArray(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putShortArray(String key, Collection<Short> element) {
+		__decode().putShortArray(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putIntegerArray(String key, Collection<Integer> element) {
+		__decode().putIntegerArray(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putLongArray(String key, Collection<Long> element) {
+		__decode().putLongArray(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putFloatArray(String key, Collection<Float> element) {
+		__decode().putFloatArray(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putDoubleArray(String key, Collection<Double> element) {
+		__decode().putDoubleArray(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putStringArray(String key, Collection<String> element) {
+		__decode().putStringArray(key, element);
+		return this;
+	}
+
+	@Override
+	public boolean[] getBooleans(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : ZeroDataArrayUtility.toBooleans(data.getElement());
+	}
+
+	@Override
+	public short[] getShorts(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : ZeroDataArrayUtility.toShorts(data.getElement());
+	}
+
+	@Override
+	public int[] getInts(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : ZeroDataArrayUtility.toInts(data.getElement());
+	}
+
+	@Override
+	public long[] getLongs(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : ZeroDataArrayUtility.toLongs(data.getElement());
+	}
+
+	@Override
+	public float[] getFloats(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : ZeroDataArrayUtility.toFloats(data.getElement());
+	}
+
+	@Override
+	public double[] getDoubles(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : ZeroDataArrayUtility.toDoubles(data.getElement());
+	}
+
+	@Override
+	public String[] getStrings(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : ZeroDataArrayUtility.toStrings(data.getElement());
+	}
+
+	@Override
+	public synchronized ZeroObject putBooleans(String key, boolean[] element) {
+		__decode().putBooleans(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putShorts(String key, short[] element) {
+		__decode().putShorts(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putInts(String key, int[] element) {
+		__decode().putInts(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putLongs(String key, long[] element) {
+		__decode().putLongs(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putFloats(String key, float[] element) {
+		__decode().putFloats(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putDoubles(String key, double[] element) {
+		__decode().putDoubles(key, element);
+		return this;
+	}
+
+	@Override
+	public synchronized ZeroObject putStrings(String key, String[] element) {
+		__decode().putStrings(key, element);
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append('{');
+
+		for (Iterator<Entry<String, ZeroData>> iterator = iterator(); iterator.hasNext(); builder.append(';')) {
+			var entry = iterator.next();
+			ZeroData zeroData = entry.getValue();
+			builder.append(" (").append(zeroData.getType().toString().toLowerCase()).append(") ")
+					.append(entry.getKey()).append(": ");
+			if (zeroData.getType() == ZeroDataType.BYTE_ARRAY) {
+				builder.append(String.format("byte[%d]", ((byte[]) zeroData.getElement()).length));
+			} else {
+				builder.append(ZeroDataArrayUtility.toString(zeroData.getElement()));
+			}
+		}
+
+		if (size() > 0) {
+			builder.setLength(builder.length() - 1);
+		}
+
+		builder.append(" }");
+		return builder.toString();
+	}
+
+	/**
+	 * Reads all keys and the offsets of their values, the values are only skipped.
+	 */
+	private void __index() {
+		if (__keys != null) {
+			return;
+		}
+
+		var keys = new String[__size];
+		var valueOffsets = new int[__size];
+		var valueEnds = new int[__size];
+		var buffer = ByteBuffer.wrap(__binary, __offset + Byte.BYTES + Short.BYTES,
+				__length - Byte.BYTES - Short.BYTES);
+
+		try {
+			for (int i = 0; i < __size; i++) {
+				short keySize = buffer.getShort();
+				if (keySize < 0) {
+					throw new IllegalStateException(String.format("The length of key is incorrect: %d", keySize));
+				}
+				keys[i] = new String(__binary, buffer.position(), keySize);
+				buffer.position(buffer.position() + keySize);
+				valueOffsets[i] = buffer.position();
+				ZeroDataSerializerUtility.skipData(buffer);
+				valueEnds[i] = buffer.position();
+			}
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException(e.getMessage());
+		}
+
+		__valueOffsets = valueOffsets;
+		__valueEnds = valueEnds;
+		__values = new ZeroData[__size];
+		__keys = keys;
+	}
+
+	private int __indexOf(String key) {
+		__index();
+		for (int i = 0; i < __size; i++) {
+			if (__keys[i].equals(key)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private ZeroData __getZeroDataAt(int index) {
+		var zeroData = __values[index];
+		if (zeroData != null) {
+			return zeroData;
+		}
+
+		int valueOffset = __valueOffsets[index];
+		int valueLength = __valueEnds[index] - valueOffset;
+		if (ZeroDataType.getByValue(__binary[valueOffset]) == ZeroDataType.ZERO_OBJECT) {
+			zeroData = ZeroData.newInstance(ZeroDataType.ZERO_OBJECT,
+					new LazyZeroObjectImpl(__binary, valueOffset, valueLength));
+		} else {
+			zeroData = ZeroDataSerializerUtility.binaryToData(ByteBuffer.wrap(__binary, valueOffset, valueLength));
+		}
+
+		__values[index] = zeroData;
+		return zeroData;
+	}
+
+	/**
+	 * The nested containers which were handed out can be modified by the caller,
+	 * then the original data does not match this object anymore. A nested array
+	 * is always decoded into a {@link ZeroArrayImpl}, so it is considered as
+	 * modified once it is read.
+	 * 
+	 * @return <b>true</b> if the original data can still be used for serializing
+	 */
+	private synchronized boolean __isOriginal() {
+		if (__decodedObject != null) {
+			return false;
+		}
+		if (__values == null) {
+			return true;
+		}
+
+		for (var value : __values) {
+			if (value == null) {
+				continue;
+			}
+			var element = value.getElement();
+			if (element instanceof ZeroArray) {
+				return false;
+			}
+			if (element instanceof LazyZeroObjectImpl && !((LazyZeroObjectImpl) element).__isOriginal()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Moves all data to a normal object, so it can be modified.
+	 */
+	private ZeroObject __decode() {
+		if (__decodedObject == null) {
+			__index();
+			var decodedObject = ZeroObjectImpl.newInstance();
+			for (int i = 0; i < __size; i++) {
+				decodedObject.putZeroData(__keys[i], __getZeroDataAt(i));
+			}
+			__decodedObject = decodedObject;
+			__keys = null;
+			__valueOffsets = null;
+			__valueEnds = null;
+			__values = null;
+		}
+		return __decodedObject;
+	}
+
+}
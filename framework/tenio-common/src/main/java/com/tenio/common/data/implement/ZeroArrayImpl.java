@@ -23,6 +23,7 @@ THE SOFTWARE.
 */
 package com.tenio.common.data.implement;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -33,6 +34,7 @@ import com.tenio.common.data.ZeroArray;
 import com.tenio.common.data.ZeroDataType;
 import com.tenio.common.data.ZeroObject;
 import com.tenio.common.data.elements.ZeroData;
+import com.tenio.common.data.utilities.ZeroDataArrayUtility;
 import com.tenio.common.data.utilities.ZeroDataSerializerUtility;
 
 /**
@@ -60,6 +62,11 @@ public final class ZeroArrayImpl implements ZeroArray {
 		return ZeroDataSerializerUtility.arrayToBinary(this);
 	}
 
+	@Override
+	public ByteBuffer writeTo(ByteBuffer buffer) {
+		return ZeroDataSerializerUtility.arrayToBuffer(this, buffer);
+	}
+
 	@Override
 	public boolean contains(Object element) {
 		Optional<ZeroData> match = __data.stream().filter(data -> data.getElement().equals(element)).findFirst();
@@ -219,11 +226,10 @@ public final class ZeroArrayImpl implements ZeroArray {
 		return this;
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public Collection<Boolean> getBooleanArray(int index) {
 		var data = getZeroData(index);
-		return data == null ? null : (Collection<Boolean>) data.getElement();
+		return data == null ? null : ZeroDataArrayUtility.toBooleanCollection(data.getElement());
 	}
 
 	@Override
@@ -232,46 +238,40 @@ public final class ZeroArrayImpl implements ZeroArray {
 		return data == null ? null : (byte[]) data.getElement();
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public Collection<Short> getShortArray(int index) {
 		var data = getZeroData(index);
-		return data == null ? null : (Collection<Short>) data.getElement();
+		return data == null ? null : ZeroDataArrayUtility.toShortCollection(data.getElement());
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public Collection<Integer> getIntegerArray(int index) {
 		var data = getZeroData(index);
-		return data == null ? null : (Collection<Integer>) data.getElement();
+		return data == null ? null : ZeroDataArrayUtility.toIntegerCollection(data.getElement());
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public Collection<Long> getLongArray(int index) {
 		var data = getZeroData(index);
-		return data == null ? null : (Collection<Long>) data.getElement();
+		return data == null ? null : ZeroDataArrayUtility.toLongCollection(data.getElement());
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public Collection<Float> getFloatArray(int index) {
 		var data = getZeroData(index);
-		return data == null ? null : (Collection<Float>) data.getElement();
+		return data == null ? null : ZeroDataArrayUtility.toFloatCollection(data.getElement());
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public Collection<Double> getDoubleArray(int index) {
 		var data = getZeroData(index);
-		return data == null ? null : (Collection<Double>) data.getElement();
+		return data == null ? null : ZeroDataArrayUtility.toDoubleCollection(data.getElement());
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public Collection<String> getStringArray(int index) {
 		var data = getZeroData(index);
-		return data == null ? null : (Collection<String>) data.getElement();
+		return data == null ? null : ZeroDataArrayUtility.toStringCollection(data.getElement());
 	}
 
 	@Override
@@ -314,6 +314,83 @@ public final class ZeroArrayImpl implements ZeroArray {
 		return __addData(ZeroDataType.STRING_ARRAY, element);
 	}
 
+	@Override
+	public boolean[] getBooleans(int index) {
+		var data = getZeroData(index);
+		return data == null ? null : ZeroDataArrayUtility.toBooleans(data.getElement());
+	}
+
+	@Override
+	public short[] getShorts(int index) {
+		var data = getZeroData(index);
+		return data == null ? null : ZeroDataArrayUtility.toShorts(data.getElement());
+	}
+
+	@Override
+	public int[] getInts(int index) {
+		var data = getZeroData(index);
+		return data == null ? null : ZeroDataArrayUtility.toInts(data.getElement());
+	}
+
+	@Override
+	public long[] getLongs(int index) {
+		var data = getZeroData(index);
+		return data == null ? null : ZeroDataArrayUtility.toLongs(data.getElement());
+	}
+
+	@Override
+	public float[] getFloats(int index) {
+		var data = getZeroData(index);
+		return data == null ? null : ZeroDataArrayUtility.toFloats(data.getElement());
+	}
+
+	@Override
+	public double[] getDoubles(int index) {
+		var data = getZeroData(index);
+		return data == null ? null : ZeroDataArrayUtility.toDoubles(data.getElement());
+	}
+
+	@Override
+	public String[] getStrings(int index) {
+		var data = getZeroData(index);
+		return data == null ? null : ZeroDataArrayUtility.toStrings(data.getElement());
+	}
+
+	@Override
+	public ZeroArray addBooleans(boolean[] element) {
+		return __addData(ZeroDataType.BOOLEAN_ARRAY, element);
+	}
+
+	@Override
+	public ZeroArray addShorts(short[] element) {
+		return __addData(ZeroDataType.SHORT_ARRAY, element);
+	}
+
+	@Override
+	public ZeroArray addInts(int[] element) {
+		return __addData(ZeroDataType.INTEGER_ARRAY, element);
+	}
+
+	@Override
+	public ZeroArray addLongs(long[] element) {
+		return __addData(ZeroDataType.LONG_ARRAY, element);
+	}
+
+	@Override
+	public ZeroArray addFloats(float[] element) {
+		return __addData(ZeroDataType.FLOAT_ARRAY, element);
+	}
+
+	@Override
+	public ZeroArray addDoubles(double[] element) {
+		return __addData(ZeroDataType.DOUBLE_ARRAY, element);
+	}
+
+	@Override
+	public ZeroArray addStrings(String[] element) {
+		return __addData(ZeroDataType.STRING_ARRAY, element);
+	}
+
 	@Override
 	public String toString() {
 		var builder = new StringBuilder();
@@ -331,7 +408,7 @@ public final class ZeroArrayImpl implements ZeroArray {
 			} else if (zeroData.getType() == ZeroDataType.BYTE_ARRAY) {
 				toString = String.format("byte[%d]", ((byte[]) zeroData.getElement()).length);
 			} else {
-				toString = zeroData.getElement().toString();
+				toString = ZeroDataArrayUtility.toString(zeroData.getElement());
 			}
 		}
 
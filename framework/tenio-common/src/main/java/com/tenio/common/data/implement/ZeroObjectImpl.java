@@ -23,6 +23,7 @@ THE SOFTWARE.
 */
 package com.tenio.common.data.implement;
 
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
@@ -34,6 +35,7 @@ import com.tenio.common.data.ZeroArray;
 import com.tenio.common.data.ZeroDataType;
 import com.tenio.common.data.ZeroObject;
 import com.tenio.common.data.elements.ZeroData;
+import com.tenio.common.data.utilities.ZeroDataArrayUtility;
 import com.tenio.common.data.utilities.ZeroDataSerializerUtility;
 
 /**
@@ -61,6 +63,11 @@ public final class ZeroObjectImpl implements ZeroObject {
 		return ZeroDataSerializerUtility.objectToBinary(this);
 	}
 
+	@Override
+	public ByteBuffer writeTo(ByteBuffer buffer) {
+		return ZeroDataSerializerUtility.objectToBuffer(this, buffer);
+	}
+
 	@Override
 	public boolean isNull(String key) {
 		var data = getZeroData(key);
@@ -218,11 +225,10 @@ public final class ZeroObjectImpl implements ZeroObject {
 		return this;
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public Collection<Boolean> getBooleanArray(String key) {
 		var data = getZeroData(key);
-		return data == null ? null : (Collection<Boolean>) data.getElement();
+		return data == null ? null : ZeroDataArrayUtility.toBooleanCollection(data.getElement());
 	}
 
 	@Override
@@ -231,46 +237,40 @@ public final class ZeroObjectImpl implements ZeroObject {
 		return data == null ? null : (byte[]) data.getElement();
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public Collection<Short> getShortArray(String key) {
 		var data = getZeroData(key);
-		return data == null ? null : (Collection<Short>) data.getElement();
+		return data == null ? null : ZeroDataArrayUtility.toShortCollection(data.getElement());
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public Collection<Integer> getIntegerArray(String key) {
 		var data = getZeroData(key);
-		return data == null ? null : (Collection<Integer>) data.getElement();
+		return data == null ? null : ZeroDataArrayUtility.toIntegerCollection(data.getElement());
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public Collection<Long> getLongArray(String key) {
 		var data = getZeroData(key);
-		return data == null ? null : (Collection<Long>) data.getElement();
+		return data == null ? null : ZeroDataArrayUtility.toLongCollection(data.getElement());
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public Collection<Float> getFloatArray(String key) {
 		var data = getZeroData(key);
-		return data == null ? null : (Collection<Float>) data.getElement();
+		return data == null ? null : ZeroDataArrayUtility.toFloatCollection(data.getElement());
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public Collection<Double> getDoubleArray(String key) {
 		var data = getZeroData(key);
-		return data == null ? null : (Collection<Double>) data.getElement();
+		return data == null ? null : ZeroDataArrayUtility.toDoubleCollection(data.getElement());
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public Collection<String> getStringArray(String key) {
 		var data = getZeroData(key);
-		return data == null ? null : (Collection<String>) data.getElement();
+		return data == null ? null : ZeroDataArrayUtility.toStringCollection(data.getElement());
 	}
 
 	@Override
@@ -313,6 +313,83 @@ public final class ZeroObjectImpl implements ZeroObject {
 		return __putData(key, ZeroDataType.STRING_ARRAY, element);
 	}
 
+	@Override
+	public boolean[] getBooleans(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : ZeroDataArrayUtility.toBooleans(data.getElement());
+	}
+
+	@Override
+	public short[] getShorts(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : ZeroDataArrayUtility.toShorts(data.getElement());
+	}
+
+	@Override
+	public int[] getInts(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : ZeroDataArrayUtility.toInts(data.getElement());
+	}
+
+	@Override
+	public long[] getLongs(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : ZeroDataArrayUtility.toLongs(data.getElement());
+	}
+
+	@Override
+	public float[] getFloats(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : ZeroDataArrayUtility.toFloats(data.getElement());
+	}
+
+	@Override
+	public double[] getDoubles(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : ZeroDataArrayUtility.toDoubles(data.getElement());
+	}
+
+	@Override
+	public String[] getStrings(String key) {
+		var data = getZeroData(key);
+		return data == null ? null : ZeroDataArrayUtility.toStrings(data.getElement());
+	}
+
+	@Override
+	public ZeroObject putBooleans(String key, boolean[] element) {
+		return __putData(key, ZeroDataType.BOOLEAN_ARRAY, element);
+	}
+
+	@Override
+	public ZeroObject putShorts(String key, short[] element) {
+		return __putData(key, ZeroDataType.SHORT_ARRAY, element);
+	}
+
+	@Override
+	public ZeroObject putInts(String key, int[] element) {
+		return __putData(key, ZeroDataType.INTEGER_ARRAY, element);
+	}
+
+	@Override
+	public ZeroObject putLongs(String key, long[] element) {
+		return __putData(key, ZeroDataType.LONG_ARRAY, element);
+	}
+
+	@Override
+	public ZeroObject putFloats(String key, float[] element) {
+		return __putData(key, ZeroDataType.FLOAT_ARRAY, element);
+	}
+
+	@Override
+	public ZeroObject putDoubles(String key, double[] element) {
+		return __putData(key, ZeroDataType.DOUBLE_ARRAY, element);
+	}
+
+	@Override
+	public ZeroObject putStrings(String key, String[] element) {
+		return __putData(key, ZeroDataType.STRING_ARRAY, element);
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder builder = new StringBuilder();
@@ -330,7 +407,7 @@ public final class ZeroObjectImpl implements ZeroObject {
 			} else if (zeroData.getType() == ZeroDataType.BYTE_ARRAY) {
 				builder.append(String.format("byte[%d]", ((byte[]) zeroData.getElement()).length));
 			} else {
-				builder.append(zeroData.getElement().toString());
+				builder.append(ZeroDataArrayUtility.toString(zeroData.getElement()));
 			}
 		}
 
@@ -0,0 +1,313 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.common.data.utilities;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.RandomAccess;
+
+/**
+ * The array elements of a zero object or zero array are kept in primitive
+ * arrays (the decoded ones always are), but they can also be put as boxed
+ * collections. These methods convert between both forms, a primitive array
+ * is returned as a copy, so the stored one can not be changed by the caller,
+ * and is only wrapped (not copied) into a read-only collection view.
+ * 
+ * @author kong
+ */
+public final class ZeroDataArrayUtility {
+
+	private ZeroDataArrayUtility() {
+
+	}
+
+	@SuppressWarnings("unchecked")
+	public static boolean[] toBooleans(Object element) {
+		if (element == null) {
+			return null;
+		}
+		if (element instanceof boolean[]) {
+			return ((boolean[]) element).clone();
+		}
+
+		var collection = (Collection<Boolean>) element;
+		var result = new boolean[collection.size()];
+		int index = 0;
+		for (boolean value : collection) {
+			result[index++] = value;
+		}
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static short[] toShorts(Object element) {
+		if (element == null) {
+			return null;
+		}
+		if (element instanceof short[]) {
+			return ((short[]) element).clone();
+		}
+
+		var collection = (Collection<Short>) element;
+		var result = new short[collection.size()];
+		int index = 0;
+		for (short value : collection) {
+			result[index++] = value;
+		}
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static int[] toInts(Object element) {
+		if (element == null) {
+			return null;
+		}
+		if (element instanceof int[]) {
+			return ((int[]) element).clone();
+		}
+
+		var collection = (Collection<Integer>) element;
+		var result = new int[collection.size()];
+		int index = 0;
+		for (int value : collection) {
+			result[index++] = value;
+		}
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static long[] toLongs(Object element) {
+		if (element == null) {
+			return null;
+		}
+		if (element instanceof long[]) {
+			return ((long[]) element).clone();
+		}
+
+		var collection = (Collection<Long>) element;
+		var result = new long[collection.size()];
+		int index = 0;
+		for (long value : collection) {
+			result[index++] = value;
+		}
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static float[] toFloats(Object element) {
+		if (element == null) {
+			return null;
+		}
+		if (element instanceof float[]) {
+			return ((float[]) element).clone();
+		}
+
+		var collection = (Collection<Float>) element;
+		var result = new float[collection.size()];
+		int index = 0;
+		for (float value : collection) {
+			result[index++] = value;
+		}
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static double[] toDoubles(Object element) {
+		if (element == null) {
+			return null;
+		}
+		if (element instanceof double[]) {
+			return ((double[]) element).clone();
+		}
+
+		var collection = (Collection<Double>) element;
+		var result = new double[collection.size()];
+		int index = 0;
+		for (double value : collection) {
+			result[index++] = value;
+		}
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static String[] toStrings(Object element) {
+		if (element == null) {
+			return null;
+		}
+		if (element instanceof String[]) {
+			return ((String[]) element).clone();
+		}
+
+		return ((Collection<String>) element).toArray(new String[0]);
+	}
+
+	@SuppressWarnings("unchecked")
+	public static Collection<Boolean> toBooleanCollection(Object element) {
+		if (!(element instanceof boolean[])) {
+			return (Collection<Boolean>) element;
+		}
+
+		var array = (boolean[]) element;
+		return new PrimitiveArrayView<Boolean>(array.length) {
+
+			@Override
+			public Boolean get(int index) {
+				return array[index];
+			}
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	public static Collection<Short> toShortCollection(Object element) {
+		if (!(element instanceof short[])) {
+			return (Collection<Short>) element;
+		}
+
+		var array = (short[]) element;
+		return new PrimitiveArrayView<Short>(array.length) {
+
+			@Override
+			public Short get(int index) {
+				return array[index];
+			}
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	public static Collection<Integer> toIntegerCollection(Object element) {
+		if (!(element instanceof int[])) {
+			return (Collection<Integer>) element;
+		}
+
+		var array = (int[]) element;
+		return new PrimitiveArrayView<Integer>(array.length) {
+
+			@Override
+			public Integer get(int index) {
+				return array[index];
+			}
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	public static Collection<Long> toLongCollection(Object element) {
+		if (!(element instanceof long[])) {
+			return (Collection<Long>) element;
+		}
+
+		var array = (long[]) element;
+		return new PrimitiveArrayView<Long>(array.length) {
+
+			@Override
+			public Long get(int index) {
+				return array[index];
+			}
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	public static Collection<Float> toFloatCollection(Object element) {
+		if (!(element instanceof float[])) {
+			return (Collection<Float>) element;
+		}
+
+		var array = (float[]) element;
+		return new PrimitiveArrayView<Float>(array.length) {
+
+			@Override
+			public Float get(int index) {
+				return array[index];
+			}
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	public static Collection<Double> toDoubleCollection(Object element) {
+		if (!(element instanceof double[])) {
+			return (Collection<Double>) element;
+		}
+
+		var array = (double[]) element;
+		return new PrimitiveArrayView<Double>(array.length) {
+
+			@Override
+			public Double get(int index) {
+				return array[index];
+			}
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	public static Collection<String> toStringCollection(Object element) {
+		if (!(element instanceof String[])) {
+			return (Collection<String>) element;
+		}
+
+		return Collections.unmodifiableList(Arrays.asList((String[]) element));
+	}
+
+	/**
+	 * @param element an element of the zero data
+	 * @return the readable form of the element, the arrays show their values
+	 */
+	public static String toString(Object element) {
+		if (element instanceof boolean[]) {
+			return Arrays.toString((boolean[]) element);
+		} else if (element instanceof short[]) {
+			return Arrays.toString((short[]) element);
+		} else if (element instanceof int[]) {
+			return Arrays.toString((int[]) element);
+		} else if (element instanceof long[]) {
+			return Arrays.toString((long[]) element);
+		} else if (element instanceof float[]) {
+			return Arrays.toString((float[]) element);
+		} else if (element instanceof double[]) {
+			return Arrays.toString((double[]) element);
+		} else if (element instanceof Object[]) {
+			return Arrays.toString((Object[]) element);
+		}
+		return String.valueOf(element);
+	}
+
+	/**
+	 * A read-only list which boxes the array values on access only.
+	 */
+	private static abstract class PrimitiveArrayView<T> extends AbstractList<T> implements RandomAccess {
+
+		private final int __size;
+
+		PrimitiveArrayView(int size) {
+			__size = size;
+		}
+
+		@Override
+		public int size() {
+			return __size;
+		}
+
+	}
+
+}
@@ -24,17 +24,15 @@ THE SOFTWARE.
 package com.tenio.common.data.utilities;
 
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.List;
-import java.util.Set;
 
 import com.tenio.common.data.ZeroArray;
 import com.tenio.common.data.ZeroDataType;
 import com.tenio.common.data.ZeroElement;
 import com.tenio.common.data.ZeroObject;
 import com.tenio.common.data.elements.ZeroData;
+import com.tenio.common.data.implement.LazyZeroObjectImpl;
 import com.tenio.common.data.implement.ZeroArrayImpl;
 import com.tenio.common.data.implement.ZeroObjectImpl;
 
@@ -43,19 +41,37 @@ import com.tenio.common.data.implement.ZeroObjectImpl;
  */
 public final class ZeroDataSerializerUtility {
 
-	private static int BUFFER_CHUNK_BYTES = 512;
+	private static final int BUFFER_CHUNK_BYTES = 512;
+	private static final int MAX_CACHED_BUFFER_BYTES = 1024 * 1024;
+	// each thread reuses its own encoding buffer, only the exact result is copied
+	// out of it
+	private static final ThreadLocal<ByteBuffer> ENCODING_BUFFERS = ThreadLocal
+			.withInitial(() -> ByteBuffer.allocate(BUFFER_CHUNK_BYTES));
 
 	private ZeroDataSerializerUtility() {
 
 	}
 
 	public static ZeroElement binaryToElement(byte[] binary) {
-		switch (ZeroDataType.getByValue(binary[0])) {
+		return binaryToElement(ByteBuffer.wrap(binary));
+	}
+
+	/**
+	 * Decodes a {@link ZeroElement} directly from the buffer's remaining bytes,
+	 * starting at its current position. No intermediate copy of the whole data is
+	 * made, so the buffer can be a slice of a bigger one.
+	 * 
+	 * @param buffer the binary data, see {@link ByteBuffer}
+	 * @return a decoded {@link ZeroObject}, {@link ZeroArray} or <b>null</b> if the
+	 *         first byte is not a known type
+	 */
+	public static ZeroElement binaryToElement(ByteBuffer buffer) {
+		switch (ZeroDataType.getByValue(buffer.get(buffer.position()))) {
 		case ZERO_OBJECT:
-			return binaryToObject(binary);
+			return binaryToObject(buffer);
 
 		case ZERO_ARRAY:
-			return binaryToArray(binary);
+			return binaryToArray(buffer);
 
 		default:
 			return null;
@@ -63,84 +79,229 @@ public final class ZeroDataSerializerUtility {
 	}
 
 	public static ZeroArray binaryToArray(byte[] binary) {
-		if (binary.length < 3) {
+		return binaryToArray(ByteBuffer.wrap(binary));
+	}
+
+	public static ZeroArray binaryToArray(ByteBuffer buffer) {
+		if (buffer.remaining() < 3) {
 			throw new IllegalStateException(String.format(
 					"Unable to decode a ZeroArray because binary data size is not big enough to work on it. Size: %d bytes",
-					binary.length));
+					buffer.remaining()));
 		}
 
-		ByteBuffer buffer = ByteBuffer.allocate(binary.length);
-		buffer.put(binary);
-		buffer.flip();
-
 		return __decodeZeroArray(buffer);
 	}
 
 	public static ZeroObject binaryToObject(byte[] binary) {
+		return binaryToObject(ByteBuffer.wrap(binary));
+	}
+
+	public static ZeroObject binaryToObject(ByteBuffer buffer) {
+		if (buffer.remaining() < 3) {
+			throw new IllegalStateException(String.format(
+					"Unable to decode a ZeroObject because binary data size is not big enough to work on it. Size: %d bytes",
+					buffer.remaining()));
+		}
+
+		return __decodeZeroObject(buffer);
+	}
+
+	/**
+	 * Creates a {@link ZeroObject} which only decodes its values when they are
+	 * read, see {@link LazyZeroObjectImpl}. The binary array is used as it is, so
+	 * it must not be changed afterward.
+	 * 
+	 * @param binary the binary data
+	 * @return a lazily decoded {@link ZeroObject}
+	 */
+	public static ZeroObject binaryToLazyObject(byte[] binary) {
 		if (binary.length < 3) {
 			throw new IllegalStateException(String.format(
 					"Unable to decode a ZeroObject because binary data size is not big enough to work on it. Size: %d bytes",
 					binary.length));
 		}
 
-		ByteBuffer buffer = ByteBuffer.allocate(binary.length);
-		buffer.put(binary);
-		buffer.flip();
+		return LazyZeroObjectImpl.newInstance(binary, 0, binary.length);
+	}
 
-		return __decodeZeroObject(buffer);
+	/**
+	 * Decodes one typed value at the buffer's current position.
+	 * 
+	 * @param buffer the binary data, see {@link ByteBuffer}
+	 * @return the decoded {@link ZeroData}
+	 */
+	public static ZeroData binaryToData(ByteBuffer buffer) {
+		return __decodeObject(buffer);
 	}
 
-	public static byte[] objectToBinary(ZeroObject object) {
-		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_CHUNK_BYTES);
-		buffer.put((byte) ZeroDataType.ZERO_OBJECT.getValue());
-		buffer.putShort((short) object.size());
+	/**
+	 * Moves the buffer's position over one typed value without decoding it.
+	 * 
+	 * @param buffer the binary data, see {@link ByteBuffer}
+	 */
+	public static void skipData(ByteBuffer buffer) {
+		byte headerByte = buffer.get();
+		ZeroDataType type = ZeroDataType.getByValue(headerByte);
+		if (type == null) {
+			throw new IllegalStateException(String.format("Unknown ZeroDataType value: %d", headerByte));
+		}
 
-		return __objectToBinary(object, buffer);
+		switch (type) {
+		case NULL:
+			break;
+		case BOOLEAN:
+		case BYTE:
+			__skipBytes(buffer, Byte.BYTES);
+			break;
+		case SHORT:
+			__skipBytes(buffer, Short.BYTES);
+			break;
+		case INTEGER:
+			__skipBytes(buffer, Integer.BYTES);
+			break;
+		case FLOAT:
+			__skipBytes(buffer, Float.BYTES);
+			break;
+		case LONG:
+			__skipBytes(buffer, Long.BYTES);
+			break;
+		case DOUBLE:
+			__skipBytes(buffer, Double.BYTES);
+			break;
+		case STRING:
+			__skipBytes(buffer, __getCollectionSize(buffer));
+			break;
+		case BOOLEAN_ARRAY:
+			__skipBytes(buffer, __getCollectionSize(buffer));
+			break;
+		case BYTE_ARRAY:
+			__skipBytes(buffer, buffer.getInt());
+			break;
+		case SHORT_ARRAY:
+			__skipBytes(buffer, Short.BYTES * __getCollectionSize(buffer));
+			break;
+		case INTEGER_ARRAY:
+			__skipBytes(buffer, Integer.BYTES * __getCollectionSize(buffer));
+			break;
+		case FLOAT_ARRAY:
+			__skipBytes(buffer, Float.BYTES * __getCollectionSize(buffer));
+			break;
+		case LONG_ARRAY:
+			__skipBytes(buffer, Long.BYTES * __getCollectionSize(buffer));
+			break;
+		case DOUBLE_ARRAY:
+			__skipBytes(buffer, Double.BYTES * __getCollectionSize(buffer));
+			break;
+		case STRING_ARRAY:
+			for (int i = __getCollectionSize(buffer); i > 0; i--) {
+				__skipBytes(buffer, __getCollectionSize(buffer));
+			}
+			break;
+		case ZERO_ARRAY:
+			for (int i = __getCollectionSize(buffer); i > 0; i--) {
+				skipData(buffer);
+			}
+			break;
+		case ZERO_OBJECT:
+			for (int i = __getCollectionSize(buffer); i > 0; i--) {
+				__skipBytes(buffer, __getCollectionSize(buffer));
+				skipData(buffer);
+			}
+			break;
+		}
 	}
 
-	private static byte[] __objectToBinary(ZeroObject object, ByteBuffer buffer) {
-		Set<String> keys = object.getKeys();
-		ZeroData zeroData;
-		Object element;
+	/**
+	 * Appends already encoded data to the buffer, which grows when it has not
+	 * enough room.
+	 * 
+	 * @param binary the encoded data
+	 * @param offset the start of data in the array
+	 * @param length the number of bytes
+	 * @param buffer the destination, see {@link ByteBuffer}
+	 * @return the buffer holding the data, see
+	 *         {@link #objectToBuffer(ZeroObject, ByteBuffer)}
+	 */
+	public static ByteBuffer binaryToBuffer(byte[] binary, int offset, int length, ByteBuffer buffer) {
+		buffer = __ensureRemaining(buffer, length);
+		buffer.put(binary, offset, length);
 
-		for (Iterator<String> iter = keys.iterator(); iter
-				.hasNext(); buffer = __encodeObject(buffer, zeroData.getType(), element)) {
-			String key = iter.next();
-			zeroData = object.getZeroData(key);
-			element = zeroData.getElement();
+		return buffer;
+	}
+
+	public static byte[] objectToBinary(ZeroObject object) {
+		var buffer = objectToBuffer(object, __getEncodingBuffer());
+		return __toBinary(buffer);
+	}
+
+	/**
+	 * Encodes a {@link ZeroObject} straight into the buffer, starting at its
+	 * current position. When the buffer has not enough room, a bigger one is
+	 * allocated to hold its current content and the encoded data.
+	 * 
+	 * @param object the encoding {@link ZeroObject}
+	 * @param buffer the destination, see {@link ByteBuffer}
+	 * @return the buffer holding the encoded data, its position is placed right
+	 *         after the data, it is the given one if no growth was necessary
+	 */
+	public static ByteBuffer objectToBuffer(ZeroObject object, ByteBuffer buffer) {
+		buffer = __ensureRemaining(buffer, Byte.BYTES + Short.BYTES);
+		buffer.put((byte) ZeroDataType.ZERO_OBJECT.getValue());
+		buffer.putShort((short) object.size());
+
+		for (var key : object.getKeys()) {
+			var zeroData = object.getZeroData(key);
 			buffer = __encodeZeroObjectKey(buffer, key);
+			buffer = __encodeObject(buffer, zeroData.getType(), zeroData.getElement());
 		}
 
-		int position = buffer.position();
-		byte[] result = new byte[position];
-		buffer.flip();
-		buffer.get(result, 0, position);
-
-		return result;
+		return buffer;
 	}
 
 	public static byte[] arrayToBinary(ZeroArray array) {
-		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_CHUNK_BYTES);
+		var buffer = arrayToBuffer(array, __getEncodingBuffer());
+		return __toBinary(buffer);
+	}
+
+	/**
+	 * Encodes a {@link ZeroArray} straight into the buffer, starting at its current
+	 * position. When the buffer has not enough room, a bigger one is allocated to
+	 * hold its current content and the encoded data.
+	 * 
+	 * @param array  the encoding {@link ZeroArray}
+	 * @param buffer the destination, see {@link ByteBuffer}
+	 * @return the buffer holding the encoded data, its position is placed right
+	 *         after the data, it is the given one if no growth was necessary
+	 */
+	public static ByteBuffer arrayToBuffer(ZeroArray array, ByteBuffer buffer) {
+		buffer = __ensureRemaining(buffer, Byte.BYTES + Short.BYTES);
 		buffer.put((byte) ZeroDataType.ZERO_ARRAY.getValue());
 		buffer.putShort((short) array.size());
 
-		return __arrayToBinary(array, buffer);
-	}
+		for (Iterator<ZeroData> iter = array.iterator(); iter.hasNext();) {
+			var zeroData = iter.next();
+			buffer = __encodeObject(buffer, zeroData.getType(), zeroData.getElement());
+		}
 
-	private static byte[] __arrayToBinary(ZeroArray array, ByteBuffer buffer) {
-		ZeroData zeroData = null;
-		Object element = null;
+		return buffer;
+	}
 
-		for (Iterator<ZeroData> iter = array.iterator(); iter
-				.hasNext(); buffer = __encodeObject(buffer, zeroData.getType(), element)) {
-			zeroData = iter.next();
-			element = zeroData.getElement();
-		}
+	private static ByteBuffer __getEncodingBuffer() {
+		var buffer = ENCODING_BUFFERS.get();
+		buffer.clear();
+		return buffer;
+	}
 
-		int position = buffer.position();
-		byte[] result = new byte[position];
+	private static byte[] __toBinary(ByteBuffer buffer) {
+		byte[] result = new byte[buffer.position()];
 		buffer.flip();
-		buffer.get(result, 0, position);
+		buffer.get(result);
+
+		// keep the grown buffer for the next encoding on this thread, unless it became
+		// too big to be held
+		if (buffer.capacity() <= MAX_CACHED_BUFFER_BYTES) {
+			ENCODING_BUFFERS.set(buffer);
+		}
 
 		return result;
 	}
@@ -195,7 +356,6 @@ public final class ZeroDataSerializerUtility {
 		return null;
 	}
 
-	@SuppressWarnings("unchecked")
 	private static ByteBuffer __encodeObject(ByteBuffer buffer, ZeroDataType type, Object element) {
 		switch (type) {
 		case NULL:
@@ -226,34 +386,34 @@ public final class ZeroDataSerializerUtility {
 			buffer = __encodeString(buffer, (String) element);
 			break;
 		case BOOLEAN_ARRAY:
-			buffer = __encodeBooleanArray(buffer, (Collection<Boolean>) element);
+			buffer = __encodeBooleanArray(buffer, element);
 			break;
 		case BYTE_ARRAY:
 			buffer = __encodeByteArray(buffer, (byte[]) element);
 			break;
 		case SHORT_ARRAY:
-			buffer = __encodeShortArray(buffer, (Collection<Short>) element);
+			buffer = __encodeShortArray(buffer, element);
 			break;
 		case INTEGER_ARRAY:
-			buffer = __encodeIntegerArray(buffer, (Collection<Integer>) element);
+			buffer = __encodeIntegerArray(buffer, element);
 			break;
 		case LONG_ARRAY:
-			buffer = __encodeLongArray(buffer, (Collection<Long>) element);
+			buffer = __encodeLongArray(buffer, element);
 			break;
 		case FLOAT_ARRAY:
-			buffer = __encodeFloatArray(buffer, (Collection<Float>) element);
+			buffer = __encodeFloatArray(buffer, element);
 			break;
 		case DOUBLE_ARRAY:
-			buffer = __encodeDoubleArray(buffer, (Collection<Double>) element);
+			buffer = __encodeDoubleArray(buffer, element);
 			break;
 		case STRING_ARRAY:
-			buffer = __encodeStringArray(buffer, (Collection<String>) element);
+			buffer = __encodeStringArray(buffer, element);
 			break;
 		case ZERO_ARRAY:
-			buffer = __appendBinaryToBuffer(buffer, arrayToBinary((ZeroArray) element));
+			buffer = ((ZeroArray) element).writeTo(buffer);
 			break;
 		case ZERO_OBJECT:
-			buffer = __appendBinaryToBuffer(buffer, objectToBinary((ZeroObject) element));
+			buffer = ((ZeroObject) element).writeTo(buffer);
 			break;
 		default:
 			throw new IllegalArgumentException(String.format("Unsupported data type: %s", type.toString()));
@@ -329,18 +489,18 @@ public final class ZeroDataSerializerUtility {
 
 	private static ZeroData __decodeBooleanArray(ByteBuffer buffer) {
 		short collectionSize = __getCollectionSize(buffer);
-		List<Boolean> element = new ArrayList<Boolean>();
+		boolean[] element = new boolean[collectionSize];
 
 		for (int i = 0; i < collectionSize; ++i) {
 			byte bool = buffer.get();
 			if (bool == 0) {
-				element.add(false);
+				element[i] = false;
 			} else {
 				if (bool != 1) {
 					throw new IllegalStateException(String.format("Expected value of 0 or 1, but found: %d", bool));
 				}
 
-				element.add(true);
+				element[i] = true;
 			}
 		}
 
@@ -362,67 +522,62 @@ public final class ZeroDataSerializerUtility {
 
 	private static ZeroData __decodeShortArray(ByteBuffer buffer) {
 		short collectionSize = __getCollectionSize(buffer);
-		List<Short> element = new ArrayList<Short>();
+		short[] element = new short[collectionSize];
 
-		for (int i = 0; i < collectionSize; ++i) {
-			short shortValue = buffer.getShort();
-			element.add(shortValue);
-		}
+		// bulk read through a view of the buffer, then skip the read bytes
+		buffer.asShortBuffer().get(element);
+		buffer.position(buffer.position() + Short.BYTES * collectionSize);
 
 		return ZeroData.newInstance(ZeroDataType.SHORT_ARRAY, element);
 	}
 
 	private static ZeroData __decodeIntegerArray(ByteBuffer buffer) {
 		short collectionSize = __getCollectionSize(buffer);
-		List<Integer> element = new ArrayList<Integer>();
+		int[] element = new int[collectionSize];
 
-		for (int i = 0; i < collectionSize; ++i) {
-			int intValue = buffer.getInt();
-			element.add(intValue);
-		}
+		// bulk read through a view of the buffer, then skip the read bytes
+		buffer.asIntBuffer().get(element);
+		buffer.position(buffer.position() + Integer.BYTES * collectionSize);
 
 		return ZeroData.newInstance(ZeroDataType.INTEGER_ARRAY, element);
 	}
 
 	private static ZeroData __decodeLongArray(ByteBuffer buffer) {
 		short collectionSize = __getCollectionSize(buffer);
-		List<Long> element = new ArrayList<Long>();
+		long[] element = new long[collectionSize];
 
-		for (int i = 0; i < collectionSize; ++i) {
-			long longValue = buffer.getLong();
-			element.add(longValue);
-		}
+		// bulk read through a view of the buffer, then skip the read bytes
+		buffer.asLongBuffer().get(element);
+		buffer.position(buffer.position() + Long.BYTES * collectionSize);
 
 		return ZeroData.newInstance(ZeroDataType.LONG_ARRAY, element);
 	}
 
 	private static ZeroData __decodeFloatArray(ByteBuffer buffer) {
 		short collectionSize = __getCollectionSize(buffer);
-		List<Float> element = new ArrayList<Float>();
+		float[] element = new float[collectionSize];
 
-		for (int i = 0; i < collectionSize; ++i) {
-			float floatValue = buffer.getFloat();
-			element.add(floatValue);
-		}
+		// bulk read through a view of the buffer, then skip the read bytes
+		buffer.asFloatBuffer().get(element);
+		buffer.position(buffer.position() + Float.BYTES * collectionSize);
 
 		return ZeroData.newInstance(ZeroDataType.FLOAT_ARRAY, element);
 	}
 
 	private static ZeroData __decodeDoubleArray(ByteBuffer buffer) {
 		short collectionSize = __getCollectionSize(buffer);
-		List<Double> element = new ArrayList<Double>();
+		double[] element = new double[collectionSize];
 
-		for (int i = 0; i < collectionSize; ++i) {
-			double doubleValue = buffer.getDouble();
-			element.add(doubleValue);
-		}
+		// bulk read through a view of the buffer, then skip the read bytes
+		buffer.asDoubleBuffer().get(element);
+		buffer.position(buffer.position() + Double.BYTES * collectionSize);
 
 		return ZeroData.newInstance(ZeroDataType.DOUBLE_ARRAY, element);
 	}
 
 	private static ZeroData __decodeStringArray(ByteBuffer buffer) {
 		short collectionSize = __getCollectionSize(buffer);
-		List<String> element = new ArrayList<String>();
+		String[] element = new String[collectionSize];
 
 		for (int i = 0; i < collectionSize; ++i) {
 			short strLen = buffer.getShort();
@@ -432,8 +587,7 @@ public final class ZeroDataSerializerUtility {
 
 			byte[] strData = new byte[strLen];
 			buffer.get(strData, 0, strLen);
-			String stringValue = new String(strData);
-			element.add(stringValue);
+			element[i] = new String(strData);
 		}
 
 		return ZeroData.newInstance(ZeroDataType.STRING_ARRAY, element);
@@ -511,6 +665,14 @@ public final class ZeroDataSerializerUtility {
 		}
 	}
 
+	private static void __skipBytes(ByteBuffer buffer, int numberBytes) {
+		if (numberBytes < 0 || numberBytes > buffer.remaining()) {
+			throw new IllegalStateException(String.format("Unable to skip %d bytes, only %d bytes remain",
+					numberBytes, buffer.remaining()));
+		}
+		buffer.position(buffer.position() + numberBytes);
+	}
+
 	private static short __getCollectionSize(ByteBuffer buffer) {
 		short collectionSize = buffer.getShort();
 		if (collectionSize < 0) {
@@ -522,207 +684,277 @@ public final class ZeroDataSerializerUtility {
 	}
 
 	private static ByteBuffer __encodeNull(ByteBuffer buffer) {
-		return __appendBinaryToBuffer(buffer, new byte[1]);
+		buffer = __ensureRemaining(buffer, Byte.BYTES);
+		buffer.put((byte) ZeroDataType.NULL.getValue());
+
+		return buffer;
 	}
 
 	private static ByteBuffer __encodeBoolean(ByteBuffer buffer, Boolean element) {
-		byte[] data = new byte[] { (byte) ZeroDataType.BOOLEAN.getValue(), (byte) (element ? 1 : 0) };
-		return __appendBinaryToBuffer(buffer, data);
+		buffer = __ensureRemaining(buffer, Byte.BYTES + Byte.BYTES);
+		buffer.put((byte) ZeroDataType.BOOLEAN.getValue());
+		buffer.put((byte) (element ? 1 : 0));
+
+		return buffer;
 	}
 
 	private static ByteBuffer __encodeByte(ByteBuffer buffer, Byte element) {
-		byte[] data = new byte[] { (byte) ZeroDataType.BYTE.getValue(), element };
-		return __appendBinaryToBuffer(buffer, data);
+		buffer = __ensureRemaining(buffer, Byte.BYTES + Byte.BYTES);
+		buffer.put((byte) ZeroDataType.BYTE.getValue());
+		buffer.put(element);
+
+		return buffer;
 	}
 
 	private static ByteBuffer __encodeShort(ByteBuffer buffer, Short element) {
-		ByteBuffer buf = ByteBuffer.allocate(Byte.BYTES + Short.BYTES);
-		buf.put((byte) ZeroDataType.SHORT.getValue());
-		buf.putShort(element);
+		buffer = __ensureRemaining(buffer, Byte.BYTES + Short.BYTES);
+		buffer.put((byte) ZeroDataType.SHORT.getValue());
+		buffer.putShort(element);
 
-		return __appendBinaryToBuffer(buffer, buf.array());
+		return buffer;
 	}
 
 	private static ByteBuffer __encodeInteger(ByteBuffer buffer, Integer element) {
-		ByteBuffer buf = ByteBuffer.allocate(Byte.BYTES + Integer.BYTES);
-		buf.put((byte) ZeroDataType.INTEGER.getValue());
-		buf.putInt(element);
+		buffer = __ensureRemaining(buffer, Byte.BYTES + Integer.BYTES);
+		buffer.put((byte) ZeroDataType.INTEGER.getValue());
+		buffer.putInt(element);
 
-		return __appendBinaryToBuffer(buffer, buf.array());
+		return buffer;
 	}
 
 	private static ByteBuffer __encodeLong(ByteBuffer buffer, Long element) {
-		ByteBuffer buf = ByteBuffer.allocate(Byte.BYTES + Long.BYTES);
-		buf.put((byte) ZeroDataType.LONG.getValue());
-		buf.putLong(element);
+		buffer = __ensureRemaining(buffer, Byte.BYTES + Long.BYTES);
+		buffer.put((byte) ZeroDataType.LONG.getValue());
+		buffer.putLong(element);
 
-		return __appendBinaryToBuffer(buffer, buf.array());
+		return buffer;
 	}
 
 	private static ByteBuffer __encodeFloat(ByteBuffer buffer, Float element) {
-		ByteBuffer buf = ByteBuffer.allocate(Byte.BYTES + Float.BYTES);
-		buf.put((byte) ZeroDataType.FLOAT.getValue());
-		buf.putFloat(element);
+		buffer = __ensureRemaining(buffer, Byte.BYTES + Float.BYTES);
+		buffer.put((byte) ZeroDataType.FLOAT.getValue());
+		buffer.putFloat(element);
 
-		return __appendBinaryToBuffer(buffer, buf.array());
+		return buffer;
 	}
 
 	private static ByteBuffer __encodeDouble(ByteBuffer buffer, Double element) {
-		ByteBuffer buf = ByteBuffer.allocate(Byte.BYTES + Double.BYTES);
-		buf.put((byte) ZeroDataType.DOUBLE.getValue());
-		buf.putDouble(element);
+		buffer = __ensureRemaining(buffer, Byte.BYTES + Double.BYTES);
+		buffer.put((byte) ZeroDataType.DOUBLE.getValue());
+		buffer.putDouble(element);
 
-		return __appendBinaryToBuffer(buffer, buf.array());
+		return buffer;
 	}
 
 	private static ByteBuffer __encodeString(ByteBuffer buffer, String element) {
 		byte[] stringBytes = element.getBytes();
-		ByteBuffer buf = ByteBuffer.allocate(Byte.BYTES + Short.BYTES + stringBytes.length);
-		buf.put((byte) ZeroDataType.STRING.getValue());
-		buf.putShort((short) stringBytes.length);
-		buf.put(stringBytes);
+		buffer = __ensureRemaining(buffer, Byte.BYTES + Short.BYTES + stringBytes.length);
+		buffer.put((byte) ZeroDataType.STRING.getValue());
+		buffer.putShort((short) stringBytes.length);
+		buffer.put(stringBytes);
 
-		return __appendBinaryToBuffer(buffer, buf.array());
+		return buffer;
 	}
 
-	private static ByteBuffer __encodeBooleanArray(ByteBuffer buffer, Collection<Boolean> element) {
-		ByteBuffer buf = ByteBuffer.allocate(Byte.BYTES + Short.BYTES + element.size());
-		buf.put((byte) ZeroDataType.BOOLEAN_ARRAY.getValue());
-		buf.putShort((short) element.size());
-		Iterator<Boolean> iter = element.iterator();
+	@SuppressWarnings("unchecked")
+	private static ByteBuffer __encodeBooleanArray(ByteBuffer buffer, Object element) {
+		if (element instanceof boolean[]) {
+			var array = (boolean[]) element;
+			buffer = __ensureRemaining(buffer, Byte.BYTES + Short.BYTES + array.length);
+			buffer.put((byte) ZeroDataType.BOOLEAN_ARRAY.getValue());
+			buffer.putShort((short) array.length);
+			for (boolean value : array) {
+				buffer.put((byte) (value ? 1 : 0));
+			}
 
-		while (iter.hasNext()) {
-			boolean boolValue = (Boolean) iter.next();
-			buf.put((byte) (boolValue ? 1 : 0));
+			return buffer;
 		}
 
-		return __appendBinaryToBuffer(buffer, buf.array());
+		var collection = (Collection<Boolean>) element;
+		buffer = __ensureRemaining(buffer, Byte.BYTES + Short.BYTES + collection.size());
+		buffer.put((byte) ZeroDataType.BOOLEAN_ARRAY.getValue());
+		buffer.putShort((short) collection.size());
+		for (boolean value : collection) {
+			buffer.put((byte) (value ? 1 : 0));
+		}
+
+		return buffer;
 	}
 
 	private static ByteBuffer __encodeByteArray(ByteBuffer buffer, byte[] element) {
-		ByteBuffer buf = ByteBuffer.allocate(Byte.BYTES + Integer.BYTES + element.length);
-		buf.put((byte) ZeroDataType.BYTE_ARRAY.getValue());
-		buf.putInt(element.length);
-		buf.put(element);
+		buffer = __ensureRemaining(buffer, Byte.BYTES + Integer.BYTES + element.length);
+		buffer.put((byte) ZeroDataType.BYTE_ARRAY.getValue());
+		buffer.putInt(element.length);
+		buffer.put(element);
 
-		return __appendBinaryToBuffer(buffer, buf.array());
+		return buffer;
 	}
 
-	private static ByteBuffer __encodeShortArray(ByteBuffer buffer, Collection<Short> element) {
-		ByteBuffer buf = ByteBuffer.allocate(Byte.BYTES + Short.BYTES + Short.BYTES * element.size());
-		buf.put((byte) ZeroDataType.SHORT_ARRAY.getValue());
-		buf.putShort((short) element.size());
-		Iterator<Short> iter = element.iterator();
+	@SuppressWarnings("unchecked")
+	private static ByteBuffer __encodeShortArray(ByteBuffer buffer, Object element) {
+		if (element instanceof short[]) {
+			var array = (short[]) element;
+			buffer = __ensureRemaining(buffer, Byte.BYTES + Short.BYTES + Short.BYTES * array.length);
+			buffer.put((byte) ZeroDataType.SHORT_ARRAY.getValue());
+			buffer.putShort((short) array.length);
+			// bulk write through a view of the buffer, then skip the written bytes
+			buffer.asShortBuffer().put(array);
+			buffer.position(buffer.position() + Short.BYTES * array.length);
 
-		while (iter.hasNext()) {
-			short shortValue = (Short) iter.next();
-			buf.putShort(shortValue);
+			return buffer;
 		}
 
-		return __appendBinaryToBuffer(buffer, buf.array());
-	}
-
-	private static ByteBuffer __encodeIntegerArray(ByteBuffer buffer, Collection<Integer> element) {
-		ByteBuffer buf = ByteBuffer.allocate(Byte.BYTES + Short.BYTES + Integer.BYTES * element.size());
-		buf.put((byte) ZeroDataType.INTEGER_ARRAY.getValue());
-		buf.putShort((short) element.size());
-		Iterator<Integer> iter = element.iterator();
-
-		while (iter.hasNext()) {
-			int integerValue = (Integer) iter.next();
-			buf.putInt(integerValue);
+		var collection = (Collection<Short>) element;
+		buffer = __ensureRemaining(buffer, Byte.BYTES + Short.BYTES + Short.BYTES * collection.size());
+		buffer.put((byte) ZeroDataType.SHORT_ARRAY.getValue());
+		buffer.putShort((short) collection.size());
+		for (short value : collection) {
+			buffer.putShort(value);
 		}
 
-		return __appendBinaryToBuffer(buffer, buf.array());
+		return buffer;
 	}
 
-	private static ByteBuffer __encodeLongArray(ByteBuffer buffer, Collection<Long> element) {
-		ByteBuffer buf = ByteBuffer.allocate(Byte.BYTES + Short.BYTES + Long.BYTES * element.size());
-		buf.put((byte) ZeroDataType.LONG_ARRAY.getValue());
-		buf.putShort((short) element.size());
-		Iterator<Long> iter = element.iterator();
+	@SuppressWarnings("unchecked")
+	private static ByteBuffer __encodeIntegerArray(ByteBuffer buffer, Object element) {
+		if (element instanceof int[]) {
+			var array = (int[]) element;
+			buffer = __ensureRemaining(buffer, Byte.BYTES + Short.BYTES + Integer.BYTES * array.length);
+			buffer.put((byte) ZeroDataType.INTEGER_ARRAY.getValue());
+			buffer.putShort((short) array.length);
+			// bulk write through a view of the buffer, then skip the written bytes
+			buffer.asIntBuffer().put(array);
+			buffer.position(buffer.position() + Integer.BYTES * array.length);
 
-		while (iter.hasNext()) {
-			long longValue = (Long) iter.next();
-			buf.putLong(longValue);
+			return buffer;
 		}
 
-		return __appendBinaryToBuffer(buffer, buf.array());
+		var collection = (Collection<Integer>) element;
+		buffer = __ensureRemaining(buffer, Byte.BYTES + Short.BYTES + Integer.BYTES * collection.size());
+		buffer.put((byte) ZeroDataType.INTEGER_ARRAY.getValue());
+		buffer.putShort((short) collection.size());
+		for (int value : collection) {
+			buffer.putInt(value);
+		}
+
+		return buffer;
 	}
 
-	private static ByteBuffer __encodeFloatArray(ByteBuffer buffer, Collection<Float> element) {
-		ByteBuffer buf = ByteBuffer.allocate(Byte.BYTES + Short.BYTES + Float.BYTES * element.size());
-		buf.put((byte) ZeroDataType.FLOAT_ARRAY.getValue());
-		buf.putShort((short) element.size());
-		Iterator<Float> iter = element.iterator();
+	@SuppressWarnings("unchecked")
+	private static ByteBuffer __encodeLongArray(ByteBuffer buffer, Object element) {
+		if (element instanceof long[]) {
+			var array = (long[]) element;
+			buffer = __ensureRemaining(buffer, Byte.BYTES + Short.BYTES + Long.BYTES * array.length);
+			buffer.put((byte) ZeroDataType.LONG_ARRAY.getValue());
+			buffer.putShort((short) array.length);
+			// bulk write through a view of the buffer, then skip the written bytes
+			buffer.asLongBuffer().put(array);
+			buffer.position(buffer.position() + Long.BYTES * array.length);
+
+			return buffer;
+		}
 
-		while (iter.hasNext()) {
-			float floatValue = (Float) iter.next();
-			buf.putFloat(floatValue);
+		var collection = (Collection<Long>) element;
+		buffer = __ensureRemaining(buffer, Byte.BYTES + Short.BYTES + Long.BYTES * collection.size());
+		buffer.put((byte) ZeroDataType.LONG_ARRAY.getValue());
+		buffer.putShort((short) collection.size());
+		for (long value : collection) {
+			buffer.putLong(value);
 		}
 
-		return __appendBinaryToBuffer(buffer, buf.array());
+		return buffer;
 	}
 
-	private static ByteBuffer __encodeDoubleArray(ByteBuffer buffer, Collection<Double> element) {
-		ByteBuffer buf = ByteBuffer.allocate(Byte.BYTES + Short.BYTES + Double.BYTES * element.size());
-		buf.put((byte) ZeroDataType.DOUBLE_ARRAY.getValue());
-		buf.putShort((short) element.size());
-		Iterator<Double> iter = element.iterator();
+	@SuppressWarnings("unchecked")
+	private static ByteBuffer __encodeFloatArray(ByteBuffer buffer, Object element) {
+		if (element instanceof float[]) {
+			var array = (float[]) element;
+			buffer = __ensureRemaining(buffer, Byte.BYTES + Short.BYTES + Float.BYTES * array.length);
+			buffer.put((byte) ZeroDataType.FLOAT_ARRAY.getValue());
+			buffer.putShort((short) array.length);
+			// bulk write through a view of the buffer, then skip the written bytes
+			buffer.asFloatBuffer().put(array);
+			buffer.position(buffer.position() + Float.BYTES * array.length);
+
+			return buffer;
+		}
 
-		while (iter.hasNext()) {
-			double doubleValue = (Double) iter.next();
-			buf.putDouble(doubleValue);
+		var collection = (Collection<Float>) element;
+		buffer = __ensureRemaining(buffer, Byte.BYTES + Short.BYTES + Float.BYTES * collection.size());
+		buffer.put((byte) ZeroDataType.FLOAT_ARRAY.getValue());
+		buffer.putShort((short) collection.size());
+		for (float value : collection) {
+			buffer.putFloat(value);
 		}
 
-		return __appendBinaryToBuffer(buffer, buf.array());
+		return buffer;
 	}
 
-	private static ByteBuffer __encodeStringArray(ByteBuffer buffer, Collection<String> collection) {
-		int totalStringsLengthInBytes = 0;
+	@SuppressWarnings("unchecked")
+	private static ByteBuffer __encodeDoubleArray(ByteBuffer buffer, Object element) {
+		if (element instanceof double[]) {
+			var array = (double[]) element;
+			buffer = __ensureRemaining(buffer, Byte.BYTES + Short.BYTES + Double.BYTES * array.length);
+			buffer.put((byte) ZeroDataType.DOUBLE_ARRAY.getValue());
+			buffer.putShort((short) array.length);
+			// bulk write through a view of the buffer, then skip the written bytes
+			buffer.asDoubleBuffer().put(array);
+			buffer.position(buffer.position() + Double.BYTES * array.length);
 
-		byte[] stringInBinary;
-		for (Iterator<String> iter = collection.iterator(); iter
-				.hasNext(); totalStringsLengthInBytes += Short.BYTES + stringInBinary.length) {
-			String item = iter.next();
-			stringInBinary = item.getBytes();
+			return buffer;
 		}
 
-		ByteBuffer buf = ByteBuffer.allocate(Byte.BYTES + Short.BYTES + totalStringsLengthInBytes);
-		buf.put((byte) ZeroDataType.STRING_ARRAY.getValue());
-		buf.putShort((short) collection.size());
-		collection.forEach(string -> {
+		var collection = (Collection<Double>) element;
+		buffer = __ensureRemaining(buffer, Byte.BYTES + Short.BYTES + Double.BYTES * collection.size());
+		buffer.put((byte) ZeroDataType.DOUBLE_ARRAY.getValue());
+		buffer.putShort((short) collection.size());
+		for (double value : collection) {
+			buffer.putDouble(value);
+		}
+
+		return buffer;
+	}
+
+	private static ByteBuffer __encodeStringArray(ByteBuffer buffer, Object element) {
+		var collection = ZeroDataArrayUtility.toStringCollection(element);
+		buffer = __ensureRemaining(buffer, Byte.BYTES + Short.BYTES);
+		buffer.put((byte) ZeroDataType.STRING_ARRAY.getValue());
+		buffer.putShort((short) collection.size());
+		for (var string : collection) {
 			byte[] bytes = string.getBytes();
-			buf.putShort((short) bytes.length);
-			buf.put(bytes);
-		});
+			buffer = __ensureRemaining(buffer, Short.BYTES + bytes.length);
+			buffer.putShort((short) bytes.length);
+			buffer.put(bytes);
+		}
 
-		return __appendBinaryToBuffer(buffer, buf.array());
+		return buffer;
 	}
 
 	private static ByteBuffer __encodeZeroObjectKey(ByteBuffer buffer, String key) {
-		ByteBuffer buf = ByteBuffer.allocate(Short.BYTES + key.length());
-		buf.putShort((short) key.length());
-		buf.put(key.getBytes());
+		byte[] keyBytes = key.getBytes();
+		buffer = __ensureRemaining(buffer, Short.BYTES + keyBytes.length);
+		buffer.putShort((short) keyBytes.length);
+		buffer.put(keyBytes);
 
-		return __appendBinaryToBuffer(buffer, buf.array());
+		return buffer;
 	}
 
-	private static ByteBuffer __appendBinaryToBuffer(ByteBuffer buffer, byte[] binary) {
-		if (buffer.remaining() < binary.length) {
-			int newSize = BUFFER_CHUNK_BYTES;
-			if (newSize < binary.length) {
-				newSize = binary.length;
-			}
-
-			ByteBuffer newBuffer = ByteBuffer.allocate(buffer.capacity() + newSize);
-			buffer.flip();
-			newBuffer.put(buffer);
-			buffer = newBuffer;
+	/**
+	 * Makes sure the buffer can take the number of bytes, otherwise replaces it by
+	 * a bigger one (at least twice the old capacity, so the growth costs amortized
+	 * constant time) which holds the already encoded data.
+	 */
+	private static ByteBuffer __ensureRemaining(ByteBuffer buffer, int numberBytes) {
+		if (buffer.remaining() >= numberBytes) {
+			return buffer;
 		}
 
-		buffer.put(binary);
-		return buffer;
+		int newCapacity = Math.max(buffer.capacity() * 2, buffer.position() + numberBytes);
+		ByteBuffer newBuffer = ByteBuffer.allocate(Math.max(newCapacity, BUFFER_CHUNK_BYTES));
+		buffer.flip();
+		newBuffer.put(buffer);
+
+		return newBuffer;
 	}
 
 }
@@ -199,6 +199,25 @@ public abstract class AbstractLogger {
 		__stringPool.repay(msg);
 	}
 
+	/**
+	 * Always use {@link #buildgen(Object...)} for creating {@code StringBuilder} to
+	 * avoid memory leak. Generate log in <b>warn</b> level
+	 * 
+	 * @param tag the tag type
+	 * @param msg the message content
+	 */
+	public void warn(String tag, StringBuilder msg) {
+		if (!__logger.isWarnEnabled()) {
+			__stringPool.repay(msg);
+			return;
+		}
+		StringBuilder builder = __stringPool.get();
+		builder.append("[").append(tag).append("] ").append(msg);
+		__logger.warn(builder.toString());
+		__stringPool.repay(builder);
+		__stringPool.repay(msg);
+	}
+
 	/**
 	 * Always use {@link #buildgen(Object...)} for creating {@code StringBuilder} to
 	 * avoid memory leak. Generate log in <b>info</b> level
@@ -35,6 +35,24 @@ package com.tenio.common.loggers;
  */
 public abstract class SystemLogger extends AbstractLogger {
 
+	/**
+	 * Checks the level first to avoid building the messages in hot paths.
+	 * 
+	 * @return <b>true</b> if the debug logs are recorded
+	 */
+	public boolean isDebugEnabled() {
+		return __logger.isDebugEnabled();
+	}
+
+	/**
+	 * Checks the level first to avoid building the messages in hot paths.
+	 * 
+	 * @return <b>true</b> if the trace logs are recorded
+	 */
+	public boolean isTraceEnabled() {
+		return __logger.isTraceEnabled();
+	}
+
 	/**
 	 * Only use for debugging EVENTS in the server system. Be careful when using it
 	 * yourself. You are warned!
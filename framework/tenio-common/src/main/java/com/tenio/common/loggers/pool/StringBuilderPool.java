@@ -23,7 +23,6 @@ THE SOFTWARE.
 */
 package com.tenio.common.loggers.pool;
 
-import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
 import org.apache.logging.log4j.LogManager;
@@ -33,6 +32,7 @@ import com.google.common.base.Throwables;
 import com.tenio.common.configuration.constant.CommonConstant;
 import com.tenio.common.exceptions.NullElementPoolException;
 import com.tenio.common.pool.ElementsPool;
+import com.tenio.common.pool.FreeListElementsPool;
 
 /**
  * The object pool mechanism for {@link StringBuilder}.
@@ -60,85 +60,46 @@ public final class StringBuilderPool implements ElementsPool<StringBuilder> {
 		return reference;
 	}
 
+	/**
+	 * The number of builders which are cached for each thread, a log message takes
+	 * up to 4 builders at the same time
+	 */
+	private static final int THREAD_LOCAL_CACHE_SIZE = 8;
+
 	private final Logger __logger = LogManager.getLogger(getClass());
-	@GuardedBy("this")
-	private StringBuilder[] __pool;
-	@GuardedBy("this")
-	private boolean[] __used;
+	private final FreeListElementsPool<StringBuilder> __pool;
 
 	private StringBuilderPool() {
-		__pool = new StringBuilder[CommonConstant.DEFAULT_NUMBER_ELEMENTS_POOL];
-		__used = new boolean[CommonConstant.DEFAULT_NUMBER_ELEMENTS_POOL];
-
-		for (int i = 0; i < __pool.length; i++) {
-			__pool[i] = new StringBuilder();
-			__used[i] = false;
-		}
+		__pool = new FreeListElementsPool<StringBuilder>(index -> new StringBuilder(),
+				CommonConstant.DEFAULT_NUMBER_ELEMENTS_POOL, THREAD_LOCAL_CACHE_SIZE);
+		__pool.setElementResetter(element -> element.setLength(0));
+		__pool.setGrowingListener(poolSize -> __infoWithoutPool("STRINGBUILDER POOL",
+				__strgen("Increased the number of elements to ", poolSize)));
 	}
 
 	@Override
-	public synchronized StringBuilder get() {
-		for (int i = 0; i < __used.length; i++) {
-			if (!__used[i]) {
-				__used[i] = true;
-				return __pool[i];
-			}
-		}
-		// If we got here, then all the Elements are in use. We will
-		// increase the number in our pool by @ADD_ELEMENT_POOL (arbitrary value for
-		// illustration purposes).
-		var oldUsed = __used;
-		__used = new boolean[oldUsed.length + CommonConstant.ADDITIONAL_NUMBER_ELEMENTS_POOL];
-		System.arraycopy(oldUsed, 0, __used, 0, oldUsed.length);
-
-		var oldPool = __pool;
-		__pool = new StringBuilder[oldPool.length + CommonConstant.ADDITIONAL_NUMBER_ELEMENTS_POOL];
-		System.arraycopy(oldPool, 0, __pool, 0, oldPool.length);
-
-		for (int i = oldPool.length; i < __pool.length; i++) {
-			__pool[i] = new StringBuilder();
-			__used[i] = false;
-		}
-
-		__infoWithoutPool("STRINGBUILDER POOL", __strgen("Increased the number of elements by ",
-				CommonConstant.ADDITIONAL_NUMBER_ELEMENTS_POOL, " to ", __used.length));
-
-		// and allocate the last old ELement
-		__used[oldPool.length - 1] = true;
-		return __pool[oldPool.length - 1];
+	public StringBuilder get() {
+		return __pool.get();
 	}
 
 	@Override
-	public synchronized void repay(StringBuilder element) {
-		boolean flagFound = false;
-		for (int i = 0; i < __pool.length; i++) {
-			if (__pool[i] == element) {
-				__used[i] = false;
-				// Clear
-				element.setLength(0);
-				flagFound = true;
-				break;
-			}
-		}
-		if (!flagFound) {
-			var e = new NullElementPoolException();
+	public void repay(StringBuilder element) {
+		try {
+			__pool.repay(element);
+		} catch (NullElementPoolException e) {
 			__errorWithoutPool(e);
 			throw e;
 		}
 	}
 
 	@Override
-	public synchronized void cleanup() {
-		for (int i = 0; i < __pool.length; i++) {
-			__pool[i] = null;
-		}
-		__used = null;
-		__pool = null;
+	public void cleanup() {
+		__pool.cleanup();
 	}
 
 	@Override
-	public synchronized int getPoolSize() {
-		return (__pool.length == __used.length) ? __pool.length : -1;
+	public int getPoolSize() {
+		return __pool.getPoolSize();
 	}
 
 	/**
@@ -0,0 +1,365 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.common.pool;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.tenio.common.exceptions.NullElementPoolException;
+
+/**
+ * The shared implementation of {@link ElementsPool}. The free elements are
+ * tracked by a stack of their indices and each element's index can be found
+ * without scanning the pool, so both {@link #get()} and {@link #repay(Object)}
+ * take constant time. When all elements are in use, the pool doubles its size.
+ * 
+ * An optional thread-local cache keeps a few repaid elements for the current
+ * thread, they are reused by the next {@link #get()} calls of the same thread
+ * without locking. Each element keeps its state (free, in use or cached) in the
+ * shared pool, so an element can not be repaid twice, even by other threads.
+ * The elements which are left in the caches of finished threads are given back
+ * to the shared pool before it grows.
+ * 
+ * @param <Element> the element type
+ */
+@ThreadSafe
+public final class FreeListElementsPool<Element> implements ElementsPool<Element> {
+
+	private static final int FREE = 0;
+	private static final int USED = 1;
+	private static final int CACHED = 2;
+	// the caches of finished threads are also checked when the number of caches
+	// reaches this limit, it is doubled each time
+	private static final int MIN_THREAD_CACHES_CHECKING_SIZE = 16;
+
+	private final IntFunction<Element> __creator;
+	private Consumer<Element> __resetter;
+	private ToIntFunction<Element> __indexer;
+	private IntConsumer __growingListener;
+	// replaced on cleanup, so the threads drop their old caches
+	private volatile ThreadLocal<ThreadCache> __threadCache;
+	private final int __threadCacheSize;
+	@GuardedBy("this")
+	private final List<ThreadCache> __threadCaches;
+	@GuardedBy("this")
+	private int __threadCachesCheckingSize;
+
+	// slots never move to other indices, so the array can be read without locking
+	private volatile Slot[] __pool;
+	// only replaced when the pool grows, then it can be read without locking
+	private volatile Map<Element, Integer> __indexByElements;
+	@GuardedBy("this")
+	private int[] __freeIndices;
+	@GuardedBy("this")
+	private int __freeCount;
+
+	/**
+	 * @param creator             creates a new element for an index, it can
+	 *                            return <b>null</b> when the creation failed
+	 * @param initialSize         the initial number of elements
+	 * @param threadLocalCacheSize the number of elements which can be cached for
+	 *                            each thread, <b>0</b> to disable the cache
+	 */
+	public FreeListElementsPool(IntFunction<Element> creator, int initialSize, int threadLocalCacheSize) {
+		__creator = creator;
+		__resetter = null;
+		__indexer = null;
+		__growingListener = null;
+		__threadCacheSize = threadLocalCacheSize;
+		__threadCache = __createThreadLocalCache();
+		__threadCaches = new ArrayList<ThreadCache>();
+		__threadCachesCheckingSize = MIN_THREAD_CACHES_CHECKING_SIZE;
+
+		__pool = new Slot[0];
+		__indexByElements = new IdentityHashMap<Element, Integer>();
+		__freeIndices = new int[0];
+		__freeCount = 0;
+
+		synchronized (this) {
+			__grow(Math.max(initialSize, 1));
+		}
+	}
+
+	/**
+	 * Sets the action which is applied on a repaid element before it can be reused
+	 * 
+	 * @param resetter the reset action
+	 */
+	public void setElementResetter(Consumer<Element> resetter) {
+		__resetter = resetter;
+	}
+
+	/**
+	 * An element can keep its own pool index (the one given to the creator), then
+	 * the pool does not need to look it up.
+	 * 
+	 * @param indexer retrieves the index which is stored on an element
+	 */
+	public void setElementIndexer(ToIntFunction<Element> indexer) {
+		__indexer = indexer;
+	}
+
+	/**
+	 * @param growingListener receives the new pool size after growing
+	 */
+	public void setGrowingListener(IntConsumer growingListener) {
+		__growingListener = growingListener;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Element get() {
+		var threadCache = __threadCache;
+		if (threadCache != null) {
+			var slot = threadCache.get().pop();
+			if (slot != null) {
+				return (Element) slot.element;
+			}
+		}
+
+		int newSize = 0;
+		Element element;
+		synchronized (this) {
+			if (__freeCount == 0) {
+				// the elements which were left by finished threads are reused first
+				__reclaimThreadCaches();
+			}
+			if (__freeCount == 0) {
+				newSize = __grow(Math.max(__pool.length << 1, 1));
+			}
+			var slot = __pool[__freeIndices[--__freeCount]];
+			slot.state = USED;
+			element = (Element) slot.element;
+		}
+
+		if (newSize > 0 && __growingListener != null) {
+			__growingListener.accept(newSize);
+		}
+		return element;
+	}
+
+	@Override
+	public void repay(Element element) {
+		int index = __indexOf(element);
+		var pool = __pool;
+		if (index < 0 || index >= pool.length || pool[index].element != element) {
+			throw new NullElementPoolException();
+		}
+		var slot = pool[index];
+
+		var threadCache = __threadCache;
+		if (threadCache != null) {
+			var cache = threadCache.get();
+			if (!cache.isFull()) {
+				// the element could be repaid by another thread at the same time
+				if (!Slot.STATE.compareAndSet(slot, USED, CACHED)) {
+					throw new NullElementPoolException();
+				}
+				__reset(element);
+				cache.push(slot);
+				return;
+			}
+		}
+
+		synchronized (this) {
+			if (!Slot.STATE.compareAndSet(slot, USED, FREE)) {
+				throw new NullElementPoolException();
+			}
+			__reset(element);
+			__freeIndices[__freeCount++] = index;
+		}
+	}
+
+	private void __reset(Element element) {
+		if (__resetter != null) {
+			__resetter.accept(element);
+		}
+	}
+
+	private int __indexOf(Element element) {
+		if (element == null) {
+			return -1;
+		}
+		if (__indexer != null) {
+			return __indexer.applyAsInt(element);
+		}
+		var index = __indexByElements.get(element);
+		return index != null ? index : -1;
+	}
+
+	private ThreadLocal<ThreadCache> __createThreadLocalCache() {
+		return __threadCacheSize > 0 ? ThreadLocal.withInitial(this::__createThreadCache) : null;
+	}
+
+	private synchronized ThreadCache __createThreadCache() {
+		// the number of caches is kept bounded even when the pool never runs out of
+		// elements
+		if (__threadCaches.size() >= __threadCachesCheckingSize) {
+			__reclaimThreadCaches();
+			__threadCachesCheckingSize = Math.max(__threadCaches.size() << 1, MIN_THREAD_CACHES_CHECKING_SIZE);
+		}
+
+		var threadCache = new ThreadCache();
+		__threadCaches.add(threadCache);
+		return threadCache;
+	}
+
+	@GuardedBy("this")
+	private void __reclaimThreadCaches() {
+		int i = 0;
+		while (i < __threadCaches.size()) {
+			var threadCache = __threadCaches.get(i);
+			if (threadCache.isOwnerAlive()) {
+				i++;
+				continue;
+			}
+
+			// the owner thread finished, nobody else touches its cache
+			Slot slot = null;
+			while ((slot = threadCache.pop()) != null) {
+				slot.state = FREE;
+				__freeIndices[__freeCount++] = slot.index;
+			}
+			int last = __threadCaches.size() - 1;
+			__threadCaches.set(i, __threadCaches.get(last));
+			__threadCaches.remove(last);
+		}
+	}
+
+	@GuardedBy("this")
+	private int __grow(int newSize) {
+		int oldSize = __pool.length;
+
+		var pool = new Slot[newSize];
+		System.arraycopy(__pool, 0, pool, 0, oldSize);
+		var indexByElements = new IdentityHashMap<Element, Integer>(__indexByElements);
+
+		// all the old elements are in use now, only the new ones are free
+		var freeIndices = new int[newSize];
+		int freeCount = 0;
+		for (int i = newSize - 1; i >= oldSize; i--) {
+			var element = __creator.apply(i);
+			if (element != null) {
+				pool[i] = new Slot(element, i);
+				indexByElements.put(element, i);
+				freeIndices[freeCount++] = i;
+			} else {
+				pool[i] = new Slot(null, i);
+			}
+		}
+
+		__freeIndices = freeIndices;
+		__freeCount = freeCount;
+		__indexByElements = indexByElements;
+		__pool = pool;
+
+		if (__freeCount == 0) {
+			throw new NullElementPoolException("Unable to create new elements for the pool");
+		}
+
+		return newSize;
+	}
+
+	@Override
+	public synchronized void cleanup() {
+		__threadCache = __createThreadLocalCache();
+		__threadCaches.clear();
+		__threadCachesCheckingSize = MIN_THREAD_CACHES_CHECKING_SIZE;
+		__pool = new Slot[0];
+		__indexByElements = new IdentityHashMap<Element, Integer>();
+		__freeIndices = new int[0];
+		__freeCount = 0;
+	}
+
+	@Override
+	public int getPoolSize() {
+		return __pool.length;
+	}
+
+	/**
+	 * An element and its state in the pool
+	 */
+	private static final class Slot {
+
+		static final AtomicIntegerFieldUpdater<Slot> STATE = AtomicIntegerFieldUpdater.newUpdater(Slot.class,
+				"state");
+
+		final Object element;
+		final int index;
+		volatile int state;
+
+		Slot(Object element, int index) {
+			this.element = element;
+			this.index = index;
+			state = element != null ? FREE : USED;
+		}
+
+	}
+
+	/**
+	 * The elements which are cached for a thread
+	 */
+	private final class ThreadCache {
+
+		private final WeakReference<Thread> __owner = new WeakReference<Thread>(Thread.currentThread());
+		private final Slot[] __slots = new Slot[__threadCacheSize];
+		private int __size = 0;
+
+		Slot pop() {
+			if (__size == 0) {
+				return null;
+			}
+			var slot = __slots[--__size];
+			__slots[__size] = null;
+			slot.state = USED;
+			return slot;
+		}
+
+		void push(Slot slot) {
+			__slots[__size++] = slot;
+		}
+
+		boolean isFull() {
+			return __size == __slots.length;
+		}
+
+		boolean isOwnerAlive() {
+			var owner = __owner.get();
+			return owner != null && owner.isAlive();
+		}
+
+	}
+
+}
@@ -0,0 +1,44 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.common.task.wheel;
+
+/**
+ * The action which is taken when a timeout of the {@link HashedTimingWheel}
+ * expires.
+ */
+@FunctionalInterface
+public interface ExpirationHandler {
+
+	/**
+	 * Handles an expired timeout. A timeout whose deadline was postponed can be
+	 * re-armed by returning the new deadline, so the frequent updates only need to
+	 * record their times instead of moving the timeout.
+	 * 
+	 * @param now the current time in milliseconds
+	 * @return the new deadline in milliseconds to be re-armed with, or a value
+	 *         which is not in the future to drop the timeout
+	 */
+	long expire(long now);
+
+}
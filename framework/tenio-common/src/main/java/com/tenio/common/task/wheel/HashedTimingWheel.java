@@ -0,0 +1,183 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.common.task.wheel;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.tenio.common.loggers.SystemLogger;
+
+/**
+ * A hashed timing wheel keeps its timeouts in a circle of buckets, one per
+ * tick, so adding a timeout costs O(1) and every tick only visits the timeouts
+ * of one bucket instead of all of them. A timeout which is further than one
+ * round of the wheel waits for its remaining rounds in the bucket.
+ * <p>
+ * Timeouts can be scheduled from any thread, they are moved into their buckets
+ * by the ticking thread, which is the only one touching the buckets. The
+ * {@link #tick(long)} method must be called periodically by a single thread.
+ */
+@ThreadSafe
+public final class HashedTimingWheel extends SystemLogger {
+
+	private final long __tickDuration;
+	private final long __startTime;
+	private final Timeout[] __buckets;
+	private final int __mask;
+	private final ConcurrentLinkedQueue<Timeout> __pendingTimeouts;
+	// the number of passed ticks, only touched by the ticking thread
+	private long __tick;
+
+	/**
+	 * @param tickDuration the duration of one tick in milliseconds
+	 * @param wheelSize    the minimum number of buckets, it is rounded up to a
+	 *                     power of two
+	 * @param startTime    the time in milliseconds of the first tick
+	 * @return a new instance of {@link HashedTimingWheel}
+	 */
+	public static HashedTimingWheel newInstance(long tickDuration, int wheelSize, long startTime) {
+		return new HashedTimingWheel(tickDuration, wheelSize, startTime);
+	}
+
+	private HashedTimingWheel(long tickDuration, int wheelSize, long startTime) {
+		if (tickDuration <= 0) {
+			throw new IllegalArgumentException("The tick duration must be positive");
+		}
+
+		int capacity = Integer.highestOneBit(Math.max(wheelSize, 2) - 1) << 1;
+		__tickDuration = tickDuration;
+		__startTime = startTime;
+		__buckets = new Timeout[capacity];
+		__mask = capacity - 1;
+		__pendingTimeouts = new ConcurrentLinkedQueue<Timeout>();
+		__tick = 0L;
+	}
+
+	/**
+	 * Schedules a timeout, it expires on the first tick which is not before its
+	 * deadline.
+	 * 
+	 * @param deadline the deadline in milliseconds
+	 * @param handler  the {@link ExpirationHandler} of this timeout
+	 */
+	public void schedule(long deadline, ExpirationHandler handler) {
+		__pendingTimeouts.add(new Timeout(deadline, handler));
+	}
+
+	/**
+	 * Processes all the ticks which passed until now, then expires the timeouts of
+	 * their buckets.
+	 * 
+	 * @param now the current time in milliseconds
+	 */
+	public void tick(long now) {
+		while (__startTime + __tick * __tickDuration <= now) {
+			__transferPendingTimeouts();
+			__expireBucket(now);
+			__tick++;
+		}
+	}
+
+	/**
+	 * @return the duration of one tick in milliseconds
+	 */
+	public long getTickDuration() {
+		return __tickDuration;
+	}
+
+	private void __transferPendingTimeouts() {
+		Timeout timeout;
+		while ((timeout = __pendingTimeouts.poll()) != null) {
+			__place(timeout, __tick);
+		}
+	}
+
+	/**
+	 * @param timeout  the placed timeout
+	 * @param fromTick the first tick whose bucket is not processed yet, the late
+	 *                 timeouts are placed there
+	 */
+	private void __place(Timeout timeout, long fromTick) {
+		long ticks = Math.max(Math.floorDiv(timeout.deadline - __startTime + __tickDuration - 1, __tickDuration),
+				fromTick);
+		timeout.remainingRounds = (ticks - fromTick) >> Integer.numberOfTrailingZeros(__buckets.length);
+		int index = (int) (ticks & __mask);
+		timeout.next = __buckets[index];
+		__buckets[index] = timeout;
+	}
+
+	private void __expireBucket(long now) {
+		int index = (int) (__tick & __mask);
+		var timeout = __buckets[index];
+		__buckets[index] = null;
+
+		while (timeout != null) {
+			var next = timeout.next;
+			timeout.next = null;
+
+			if (timeout.remainingRounds > 0) {
+				timeout.remainingRounds--;
+				timeout.next = __buckets[index];
+				__buckets[index] = timeout;
+			} else {
+				__expire(timeout, now);
+			}
+
+			timeout = next;
+		}
+	}
+
+	private void __expire(Timeout timeout, long now) {
+		long deadline;
+		try {
+			deadline = timeout.handler.expire(now);
+		} catch (Throwable e) {
+			error(e);
+			return;
+		}
+
+		// re-armed timeouts are placed from the next tick, so they never loop in the
+		// current one
+		if (deadline > now) {
+			timeout.deadline = deadline;
+			__place(timeout, __tick + 1);
+		}
+	}
+
+	private static final class Timeout {
+
+		private final ExpirationHandler handler;
+		private long deadline;
+		private long remainingRounds;
+		private Timeout next;
+
+		private Timeout(long deadline, ExpirationHandler handler) {
+			this.deadline = deadline;
+			this.handler = handler;
+		}
+
+	}
+
+}
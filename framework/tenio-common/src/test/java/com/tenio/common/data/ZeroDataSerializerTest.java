@@ -0,0 +1,174 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tenio.common.data.implement.ZeroArrayImpl;
+import com.tenio.common.data.implement.ZeroObjectImpl;
+import com.tenio.common.data.utilities.ZeroDataSerializerUtility;
+
+public final class ZeroDataSerializerTest {
+
+	@Test
+	public void primitiveArraysShouldBeEncodedAsCollections() {
+		var boxed = ZeroObjectImpl.newInstance().putBooleanArray("b", List.of(true, false))
+				.putShortArray("s", List.of((short) 1, (short) -2)).putIntegerArray("i", List.of(3, -4))
+				.putLongArray("l", List.of(5L, -6L)).putFloatArray("f", List.of(7.5f, -8.5f))
+				.putDoubleArray("d", List.of(9.25, -10.25)).putStringArray("t", List.of("a", "bc"));
+
+		var primitive = ZeroObjectImpl.newInstance().putBooleans("b", new boolean[] { true, false })
+				.putShorts("s", new short[] { 1, -2 }).putInts("i", new int[] { 3, -4 })
+				.putLongs("l", new long[] { 5L, -6L }).putFloats("f", new float[] { 7.5f, -8.5f })
+				.putDoubles("d", new double[] { 9.25, -10.25 }).putStrings("t", new String[] { "a", "bc" });
+
+		assertArrayEquals(boxed.toBinary(), primitive.toBinary());
+	}
+
+	@Test
+	public void decodedArraysShouldBeReadInBothForms() {
+		var array = ZeroArrayImpl.newInstance().addInts(new int[] { 1, 2, 3 })
+				.addDoubleArray(List.of(0.5, 1.5));
+		var object = ZeroObjectImpl.newInstance().putFloats("f", new float[] { 1.0f, 2.0f })
+				.putIntegerArray("i", List.of(7, 8, 9)).putZeroArray("a", array);
+
+		var decoded = ZeroObjectImpl.newInstance(object.toBinary());
+
+		assertArrayEquals(new float[] { 1.0f, 2.0f }, decoded.getFloats("f"));
+		assertEquals(List.of(1.0f, 2.0f), decoded.getFloatArray("f"));
+		assertArrayEquals(new int[] { 7, 8, 9 }, decoded.getInts("i"));
+		assertEquals(List.of(7, 8, 9), decoded.getIntegerArray("i"));
+
+		var decodedArray = decoded.getZeroArray("a");
+		assertArrayEquals(new int[] { 1, 2, 3 }, decodedArray.getInts(0));
+		assertEquals(Arrays.asList(0.5, 1.5), decodedArray.getDoubleArray(1));
+		assertArrayEquals(new double[] { 0.5, 1.5 }, decodedArray.getDoubles(1));
+	}
+
+	@Test
+	public void stringArrayViewShouldBeReadOnly() {
+		var strings = new String[] { "a", "bc" };
+		var object = ZeroObjectImpl.newInstance().putStrings("t", strings);
+
+		var view = (List<String>) object.getStringArray("t");
+
+		assertEquals(List.of("a", "bc"), view);
+		assertThrows(UnsupportedOperationException.class, () -> view.set(0, "changed"));
+		assertEquals("a", strings[0]);
+	}
+
+	@Test
+	public void primitiveArrayGettersShouldReturnCopies() {
+		var object = ZeroObjectImpl.newInstance().putInts("i", new int[] { 1, 2 })
+				.putStrings("t", new String[] { "a" });
+		var array = ZeroArrayImpl.newInstance().addDoubles(new double[] { 0.5 });
+		var lazy = ZeroDataSerializerUtility.binaryToLazyObject(object.toBinary());
+
+		object.getInts("i")[0] = 10;
+		object.getStrings("t")[0] = "changed";
+		array.getDoubles(0)[0] = 1.5;
+		lazy.getInts("i")[0] = 10;
+
+		assertArrayEquals(new int[] { 1, 2 }, object.getInts("i"));
+		assertArrayEquals(new String[] { "a" }, object.getStrings("t"));
+		assertArrayEquals(new double[] { 0.5 }, array.getDoubles(0));
+		assertArrayEquals(new int[] { 1, 2 }, lazy.getInts("i"));
+		assertArrayEquals(new int[] { 1, 2 }, ZeroObjectImpl.newInstance(lazy.toBinary()).getInts("i"));
+	}
+
+	@Test
+	public void lazyObjectShouldDecodeValuesOnDemand() {
+		var nested = ZeroObjectImpl.newInstance().putString("name", "nested").putLongs("l", new long[] { 1L, 2L });
+		var object = ZeroObjectImpl.newInstance().putNull("n").putBoolean("b", true).putByte("y", (byte) 3)
+				.putShort("s", (short) 4).putInteger("i", 5).putLong("l", 6L).putFloat("f", 7.5f)
+				.putDouble("d", 8.5).putString("t", "text").putBooleans("ba", new boolean[] { true })
+				.putByteArray("ya", new byte[] { 1, 2 }).putShorts("sa", new short[] { 9 })
+				.putInts("ia", new int[] { 10, 11 }).putFloats("fa", new float[] { 12.5f })
+				.putDoubles("da", new double[] { 13.5 }).putStrings("ta", new String[] { "x", "yz" })
+				.putZeroArray("za", ZeroArrayImpl.newInstance().addString("item").addZeroObject(nested))
+				.putZeroObject("zo", nested);
+		byte[] binary = object.toBinary();
+
+		var lazy = ZeroDataSerializerUtility.binaryToLazyObject(binary);
+
+		assertEquals(object.size(), lazy.size());
+		assertEquals(object.getKeys(), lazy.getKeys());
+		assertTrue(lazy.isNull("n"));
+		assertEquals(5, lazy.getInteger("i"));
+		assertEquals("text", lazy.getString("t"));
+		assertArrayEquals(new String[] { "x", "yz" }, lazy.getStrings("ta"));
+		assertEquals("nested", lazy.getZeroObject("zo").getString("name"));
+		assertArrayEquals(new long[] { 1L, 2L }, lazy.getZeroObject("zo").getLongs("l"));
+		assertEquals("nested", lazy.getZeroArray("za").getZeroObject(1).getString("name"));
+		assertNull(lazy.getInteger("missing"));
+		assertFalse(lazy.containsKey("missing"));
+		assertArrayEquals(binary, lazy.toBinary());
+		assertEquals(object.toString().length(), lazy.toString().length());
+
+		// it can still be modified like a normal object
+		lazy.putInteger("i", 50);
+		lazy.removeElement("t");
+		var modified = ZeroObjectImpl.newInstance(lazy.toBinary());
+		assertEquals(50, modified.getInteger("i"));
+		assertFalse(modified.containsKey("t"));
+		assertEquals(7.5f, modified.getFloat("f"));
+		assertEquals("nested", modified.getZeroObject("zo").getString("name"));
+	}
+
+	@Test
+	public void lazyObjectShouldKeepNestedContainersModifications() {
+		var deep = ZeroObjectImpl.newInstance().putInteger("v", 1);
+		var nested = ZeroObjectImpl.newInstance().putInteger("v", 1).putZeroObject("deep", deep);
+		var object = ZeroObjectImpl.newInstance().putZeroObject("zo", nested).putZeroArray("za",
+				ZeroArrayImpl.newInstance().addInteger(1));
+
+		var lazy = ZeroDataSerializerUtility.binaryToLazyObject(object.toBinary());
+		lazy.getZeroObject("zo").putInteger("v", 2);
+		lazy.getZeroObject("zo").getZeroObject("deep").putInteger("v", 3);
+		lazy.getZeroArray("za").addInteger(4);
+
+		var modified = ZeroObjectImpl.newInstance(lazy.toBinary());
+		assertEquals(2, modified.getZeroObject("zo").getInteger("v"));
+		assertEquals(3, modified.getZeroObject("zo").getZeroObject("deep").getInteger("v"));
+		assertEquals(2, modified.getZeroArray("za").size());
+		assertEquals(4, modified.getZeroArray("za").getInteger(1));
+
+		var buffer = lazy.writeTo(ByteBuffer.allocate(4));
+		buffer.flip();
+		assertEquals(3, ZeroDataSerializerUtility.binaryToObject(buffer).getZeroObject("zo").getZeroObject("deep")
+				.getInteger("v"));
+	}
+
+}
@@ -0,0 +1,157 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.common.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.tenio.common.exceptions.NullElementPoolException;
+
+public final class FreeListElementsPoolTest {
+
+	@Test
+	public void repaidElementShouldBeReused() {
+		var pool = new FreeListElementsPool<StringBuilder>(index -> new StringBuilder(), 4, 0);
+		pool.setElementResetter(element -> element.setLength(0));
+
+		var element = pool.get().append("used");
+		var otherElement = pool.get();
+		assertNotSame(element, otherElement);
+
+		pool.repay(element);
+		var reusedElement = pool.get();
+		assertSame(element, reusedElement);
+		assertEquals(0, reusedElement.length());
+	}
+
+	@Test
+	public void poolShouldDoubleItsSizeWhenAllElementsAreInUse() {
+		var growingSizes = new ArrayList<Integer>();
+		var pool = new FreeListElementsPool<Object>(index -> new Object(), 4, 0);
+		pool.setGrowingListener(growingSizes::add);
+
+		var elements = new IdentityHashMap<Object, Boolean>();
+		for (int i = 0; i < 9; i++) {
+			elements.put(pool.get(), true);
+		}
+
+		assertEquals(9, elements.size());
+		assertEquals(16, pool.getPoolSize());
+		assertEquals(List.of(8, 16), growingSizes);
+	}
+
+	@Test
+	public void repayingUnknownOrFreeElementShouldCauseException() {
+		var pool = new FreeListElementsPool<Object>(index -> new Object(), 4, 0);
+
+		assertThrows(NullElementPoolException.class, () -> pool.repay(new Object()));
+
+		var element = pool.get();
+		pool.repay(element);
+		assertThrows(NullElementPoolException.class, () -> pool.repay(element));
+	}
+
+	@Test
+	public void elementIndexerShouldBeUsedInsteadOfLookingUp() {
+		var lookups = new AtomicInteger();
+		var pool = new FreeListElementsPool<int[]>(index -> new int[] { index }, 4, 0);
+		pool.setElementIndexer(element -> {
+			lookups.incrementAndGet();
+			return element[0];
+		});
+
+		pool.repay(pool.get());
+
+		assertEquals(1, lookups.get());
+		assertThrows(NullElementPoolException.class, () -> pool.repay(new int[] { 0 }));
+	}
+
+	@Test
+	public void threadLocalCacheShouldKeepRepaidElements() {
+		var pool = new FreeListElementsPool<Object>(index -> new Object(), 4, 2);
+
+		var elements = new Object[] { pool.get(), pool.get(), pool.get() };
+		for (var element : elements) {
+			pool.repay(element);
+		}
+		assertThrows(NullElementPoolException.class, () -> pool.repay(elements[2]));
+
+		// the cache was full, so the last element went back to the shared pool
+		assertSame(elements[1], pool.get());
+		assertSame(elements[0], pool.get());
+		assertSame(elements[2], pool.get());
+		assertEquals(4, pool.getPoolSize());
+	}
+
+	@Test
+	public void elementsCachedByFinishedThreadsShouldBeReused() throws InterruptedException {
+		var pool = new FreeListElementsPool<Object>(index -> new Object(), 4, 8);
+
+		for (int i = 0; i < 1000; i++) {
+			var thread = new Thread(() -> {
+				var elements = new Object[] { pool.get(), pool.get(), pool.get() };
+				for (var element : elements) {
+					pool.repay(element);
+				}
+			});
+			thread.start();
+			thread.join();
+		}
+
+		assertTrue(pool.getPoolSize() <= 8);
+	}
+
+	@Test
+	public void elementCachedByAnotherThreadShouldNotBeRepaidAgain() throws InterruptedException {
+		var pool = new FreeListElementsPool<Object>(index -> new Object(), 4, 2);
+		var element = pool.get();
+		pool.repay(element);
+
+		var exception = new AtomicReference<Throwable>();
+		var thread = new Thread(() -> {
+			try {
+				pool.repay(element);
+			} catch (Throwable e) {
+				exception.set(e);
+			}
+		});
+		thread.start();
+		thread.join();
+
+		assertTrue(exception.get() instanceof NullElementPoolException);
+		assertSame(element, pool.get());
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.common.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tenio.common.task.wheel.HashedTimingWheel;
+
+public final class HashedTimingWheelTest {
+
+	private static final long TICK_DURATION = 100L;
+	private static final int WHEEL_SIZE = 8;
+
+	@Test
+	public void timeoutsShouldExpireOnTheirTicks() {
+		var timingWheel = HashedTimingWheel.newInstance(TICK_DURATION, WHEEL_SIZE, 0L);
+		var expiredTimes = new ArrayList<Long>();
+
+		timingWheel.schedule(250L, now -> {
+			expiredTimes.add(now);
+			return 0L;
+		});
+		// more than one round of the wheel
+		timingWheel.schedule(1250L, now -> {
+			expiredTimes.add(now);
+			return 0L;
+		});
+
+		__tickUntil(timingWheel, 200L);
+		assertEquals(List.of(), expiredTimes);
+
+		__tickUntil(timingWheel, 1200L);
+		assertEquals(List.of(300L), expiredTimes);
+
+		__tickUntil(timingWheel, 1300L);
+		assertEquals(List.of(300L, 1300L), expiredTimes);
+	}
+
+	@Test
+	public void rearmedTimeoutsShouldExpireAgain() {
+		var timingWheel = HashedTimingWheel.newInstance(TICK_DURATION, WHEEL_SIZE, 0L);
+		var expiredTimes = new ArrayList<Long>();
+
+		// postponed twice, like an idle timeout of an active session
+		timingWheel.schedule(100L, now -> {
+			expiredTimes.add(now);
+			return expiredTimes.size() < 3 ? now + 1000L : 0L;
+		});
+
+		__tickUntil(timingWheel, 5000L);
+		assertEquals(List.of(100L, 1100L, 2100L), expiredTimes);
+	}
+
+	@Test
+	public void lateTimeoutsShouldExpireOnTheNextTick() {
+		var timingWheel = HashedTimingWheel.newInstance(TICK_DURATION, WHEEL_SIZE, 0L);
+		var expiredTimes = new ArrayList<Long>();
+
+		__tickUntil(timingWheel, 1000L);
+		timingWheel.schedule(500L, now -> {
+			expiredTimes.add(now);
+			return 0L;
+		});
+
+		__tickUntil(timingWheel, 1100L);
+		assertEquals(List.of(1100L), expiredTimes);
+	}
+
+	private void __tickUntil(HashedTimingWheel timingWheel, long time) {
+		for (long now = 0L; now <= time; now += TICK_DURATION) {
+			timingWheel.tick(now);
+		}
+	}
+
+}
@@ -147,8 +147,14 @@ public final class PlayerEventHandler {
 
 					@Override
 					public Object dispatch(Object... params) {
-						Player player = (Player) params[0];
-						ServerMessage message = (ServerMessage) params[1];
+						return dispatch(params[0], params[1]);
+					}
+
+					// the frequent event, no parameters array is allocated
+					@Override
+					public Object dispatch(Object param0, Object param1) {
+						Player player = (Player) param0;
+						ServerMessage message = (ServerMessage) param1;
 
 						event.handle(player, message);
 
@@ -166,8 +172,14 @@ public final class PlayerEventHandler {
 
 					@Override
 					public Object dispatch(Object... params) {
-						Player player = (Player) params[0];
-						ServerMessage message = (ServerMessage) params[1];
+						return dispatch(params[0], params[1]);
+					}
+
+					// the frequent event, no parameters array is allocated
+					@Override
+					public Object dispatch(Object param0, Object param1) {
+						Player player = (Player) param0;
+						ServerMessage message = (ServerMessage) param1;
 
 						event.handle(player, message);
 
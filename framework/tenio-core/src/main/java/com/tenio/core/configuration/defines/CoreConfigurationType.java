@@ -65,6 +65,8 @@ public enum CoreConfigurationType implements ConfigurationType {
 
 	CLASS_PACKET_QUEUE_POLICY("packet-queue-policy"),
 
+	CLASS_PACKET_QUEUE("packet-queue"),
+
 	THREADS_SOCKET_ACCEPTOR("socket-acceptor"),
 
 	THREADS_SOCKET_READER("socket-reader"),
@@ -93,6 +95,13 @@ public enum CoreConfigurationType implements ConfigurationType {
 
 	PROP_MAX_REQUEST_QUEUE_SIZE("max-request-queue-size"),
 
+	PROP_REQUEST_EXECUTION_MODE("request-execution-mode"),
+	PROP_REQUEST_WAIT_STRATEGY("request-wait-strategy"),
+	PROP_REQUEST_DISPATCH_MODE("request-dispatch-mode"),
+
+	PROP_BACKPRESSURE_HIGH_WATERMARK("backpressure-high-watermark"),
+	PROP_BACKPRESSURE_LOW_WATERMARK("backpressure-low-watermark"),
+
 	PROP_KEEP_PLAYER_ON_DISCONNECTION("keep-player-on-disconnection"),
 
 	PROP_MAX_NUMBER_PLAYERS("max-number-players"),
@@ -113,12 +122,18 @@ public enum CoreConfigurationType implements ConfigurationType {
 
 	NETWORK_PROP_SOCKET_WRITER_BUFFER_SIZE("socket-writer-buffer-size"),
 
+	NETWORK_PROP_SOCKET_WRITER_BATCH_SIZE("socket-writer-batch-size"),
+
 	NETWORK_PROP_PACKET_COMPRESSION_THRESHOLD_BYTES("packet-compression-threshold-bytes"),
 	
 	NETWORK_PROP_MAX_CONNECTIONS_PER_IP("max-connections-per-ip"),
 	
 	NETWORK_PROP_ALLOW_CHANGE_SESSION("allow-change-session"),
 
+	NETWORK_PROP_DATAGRAM_CONNECTION_ID("datagram-connection-id"),
+
+	NETWORK_PROP_DATAGRAM_CHANNELS_PER_PORT("datagram-channels-per-port"),
+
 	/**
 	 * The list of socket configuration in configuration
 	 */
@@ -23,21 +23,43 @@ THE SOFTWARE.
 */
 package com.tenio.core.controller;
 
+import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.tenio.common.utilities.StringUtility;
+import com.tenio.core.controller.defines.RequestDispatchMode;
+import com.tenio.core.controller.defines.RequestExecutionMode;
+import com.tenio.core.controller.defines.RequestWaitStrategy;
+import com.tenio.core.controller.ring.RequestRingBuffer;
+import com.tenio.core.controller.ring.WaitStrategy;
+import com.tenio.core.controller.ring.implement.BlockingWaitStrategy;
+import com.tenio.core.controller.ring.implement.BusySpinWaitStrategy;
+import com.tenio.core.controller.ring.implement.YieldingWaitStrategy;
 import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.exceptions.ConfigurationException;
 import com.tenio.core.exceptions.RequestQueueFullException;
 import com.tenio.core.manager.AbstractManager;
+import com.tenio.core.network.defines.ReadingSuspendReason;
 import com.tenio.core.network.entities.protocols.Request;
+import com.tenio.core.network.entities.protocols.implement.RequestImpl;
+import com.tenio.core.network.entities.session.Session;
 
 public abstract class AbstractController extends AbstractManager implements Controller, Runnable {
 
 	private static final int DEFAULT_MAX_QUEUE_SIZE = 50;
 	private static final int DEFAULT_NUMBER_WORKERS = 5;
+	private static final int DEFAULT_HIGH_WATERMARK = 80;
+	private static final int DEFAULT_LOW_WATERMARK = 50;
+	// the platform threads used instead of virtual threads on older JVMs
+	private static final int MAX_FALLBACK_DISPATCH_THREADS = 64;
 
 	private volatile int __id;
 	private String __name;
@@ -45,9 +67,30 @@ public abstract class AbstractController extends AbstractManager implements Cont
 	private ExecutorService __executor;
 	private int __executorSize;
 
+	private RequestExecutionMode __executionMode;
 	private BlockingQueue<Request> __requestQueue;
+	// in the session ordered mode, each worker owns one queue, a session is always
+	// put into the same one
+	private BlockingQueue<Request>[] __sessionRequestQueues;
+	private AtomicInteger __sessionRequestCounter;
+	private AtomicInteger __workerIndexCounter;
+	private AtomicInteger __nonSessionRequestCounter;
+	// in the ring buffer mode, the requests are pre-allocated and reused
+	private RequestWaitStrategy __waitStrategy;
+	private RequestRingBuffer __requestRingBuffer;
+	// in the virtual thread dispatch mode, the workers hand the requests over to
+	// the dispatch executor
+	private RequestDispatchMode __dispatchMode;
+	private ExecutorService __dispatchExecutor;
+	private Semaphore __dispatchPermits;
 
 	private int __maxQueueSize;
+	// the sessions whose reading was suspended because the queue reached its high
+	// watermark, they are resumed together at the low watermark
+	private final Queue<Session> __suspendedSessions;
+	private int __highWatermark;
+	private int __lowWatermark;
+	private final AtomicLong __numberDroppedRequests;
 
 	private boolean __initialized;
 	private volatile boolean __activated;
@@ -56,14 +99,40 @@ public abstract class AbstractController extends AbstractManager implements Cont
 		super(eventManager);
 
 		__maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+		__suspendedSessions = new ConcurrentLinkedQueue<Session>();
+		__highWatermark = DEFAULT_HIGH_WATERMARK;
+		__lowWatermark = DEFAULT_LOW_WATERMARK;
+		__numberDroppedRequests = new AtomicLong();
 		__executorSize = DEFAULT_NUMBER_WORKERS;
+		__executionMode = RequestExecutionMode.SHARED_QUEUE;
+		__waitStrategy = RequestWaitStrategy.BLOCKING;
+		__dispatchMode = RequestDispatchMode.PLATFORM_THREAD;
 		__activated = false;
 		__initialized = false;
 	}
 
+	@SuppressWarnings("unchecked")
 	private void __initializeWorkers() {
 		var requestComparator = RequestComparator.newInstance();
-		__requestQueue = new PriorityBlockingQueue<Request>(__maxQueueSize, requestComparator);
+		if (__executionMode == RequestExecutionMode.RING_BUFFER) {
+			__requestRingBuffer = RequestRingBuffer.newInstance(__maxQueueSize, __createWaitStrategy());
+		} else if (__executionMode == RequestExecutionMode.SESSION_ORDERED) {
+			__sessionRequestQueues = new BlockingQueue[__executorSize];
+			for (int i = 0; i < __executorSize; i++) {
+				__sessionRequestQueues[i] = new PriorityBlockingQueue<Request>(
+						Math.max(__maxQueueSize / __executorSize, 1), requestComparator);
+			}
+			__sessionRequestCounter = new AtomicInteger();
+			__workerIndexCounter = new AtomicInteger();
+			__nonSessionRequestCounter = new AtomicInteger();
+		} else {
+			__requestQueue = new PriorityBlockingQueue<Request>(__maxQueueSize, requestComparator);
+		}
+
+		if (__dispatchMode == RequestDispatchMode.VIRTUAL_THREAD) {
+			__dispatchExecutor = __createDispatchExecutor();
+			__dispatchPermits = new Semaphore(Math.max(__maxQueueSize, 1));
+		}
 
 		__executor = Executors.newFixedThreadPool(__executorSize);
 		for (int i = 0; i < __executorSize; i++) {
@@ -89,10 +158,42 @@ public abstract class AbstractController extends AbstractManager implements Cont
 		});
 	}
 
+	private WaitStrategy __createWaitStrategy() {
+		switch (__waitStrategy) {
+		case BUSY_SPIN:
+			return BusySpinWaitStrategy.newInstance();
+
+		case YIELDING:
+			return YieldingWaitStrategy.newInstance();
+
+		default:
+			return BlockingWaitStrategy.newInstance();
+		}
+	}
+
+	private ExecutorService __createDispatchExecutor() {
+		// the project is still built for older JDKs, so the virtual threads are only
+		// reachable by reflection
+		try {
+			var method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) method.invoke(null);
+		} catch (ReflectiveOperationException e) {
+			// the semaphore only bounds the requests in processing, so the pool must be
+			// bounded too, otherwise a burst would start as many platform threads
+			int numberThreads = Math.max(Math.min(__maxQueueSize, MAX_FALLBACK_DISPATCH_THREADS), 1);
+			warn("DISPATCH MODE", buildgen("controller-", getName(),
+					" virtual threads are not supported, uses a fixed pool of ", numberThreads, " threads instead"));
+			return Executors.newFixedThreadPool(numberThreads);
+		}
+	}
+
 	private void __shutdown() {
 		__activated = false;
 
 		__executor.shutdownNow();
+		if (__dispatchExecutor != null) {
+			__dispatchExecutor.shutdownNow();
+		}
 
 		info("STOPPED SERVICE", buildgen("controller-", getName(), " (", __executorSize, ")"));
 		__destroy();
@@ -105,24 +206,113 @@ public abstract class AbstractController extends AbstractManager implements Cont
 
 		__setThreadName();
 
+		if (__executionMode == RequestExecutionMode.RING_BUFFER) {
+			__runRingBuffer();
+			return;
+		}
+
+		var requestQueue = __requestQueue;
+		if (__executionMode == RequestExecutionMode.SESSION_ORDERED) {
+			requestQueue = __sessionRequestQueues[__workerIndexCounter.getAndIncrement()];
+		}
+
 		while (true) {
 			if (__activated) {
 				try {
-					var request = __requestQueue.take();
-					processRequest(request);
+					var request = requestQueue.take();
+					if (__executionMode == RequestExecutionMode.SESSION_ORDERED) {
+						__sessionRequestCounter.decrementAndGet();
+					}
+					__resumeSuspendedSessions();
+					if (__dispatchExecutor != null) {
+						__dispatchRequest(request, null);
+					} else {
+						processRequest(request);
+					}
+				} catch (InterruptedException e1) {
+					// the workers are interrupted on shutting down
+					if (!__activated) {
+						return;
+					}
+					error(e1);
+				} catch (Throwable e2) {
+					error(e2);
+				}
+			}
+		}
+	}
+
+	private void __runRingBuffer() {
+		var requestRingBuffer = __requestRingBuffer;
+
+		while (true) {
+			if (__activated) {
+				Request request = null;
+				try {
+					request = requestRingBuffer.take();
+					__resumeSuspendedSessions();
+					if (__dispatchExecutor != null) {
+						__dispatchRequest(request, requestRingBuffer);
+						// the slot is released after being processed on the dispatch executor
+						request = null;
+					} else {
+						processRequest(request);
+					}
 				} catch (InterruptedException e1) {
+					// the workers are interrupted on shutting down
+					if (!__activated) {
+						return;
+					}
 					error(e1);
 				} catch (Throwable e2) {
 					error(e2);
+				} finally {
+					if (request != null) {
+						requestRingBuffer.release(request);
+					}
 				}
 			}
 		}
 	}
 
+	private void __dispatchRequest(Request request, RequestRingBuffer requestRingBuffer)
+			throws InterruptedException {
+		// the requests in processing still count, so the workers stop taking more when
+		// the handlers are too slow
+		__dispatchPermits.acquire();
+		try {
+			__dispatchExecutor.execute(() -> {
+				try {
+					processRequest(request);
+				} catch (Throwable e) {
+					error(e);
+				} finally {
+					if (requestRingBuffer != null) {
+						requestRingBuffer.release(request);
+					}
+					__dispatchPermits.release();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			__dispatchPermits.release();
+			throw e;
+		}
+	}
+
 	private void __destroy() {
 		__executor = null;
-		__requestQueue.clear();
-		__requestQueue = null;
+		__dispatchExecutor = null;
+		if (__executionMode == RequestExecutionMode.RING_BUFFER) {
+			__requestRingBuffer = null;
+		} else if (__executionMode == RequestExecutionMode.SESSION_ORDERED) {
+			for (var requestQueue : __sessionRequestQueues) {
+				requestQueue.clear();
+			}
+			__sessionRequestQueues = null;
+		} else {
+			__requestQueue.clear();
+			__requestQueue = null;
+		}
 		onDestroyed();
 	}
 
@@ -132,6 +322,11 @@ public abstract class AbstractController extends AbstractManager implements Cont
 
 	@Override
 	public void initialize() {
+		if (__executionMode == RequestExecutionMode.SESSION_ORDERED
+				&& __dispatchMode == RequestDispatchMode.VIRTUAL_THREAD) {
+			throw new ConfigurationException(
+					"SESSION_ORDERED execution mode can not be used with VIRTUAL_THREAD dispatch mode");
+		}
 		__initializeWorkers();
 		__initialized = true;
 	}
@@ -165,14 +360,179 @@ public abstract class AbstractController extends AbstractManager implements Cont
 		return __activated;
 	}
 
+	/**
+	 * Creates a request which should be filled then put by
+	 * {@link #enqueueRequest(Request)}. In the ring buffer mode, it is a reused
+	 * slot which must always be enqueued afterwards.
+	 * 
+	 * @return a new {@link Request}
+	 * @throws RequestQueueFullException when there is no free slot in the ring
+	 *                                   buffer
+	 */
+	protected Request createRequest() {
+		var request = __claimRequest();
+		if (request == null) {
+			__throwRequestQueueFull(__requestRingBuffer.size());
+		}
+		return request;
+	}
+
+	/**
+	 * Creates a request which should be filled then put by
+	 * {@link #offerRequest(Request)}, it is used on the reader threads. When there
+	 * is no free slot in the ring buffer, the request is dropped as
+	 * {@link #offerRequest(Request)} does, instead of throwing.
+	 * 
+	 * @param sender the sender of the request, it can be <b>null</b>
+	 * @return a new {@link Request}, or <b>null</b> if it was dropped
+	 */
+	protected Request tryCreateRequest(Session sender) {
+		var request = __claimRequest();
+		if (request == null) {
+			__dropRequest(sender);
+		}
+		return request;
+	}
+
+	private Request __claimRequest() {
+		if (__executionMode != RequestExecutionMode.RING_BUFFER) {
+			return RequestImpl.newInstance();
+		}
+		return __requestRingBuffer.claim();
+	}
+
 	@Override
 	public void enqueueRequest(Request request) {
-		if (__requestQueue.size() >= __maxQueueSize) {
-			var exception = new RequestQueueFullException(__requestQueue.size());
-			error(exception, exception.getMessage());
-			throw exception;
+		// the sender could be cleared once the request is published
+		var sender = request.getSender();
+
+		int queueSize = __putRequest(request);
+		if (queueSize < 0) {
+			__throwRequestQueueFull(__getRequestQueueSize());
+		}
+		__checkHighWatermark(sender, queueSize);
+	}
+
+	/**
+	 * Puts a request like {@link #enqueueRequest(Request)}, but a full queue does
+	 * not throw, so the reader threads can go on with the other frames of their
+	 * buffers. The request is dropped and counted, the reading from its sender is
+	 * suspended until the queue is drained down to the low watermark.
+	 * 
+	 * @param request the request created by {@link #tryCreateRequest(Session)}
+	 * @return <b>true</b> if the request was put, <b>false</b> if it was dropped
+	 */
+	protected boolean offerRequest(Request request) {
+		// the sender could be cleared once the request is published
+		var sender = request.getSender();
+
+		int queueSize = __putRequest(request);
+		if (queueSize < 0) {
+			__dropRequest(sender);
+			return false;
+		}
+		__checkHighWatermark(sender, queueSize);
+		return true;
+	}
+
+	/**
+	 * @return the number of requests after putting, or <b>-1</b> if the queue is
+	 *         full
+	 */
+	private int __putRequest(Request request) {
+		switch (__executionMode) {
+		case RING_BUFFER:
+			if (!__requestRingBuffer.publish(request)) {
+				return -1;
+			}
+			return __requestRingBuffer.size();
+
+		case SESSION_ORDERED:
+			return __enqueueSessionRequest(request);
+
+		default:
+			int queueSize = __requestQueue.size();
+			if (queueSize >= __maxQueueSize) {
+				return -1;
+			}
+			__requestQueue.add(request);
+			return queueSize + 1;
+		}
+	}
+
+	private void __checkHighWatermark(Session sender, int queueSize) {
+		if (sender != null && !sender.isReadingSuspended(ReadingSuspendReason.REQUEST_QUEUE)
+				&& queueSize * 100 >= __highWatermark * __maxQueueSize) {
+			__suspendSession(sender);
+		}
+	}
+
+	private void __dropRequest(Session sender) {
+		__numberDroppedRequests.incrementAndGet();
+		if (sender != null && !sender.isReadingSuspended(ReadingSuspendReason.REQUEST_QUEUE)) {
+			__suspendSession(sender);
+		}
+	}
+
+	private int __getRequestQueueSize() {
+		switch (__executionMode) {
+		case RING_BUFFER:
+			return __requestRingBuffer.size();
+
+		case SESSION_ORDERED:
+			return __sessionRequestCounter.get();
+
+		default:
+			return __requestQueue.size();
+		}
+	}
+
+	private void __suspendSession(Session session) {
+		// another request of the same sender could suspend it at the same time, the
+		// session is only kept once
+		if (!session.suspendReading(ReadingSuspendReason.REQUEST_QUEUE)) {
+			return;
+		}
+		__suspendedSessions.add(session);
+		// the workers could drain the queue before the session was added, then none of
+		// them would resume it
+		__resumeSuspendedSessions();
+	}
+
+	private void __resumeSuspendedSessions() {
+		if (__suspendedSessions.isEmpty() || __getRequestQueueSize() * 100 > __lowWatermark * __maxQueueSize) {
+			return;
+		}
+
+		Session session = null;
+		while ((session = __suspendedSessions.poll()) != null) {
+			session.resumeReading(ReadingSuspendReason.REQUEST_QUEUE);
+		}
+	}
+
+	private void __throwRequestQueueFull(int queueSize) {
+		var exception = new RequestQueueFullException(queueSize);
+		error(exception, exception.getMessage());
+		throw exception;
+	}
+
+	private int __enqueueSessionRequest(Request request) {
+		// reserves a place first, so the limit is respected without locking all the
+		// queues
+		int queueSize = __sessionRequestCounter.incrementAndGet();
+		if (queueSize > __maxQueueSize) {
+			__sessionRequestCounter.decrementAndGet();
+			return -1;
 		}
-		__requestQueue.add(request);
+
+		// the requests without a sender have no order to keep, so they are spread to
+		// all workers
+		var sender = request.getSender();
+		int index = sender != null ? Math.floorMod(sender.getId(), __sessionRequestQueues.length)
+				: Math.floorMod(__nonSessionRequestCounter.getAndIncrement(), __sessionRequestQueues.length);
+		__sessionRequestQueues[index].add(request);
+
+		return queueSize;
 	}
 
 	@Override
@@ -195,9 +555,51 @@ public abstract class AbstractController extends AbstractManager implements Cont
 		__executorSize = maxSize;
 	}
 
+	@Override
+	public RequestExecutionMode getExecutionMode() {
+		return __executionMode;
+	}
+
+	@Override
+	public void setExecutionMode(RequestExecutionMode executionMode) {
+		__executionMode = executionMode;
+	}
+
+	@Override
+	public RequestWaitStrategy getWaitStrategy() {
+		return __waitStrategy;
+	}
+
+	@Override
+	public void setWaitStrategy(RequestWaitStrategy waitStrategy) {
+		__waitStrategy = waitStrategy;
+	}
+
+	@Override
+	public RequestDispatchMode getDispatchMode() {
+		return __dispatchMode;
+	}
+
+	@Override
+	public void setDispatchMode(RequestDispatchMode dispatchMode) {
+		__dispatchMode = dispatchMode;
+	}
+
+	@Override
+	public void setRequestQueueWatermarks(int highWatermark, int lowWatermark) {
+		__highWatermark = highWatermark;
+		__lowWatermark = Math.min(lowWatermark, highWatermark);
+	}
+
+	@Override
+	public long getNumberDroppedRequests() {
+		return __numberDroppedRequests.get();
+	}
+
 	@Override
 	public float getPercentageUsedRequestQueue() {
-		return __maxQueueSize == 0 ? 0.0f : (float) (__requestQueue.size() * 100) / (float) __maxQueueSize;
+		int queueSize = __getRequestQueueSize();
+		return __maxQueueSize == 0 ? 0.0f : (float) (queueSize * 100) / (float) __maxQueueSize;
 	}
 
 	public abstract void subscribe();
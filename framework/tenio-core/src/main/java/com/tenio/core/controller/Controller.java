@@ -23,6 +23,9 @@ THE SOFTWARE.
 */
 package com.tenio.core.controller;
 
+import com.tenio.core.controller.defines.RequestDispatchMode;
+import com.tenio.core.controller.defines.RequestExecutionMode;
+import com.tenio.core.controller.defines.RequestWaitStrategy;
 import com.tenio.core.exceptions.RequestQueueFullException;
 import com.tenio.core.network.entities.protocols.Request;
 import com.tenio.core.service.Service;
@@ -38,8 +41,38 @@ public interface Controller extends Service, ServiceListener {
 
 	float getPercentageUsedRequestQueue();
 
+	/**
+	 * @return the number of requests coming from the reader threads which were
+	 *         dropped because the request queue was full
+	 */
+	long getNumberDroppedRequests();
+
+	/**
+	 * Sets the flow control of the request queue. When the queue is filled up to
+	 * the high watermark, the reading from the sessions which keep sending requests
+	 * is suspended until the queue is drained down to the low watermark.
+	 * 
+	 * @param highWatermark the percentage of the max queue size which suspends the
+	 *                      reading
+	 * @param lowWatermark  the percentage of the max queue size which resumes the
+	 *                      reading
+	 */
+	void setRequestQueueWatermarks(int highWatermark, int lowWatermark);
+
 	int getThreadPoolSize();
 
 	void setThreadPoolSize(int maxSize);
 
+	RequestExecutionMode getExecutionMode();
+
+	void setExecutionMode(RequestExecutionMode executionMode);
+
+	RequestWaitStrategy getWaitStrategy();
+
+	void setWaitStrategy(RequestWaitStrategy waitStrategy);
+
+	RequestDispatchMode getDispatchMode();
+
+	void setDispatchMode(RequestDispatchMode dispatchMode);
+
 }
@@ -49,7 +49,8 @@ public final class RequestComparator implements Comparator<Request> {
 			} else if (request1.getTimestamp() > request2.getTimestamp()) {
 				result = 1;
 			} else {
-				result = 0;
+				// the requests created in the same millisecond keep their creation order
+				result = Long.compare(request1.getId(), request2.getId());
 			}
 		} else {
 			result = 1;
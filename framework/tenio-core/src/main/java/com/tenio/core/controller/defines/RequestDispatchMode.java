@@ -0,0 +1,54 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.controller.defines;
+
+/**
+ * The threads which run the processing of requests taken by a controller's
+ * workers.
+ */
+public enum RequestDispatchMode {
+
+	/**
+	 * The workers process the requests themselves, a blocking handler stalls its
+	 * worker until it returns.
+	 */
+	PLATFORM_THREAD,
+
+	/**
+	 * The workers only take the requests, every request is then processed on its
+	 * own virtual thread (JDK 21+), so blocking handlers do not stall the workers.
+	 * The number of requests in processing is limited by the maximum request queue
+	 * size. Since the requests are processed concurrently, it can not be used with
+	 * {@link RequestExecutionMode#SESSION_ORDERED}, the controller refuses to
+	 * initialize then. When virtual threads are not supported by the running JVM,
+	 * a bounded pool of platform threads is used instead.
+	 */
+	VIRTUAL_THREAD;
+
+	@Override
+	public String toString() {
+		return this.name();
+	}
+
+}
@@ -0,0 +1,58 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.controller.defines;
+
+/**
+ * The way a controller's workers take the requests.
+ */
+public enum RequestExecutionMode {
+
+	/**
+	 * All workers take requests from one shared priority queue, the requests of
+	 * a session can be processed concurrently and out of order.
+	 */
+	SHARED_QUEUE,
+
+	/**
+	 * The requests are partitioned by their sender sessions, every session is
+	 * always served by the same worker from its own priority queue, so the
+	 * requests of a session are processed one by one, in order of priority then
+	 * arrival. It can not be used with {@link RequestDispatchMode#VIRTUAL_THREAD}.
+	 */
+	SESSION_ORDERED,
+
+	/**
+	 * All workers take requests from one ring of pre-allocated, reused requests in
+	 * order of arrival, the priorities are ignored. The idle workers wait with the
+	 * configured {@link RequestWaitStrategy}. The processed requests must not be
+	 * kept since they are reused for the next ones.
+	 */
+	RING_BUFFER;
+
+	@Override
+	public String toString() {
+		return this.name();
+	}
+
+}
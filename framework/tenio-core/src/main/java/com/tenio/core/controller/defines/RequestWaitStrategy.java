@@ -0,0 +1,54 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.controller.defines;
+
+/**
+ * The way idle workers wait for new requests in the
+ * {@link RequestExecutionMode#RING_BUFFER} mode.
+ */
+public enum RequestWaitStrategy {
+
+	/**
+	 * Spins on the ring buffer, gives the lowest latency but keeps a core busy per
+	 * worker.
+	 */
+	BUSY_SPIN,
+
+	/**
+	 * Spins for a while then yields the thread, a compromise between latency and
+	 * CPU usage.
+	 */
+	YIELDING,
+
+	/**
+	 * Parks the workers until a request is published, uses no CPU while idle.
+	 */
+	BLOCKING;
+
+	@Override
+	public String toString() {
+		return this.name();
+	}
+
+}
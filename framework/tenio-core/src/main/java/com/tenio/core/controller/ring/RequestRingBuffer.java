@@ -0,0 +1,182 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.controller.ring;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.tenio.core.network.entities.protocols.Request;
+
+/**
+ * A bounded, multiple producers and multiple consumers ring of pre-allocated
+ * requests. The producers {@link #claim()} a free slot, fill its fields then
+ * {@link #publish(Request)} it, the workers {@link #take()} the published slots
+ * in order and {@link #release(Request)} them after processing, so no request
+ * is allocated in the steady state.
+ * <p>
+ * Every slot owns a sequence number, it equals the claiming position while the
+ * slot is free, becomes the position plus one when the slot is published and
+ * the position plus the capacity when the slot is released for the next round.
+ * The requests are taken in the order of publishing, their priorities are not
+ * considered.
+ */
+public final class RequestRingBuffer {
+
+	private final RequestSlot[] __slots;
+	private final AtomicLongArray __sequences;
+	private final int __mask;
+	private final AtomicLong __producerPosition;
+	private final AtomicLong __consumerPosition;
+	private final WaitStrategy __waitStrategy;
+
+	/**
+	 * @param minCapacity  the minimum number of slots, it is rounded up to a power
+	 *                     of two
+	 * @param waitStrategy the {@link WaitStrategy} for the idle workers
+	 * @return a new instance of {@link RequestRingBuffer}
+	 */
+	public static RequestRingBuffer newInstance(int minCapacity, WaitStrategy waitStrategy) {
+		return new RequestRingBuffer(minCapacity, waitStrategy);
+	}
+
+	private RequestRingBuffer(int minCapacity, WaitStrategy waitStrategy) {
+		int capacity = Integer.highestOneBit(Math.max(minCapacity, 2) - 1) << 1;
+
+		__slots = new RequestSlot[capacity];
+		__sequences = new AtomicLongArray(capacity);
+		for (int i = 0; i < capacity; i++) {
+			__slots[i] = new RequestSlot(this, i);
+			__sequences.set(i, i);
+		}
+		__mask = capacity - 1;
+		__producerPosition = new AtomicLong();
+		__consumerPosition = new AtomicLong();
+		__waitStrategy = waitStrategy;
+	}
+
+	/**
+	 * Claims the next free slot. A claimed slot must always be published, the
+	 * workers cannot pass it until then.
+	 * 
+	 * @return the cleared {@link Request} slot, or <b>null</b> when the ring buffer
+	 *         is full
+	 */
+	public Request claim() {
+		long position = __producerPosition.get();
+		while (true) {
+			int index = (int) (position & __mask);
+			long difference = __sequences.get(index) - position;
+			if (difference == 0) {
+				if (__producerPosition.compareAndSet(position, position + 1)) {
+					var slot = __slots[index];
+					slot.claim(position);
+					return slot;
+				}
+			} else if (difference < 0) {
+				// the slot of the previous round is not released yet
+				return null;
+			}
+			position = __producerPosition.get();
+		}
+	}
+
+	/**
+	 * Makes a claimed slot available for the workers. A request which does not
+	 * belong to this ring buffer is copied into a newly claimed slot.
+	 * 
+	 * @param request the published {@link Request}
+	 * @return <b>true</b> if the request was published, <b>false</b> when the ring
+	 *         buffer is full
+	 */
+	public boolean publish(Request request) {
+		RequestSlot slot;
+		if (request instanceof RequestSlot && ((RequestSlot) request).getRingBuffer() == this) {
+			slot = (RequestSlot) request;
+		} else {
+			slot = (RequestSlot) claim();
+			if (slot == null) {
+				return false;
+			}
+			slot.copy(request);
+		}
+
+		__sequences.set(slot.getIndex(), slot.getSequence() + 1);
+		__waitStrategy.signalAll();
+		return true;
+	}
+
+	/**
+	 * Takes the next published request, waits with the {@link WaitStrategy} while
+	 * the ring buffer is empty.
+	 * 
+	 * @return the taken {@link Request} slot, it must be released after processing
+	 * @throws InterruptedException when the worker is interrupted while waiting
+	 */
+	public Request take() throws InterruptedException {
+		while (true) {
+			long position = __consumerPosition.get();
+			int index = (int) (position & __mask);
+			long difference = __sequences.get(index) - (position + 1);
+			if (difference == 0) {
+				if (__consumerPosition.compareAndSet(position, position + 1)) {
+					return __slots[index];
+				}
+			} else if (difference < 0) {
+				__waitStrategy.waitFor(this);
+			}
+			// otherwise, another worker took the slot first
+		}
+	}
+
+	/**
+	 * Returns a taken slot, so it can be claimed again in the next round.
+	 * 
+	 * @param request the taken {@link Request} slot
+	 */
+	public void release(Request request) {
+		var slot = (RequestSlot) request;
+		slot.clear();
+		__sequences.set(slot.getIndex(), slot.getSequence() + __slots.length);
+	}
+
+	/**
+	 * @return <b>true</b> if there is no published request to take
+	 */
+	public boolean isEmpty() {
+		long position = __consumerPosition.get();
+		return __sequences.get((int) (position & __mask)) < position + 1;
+	}
+
+	/**
+	 * @return the approximate number of claimed but not yet taken slots
+	 */
+	public int size() {
+		return (int) Math.max(__producerPosition.get() - __consumerPosition.get(), 0);
+	}
+
+	public int getCapacity() {
+		return __slots.length;
+	}
+
+}
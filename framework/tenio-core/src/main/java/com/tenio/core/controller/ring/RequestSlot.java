@@ -0,0 +1,253 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.controller.ring;
+
+import java.net.SocketAddress;
+import java.nio.channels.DatagramChannel;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.tenio.common.utilities.TimeUtility;
+import com.tenio.core.configuration.defines.ServerEvent;
+import com.tenio.core.entities.defines.modes.ConnectionDisconnectMode;
+import com.tenio.core.entities.defines.modes.PlayerDisconnectMode;
+import com.tenio.core.network.defines.RequestPriority;
+import com.tenio.core.network.entities.protocols.Request;
+import com.tenio.core.network.entities.session.Session;
+
+/**
+ * A pre-allocated request which is reused by the {@link RequestRingBuffer}. Its
+ * id is the sequence it was claimed for, and it must not be kept after being
+ * released.
+ */
+final class RequestSlot implements Request {
+
+	private final RequestRingBuffer __ringBuffer;
+	private final int __index;
+
+	private long __sequence;
+	// created on the first custom attribute, then only cleared on reuse
+	private volatile Map<String, Object> __attributes;
+	private ServerEvent __event;
+	private Object __message;
+	private DatagramChannel __datagramChannel;
+	private SocketAddress __remoteAddress;
+	private ConnectionDisconnectMode __connectionDisconnectMode;
+	private PlayerDisconnectMode __playerDisconnectMode;
+	private Session __sender;
+	private RequestPriority __priority;
+	private long __timestamp;
+
+	RequestSlot(RequestRingBuffer ringBuffer, int index) {
+		__ringBuffer = ringBuffer;
+		__index = index;
+		__priority = RequestPriority.NORMAL;
+	}
+
+	RequestRingBuffer getRingBuffer() {
+		return __ringBuffer;
+	}
+
+	int getIndex() {
+		return __index;
+	}
+
+	long getSequence() {
+		return __sequence;
+	}
+
+	void claim(long sequence) {
+		__sequence = sequence;
+		__timestamp = TimeUtility.currentTimeMillis();
+	}
+
+	void copy(Request request) {
+		__event = request.getEvent();
+		__message = request.getMessage();
+		__datagramChannel = request.getDatagramChannel();
+		__remoteAddress = request.getRemoteAddress();
+		__connectionDisconnectMode = request.getConnectionDisconnectMode();
+		__playerDisconnectMode = request.getPlayerDisconnectMode();
+		__sender = request.getSender();
+		__priority = request.getPriority();
+		__timestamp = request.getTimestamp();
+		for (var attribute : request.getAttributes().entrySet()) {
+			setAttribute(attribute.getKey(), attribute.getValue());
+		}
+	}
+
+	void clear() {
+		// do not keep references to the sessions and messages
+		if (__attributes != null) {
+			__attributes.clear();
+		}
+		__event = null;
+		__message = null;
+		__datagramChannel = null;
+		__remoteAddress = null;
+		__connectionDisconnectMode = null;
+		__playerDisconnectMode = null;
+		__sender = null;
+		__priority = RequestPriority.NORMAL;
+	}
+
+	@Override
+	public long getId() {
+		return __sequence;
+	}
+
+	@Override
+	public Object getAttribute(String key) {
+		var attributes = __attributes;
+		return attributes == null ? null : attributes.get(key);
+	}
+
+	@Override
+	public Request setAttribute(String key, Object value) {
+		if (__attributes == null) {
+			synchronized (this) {
+				if (__attributes == null) {
+					__attributes = new ConcurrentHashMap<String, Object>();
+				}
+			}
+		}
+		__attributes.put(key, value);
+		return this;
+	}
+
+	@Override
+	public Map<String, Object> getAttributes() {
+		var attributes = __attributes;
+		return attributes == null ? Collections.emptyMap() : Collections.unmodifiableMap(attributes);
+	}
+
+	@Override
+	public ServerEvent getEvent() {
+		return __event;
+	}
+
+	@Override
+	public Request setEvent(ServerEvent event) {
+		__event = event;
+
+		return this;
+	}
+
+	@Override
+	public Object getMessage() {
+		return __message;
+	}
+
+	@Override
+	public Request setMessage(Object message) {
+		__message = message;
+
+		return this;
+	}
+
+	@Override
+	public DatagramChannel getDatagramChannel() {
+		return __datagramChannel;
+	}
+
+	@Override
+	public Request setDatagramChannel(DatagramChannel datagramChannel) {
+		__datagramChannel = datagramChannel;
+
+		return this;
+	}
+
+	@Override
+	public SocketAddress getRemoteAddress() {
+		return __remoteAddress;
+	}
+
+	@Override
+	public Request setRemoteAddress(SocketAddress remoteAddress) {
+		__remoteAddress = remoteAddress;
+
+		return this;
+	}
+
+	@Override
+	public ConnectionDisconnectMode getConnectionDisconnectMode() {
+		return __connectionDisconnectMode;
+	}
+
+	@Override
+	public Request setConnectionDisconnectMode(ConnectionDisconnectMode connectionDisconnectMode) {
+		__connectionDisconnectMode = connectionDisconnectMode;
+
+		return this;
+	}
+
+	@Override
+	public PlayerDisconnectMode getPlayerDisconnectMode() {
+		return __playerDisconnectMode;
+	}
+
+	@Override
+	public Request setPlayerDisconnectMode(PlayerDisconnectMode playerDisconnectMode) {
+		__playerDisconnectMode = playerDisconnectMode;
+
+		return this;
+	}
+
+	@Override
+	public Session getSender() {
+		return __sender;
+	}
+
+	@Override
+	public Request setSender(Session session) {
+		__sender = session;
+
+		return this;
+	}
+
+	@Override
+	public RequestPriority getPriority() {
+		return __priority;
+	}
+
+	@Override
+	public Request setPriority(RequestPriority priority) {
+		__priority = priority;
+
+		return this;
+	}
+
+	@Override
+	public long getTimestamp() {
+		return __timestamp;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("{ event: %s, sender: %s, priority: %s, timestamp: %d, message: %s, attributes: %s }",
+				__event, __sender, __priority, __timestamp, __message, __attributes);
+	}
+
+}
@@ -0,0 +1,45 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.controller.ring;
+
+/**
+ * Decides how a worker idles while the {@link RequestRingBuffer} is empty.
+ */
+public interface WaitStrategy {
+
+	/**
+	 * Idles the calling worker until a request may be available in the ring
+	 * buffer. The worker must check the ring buffer again after returning.
+	 * 
+	 * @param ringBuffer the waited {@link RequestRingBuffer}
+	 * @throws InterruptedException when the worker is interrupted while waiting
+	 */
+	void waitFor(RequestRingBuffer ringBuffer) throws InterruptedException;
+
+	/**
+	 * Notifies the waiting workers that a new request was published.
+	 */
+	void signalAll();
+
+}
@@ -0,0 +1,79 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.controller.ring.implement;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.tenio.core.controller.ring.RequestRingBuffer;
+import com.tenio.core.controller.ring.WaitStrategy;
+
+public final class BlockingWaitStrategy implements WaitStrategy {
+
+	private final ReentrantLock __lock;
+	private final Condition __published;
+	// the producers only take the lock when there is someone to wake up
+	private final AtomicInteger __numberWaiters;
+
+	public static BlockingWaitStrategy newInstance() {
+		return new BlockingWaitStrategy();
+	}
+
+	private BlockingWaitStrategy() {
+		__lock = new ReentrantLock();
+		__published = __lock.newCondition();
+		__numberWaiters = new AtomicInteger();
+	}
+
+	@Override
+	public void waitFor(RequestRingBuffer ringBuffer) throws InterruptedException {
+		__lock.lock();
+		// the waiter must be counted before checking the ring buffer, so a request
+		// published right after the check always signals it
+		__numberWaiters.incrementAndGet();
+		try {
+			while (ringBuffer.isEmpty()) {
+				__published.await();
+			}
+		} finally {
+			__numberWaiters.decrementAndGet();
+			__lock.unlock();
+		}
+	}
+
+	@Override
+	public void signalAll() {
+		if (__numberWaiters.get() == 0) {
+			return;
+		}
+		__lock.lock();
+		try {
+			__published.signalAll();
+		} finally {
+			__lock.unlock();
+		}
+	}
+
+}
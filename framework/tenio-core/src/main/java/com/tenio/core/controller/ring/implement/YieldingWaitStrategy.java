@@ -0,0 +1,62 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.controller.ring.implement;
+
+import com.tenio.core.controller.ring.RequestRingBuffer;
+import com.tenio.core.controller.ring.WaitStrategy;
+
+public final class YieldingWaitStrategy implements WaitStrategy {
+
+	private static final int SPIN_TRIES = 100;
+
+	public static YieldingWaitStrategy newInstance() {
+		return new YieldingWaitStrategy();
+	}
+
+	private YieldingWaitStrategy() {
+
+	}
+
+	@Override
+	public void waitFor(RequestRingBuffer ringBuffer) throws InterruptedException {
+		int counter = SPIN_TRIES;
+		while (ringBuffer.isEmpty()) {
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+			if (counter > 0) {
+				counter--;
+				Thread.onSpinWait();
+			} else {
+				Thread.yield();
+			}
+		}
+	}
+
+	@Override
+	public void signalAll() {
+		// do nothing
+	}
+
+}
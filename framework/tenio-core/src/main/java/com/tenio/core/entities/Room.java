@@ -109,6 +109,17 @@ public interface Room {
 
 	Collection<Session> getAllSessionList();
 
+	/**
+	 * Retrieves the room's recipients which are already grouped by their
+	 * transports. The snapshot is maintained while the players join, leave or
+	 * switch between player and spectator, so it can be used to broadcast a
+	 * message without walking through the players again.
+	 * 
+	 * @param includeSpectators whether the spectators should be included
+	 * @return the current {@link RoomRecipients}
+	 */
+	RoomRecipients getRecipients(boolean includeSpectators);
+
 	void addPlayer(Player player, boolean asSpectator, int targetSlot)
 			throws PlayerJoinedRoomException, AddedDuplicatedPlayerException;
 
@@ -0,0 +1,72 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.entities;
+
+import java.util.List;
+
+import com.tenio.core.network.entities.session.Session;
+
+/**
+ * A snapshot of a room's recipients, which are already grouped by their
+ * transports, see {@link Room#getRecipients(boolean)}.
+ */
+public interface RoomRecipients {
+
+	/**
+	 * A member can change its session (reconnection) or attach an UDP connection
+	 * after joining the room, without notifying the room. This checking walks
+	 * through the members without allocating anything.
+	 * 
+	 * @return <b>true</b> if the snapshot does not match its members' sessions
+	 *         anymore
+	 */
+	boolean isOutdated();
+
+	List<Player> getPlayers();
+
+	/**
+	 * @return the players without session, otherwise <b>null</b>
+	 */
+	List<Player> getNonSessionPlayers();
+
+	/**
+	 * @param prioritizedUdp whether the sessions which contain an UDP connection
+	 *                       should be excluded
+	 * @return the socket sessions, otherwise <b>null</b>
+	 */
+	List<Session> getSocketSessions(boolean prioritizedUdp);
+
+	/**
+	 * @param prioritizedUdp whether the sessions which contain an UDP connection
+	 *                       should be included
+	 * @return the datagram sessions, otherwise <b>null</b>
+	 */
+	List<Session> getDatagramSessions(boolean prioritizedUdp);
+
+	/**
+	 * @return the websocket sessions, otherwise <b>null</b>
+	 */
+	List<Session> getWebSocketSessions();
+
+}
@@ -25,6 +25,7 @@ package com.tenio.core.entities.implement;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -35,6 +36,7 @@ import java.util.stream.Collectors;
 
 import com.tenio.core.entities.Player;
 import com.tenio.core.entities.Room;
+import com.tenio.core.entities.RoomRecipients;
 import com.tenio.core.entities.RoomState;
 import com.tenio.core.entities.defines.modes.RoomRemoveMode;
 import com.tenio.core.entities.defines.results.PlayerJoinedRoomResult;
@@ -76,6 +78,9 @@ public final class RoomImpl implements Room {
 
 	private volatile boolean __activated;
 
+	private volatile RoomRecipients __recipients;
+	private volatile RoomRecipients __playerRecipients;
+
 	public static Room newInstance() {
 		return new RoomImpl();
 	}
@@ -96,6 +101,9 @@ public final class RoomImpl implements Room {
 		__properties = new ConcurrentHashMap<String, Object>();
 		__activated = false;
 
+		__recipients = RoomRecipientsImpl.newInstance(Collections.emptyList());
+		__playerRecipients = __recipients;
+
 		setRoomRemoveMode(RoomRemoveMode.DEFAULT);
 	}
 
@@ -281,6 +289,18 @@ public final class RoomImpl implements Room {
 		return __playerManager.getAllSessions();
 	}
 
+	@Override
+	public RoomRecipients getRecipients(boolean includeSpectators) {
+		var recipients = includeSpectators ? __recipients : __playerRecipients;
+		// the members' sessions can be changed without notifying the room, in that
+		// case, the snapshot needs to be rebuilt
+		if (recipients.isOutdated()) {
+			__updateElementsCounter();
+			recipients = includeSpectators ? __recipients : __playerRecipients;
+		}
+		return recipients;
+	}
+
 	@Override
 	public void addPlayer(Player player, boolean asSpectator, int targetSlot) {
 		boolean validated = false;
@@ -301,9 +321,8 @@ public final class RoomImpl implements Room {
 
 		__playerManager.addPlayer(player);
 
-		if (asSpectator) {
-			player.setSpectator(true);
-		}
+		// a new player is a spectator by default
+		player.setSpectator(asSpectator);
 
 		__updateElementsCounter();
 
@@ -388,15 +407,24 @@ public final class RoomImpl implements Room {
 							SwitchedPlayerSpectatorResult.SLOT_UNAVAILABLE_IN_ROOM);
 				}
 			}
+
+			__updateElementsCounter();
 		} finally {
 			__switchPlayerLock.unlock();
 		}
 
 	}
 
-	private void __updateElementsCounter() {
-		__playerCount = getPlayersList().size();
-		__spectatorCount = getSpectatorsList().size();
+	private synchronized void __updateElementsCounter() {
+		var allPlayers = new ArrayList<Player>(__playerManager.getAllPlayers());
+		var players = allPlayers.stream().filter(player -> !player.isSpectator()).collect(Collectors.toList());
+
+		__playerCount = players.size();
+		__spectatorCount = allPlayers.size() - players.size();
+
+		// the broadcast recipients are only rebuilt when the members changed
+		__recipients = RoomRecipientsImpl.newInstance(allPlayers);
+		__playerRecipients = RoomRecipientsImpl.newInstance(players);
 	}
 
 	@Override
@@ -0,0 +1,157 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.entities.implement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import com.tenio.core.entities.Player;
+import com.tenio.core.entities.RoomRecipients;
+import com.tenio.core.network.entities.session.Session;
+
+/**
+ * An immutable snapshot of a room's recipients. It is rebuilt only when the
+ * room's members change, so a broadcast does not need to walk through the
+ * players again.
+ */
+public final class RoomRecipientsImpl implements RoomRecipients {
+
+	private static final RoomRecipients EMPTY = new RoomRecipientsImpl(Collections.emptyList());
+
+	private final Player[] __members;
+	private final Session[] __memberSessions;
+	private final boolean[] __memberUdps;
+
+	private final List<Player> __players;
+	private final List<Player> __nonSessionPlayers;
+	private final List<Session> __socketSessions;
+	private final List<Session> __socketOnlySessions;
+	private final List<Session> __datagramSessions;
+	private final List<Session> __webSocketSessions;
+
+	public static RoomRecipients newInstance(Collection<Player> players) {
+		if (players.isEmpty()) {
+			return EMPTY;
+		}
+		return new RoomRecipientsImpl(players);
+	}
+
+	private RoomRecipientsImpl(Collection<Player> players) {
+		__members = players.toArray(new Player[players.size()]);
+		__memberSessions = new Session[__members.length];
+		__memberUdps = new boolean[__members.length];
+
+		var nonSessionPlayers = new ArrayList<Player>();
+		var socketSessions = new ArrayList<Session>();
+		var socketOnlySessions = new ArrayList<Session>();
+		var datagramSessions = new ArrayList<Session>();
+		var webSocketSessions = new ArrayList<Session>();
+
+		for (int i = 0; i < __members.length; i++) {
+			var session = __members[i].getSession();
+			__memberSessions[i] = session;
+
+			if (session == null) {
+				nonSessionPlayers.add(__members[i]);
+			} else if (session.isTcp()) {
+				socketSessions.add(session);
+				// the same rule as a normal response, an UDP connection is only used when the
+				// response prioritizes it
+				__memberUdps[i] = session.containsUdp();
+				if (__memberUdps[i]) {
+					datagramSessions.add(session);
+				} else {
+					socketOnlySessions.add(session);
+				}
+			} else if (session.isWebSocket()) {
+				webSocketSessions.add(session);
+			}
+		}
+
+		__players = Collections.unmodifiableList(Arrays.asList(__members));
+		__nonSessionPlayers = __toImmutableList(nonSessionPlayers);
+		__socketSessions = __toImmutableList(socketSessions);
+		__socketOnlySessions = __toImmutableList(socketOnlySessions);
+		__datagramSessions = __toImmutableList(datagramSessions);
+		__webSocketSessions = __toImmutableList(webSocketSessions);
+	}
+
+	@Override
+	public boolean isOutdated() {
+		for (int i = 0; i < __members.length; i++) {
+			var session = __members[i].getSession();
+			if (session != __memberSessions[i]) {
+				return true;
+			}
+			if (session != null && session.isTcp() && session.containsUdp() != __memberUdps[i]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public List<Player> getPlayers() {
+		return __players;
+	}
+
+	@Override
+	public List<Player> getNonSessionPlayers() {
+		return __nonSessionPlayers;
+	}
+
+	@Override
+	public List<Session> getSocketSessions(boolean prioritizedUdp) {
+		return prioritizedUdp ? __socketOnlySessions : __socketSessions;
+	}
+
+	@Override
+	public List<Session> getDatagramSessions(boolean prioritizedUdp) {
+		return prioritizedUdp ? __datagramSessions : null;
+	}
+
+	@Override
+	public List<Session> getWebSocketSessions() {
+		return __webSocketSessions;
+	}
+
+	private static <T> List<T> __toImmutableList(List<T> list) {
+		if (list.isEmpty()) {
+			return null;
+		}
+		// the recipients are shared by all packets of broadcasts, no one can modify
+		// them
+		return List.copyOf(list);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("{ players: %s, non-session: %s, socket: %s, datagram: %s, websocket: %s }", __players,
+				__nonSessionPlayers, __socketSessions, __datagramSessions, __webSocketSessions);
+	}
+
+}
@@ -25,7 +25,9 @@ package com.tenio.core.event;
 
 /**
  * This function interface provides one method for dispatching the results from
- * an event.
+ * an event. The fixed-arity methods are used when an event is emitted with up
+ * to three parameters, they can be overridden by the subscribers of frequent
+ * events to avoid allocating the parameters array.
  */
 @FunctionalInterface
 public interface Subscriber {
@@ -38,4 +40,46 @@ public interface Subscriber {
 	 */
 	Object dispatch(Object... params);
 
+	/**
+	 * To dispatch an event without results.
+	 * 
+	 * @return an object or <b>null</b>
+	 */
+	default Object dispatch() {
+		return dispatch(new Object[0]);
+	}
+
+	/**
+	 * To dispatch one result from one event.
+	 * 
+	 * @param param0 the first result
+	 * @return an object or <b>null</b>
+	 */
+	default Object dispatch(Object param0) {
+		return dispatch(new Object[] { param0 });
+	}
+
+	/**
+	 * To dispatch two results from one event.
+	 * 
+	 * @param param0 the first result
+	 * @param param1 the second result
+	 * @return an object or <b>null</b>
+	 */
+	default Object dispatch(Object param0, Object param1) {
+		return dispatch(new Object[] { param0, param1 });
+	}
+
+	/**
+	 * To dispatch three results from one event.
+	 * 
+	 * @param param0 the first result
+	 * @param param1 the second result
+	 * @param param2 the third result
+	 * @return an object or <b>null</b>
+	 */
+	default Object dispatch(Object param0, Object param1, Object param2) {
+		return dispatch(new Object[] { param0, param1, param2 });
+	}
+
 }
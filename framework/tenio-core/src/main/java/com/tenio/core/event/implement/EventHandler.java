@@ -23,37 +23,51 @@ THE SOFTWARE.
 */
 package com.tenio.core.event.implement;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import com.tenio.core.configuration.defines.ServerEvent;
-import com.tenio.core.event.Emitter;
+import com.tenio.core.event.Subscriber;
 
 /**
- * This class for handling events and these subscribers.
- * 
- * @param <T> the template
+ * This class for handling events and these subscribers. The subscribers are
+ * kept in an array indexed by the events' ordinals, so an emitting costs no
+ * lookup. An event can have many subscribers, they are invoked in the order of
+ * subscribing and the first non-null result is returned.
  */
-public final class EventHandler<T> {
+public final class EventHandler {
+
+	private static final Subscriber[] EMPTY_SUBSCRIBERS = new Subscriber[0];
 
 	/**
-	 * An instance creates a mapping between an event with its list of event
-	 * handlers.
+	 * The subscribers of each event, indexed by the event's ordinal.
 	 */
-	private final Map<ServerEvent, Emitter<T>> __delegate;
+	private final Subscriber[][] __subscribers;
 
 	public EventHandler() {
-		__delegate = new HashMap<ServerEvent, Emitter<T>>();
+		__subscribers = new Subscriber[ServerEvent.values().length][];
+		clear();
+	}
+
+	/**
+	 * Add a subscriber to the list of an event's subscribers.
+	 * 
+	 * @param event      see {@link ServerEvent}
+	 * @param subscriber see {@link Subscriber}
+	 */
+	public void subscribe(ServerEvent event, Subscriber subscriber) {
+		var subscribers = __subscribers[event.ordinal()];
+		var newSubscribers = new Subscriber[subscribers.length + 1];
+		System.arraycopy(subscribers, 0, newSubscribers, 0, subscribers.length);
+		newSubscribers[subscribers.length] = subscriber;
+		__subscribers[event.ordinal()] = newSubscribers;
 	}
 
 	/**
-	 * Create a link between an event and its list of event handlers.
+	 * Check if an event has any subscribers or not.
 	 * 
-	 * @param event   see {@link ServerEvent}
-	 * @param emitter see {@link Emitter}
+	 * @param event see {@link ServerEvent}
+	 * @return <b>true</b> if an event has any subscribers
 	 */
-	public void subscribe(ServerEvent event, Emitter<T> emitter) {
-		__delegate.put(event, emitter);
+	public boolean hasSubscriber(ServerEvent event) {
+		return __subscribers[event.ordinal()].length > 0;
 	}
 
 	/**
@@ -64,19 +78,79 @@ public final class EventHandler<T> {
 	 * @return the event result (the response of its subscribers), see
 	 *         {@link Object} or <b>null</b>
 	 */
-	public Object emit(ServerEvent event, @SuppressWarnings("unchecked") T... params) {
-		if (__delegate.containsKey(event)) {
-			return __delegate.get(event).emit(params);
+	public Object emit(ServerEvent event, Object... params) {
+		Object result = null;
+		for (var subscriber : __subscribers[event.ordinal()]) {
+			var response = subscriber.dispatch(params);
+			if (result == null) {
+				result = response;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @see #emit(ServerEvent, Object...)
+	 */
+	public Object emit(ServerEvent event) {
+		Object result = null;
+		for (var subscriber : __subscribers[event.ordinal()]) {
+			var response = subscriber.dispatch();
+			if (result == null) {
+				result = response;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @see #emit(ServerEvent, Object...)
+	 */
+	public Object emit(ServerEvent event, Object param0) {
+		Object result = null;
+		for (var subscriber : __subscribers[event.ordinal()]) {
+			var response = subscriber.dispatch(param0);
+			if (result == null) {
+				result = response;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @see #emit(ServerEvent, Object...)
+	 */
+	public Object emit(ServerEvent event, Object param0, Object param1) {
+		Object result = null;
+		for (var subscriber : __subscribers[event.ordinal()]) {
+			var response = subscriber.dispatch(param0, param1);
+			if (result == null) {
+				result = response;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @see #emit(ServerEvent, Object...)
+	 */
+	public Object emit(ServerEvent event, Object param0, Object param1, Object param2) {
+		Object result = null;
+		for (var subscriber : __subscribers[event.ordinal()]) {
+			var response = subscriber.dispatch(param0, param1, param2);
+			if (result == null) {
+				result = response;
+			}
 		}
-		return null;
+		return result;
 	}
 
 	/**
 	 * Clear all events and these handlers
 	 */
 	public void clear() {
-		if (!__delegate.isEmpty()) {
-			__delegate.clear();
+		for (int i = 0; i < __subscribers.length; i++) {
+			__subscribers[i] = EMPTY_SUBSCRIBERS;
 		}
 	}
 
@@ -66,53 +66,126 @@ public final class EventManager extends SystemLogger {
 	 * @see EventProducer#emit(ServerEvent, Object...)
 	 */
 	public Object emit(ServerEvent event, Object... params) {
-		if (__isEventForTracing(event)) {
-			trace(event.toString(), params);
-		} else {
-			debug(event.toString(), params);
+		if (__isLoggable(event)) {
+			__log(event, params);
 		}
 		return __producer.emit(event, params);
 	}
 
 	/**
-	 * Add a subscriber's handler.
+	 * Emit an event without parameters, the parameters array is only allocated
+	 * for the subscribers which do not override {@link Subscriber#dispatch()}.
+	 * 
+	 * @param event see {@link ServerEvent}
+	 * @return the event result (the response of its subscribers), see
+	 *         {@link Object} or <b>null</b>
+	 */
+	public Object emit(ServerEvent event) {
+		if (__isLoggable(event)) {
+			__log(event);
+		}
+		return __producer.emit(event);
+	}
+
+	/**
+	 * Emit an event with one parameter, the parameters array is only allocated for
+	 * the subscribers which do not override {@link Subscriber#dispatch(Object)}.
+	 * 
+	 * @param event  see {@link ServerEvent}
+	 * @param param0 the first parameter
+	 * @return the event result (the response of its subscribers), see
+	 *         {@link Object} or <b>null</b>
+	 */
+	public Object emit(ServerEvent event, Object param0) {
+		if (__isLoggable(event)) {
+			__log(event, param0);
+		}
+		return __producer.emit(event, param0);
+	}
+
+	/**
+	 * Emit an event with two parameters, the parameters array is only allocated
+	 * for the subscribers which do not override
+	 * {@link Subscriber#dispatch(Object, Object)}.
+	 * 
+	 * @param event  see {@link ServerEvent}
+	 * @param param0 the first parameter
+	 * @param param1 the second parameter
+	 * @return the event result (the response of its subscribers), see
+	 *         {@link Object} or <b>null</b>
+	 */
+	public Object emit(ServerEvent event, Object param0, Object param1) {
+		if (__isLoggable(event)) {
+			__log(event, param0, param1);
+		}
+		return __producer.emit(event, param0, param1);
+	}
+
+	/**
+	 * Emit an event with three parameters, the parameters array is only allocated
+	 * for the subscribers which do not override
+	 * {@link Subscriber#dispatch(Object, Object, Object)}.
+	 * 
+	 * @param event  see {@link ServerEvent}
+	 * @param param0 the first parameter
+	 * @param param1 the second parameter
+	 * @param param2 the third parameter
+	 * @return the event result (the response of its subscribers), see
+	 *         {@link Object} or <b>null</b>
+	 */
+	public Object emit(ServerEvent event, Object param0, Object param1, Object param2) {
+		if (__isLoggable(event)) {
+			__log(event, param0, param1, param2);
+		}
+		return __producer.emit(event, param0, param1, param2);
+	}
+
+	/**
+	 * Add a subscriber's handler. An event can have many subscribers, they are
+	 * invoked in the order of adding.
 	 * 
 	 * @param event      see {@link ServerEvent}
 	 * @param subscriber see {@link Subscriber}
 	 */
 	public void on(ServerEvent event, Subscriber subscriber) {
-		if (hasSubscriber(event)) {
-			info("SERVER EVENT WARNING", "Duplicated", event);
+		if (__hasAddedSubscriber(event)) {
+			info("SERVER EVENT SUBSCRIBERS", "Multiple subscribers", event);
 		}
 
 		__eventSubscribers.add(EventSubscriber.newInstance(event, subscriber));
 	}
 
 	/**
-	 * Collect all subscribers and these corresponding events.
+	 * Collect all subscribers and these corresponding events. The dispatching
+	 * table is built aside then replaces the current one as a whole.
 	 */
 	public void subscribe() {
-		// clear the old first
-		__producer.clear();
+		var eventHandler = new EventHandler();
 
 		// only for log recording
 		var events = new ArrayList<ServerEvent>();
 		// start handling
 		__eventSubscribers.forEach(eventSubscriber -> {
 			events.add(eventSubscriber.getEvent());
-			__producer.getEventHandler().subscribe(eventSubscriber.getEvent(),
-					eventSubscriber.getSubscriber()::dispatch);
+			eventHandler.subscribe(eventSubscriber.getEvent(), eventSubscriber.getSubscriber());
 		});
+		__producer.setEventHandler(eventHandler);
 		info("SERVER EVENT SUBSCRIBERS", "Subscribers", events.toString());
 	}
 
 	/**
-	 * Check if an event has any subscribers or not.
+	 * Check if an event has any subscribers or not. It only knows the subscribers
+	 * which were collected by {@link #subscribe()}, then the check takes constant
+	 * time and can be used on every emitting.
 	 * 
 	 * @param event see {@link ServerEvent}
 	 * @return <b>true</b> if an event has any subscribers
 	 */
 	public boolean hasSubscriber(ServerEvent event) {
+		return __producer.getEventHandler().hasSubscriber(event);
+	}
+
+	private boolean __hasAddedSubscriber(ServerEvent event) {
 		for (var subscriber : __eventSubscribers) {
 			if (subscriber.getEvent() == event) {
 				return true;
@@ -129,6 +202,18 @@ public final class EventManager extends SystemLogger {
 		__producer.clear();
 	}
 
+	private boolean __isLoggable(ServerEvent event) {
+		return __isEventForTracing(event) ? isTraceEnabled() : isDebugEnabled();
+	}
+
+	private void __log(ServerEvent event, Object... params) {
+		if (__isEventForTracing(event)) {
+			trace(event.toString(), params);
+		} else {
+			debug(event.toString(), params);
+		}
+	}
+
 	private boolean __isEventForTracing(ServerEvent event) {
 
 		switch (event) {
@@ -23,23 +23,25 @@ THE SOFTWARE.
 */
 package com.tenio.core.event.implement;
 
-import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
 
 import com.tenio.core.configuration.defines.ServerEvent;
 
 /**
- * Only for creating an event handler object, see {@link EventHandler}
+ * Only for holding an event handler object, see {@link EventHandler}. The
+ * handler is frozen once it is set, a new subscription replaces it as a whole,
+ * so the emitting threads never see a partly subscribed handler.
  */
-@NotThreadSafe
+@ThreadSafe
 public final class EventProducer {
 
 	/**
 	 * @see EventHandler
 	 */
-	private final EventHandler<Object> __eventHandler;
+	private volatile EventHandler __eventHandler;
 
 	public EventProducer() {
-		__eventHandler = new EventHandler<Object>();
+		__eventHandler = new EventHandler();
 	}
 
 	/**
@@ -47,10 +49,19 @@ public final class EventProducer {
 	 * 
 	 * @return see {@link EventHandler}
 	 */
-	public EventHandler<Object> getEventHandler() {
+	public EventHandler getEventHandler() {
 		return __eventHandler;
 	}
 
+	/**
+	 * Replaces the event handler by a completely subscribed one.
+	 * 
+	 * @param eventHandler see {@link EventHandler}
+	 */
+	public void setEventHandler(EventHandler eventHandler) {
+		__eventHandler = eventHandler;
+	}
+
 	/**
 	 * Emit an event with its parameters
 	 * 
@@ -64,13 +75,39 @@ public final class EventProducer {
 		return __eventHandler.emit(event, params);
 	}
 
+	/**
+	 * @see EventHandler#emit(ServerEvent)
+	 */
+	public Object emit(ServerEvent event) {
+		return __eventHandler.emit(event);
+	}
+
+	/**
+	 * @see EventHandler#emit(ServerEvent, Object)
+	 */
+	public Object emit(ServerEvent event, Object param0) {
+		return __eventHandler.emit(event, param0);
+	}
+
+	/**
+	 * @see EventHandler#emit(ServerEvent, Object, Object)
+	 */
+	public Object emit(ServerEvent event, Object param0, Object param1) {
+		return __eventHandler.emit(event, param0, param1);
+	}
+
+	/**
+	 * @see EventHandler#emit(ServerEvent, Object, Object, Object)
+	 */
+	public Object emit(ServerEvent event, Object param0, Object param1, Object param2) {
+		return __eventHandler.emit(event, param0, param1, param2);
+	}
+
 	/**
 	 * Clear all events and these handlers
-	 * 
-	 * @see EventHandler#clear()
 	 */
 	public void clear() {
-		__eventHandler.clear();
+		__eventHandler = new EventHandler();
 	}
 
 }
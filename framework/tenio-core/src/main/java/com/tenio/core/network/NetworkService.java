@@ -28,6 +28,7 @@ import java.util.List;
 
 import com.tenio.core.network.defines.data.PathConfig;
 import com.tenio.core.network.defines.data.SocketConfig;
+import com.tenio.core.network.entities.packet.PacketQueue;
 import com.tenio.core.network.entities.packet.policy.PacketQueuePolicy;
 import com.tenio.core.network.entities.protocols.Response;
 import com.tenio.core.network.security.filter.ConnectionFilter;
@@ -65,10 +66,16 @@ public interface NetworkService extends Service {
 
 	void setSocketAcceptorBufferSize(int bufferSize);
 
+	void setDatagramChannelsPerPort(int numberChannels);
+
 	void setSocketReaderBufferSize(int bufferSize);
 
+	void setDatagramConnectionIdEnabled(boolean enabled);
+
 	void setSocketWriterBufferSize(int bufferSize);
 
+	void setSocketWriterBatchSize(int batchSize);
+
 	void setSocketConfigs(List<SocketConfig> socketConfigs);
 
 	void setPacketQueuePolicy(Class<? extends PacketQueuePolicy> clazz)
@@ -77,6 +84,10 @@ public interface NetworkService extends Service {
 
 	void setPacketQueueSize(int queueSize);
 
+	void setPacketQueueWatermarks(int highWatermark, int lowWatermark);
+
+	void setPacketQueueClass(Class<? extends PacketQueue> clazz) throws NoSuchMethodException, SecurityException;
+
 	void setPacketEncoder(BinaryPacketEncoder packetEncoder);
 
 	void setPacketDecoder(BinaryPacketDecoder packetDecoder);
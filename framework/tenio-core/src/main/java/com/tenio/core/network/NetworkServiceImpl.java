@@ -27,6 +27,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
 import java.util.List;
 
+import com.tenio.common.data.ZeroObject;
 import com.tenio.common.data.implement.ZeroObjectImpl;
 import com.tenio.core.configuration.defines.ServerEvent;
 import com.tenio.core.entities.data.ServerMessage;
@@ -36,6 +37,7 @@ import com.tenio.core.network.defines.TransportType;
 import com.tenio.core.network.defines.data.PathConfig;
 import com.tenio.core.network.defines.data.SocketConfig;
 import com.tenio.core.network.entities.packet.Packet;
+import com.tenio.core.network.entities.packet.PacketQueue;
 import com.tenio.core.network.entities.packet.implement.PacketImpl;
 import com.tenio.core.network.entities.packet.policy.PacketQueuePolicy;
 import com.tenio.core.network.entities.protocols.Response;
@@ -238,11 +240,26 @@ public final class NetworkServiceImpl extends AbstractManager implements Network
 		__socketService.setReaderBufferSize(bufferSize);
 	}
 
+	@Override
+	public void setDatagramChannelsPerPort(int numberChannels) {
+		__socketService.setAcceptorDatagramChannelsPerPort(numberChannels);
+	}
+
+	@Override
+	public void setDatagramConnectionIdEnabled(boolean enabled) {
+		__socketService.setReaderDatagramConnectionIdEnabled(enabled);
+	}
+
 	@Override
 	public void setSocketWriterBufferSize(int bufferSize) {
 		__socketService.setWriterBufferSize(bufferSize);
 	}
 
+	@Override
+	public void setSocketWriterBatchSize(int batchSize) {
+		__socketService.setWriterBatchSize(batchSize);
+	}
+
 	@Override
 	public void setSocketConfigs(List<SocketConfig> socketConfigs) {
 		if (__containsSocketPort(socketConfigs)) {
@@ -279,6 +296,16 @@ public final class NetworkServiceImpl extends AbstractManager implements Network
 		__sessionManager.setPacketQueueSize(queueSize);
 	}
 
+	@Override
+	public void setPacketQueueWatermarks(int highWatermark, int lowWatermark) {
+		__socketService.setWriterPacketQueueWatermarks(highWatermark, lowWatermark);
+	}
+
+	@Override
+	public void setPacketQueueClass(Class<? extends PacketQueue> clazz) throws NoSuchMethodException, SecurityException {
+		__sessionManager.setPacketQueueClass(clazz);
+	}
+
 	@Override
 	public void setPacketEncoder(BinaryPacketEncoder packetEncoder) {
 		__socketService.setPacketEncoder(packetEncoder);
@@ -301,17 +328,24 @@ public final class NetworkServiceImpl extends AbstractManager implements Network
 
 	@Override
 	public void write(Response response) {
-		var data = ZeroObjectImpl.newInstance(response.getContent());
-		var message = ServerMessage.newInstance().setData(data);
-
-		var playerIterator = response.getPlayers().iterator();
-		while (playerIterator.hasNext()) {
-			var player = playerIterator.next();
-			__eventManager.emit(ServerEvent.SEND_MESSAGE_TO_PLAYER, player, message);
+		// the message is only needed by the event subscribers, so the content is not
+		// decoded again when no one listens to it
+		ServerMessage message = null;
+
+		if (__eventManager.hasSubscriber(ServerEvent.SEND_MESSAGE_TO_PLAYER)) {
+			message = __createServerMessage(response);
+			var playerIterator = response.getPlayers().iterator();
+			while (playerIterator.hasNext()) {
+				var player = playerIterator.next();
+				__eventManager.emit(ServerEvent.SEND_MESSAGE_TO_PLAYER, player, message);
+			}
 		}
 
 		var nonSessionPlayers = response.getNonSessionPlayers();
-		if (nonSessionPlayers != null) {
+		if (nonSessionPlayers != null && !nonSessionPlayers.isEmpty()) {
+			if (message == null) {
+				message = __createServerMessage(response);
+			}
 			var nonSessionIterator = nonSessionPlayers.iterator();
 			while (nonSessionIterator.hasNext()) {
 				var player = nonSessionIterator.next();
@@ -339,9 +373,23 @@ public final class NetworkServiceImpl extends AbstractManager implements Network
 		}
 	}
 
+	private ServerMessage __createServerMessage(Response response) {
+		// the not serialized content does not need to be decoded again
+		var contentElement = response.getContentElement();
+		var data = contentElement instanceof ZeroObject ? (ZeroObject) contentElement
+				: ZeroObjectImpl.newInstance(response.getContent());
+		return ServerMessage.newInstance().setData(data);
+	}
+
 	private Packet __createPacket(Response response, Collection<Session> recipients, TransportType transportType) {
 		Packet packet = PacketImpl.newInstance();
-		packet.setData(response.getContent());
+		// only the socket encoder can serialize the content straight into its framed
+		// data, the other transports share the response's cached binary
+		if (transportType == TransportType.TCP && response.getContentElement() != null) {
+			packet.setContent(response.getContentElement());
+		} else {
+			packet.setData(response.getContent());
+		}
 		packet.setEncrypted(response.isEncrypted());
 		packet.setPriority(response.getPriority());
 		packet.setRecipients(recipients);
@@ -25,6 +25,7 @@ package com.tenio.core.network.entities.packet;
 
 import java.util.Collection;
 
+import com.tenio.common.data.ZeroElement;
 import com.tenio.core.network.defines.ResponsePriority;
 import com.tenio.core.network.defines.TransportType;
 import com.tenio.core.network.entities.session.Session;
@@ -37,6 +38,20 @@ public interface Packet {
 
 	void setData(byte[] binary);
 
+	/**
+	 * @return the not yet serialized content of this packet, it is <b>null</b> once
+	 *         the binary data was set
+	 */
+	ZeroElement getContent();
+
+	/**
+	 * Defers the serialization of the content, so an encoder can write it straight
+	 * into its framed data. Calling {@link #getData()} serializes it on demand.
+	 * 
+	 * @param content the packet content, see {@link ZeroElement}
+	 */
+	void setContent(ZeroElement content);
+
 	TransportType getTransportType();
 
 	void setTransportType(TransportType type);
@@ -63,12 +78,6 @@ public interface Packet {
 
 	boolean isWebSocket();
 
-	byte[] getFragmentBuffer();
-
-	void setFragmentBuffer(byte[] binary);
-
-	boolean isFragmented();
-
 	Packet clone();
 
 }
@@ -33,6 +33,18 @@ public interface PacketQueue {
 
 	Packet take();
 
+	/**
+	 * Removes the given packet, which was returned by {@link #peek()}, only if it
+	 * is still in the queue. Other threads can put packets with higher priorities
+	 * in between, so a {@link #take()} after a {@link #peek()} could remove
+	 * another packet.
+	 * 
+	 * @param packet the peeked packet
+	 * @return <code>true</code> if the packet was removed, <code>false</code>
+	 *         otherwise
+	 */
+	boolean take(Packet packet);
+
 	boolean isEmpty();
 
 	boolean isFull();
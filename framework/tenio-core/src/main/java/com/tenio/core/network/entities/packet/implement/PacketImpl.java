@@ -26,6 +26,7 @@ package com.tenio.core.network.entities.packet.implement;
 import java.util.Collection;
 import java.util.concurrent.atomic.AtomicLong;
 
+import com.tenio.common.data.ZeroElement;
 import com.tenio.common.utilities.TimeUtility;
 import com.tenio.core.network.defines.ResponsePriority;
 import com.tenio.core.network.defines.TransportType;
@@ -39,12 +40,12 @@ public final class PacketImpl implements Packet, Comparable<Packet>, Cloneable {
 	private long __id;
 	private long __createdTime;
 	private byte[] __data;
+	private ZeroElement __content;
 	private ResponsePriority __priority;
 	private boolean __encrypted;
 	private TransportType __transportType;
 	private int __originalSize;
 	private Collection<Session> __recipients;
-	private byte[] __fragmentBuffer;
 
 	public static Packet newInstance() {
 		return new PacketImpl();
@@ -65,15 +66,30 @@ public final class PacketImpl implements Packet, Comparable<Packet>, Cloneable {
 
 	@Override
 	public byte[] getData() {
+		if (__data == null && __content != null) {
+			setData(__content.toBinary());
+		}
 		return __data;
 	}
 
 	@Override
 	public void setData(byte[] binary) {
 		__data = binary;
+		__content = null;
 		__originalSize = binary.length;
 	}
 
+	@Override
+	public ZeroElement getContent() {
+		return __content;
+	}
+
+	@Override
+	public void setContent(ZeroElement content) {
+		__content = content;
+		__data = null;
+	}
+
 	@Override
 	public TransportType getTransportType() {
 		return __transportType;
@@ -139,21 +155,6 @@ public final class PacketImpl implements Packet, Comparable<Packet>, Cloneable {
 		return __transportType == TransportType.WEB_SOCKET;
 	}
 
-	@Override
-	public byte[] getFragmentBuffer() {
-		return __fragmentBuffer;
-	}
-
-	@Override
-	public void setFragmentBuffer(byte[] binary) {
-		__fragmentBuffer = binary;
-	}
-
-	@Override
-	public boolean isFragmented() {
-		return __fragmentBuffer != null;
-	}
-
 	@Override
 	public boolean equals(Object object) {
 		if (!(object instanceof Packet)) {
@@ -196,8 +197,11 @@ public final class PacketImpl implements Packet, Comparable<Packet>, Cloneable {
 	@Override
 	public Packet clone() {
 		var packet = PacketImpl.newInstance();
-		packet.setData(__data);
-		packet.setFragmentBuffer(__fragmentBuffer);
+		if (__data == null && __content != null) {
+			packet.setContent(__content);
+		} else {
+			packet.setData(__data);
+		}
 		packet.setPriority(__priority);
 		packet.setEncrypted(__encrypted);
 		packet.setRecipients(__recipients);
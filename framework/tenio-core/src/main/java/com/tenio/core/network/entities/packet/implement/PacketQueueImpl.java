@@ -41,7 +41,7 @@ public final class PacketQueueImpl implements PacketQueue {
 		return new PacketQueueImpl();
 	}
 
-	private PacketQueueImpl() {
+	public PacketQueueImpl() {
 		__queue = new TreeSet<Packet>();
 	}
 
@@ -70,6 +70,15 @@ public final class PacketQueueImpl implements PacketQueue {
 		return null;
 	}
 
+	@Override
+	public boolean take(Packet packet) {
+		synchronized (__queue) {
+			boolean removed = __queue.remove(packet);
+			__size = __queue.size();
+			return removed;
+		}
+	}
+
 	@Override
 	public boolean isEmpty() {
 		return __size == 0;
@@ -0,0 +1,257 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.network.entities.packet.implement;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.tenio.core.exceptions.PacketQueueFullException;
+import com.tenio.core.network.defines.ResponsePriority;
+import com.tenio.core.network.entities.packet.Packet;
+import com.tenio.core.network.entities.packet.PacketQueue;
+import com.tenio.core.network.entities.packet.policy.PacketQueuePolicy;
+
+/**
+ * A lock-free packet queue which keeps one bounded ring buffer per
+ * {@link ResponsePriority}. Packets with a higher priority are taken first,
+ * packets with the same priority are taken in the order they were put, the
+ * same ordering as {@link PacketQueueImpl}.
+ * 
+ * Producers reserve a place in the shared size counter before claiming a slot,
+ * so a ring (which can hold the whole max size) never overflows. A ring is
+ * only allocated when the first packet of its priority comes.
+ */
+public final class PriorityRingPacketQueue implements PacketQueue {
+
+	private static final ResponsePriority[] PRIORITIES = ResponsePriority.values();
+
+	private final AtomicReferenceArray<Ring> __rings;
+	private final AtomicInteger __size;
+	private PacketQueuePolicy __packetQueuePolicy;
+	private volatile int __maxSize;
+
+	public PriorityRingPacketQueue() {
+		__rings = new AtomicReferenceArray<Ring>(PRIORITIES.length);
+		__size = new AtomicInteger();
+	}
+
+	@Override
+	public Packet peek() {
+		for (int i = PRIORITIES.length - 1; i >= 0; i--) {
+			var ring = __rings.get(i);
+			if (ring != null) {
+				var packet = ring.peek();
+				if (packet != null) {
+					return packet;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	@Override
+	public Packet take() {
+		for (int i = PRIORITIES.length - 1; i >= 0; i--) {
+			var ring = __rings.get(i);
+			if (ring != null) {
+				var packet = ring.poll();
+				if (packet != null) {
+					__size.decrementAndGet();
+					return packet;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	@Override
+	public boolean take(Packet packet) {
+		var ring = __rings.get(packet.getPriority().ordinal());
+		if (ring != null && ring.poll(packet)) {
+			__size.decrementAndGet();
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return __size.get() == 0;
+	}
+
+	@Override
+	public boolean isFull() {
+		return __size.get() >= __maxSize;
+	}
+
+	@Override
+	public int getSize() {
+		return __size.get();
+	}
+
+	@Override
+	public int getMaxSize() {
+		return __maxSize;
+	}
+
+	@Override
+	public void setMaxSize(int maxSize) {
+		// the allocated rings can not be resized, they must be able to hold the whole
+		// queue
+		for (int i = 0; i < PRIORITIES.length; i++) {
+			var ring = __rings.get(i);
+			if (ring != null && ring.getCapacity() < maxSize) {
+				throw new IllegalStateException(
+						String.format("Unable to extend the max size to %d, the queue was already in use", maxSize));
+			}
+		}
+		__maxSize = maxSize;
+	}
+
+	@Override
+	public void setPacketQueuePolicy(PacketQueuePolicy packetQueuePolicy) {
+		__packetQueuePolicy = packetQueuePolicy;
+	}
+
+	@Override
+	public float getPercentageUsed() {
+		int maxSize = __maxSize;
+		return maxSize == 0 ? 0.0f : (float) (__size.get() * 100) / (float) maxSize;
+	}
+
+	@Override
+	public void put(Packet packet) {
+		if (isFull()) {
+			throw new PacketQueueFullException(__size.get());
+		}
+		__packetQueuePolicy.applyPolicy(this, packet);
+
+		// reserve a place first, other producers could take the last one
+		int size;
+		do {
+			size = __size.get();
+			if (size >= __maxSize) {
+				throw new PacketQueueFullException(size);
+			}
+		} while (!__size.compareAndSet(size, size + 1));
+
+		__getRing(packet.getPriority()).offer(packet);
+	}
+
+	@Override
+	public void clear() {
+		while (take() != null) {
+			// keep removing until there is no published packet
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.format("{ size: %d, maxSize: %d }", __size.get(), __maxSize);
+	}
+
+	private Ring __getRing(ResponsePriority priority) {
+		int index = priority.ordinal();
+		var ring = __rings.get(index);
+		if (ring == null) {
+			ring = new Ring(__maxSize);
+			if (!__rings.compareAndSet(index, null, ring)) {
+				ring = __rings.get(index);
+			}
+		}
+
+		return ring;
+	}
+
+	/**
+	 * A bounded ring buffer, producers claim their slots by incrementing the tail
+	 * and the slot is published once its reference is set. The capacity is
+	 * guaranteed by the owner queue, so a claimed slot is always free.
+	 */
+	private static final class Ring {
+
+		private final AtomicReferenceArray<Packet> __slots;
+		private final AtomicLong __head;
+		private final AtomicLong __tail;
+		private final int __mask;
+
+		Ring(int minCapacity) {
+			int capacity = Integer.highestOneBit(Math.max(minCapacity, 2) - 1) << 1;
+			__slots = new AtomicReferenceArray<Packet>(capacity);
+			__head = new AtomicLong();
+			__tail = new AtomicLong();
+			__mask = capacity - 1;
+		}
+
+		int getCapacity() {
+			return __slots.length();
+		}
+
+		void offer(Packet packet) {
+			long tail = __tail.getAndIncrement();
+			__slots.lazySet((int) (tail & __mask), packet);
+		}
+
+		Packet peek() {
+			return __slots.get((int) (__head.get() & __mask));
+		}
+
+		Packet poll() {
+			while (true) {
+				long head = __head.get();
+				int index = (int) (head & __mask);
+				var packet = __slots.get(index);
+				// empty, or the producer has not yet published its packet
+				if (packet == null) {
+					return null;
+				}
+				if (__head.compareAndSet(head, head + 1)) {
+					__slots.set(index, null);
+					return packet;
+				}
+			}
+		}
+
+		boolean poll(Packet expectedPacket) {
+			while (true) {
+				long head = __head.get();
+				int index = (int) (head & __mask);
+				// a peeked packet stays at the head of its ring until it is taken
+				if (__slots.get(index) != expectedPacket) {
+					return false;
+				}
+				if (__head.compareAndSet(head, head + 1)) {
+					__slots.set(index, null);
+					return true;
+				}
+			}
+		}
+
+	}
+
+}
@@ -23,7 +23,13 @@ THE SOFTWARE.
 */
 package com.tenio.core.network.entities.protocols;
 
+import java.net.SocketAddress;
+import java.nio.channels.DatagramChannel;
+import java.util.Map;
+
 import com.tenio.core.configuration.defines.ServerEvent;
+import com.tenio.core.entities.defines.modes.ConnectionDisconnectMode;
+import com.tenio.core.entities.defines.modes.PlayerDisconnectMode;
 import com.tenio.core.network.defines.RequestPriority;
 import com.tenio.core.network.entities.session.Session;
 
@@ -35,10 +41,35 @@ public interface Request {
 
 	Request setAttribute(String key, Object value);
 
+	/**
+	 * @return a read-only view of the custom attributes
+	 */
+	Map<String, Object> getAttributes();
+
 	ServerEvent getEvent();
 
 	Request setEvent(ServerEvent event);
 
+	Object getMessage();
+
+	Request setMessage(Object message);
+
+	DatagramChannel getDatagramChannel();
+
+	Request setDatagramChannel(DatagramChannel datagramChannel);
+
+	SocketAddress getRemoteAddress();
+
+	Request setRemoteAddress(SocketAddress remoteAddress);
+
+	ConnectionDisconnectMode getConnectionDisconnectMode();
+
+	Request setConnectionDisconnectMode(ConnectionDisconnectMode connectionDisconnectMode);
+
+	PlayerDisconnectMode getPlayerDisconnectMode();
+
+	Request setPlayerDisconnectMode(PlayerDisconnectMode playerDisconnectMode);
+
 	Session getSender();
 
 	Request setSender(Session session);
@@ -25,7 +25,9 @@ package com.tenio.core.network.entities.protocols;
 
 import java.util.Collection;
 
+import com.tenio.common.data.ZeroElement;
 import com.tenio.core.entities.Player;
+import com.tenio.core.entities.Room;
 import com.tenio.core.network.defines.ResponsePriority;
 import com.tenio.core.network.entities.session.Session;
 
@@ -35,6 +37,21 @@ public interface Response {
 
 	Response setContent(byte[] content);
 
+	/**
+	 * @return the content set by {@link #setContent(ZeroElement)}, otherwise
+	 *         <b>null</b>
+	 */
+	ZeroElement getContentElement();
+
+	/**
+	 * Sets the content without serializing it, the network layer then writes it
+	 * straight into the outgoing packets' data.
+	 * 
+	 * @param content the response content, see {@link ZeroElement}
+	 * @return the current response
+	 */
+	Response setContent(ZeroElement content);
+
 	Collection<Player> getPlayers();
 
 	Collection<Player> getNonSessionPlayers();
@@ -49,6 +66,18 @@ public interface Response {
 
 	Response setRecipient(Player player);
 
+	/**
+	 * Sends the response to all players in a room. The room's recipients are
+	 * already grouped by transports, so the response is written without walking
+	 * through its players again.
+	 * 
+	 * @param room              the recipient room, see {@link Room}
+	 * @param includeSpectators whether the room's spectators should receive the
+	 *                          response as well
+	 * @return the current response
+	 */
+	Response setRecipientRoom(Room room, boolean includeSpectators);
+
 	Response prioritizedUdp();
 
 	Response encrypted();
@@ -23,12 +23,17 @@ THE SOFTWARE.
 */
 package com.tenio.core.network.entities.protocols.implement;
 
+import java.net.SocketAddress;
+import java.nio.channels.DatagramChannel;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.tenio.common.utilities.TimeUtility;
 import com.tenio.core.configuration.defines.ServerEvent;
+import com.tenio.core.entities.defines.modes.ConnectionDisconnectMode;
+import com.tenio.core.entities.defines.modes.PlayerDisconnectMode;
 import com.tenio.core.network.defines.RequestPriority;
 import com.tenio.core.network.entities.protocols.Request;
 import com.tenio.core.network.entities.session.Session;
@@ -38,8 +43,15 @@ public final class RequestImpl implements Request {
 	private static AtomicLong __idCounter = new AtomicLong();
 
 	private long __id;
-	private Map<String, Object> __attributes;
+	// only created when a custom attribute is set, the known ones are kept in the
+	// typed fields
+	private volatile Map<String, Object> __attributes;
 	private ServerEvent __event;
+	private Object __message;
+	private DatagramChannel __datagramChannel;
+	private SocketAddress __remoteAddress;
+	private ConnectionDisconnectMode __connectionDisconnectMode;
+	private PlayerDisconnectMode __playerDisconnectMode;
 	private Session __sender;
 	private RequestPriority __priority;
 	private long __timestamp;
@@ -52,7 +64,6 @@ public final class RequestImpl implements Request {
 		__id = __idCounter.getAndIncrement();
 		__priority = RequestPriority.NORMAL;
 		__timestamp = TimeUtility.currentTimeMillis();
-		__attributes = new ConcurrentHashMap<String, Object>();
 	}
 
 	@Override
@@ -62,15 +73,89 @@ public final class RequestImpl implements Request {
 
 	@Override
 	public Object getAttribute(String key) {
-		return __attributes.get(key);
+		var attributes = __attributes;
+		return attributes == null ? null : attributes.get(key);
 	}
 
 	@Override
 	public Request setAttribute(String key, Object value) {
+		if (__attributes == null) {
+			synchronized (this) {
+				if (__attributes == null) {
+					__attributes = new ConcurrentHashMap<String, Object>();
+				}
+			}
+		}
 		__attributes.put(key, value);
 		return this;
 	}
 
+	@Override
+	public Map<String, Object> getAttributes() {
+		var attributes = __attributes;
+		return attributes == null ? Collections.emptyMap() : Collections.unmodifiableMap(attributes);
+	}
+
+	@Override
+	public Object getMessage() {
+		return __message;
+	}
+
+	@Override
+	public Request setMessage(Object message) {
+		__message = message;
+
+		return this;
+	}
+
+	@Override
+	public DatagramChannel getDatagramChannel() {
+		return __datagramChannel;
+	}
+
+	@Override
+	public Request setDatagramChannel(DatagramChannel datagramChannel) {
+		__datagramChannel = datagramChannel;
+
+		return this;
+	}
+
+	@Override
+	public SocketAddress getRemoteAddress() {
+		return __remoteAddress;
+	}
+
+	@Override
+	public Request setRemoteAddress(SocketAddress remoteAddress) {
+		__remoteAddress = remoteAddress;
+
+		return this;
+	}
+
+	@Override
+	public ConnectionDisconnectMode getConnectionDisconnectMode() {
+		return __connectionDisconnectMode;
+	}
+
+	@Override
+	public Request setConnectionDisconnectMode(ConnectionDisconnectMode connectionDisconnectMode) {
+		__connectionDisconnectMode = connectionDisconnectMode;
+
+		return this;
+	}
+
+	@Override
+	public PlayerDisconnectMode getPlayerDisconnectMode() {
+		return __playerDisconnectMode;
+	}
+
+	@Override
+	public Request setPlayerDisconnectMode(PlayerDisconnectMode playerDisconnectMode) {
+		__playerDisconnectMode = playerDisconnectMode;
+
+		return this;
+	}
+
 	@Override
 	public Session getSender() {
 		return __sender;
@@ -139,8 +224,8 @@ public final class RequestImpl implements Request {
 
 	@Override
 	public String toString() {
-		return String.format("{ event: %s, sender: %s, priority: %s, timestamp: %d, attributes: %s }",
-				__event.toString(), __sender.toString(), __priority.toString(), __timestamp, __attributes.toString());
+		return String.format("{ event: %s, sender: %s, priority: %s, timestamp: %d, message: %s, attributes: %s }",
+				__event, __sender, __priority, __timestamp, __message, __attributes);
 	}
 
 }
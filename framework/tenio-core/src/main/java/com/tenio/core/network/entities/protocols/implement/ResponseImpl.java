@@ -26,7 +26,10 @@ package com.tenio.core.network.entities.protocols.implement;
 import java.util.ArrayList;
 import java.util.Collection;
 
+import com.tenio.common.data.ZeroElement;
 import com.tenio.core.entities.Player;
+import com.tenio.core.entities.Room;
+import com.tenio.core.entities.RoomRecipients;
 import com.tenio.core.network.defines.ResponsePriority;
 import com.tenio.core.network.entities.protocols.Response;
 import com.tenio.core.network.entities.session.Session;
@@ -35,11 +38,13 @@ import com.tenio.core.server.ServerImpl;
 public final class ResponseImpl implements Response {
 
 	private byte[] __content;
+	private ZeroElement __contentElement;
 	private Collection<Player> __players;
 	private Collection<Player> __nonSessionPlayers;
 	private Collection<Session> __socketSessions;
 	private Collection<Session> __datagramSessions;
 	private Collection<Session> __webSocketSessions;
+	private RoomRecipients __roomRecipients;
 	private ResponsePriority __priority;
 	private boolean __prioritizedUdp;
 	private boolean __encrypted;
@@ -54,6 +59,7 @@ public final class ResponseImpl implements Response {
 		__datagramSessions = null;
 		__webSocketSessions = null;
 		__nonSessionPlayers = null;
+		__roomRecipients = null;
 		__priority = ResponsePriority.NORMAL;
 		__prioritizedUdp = false;
 		__encrypted = false;
@@ -61,12 +67,29 @@ public final class ResponseImpl implements Response {
 
 	@Override
 	public byte[] getContent() {
+		if (__content == null && __contentElement != null) {
+			__content = __contentElement.toBinary();
+		}
 		return __content;
 	}
 
 	@Override
 	public Response setContent(byte[] content) {
 		__content = content;
+		__contentElement = null;
+
+		return this;
+	}
+
+	@Override
+	public ZeroElement getContentElement() {
+		return __contentElement;
+	}
+
+	@Override
+	public Response setContent(ZeroElement content) {
+		__contentElement = content;
+		__content = null;
 
 		return this;
 	}
@@ -117,6 +140,13 @@ public final class ResponseImpl implements Response {
 		return this;
 	}
 
+	@Override
+	public Response setRecipientRoom(Room room, boolean includeSpectators) {
+		__roomRecipients = room.getRecipients(includeSpectators);
+
+		return this;
+	}
+
 	@Override
 	public Response prioritizedUdp() {
 		__prioritizedUdp = true;
@@ -147,14 +177,37 @@ public final class ResponseImpl implements Response {
 
 	@Override
 	public void write() {
+		if (__roomRecipients != null) {
+			if (__players == null) {
+				__constructFromRoom();
+			} else {
+				// the room's players are mixed with the other recipients, they need to be
+				// classified again
+				var players = new ArrayList<Player>(__players);
+				players.addAll(__roomRecipients.getPlayers());
+				__players = players;
+				__roomRecipients = null;
+			}
+		}
+
 		if (__players == null || __players.isEmpty()) {
 			return;
 		}
 
-		__construct();
+		if (__roomRecipients == null) {
+			__construct();
+		}
 		ServerImpl.getInstance().write(this);
 	}
 
+	private void __constructFromRoom() {
+		__players = __roomRecipients.getPlayers();
+		__nonSessionPlayers = __roomRecipients.getNonSessionPlayers();
+		__socketSessions = __roomRecipients.getSocketSessions(__prioritizedUdp);
+		__datagramSessions = __roomRecipients.getDatagramSessions(__prioritizedUdp);
+		__webSocketSessions = __roomRecipients.getWebSocketSessions();
+	}
+
 	private void __construct() {
 		// if udp is using in use in case of websocket, use websocket instead
 		__players.stream().forEach(player -> {
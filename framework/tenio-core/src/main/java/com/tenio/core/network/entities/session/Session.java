@@ -31,8 +31,10 @@ import java.nio.channels.SocketChannel;
 
 import com.tenio.core.entities.defines.modes.ConnectionDisconnectMode;
 import com.tenio.core.entities.defines.modes.PlayerDisconnectMode;
+import com.tenio.core.network.defines.ReadingSuspendReason;
 import com.tenio.core.network.defines.TransportType;
 import com.tenio.core.network.entities.packet.PacketQueue;
+import com.tenio.core.network.zero.codec.packet.PacketCursor;
 import com.tenio.core.network.zero.codec.packet.PacketReadState;
 import com.tenio.core.network.zero.codec.packet.PendingPacket;
 import com.tenio.core.network.zero.codec.packet.ProcessedPacket;
@@ -81,12 +83,37 @@ public interface Session {
 
 	PendingPacket getPendingPacket();
 
+	PacketCursor getPacketCursor();
+
 	DatagramChannel getDatagramChannel();
 
 	void setDatagramChannel(DatagramChannel datagramChannel, SocketAddress remoteAddress);
 
 	SocketAddress getDatagramRemoteSocketAddress();
 
+	/**
+	 * Retrieves the connection id which was issued when the datagram channel was
+	 * attached to this session. The clients prefix their datagrams with it when
+	 * the datagram connection id framing is enabled.
+	 * 
+	 * @return the connection id, or <b>0</b> if no id was issued
+	 */
+	long getDatagramConnectionId();
+
+	void setDatagramConnectionId(long connectionId);
+
+	/**
+	 * Retrieves the secret key which was issued with the datagram connection id.
+	 * It is only sent to the client over its TCP connection, the client proves
+	 * with it that a new remote address belongs to this session, see
+	 * {@link SessionManager#validateDatagramPath(DatagramChannel, SocketAddress, Session, long)}.
+	 * 
+	 * @return the secret key, or <b>0</b> if no connection id was issued
+	 */
+	long getDatagramConnectionKey();
+
+	void setDatagramConnectionKey(long connectionKey);
+
 	Channel getWebSocketChannel();
 
 	void setWebSocketChannel(Channel webSocketChannel) throws IllegalArgumentException, IllegalCallerException;
@@ -131,6 +158,49 @@ public interface Session {
 
 	void deactivate();
 
+	/**
+	 * Marks the session as waiting in its writer's queue, so it is not added to
+	 * that queue more than once.
+	 * 
+	 * @return <b>true</b> if the session was not scheduled before, <b>false</b>
+	 *         otherwise
+	 */
+	boolean tryScheduleWrite();
+
+	/**
+	 * The session was taken from its writer's queue, new packets should schedule
+	 * it again.
+	 */
+	void clearScheduledWrite();
+
+	/**
+	 * Stops reading from the session's connection (the TCP socket or the web
+	 * socket channel) until {@link #resumeReading(ReadingSuspendReason)} is called
+	 * for every reason which suspended it. The client's data is left in the kernel
+	 * buffers meanwhile, so the client is slowed down by the transport's flow
+	 * control instead of having its data dropped. It has no effect on the
+	 * datagrams.
+	 * 
+	 * @param reason the mechanism which suspends the reading
+	 * @return <code>true</code> if the session was not yet suspended for this
+	 *         reason, <code>false</code> otherwise
+	 */
+	boolean suspendReading(ReadingSuspendReason reason);
+
+	/**
+	 * Removes a suspension, the reading is only resumed when no other reason is
+	 * left.
+	 * 
+	 * @param reason the mechanism which suspended the reading
+	 * @return <code>true</code> if the session was suspended for this reason,
+	 *         <code>false</code> otherwise
+	 */
+	boolean resumeReading(ReadingSuspendReason reason);
+
+	boolean isReadingSuspended();
+
+	boolean isReadingSuspended(ReadingSuspendReason reason);
+
 	long getInactivatedTime();
 
 	String getFullClientIpAddress();
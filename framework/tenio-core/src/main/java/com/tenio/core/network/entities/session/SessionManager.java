@@ -31,6 +31,7 @@ import java.nio.channels.SocketChannel;
 
 import com.tenio.core.configuration.defines.ServerEvent;
 import com.tenio.core.manager.Manager;
+import com.tenio.core.network.entities.packet.PacketQueue;
 import com.tenio.core.network.entities.packet.policy.PacketQueuePolicy;
 
 import io.netty.channel.Channel;
@@ -54,6 +55,43 @@ public interface SessionManager extends Manager {
 
 	Session getSessionByDatagram(SocketAddress remoteAddress);
 
+	/**
+	 * Retrieves a session by the connection id which was issued when its datagram
+	 * channel was attached, see
+	 * {@link #addDatagramForSession(DatagramChannel, SocketAddress, Session)}.
+	 * 
+	 * @param connectionId the connection id carried by an incoming datagram
+	 * @return the session, or <code>null</code> if the id is unknown or expired
+	 */
+	Session getSessionByDatagramConnectionId(long connectionId);
+
+	/**
+	 * Starts the validation of a new remote address which sent a datagram with
+	 * the session's connection id. The session is not moved until the address
+	 * answers the challenge, see
+	 * {@link #validateDatagramPath(DatagramChannel, SocketAddress, Session, long)}.
+	 * 
+	 * @param session       the session owning the connection id
+	 * @param remoteAddress the new remote address
+	 * @return the challenge which should be sent to the new address, or <b>0</b>
+	 *         if a challenge for this session is still pending
+	 */
+	long createDatagramPathChallenge(Session session, SocketAddress remoteAddress);
+
+	/**
+	 * Moves the session's datagrams to a new remote address once it answered the
+	 * pending challenge with a valid proof, see
+	 * {@link com.tenio.core.network.security.DatagramPathUtility}.
+	 * 
+	 * @param datagramChannel the datagram channel which received the answer
+	 * @param remoteAddress   the new remote address
+	 * @param session         the session owning the connection id
+	 * @param proof           the proof carried by the answer
+	 * @return <code>true</code> if the session was moved to the new address
+	 */
+	boolean validateDatagramPath(DatagramChannel datagramChannel, SocketAddress remoteAddress, Session session,
+			long proof);
+
 	void emitEvent(ServerEvent event, Object... params);
 
 	void setPacketQueuePolicy(Class<? extends PacketQueuePolicy> clazz)
@@ -62,6 +100,8 @@ public interface SessionManager extends Manager {
 
 	void setPacketQueueSize(int queueSize);
 
+	void setPacketQueueClass(Class<? extends PacketQueue> clazz) throws NoSuchMethodException, SecurityException;
+
 	/**
 	 * Remove session from its manager, this method should not be called. Call
 	 * instead the method {@link Session#close()} to completely eliminate the
@@ -28,19 +28,23 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketAddress;
+import java.nio.channels.CancelledKeyException;
 import java.nio.channels.DatagramChannel;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.tenio.common.utilities.TimeUtility;
 import com.tenio.core.configuration.defines.ServerEvent;
 import com.tenio.core.entities.defines.modes.ConnectionDisconnectMode;
 import com.tenio.core.entities.defines.modes.PlayerDisconnectMode;
+import com.tenio.core.network.defines.ReadingSuspendReason;
 import com.tenio.core.network.defines.TransportType;
 import com.tenio.core.network.entities.packet.PacketQueue;
 import com.tenio.core.network.entities.session.Session;
 import com.tenio.core.network.entities.session.SessionManager;
+import com.tenio.core.network.zero.codec.packet.PacketCursor;
 import com.tenio.core.network.zero.codec.packet.PacketReadState;
 import com.tenio.core.network.zero.codec.packet.PendingPacket;
 import com.tenio.core.network.zero.codec.packet.ProcessedPacket;
@@ -65,6 +69,7 @@ public final class SessionImpl implements Session {
 	private PacketReadState __packetReadState;
 	private ProcessedPacket __processedPacket;
 	private PendingPacket __pendingPacket;
+	private PacketCursor __packetCursor;
 	private PacketQueue __packetQueue;
 
 	private volatile long __createdTime;
@@ -79,6 +84,8 @@ public final class SessionImpl implements Session {
 	private volatile long __inactivatedTime;
 
 	private volatile SocketAddress __datagramRemoteSocketAddress;
+	private volatile long __datagramConnectionId;
+	private volatile long __datagramConnectionKey;
 	private volatile String __clientAddress;
 	private volatile int __clientPort;
 	private int __serverPort;
@@ -89,6 +96,9 @@ public final class SessionImpl implements Session {
 	private volatile boolean __active;
 	private volatile boolean __connected;
 	private volatile boolean __hasUdp;
+	private final AtomicBoolean __writeScheduled;
+	// a bit per suspend reason, the reading is suspended while any bit is set
+	private volatile int __readingSuspendReasons;
 
 	public static Session newInstance() {
 		return new SessionImpl();
@@ -108,6 +118,7 @@ public final class SessionImpl implements Session {
 		__active = false;
 		__connected = false;
 		__hasUdp = false;
+		__writeScheduled = new AtomicBoolean(false);
 
 		setCreatedTime(__now());
 		setLastReadTime(__now());
@@ -211,6 +222,7 @@ public final class SessionImpl implements Session {
 		__packetReadState = PacketReadState.WAIT_NEW_PACKET;
 		__processedPacket = ProcessedPacket.newInstance();
 		__pendingPacket = PendingPacket.newInstance();
+		__packetCursor = PacketCursor.newInstance();
 	}
 
 	@Override
@@ -243,6 +255,11 @@ public final class SessionImpl implements Session {
 		return __pendingPacket;
 	}
 
+	@Override
+	public PacketCursor getPacketCursor() {
+		return __packetCursor;
+	}
+
 	@Override
 	public DatagramChannel getDatagramChannel() {
 		return __datagramChannel;
@@ -265,6 +282,26 @@ public final class SessionImpl implements Session {
 		return __datagramRemoteSocketAddress;
 	}
 
+	@Override
+	public long getDatagramConnectionId() {
+		return __datagramConnectionId;
+	}
+
+	@Override
+	public void setDatagramConnectionId(long connectionId) {
+		__datagramConnectionId = connectionId;
+	}
+
+	@Override
+	public long getDatagramConnectionKey() {
+		return __datagramConnectionKey;
+	}
+
+	@Override
+	public void setDatagramConnectionKey(long connectionKey) {
+		__datagramConnectionKey = connectionKey;
+	}
+
 	@Override
 	public Channel getWebSocketChannel() {
 		return __webSocketChannel;
@@ -316,6 +353,8 @@ public final class SessionImpl implements Session {
 
 	@Override
 	public void setLastActivityTime(long timestamp) {
+		// only records the time, the idle timeout in the timing wheel is re-armed with
+		// it when expiring
 		__lastActivityTime = timestamp;
 	}
 
@@ -349,6 +388,7 @@ public final class SessionImpl implements Session {
 	@Override
 	public void addReadBytes(long bytes) {
 		__readBytes += bytes;
+		setLastReadTime(__now());
 	}
 
 	@Override
@@ -359,6 +399,7 @@ public final class SessionImpl implements Session {
 	@Override
 	public void addWrittenBytes(long bytes) {
 		__writtenBytes += bytes;
+		setLastWriteTime(__now());
 	}
 
 	@Override
@@ -411,6 +452,92 @@ public final class SessionImpl implements Session {
 		__inactivatedTime = TimeUtility.currentTimeMillis();
 	}
 
+	@Override
+	public boolean tryScheduleWrite() {
+		return __writeScheduled.compareAndSet(false, true);
+	}
+
+	@Override
+	public void clearScheduledWrite() {
+		__writeScheduled.set(false);
+	}
+
+	@Override
+	public synchronized boolean suspendReading(ReadingSuspendReason reason) {
+		int reasons = __readingSuspendReasons;
+		int bit = 1 << reason.ordinal();
+		if ((reasons & bit) != 0) {
+			return false;
+		}
+
+		__readingSuspendReasons = reasons | bit;
+		// only the first reason changes the read interest
+		if (reasons == 0) {
+			__updateReadInterest();
+		}
+
+		return true;
+	}
+
+	@Override
+	public synchronized boolean resumeReading(ReadingSuspendReason reason) {
+		int reasons = __readingSuspendReasons;
+		int bit = 1 << reason.ordinal();
+		if ((reasons & bit) == 0) {
+			return false;
+		}
+
+		__readingSuspendReasons = reasons & ~bit;
+		// other mechanisms can still keep the reading suspended
+		if (__readingSuspendReasons == 0) {
+			__updateReadInterest();
+		}
+
+		return true;
+	}
+
+	@Override
+	public boolean isReadingSuspended() {
+		return __readingSuspendReasons != 0;
+	}
+
+	@Override
+	public boolean isReadingSuspended(ReadingSuspendReason reason) {
+		return (__readingSuspendReasons & (1 << reason.ordinal())) != 0;
+	}
+
+	private void __updateReadInterest() {
+		switch (__transportType) {
+		case TCP:
+			if (__selectionKey != null && __selectionKey.isValid()) {
+				try {
+					// the writer changes OP_WRITE on the same key, so only the OP_READ bit is
+					// touched here
+					if (isReadingSuspended()) {
+						__selectionKey.interestOpsAnd(~SelectionKey.OP_READ);
+					} else {
+						__selectionKey.interestOpsOr(SelectionKey.OP_READ);
+						// the reader thread may be blocked on its selector, wake it up to apply the
+						// new interest set
+						__selectionKey.selector().wakeup();
+					}
+				} catch (CancelledKeyException e) {
+					// the connection was closed, nothing to read anymore
+				}
+			}
+			break;
+
+		case WEB_SOCKET:
+			if (__webSocketChannel != null) {
+				__webSocketChannel.config().setAutoRead(!isReadingSuspended());
+			}
+			break;
+
+		default:
+			break;
+		}
+	}
+
 	@Override
 	public long getInactivatedTime() {
 		return __inactivatedTime;
@@ -23,44 +23,79 @@ THE SOFTWARE.
 */
 package com.tenio.core.network.entities.session.implement;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.net.SocketAddress;
 import java.nio.channels.DatagramChannel;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.SocketChannel;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import javax.annotation.concurrent.GuardedBy;
 
+import com.tenio.common.utilities.TimeUtility;
 import com.tenio.core.configuration.defines.ServerEvent;
 import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.exceptions.ServiceRuntimeException;
 import com.tenio.core.manager.AbstractManager;
 import com.tenio.core.network.entities.packet.PacketQueue;
 import com.tenio.core.network.entities.packet.implement.PacketQueueImpl;
 import com.tenio.core.network.entities.packet.policy.PacketQueuePolicy;
 import com.tenio.core.network.entities.session.Session;
 import com.tenio.core.network.entities.session.SessionManager;
+import com.tenio.core.network.security.DatagramPathUtility;
 
 import io.netty.channel.Channel;
 
+/**
+ * The session registry. All the indexes are concurrent maps, so the lookups
+ * which run on every read ({@link #getSessionBySocket(SocketChannel)},
+ * {@link #getSessionByDatagram(SocketAddress)}) never take a lock. The writes
+ * of one session are serialized by a lock striped on its id, so a session is
+ * added to or removed from all the indexes at once, while the sessions of other
+ * stripes are created and removed in parallel.
+ * 
+ * A TCP session is also attached to its selection key, the readers get it from
+ * there without any lookup.
+ * 
+ * A session with a datagram channel owns a connection id. Its low 32 bits are
+ * a slot in an array of sessions, the high 32 bits are random and change every
+ * time the slot is reused, so a stale or guessed id does not resolve to another
+ * session. The id travels in clear, so a new remote address is only trusted
+ * after it answered a challenge with the session's secret key.
+ */
 public final class SessionManagerImpl extends AbstractManager implements SessionManager {
 
 	private static final int DEFAULT_PACKET_QUEUE_SIZE = 100;
+	// must be a power of 2
+	private static final int NUMBER_LOCK_STRIPES = 64;
+	private static final int DEFAULT_CONNECTION_ID_SLOTS = 256;
+	private static final long DATAGRAM_PATH_CHALLENGE_TIMEOUT_MILLIS = 1000L;
 
-	@GuardedBy("this")
 	private final Map<Long, Session> __sessionByIds;
-	@GuardedBy("this")
 	private final Map<SocketChannel, Session> __sessionBySockets;
-	@GuardedBy("this")
 	private final Map<Channel, Session> __sessionByWebSockets;
-	@GuardedBy("this")
 	private final Map<SocketAddress, Session> __sessionByDatagrams;
-
+	private final Object[] __lockStripes;
+
+	// the array is replaced by a bigger one when all its slots are used
+	private volatile AtomicReferenceArray<Session> __sessionByConnectionIds;
+	@GuardedBy("__connectionIdLock")
+	private int[] __freeConnectionIdSlots;
+	@GuardedBy("__connectionIdLock")
+	private int __numberFreeConnectionIdSlots;
+	private final Object __connectionIdLock;
+	private final Map<Session, DatagramPathChallenge> __datagramPathChallenges;
+
+	private Constructor<? extends PacketQueue> __packetQueueConstructor;
 	private PacketQueuePolicy __packetQueuePolicy;
 	private int __packetQueueSize;
 
-	private volatile int __sessionCount;
+	private final AtomicInteger __sessionCount;
 
 	public static SessionManager newInstance(EventManager eventManager) {
 		return new SessionManagerImpl(eventManager);
@@ -69,16 +104,36 @@ public final class SessionManagerImpl extends AbstractManager implements Session
 	private SessionManagerImpl(EventManager eventManager) {
 		super(eventManager);
 
-		__sessionByIds = new HashMap<Long, Session>();
-		__sessionBySockets = new HashMap<SocketChannel, Session>();
-		__sessionByWebSockets = new HashMap<Channel, Session>();
-		__sessionByDatagrams = new HashMap<SocketAddress, Session>();
+		__sessionByIds = new ConcurrentHashMap<Long, Session>();
+		__sessionBySockets = new ConcurrentHashMap<SocketChannel, Session>();
+		__sessionByWebSockets = new ConcurrentHashMap<Channel, Session>();
+		__sessionByDatagrams = new ConcurrentHashMap<SocketAddress, Session>();
+
+		__lockStripes = new Object[NUMBER_LOCK_STRIPES];
+		for (int i = 0; i < __lockStripes.length; i++) {
+			__lockStripes[i] = new Object();
+		}
+
+		__sessionByConnectionIds = new AtomicReferenceArray<Session>(DEFAULT_CONNECTION_ID_SLOTS);
+		__freeConnectionIdSlots = new int[DEFAULT_CONNECTION_ID_SLOTS];
+		// the lowest slots are taken first
+		for (int i = 0; i < DEFAULT_CONNECTION_ID_SLOTS; i++) {
+			__freeConnectionIdSlots[i] = DEFAULT_CONNECTION_ID_SLOTS - 1 - i;
+		}
+		__numberFreeConnectionIdSlots = DEFAULT_CONNECTION_ID_SLOTS;
+		__connectionIdLock = new Object();
+		__datagramPathChallenges = new ConcurrentHashMap<Session, DatagramPathChallenge>();
 
-		__sessionCount = 0;
+		__sessionCount = new AtomicInteger();
 		__packetQueueSize = DEFAULT_PACKET_QUEUE_SIZE;
 		__packetQueuePolicy = null;
 	}
 
+	private Object __getLock(Session session) {
+		long id = session.getId();
+		return __lockStripes[(int) (id ^ (id >>> 32)) & (NUMBER_LOCK_STRIPES - 1)];
+	}
+
 	@Override
 	public Session createSocketSession(SocketChannel socketChannel, SelectionKey selectionKey) {
 		Session session = SessionImpl.newInstance();
@@ -86,10 +141,15 @@ public final class SessionManagerImpl extends AbstractManager implements Session
 		session.setSelectionKey(selectionKey);
 		session.setSessionManager(this);
 		session.setPacketQueue(__createNewPacketQueue());
-		synchronized (this) {
+		synchronized (__getLock(session)) {
+			// the primary index goes first, so a session found by any other index is
+			// always counted
 			__sessionByIds.put(session.getId(), session);
-			__sessionBySockets.put(session.getSocketChannel(), session);
-			__sessionCount = __sessionByIds.size();
+			__sessionBySockets.put(socketChannel, session);
+			__sessionCount.incrementAndGet();
+		}
+		if (selectionKey != null) {
+			selectionKey.attach(session);
 		}
 		return session;
 	}
@@ -102,9 +162,7 @@ public final class SessionManagerImpl extends AbstractManager implements Session
 
 	@Override
 	public Session getSessionBySocket(SocketChannel socketChannel) {
-		synchronized (__sessionBySockets) {
-			return __sessionBySockets.get(socketChannel);
-		}
+		return __sessionBySockets.get(socketChannel);
 	}
 
 	@Override
@@ -113,16 +171,131 @@ public final class SessionManagerImpl extends AbstractManager implements Session
 			throw new IllegalArgumentException(
 					String.format("Unable to add datagram channel for the non-TCP session: %s", session.toString()));
 		}
-		synchronized (__sessionByDatagrams) {
+		synchronized (__getLock(session)) {
+			// the session could be already removed
+			if (!__sessionByIds.containsKey(session.getId())) {
+				return;
+			}
+			// the client can re-send its UDP handshake from another address, the old one
+			// must not point to this session anymore
+			if (session.containsUdp()) {
+				__sessionByDatagrams.remove(session.getDatagramRemoteSocketAddress(), session);
+			}
 			session.setDatagramChannel(datagramChannel, remoteAddress);
-			__sessionByDatagrams.put(session.getDatagramRemoteSocketAddress(), session);
+			__sessionByDatagrams.put(remoteAddress, session);
+			__datagramPathChallenges.remove(session);
+			// the id is kept when the session is re-attached or its address changed
+			if (session.getDatagramConnectionId() == 0L) {
+				session.setDatagramConnectionKey(DatagramPathUtility.newSecret());
+				session.setDatagramConnectionId(__issueConnectionId(session));
+			}
+		}
+	}
+
+	@Override
+	public long createDatagramPathChallenge(Session session, SocketAddress remoteAddress) {
+		synchronized (__getLock(session)) {
+			if (__sessionByIds.get(session.getId()) != session || session.getDatagramConnectionKey() == 0L) {
+				return 0L;
+			}
+			long now = TimeUtility.currentTimeMillis();
+			// only one challenge is sent at a time, so the spoofed datagrams do not turn
+			// the server into a reflector
+			var pendingChallenge = __datagramPathChallenges.get(session);
+			if (pendingChallenge != null && !pendingChallenge.isExpired(now)) {
+				return 0L;
+			}
+			long challenge = DatagramPathUtility.newSecret();
+			__datagramPathChallenges.put(session, new DatagramPathChallenge(remoteAddress, challenge, now));
+			return challenge;
+		}
+	}
+
+	@Override
+	public boolean validateDatagramPath(DatagramChannel datagramChannel, SocketAddress remoteAddress, Session session,
+			long proof) {
+		synchronized (__getLock(session)) {
+			var pendingChallenge = __datagramPathChallenges.get(session);
+			if (pendingChallenge == null || pendingChallenge.isExpired(TimeUtility.currentTimeMillis())
+					|| !pendingChallenge.remoteAddress.equals(remoteAddress)) {
+				return false;
+			}
+			// a wrong proof keeps the challenge, otherwise anyone could cancel it
+			if (proof != DatagramPathUtility.computeProof(session.getDatagramConnectionKey(),
+					pendingChallenge.challenge)) {
+				return false;
+			}
+			addDatagramForSession(datagramChannel, remoteAddress, session);
+			return true;
 		}
 	}
 
 	@Override
 	public Session getSessionByDatagram(SocketAddress remoteAddress) {
-		synchronized (__sessionByDatagrams) {
-			return __sessionByDatagrams.get(remoteAddress);
+		return __sessionByDatagrams.get(remoteAddress);
+	}
+
+	@Override
+	public Session getSessionByDatagramConnectionId(long connectionId) {
+		int slot = (int) connectionId;
+		var sessionByConnectionIds = __sessionByConnectionIds;
+		if (slot < 0 || slot >= sessionByConnectionIds.length()) {
+			return null;
+		}
+		var session = sessionByConnectionIds.get(slot);
+		if (session == null || session.getDatagramConnectionId() != connectionId) {
+			return null;
+		}
+		return session;
+	}
+
+	private long __issueConnectionId(Session session) {
+		synchronized (__connectionIdLock) {
+			if (__numberFreeConnectionIdSlots == 0) {
+				__growConnectionIdSlots();
+			}
+			int slot = __freeConnectionIdSlots[--__numberFreeConnectionIdSlots];
+			__sessionByConnectionIds.set(slot, session);
+
+			// the random part is never 0, so an issued id is never 0 either
+			long salt = ThreadLocalRandom.current().nextInt(1, Integer.MAX_VALUE);
+			return (salt << 32) | slot;
+		}
+	}
+
+	@GuardedBy("__connectionIdLock")
+	private void __growConnectionIdSlots() {
+		var oldSessions = __sessionByConnectionIds;
+		int oldLength = oldSessions.length();
+		int newLength = oldLength << 1;
+
+		var newSessions = new AtomicReferenceArray<Session>(newLength);
+		for (int i = 0; i < oldLength; i++) {
+			newSessions.set(i, oldSessions.get(i));
+		}
+
+		__freeConnectionIdSlots = new int[newLength];
+		for (int i = 0; i < newLength - oldLength; i++) {
+			__freeConnectionIdSlots[i] = newLength - 1 - i;
+		}
+		__numberFreeConnectionIdSlots = newLength - oldLength;
+
+		__sessionByConnectionIds = newSessions;
+	}
+
+	private void __releaseConnectionId(Session session) {
+		long connectionId = session.getDatagramConnectionId();
+		if (connectionId == 0L) {
+			return;
+		}
+		session.setDatagramConnectionId(0L);
+		session.setDatagramConnectionKey(0L);
+		__datagramPathChallenges.remove(session);
+
+		synchronized (__connectionIdLock) {
+			int slot = (int) connectionId;
+			__sessionByConnectionIds.set(slot, null);
+			__freeConnectionIdSlots[__numberFreeConnectionIdSlots++] = slot;
 		}
 	}
 
@@ -132,10 +305,10 @@ public final class SessionManagerImpl extends AbstractManager implements Session
 		session.setWebSocketChannel(webSocketChannel);
 		session.setSessionManager(this);
 		session.setPacketQueue(__createNewPacketQueue());
-		synchronized (this) {
+		synchronized (__getLock(session)) {
 			__sessionByIds.put(session.getId(), session);
 			__sessionByWebSockets.put(webSocketChannel, session);
-			__sessionCount = __sessionByIds.size();
+			__sessionCount.incrementAndGet();
 		}
 		return session;
 	}
@@ -148,13 +321,21 @@ public final class SessionManagerImpl extends AbstractManager implements Session
 
 	@Override
 	public Session getSessionByWebSocket(Channel webSocketChannel) {
-		synchronized (__sessionByWebSockets) {
-			return __sessionByWebSockets.get(webSocketChannel);
-		}
+		return __sessionByWebSockets.get(webSocketChannel);
 	}
 
 	private PacketQueue __createNewPacketQueue() {
-		PacketQueue packetQueue = PacketQueueImpl.newInstance();
+		PacketQueue packetQueue = null;
+		if (__packetQueueConstructor == null) {
+			packetQueue = PacketQueueImpl.newInstance();
+		} else {
+			try {
+				packetQueue = __packetQueueConstructor.newInstance();
+			} catch (ReflectiveOperationException e) {
+				throw new ServiceRuntimeException(
+						String.format("Unable to create a new packet queue: %s", e.toString()));
+			}
+		}
 		packetQueue.setMaxSize(__packetQueueSize);
 		packetQueue.setPacketQueuePolicy(__packetQueuePolicy);
 
@@ -173,27 +354,43 @@ public final class SessionManagerImpl extends AbstractManager implements Session
 		__packetQueueSize = queueSize;
 	}
 
+	@Override
+	public void setPacketQueueClass(Class<? extends PacketQueue> clazz) throws NoSuchMethodException, SecurityException {
+		__packetQueueConstructor = clazz.getDeclaredConstructor();
+	}
+
 	@Override
 	public void removeSession(Session session) {
-		synchronized (this) {
+		synchronized (__getLock(session)) {
+			// a session can be closed more than once
+			if (__sessionByIds.get(session.getId()) != session) {
+				return;
+			}
+
+			// the secondary indexes go first, in reverse order of the creation
 			switch (session.getTransportType()) {
 			case TCP:
 				if (session.containsUdp()) {
-					__sessionByDatagrams.remove(session.getDatagramRemoteSocketAddress());
+					__sessionByDatagrams.remove(session.getDatagramRemoteSocketAddress(), session);
 					session.setDatagramChannel(null, null);
 				}
-				__sessionBySockets.remove(session.getSocketChannel());
+				__releaseConnectionId(session);
+				__sessionBySockets.remove(session.getSocketChannel(), session);
+				var selectionKey = session.getSelectionKey();
+				if (selectionKey != null) {
+					selectionKey.attach(null);
+				}
 				break;
 
 			case WEB_SOCKET:
-				__sessionByWebSockets.remove(session.getWebSocketChannel());
+				__sessionByWebSockets.remove(session.getWebSocketChannel(), session);
 				break;
 
 			default:
 				break;
 			}
 			__sessionByIds.remove(session.getId());
-			__sessionCount = __sessionByIds.size();
+			__sessionCount.decrementAndGet();
 		}
 	}
 
@@ -204,7 +401,25 @@ public final class SessionManagerImpl extends AbstractManager implements Session
 
 	@Override
 	public int getSessionCount() {
-		return __sessionCount;
+		return __sessionCount.get();
+	}
+
+	private static final class DatagramPathChallenge {
+
+		private final SocketAddress remoteAddress;
+		private final long challenge;
+		private final long createdTime;
+
+		private DatagramPathChallenge(SocketAddress remoteAddress, long challenge, long createdTime) {
+			this.remoteAddress = remoteAddress;
+			this.challenge = challenge;
+			this.createdTime = createdTime;
+		}
+
+		private boolean isExpired(long now) {
+			return now - createdTime >= DATAGRAM_PATH_CHALLENGE_TIMEOUT_MILLIS;
+		}
+
 	}
 
 }
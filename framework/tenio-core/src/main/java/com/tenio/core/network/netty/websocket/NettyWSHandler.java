@@ -33,6 +33,7 @@ import com.tenio.core.entities.defines.modes.ConnectionDisconnectMode;
 import com.tenio.core.entities.defines.modes.PlayerDisconnectMode;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.exceptions.RefusedConnectionAddressException;
+import com.tenio.core.network.defines.ReadingSuspendReason;
 import com.tenio.core.network.entities.session.Session;
 import com.tenio.core.network.entities.session.SessionManager;
 import com.tenio.core.network.security.filter.ConnectionFilter;
@@ -136,6 +137,22 @@ public final class NettyWSHandler extends ChannelInboundHandlerAdapter {
 
 	}
 
+	@Override
+	public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+		// the channel's outbound buffer crossed its high (or low) water mark, stop
+		// reading the client's requests until it receives the pending responses
+		Session session = __sessionManager.getSessionByWebSocket(ctx.channel());
+		if (session != null) {
+			if (ctx.channel().isWritable()) {
+				session.resumeReading(ReadingSuspendReason.CHANNEL_WRITABILITY);
+			} else {
+				session.suspendReading(ReadingSuspendReason.CHANNEL_WRITABILITY);
+			}
+		}
+
+		ctx.fireChannelWritabilityChanged();
+	}
+
 	@Override
 	public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
 		Session session = __sessionManager.getSessionByWebSocket(ctx.channel());
@@ -0,0 +1,109 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.network.security;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Validates a new remote address of a session's datagrams before the session
+ * is moved to it. A connection id alone does not prove anything, it travels in
+ * clear in every datagram. When a datagram with a known id comes from an
+ * unknown address, the server sends a challenge to that address:
+ * 
+ * <pre>
+ * [connection id | PATH_VALIDATION_FLAG (8 bytes)][challenge (8 bytes)]
+ * </pre>
+ * 
+ * and only moves the session when the same address answers with:
+ * 
+ * <pre>
+ * [connection id | PATH_VALIDATION_FLAG (8 bytes)][proof (8 bytes)]
+ * </pre>
+ * 
+ * where the proof is computed by {@link #computeProof(long, long)} from the
+ * challenge and the secret key the client got over its TCP connection. The
+ * highest bit of an issued connection id is never set, so it marks these
+ * control datagrams.
+ */
+public final class DatagramPathUtility {
+
+	public static final long PATH_VALIDATION_FLAG = Long.MIN_VALUE;
+	public static final int PATH_VALIDATION_DATAGRAM_SIZE = Long.BYTES * 2;
+
+	private static final String PROOF_ALGORITHM = "HmacSHA256";
+	private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+	private DatagramPathUtility() {
+
+	}
+
+	public static boolean isPathValidation(long header) {
+		return (header & PATH_VALIDATION_FLAG) != 0L;
+	}
+
+	public static long getConnectionId(long header) {
+		return header & ~PATH_VALIDATION_FLAG;
+	}
+
+	/**
+	 * @return a random value which is never <b>0</b>, used for both the keys and
+	 *         the challenges
+	 */
+	public static long newSecret() {
+		long secret;
+		do {
+			secret = SECURE_RANDOM.nextLong();
+		} while (secret == 0L);
+		return secret;
+	}
+
+	/**
+	 * @param connectionKey the secret key of the session
+	 * @param challenge     the challenge sent by the server
+	 * @return the first 8 bytes of HMAC-SHA256(connectionKey, challenge)
+	 */
+	public static long computeProof(long connectionKey, long challenge) {
+		try {
+			var mac = Mac.getInstance(PROOF_ALGORITHM);
+			mac.init(new SecretKeySpec(ByteBuffer.allocate(Long.BYTES).putLong(connectionKey).array(), PROOF_ALGORITHM));
+			return ByteBuffer.wrap(mac.doFinal(ByteBuffer.allocate(Long.BYTES).putLong(challenge).array())).getLong();
+		} catch (GeneralSecurityException e) {
+			// every Java platform has to support HmacSHA256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	public static ByteBuffer newPathValidationDatagram(long connectionId, long value) {
+		var buffer = ByteBuffer.allocate(PATH_VALIDATION_DATAGRAM_SIZE);
+		buffer.putLong(connectionId | PATH_VALIDATION_FLAG).putLong(value);
+		buffer.flip();
+		return buffer;
+	}
+
+}
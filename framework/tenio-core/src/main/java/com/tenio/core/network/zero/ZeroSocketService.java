@@ -41,12 +41,20 @@ public interface ZeroSocketService extends Service {
 
 	void setAcceptorWorkerSize(int workerSize);
 
+	void setAcceptorDatagramChannelsPerPort(int numberChannels);
+
 	void setReaderBufferSize(int bufferSize);
 
+	void setReaderDatagramConnectionIdEnabled(boolean enabled);
+
 	void setReaderWorkerSize(int workerSize);
 
 	void setWriterBufferSize(int bufferSize);
 
+	void setWriterPacketQueueWatermarks(int highWatermark, int lowWatermark);
+
+	void setWriterBatchSize(int batchSize);
+
 	void setWriterWorkerSize(int workerSize);
 
 	void setConnectionFilter(ConnectionFilter connectionFilter);
@@ -166,11 +166,21 @@ public final class ZeroSocketServiceImpl extends AbstractManager implements Zero
 		__acceptorEngine.setThreadPoolSize(workerSize);
 	}
 
+	@Override
+	public void setAcceptorDatagramChannelsPerPort(int numberChannels) {
+		__acceptorEngine.setDatagramChannelsPerPort(numberChannels);
+	}
+
 	@Override
 	public void setReaderBufferSize(int bufferSize) {
 		__readerEngine.setMaxBufferSize(bufferSize);
 	}
 
+	@Override
+	public void setReaderDatagramConnectionIdEnabled(boolean enabled) {
+		__readerEngine.setDatagramConnectionIdEnabled(enabled);
+	}
+
 	@Override
 	public void setReaderWorkerSize(int workerSize) {
 		__readerEngine.setThreadPoolSize(workerSize);
@@ -181,6 +191,16 @@ public final class ZeroSocketServiceImpl extends AbstractManager implements Zero
 		__writerEngine.setMaxBufferSize(bufferSize);
 	}
 
+	@Override
+	public void setWriterPacketQueueWatermarks(int highWatermark, int lowWatermark) {
+		__writerEngine.setPacketQueueWatermarks(highWatermark, lowWatermark);
+	}
+
+	@Override
+	public void setWriterBatchSize(int batchSize) {
+		__writerEngine.setBatchSize(batchSize);
+	}
+
 	@Override
 	public void setWriterWorkerSize(int workerSize) {
 		__writerEngine.setThreadPoolSize(workerSize);
@@ -0,0 +1,121 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.network.zero.codec.compression;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import com.tenio.core.exceptions.PacketCompressorException;
+
+/**
+ * Compresses packets with the {@link Deflater}, it has a better ratio than LZ4
+ * but costs more CPU. The compressed data is prefixed by its original length
+ * (4 bytes), so the uncompressing side can allocate the exact result array.
+ * 
+ * The deflater and inflater are expensive to create (they hold native memory),
+ * so each thread keeps and resets its own ones.
+ */
+public final class DeflateBinaryPacketCompressor implements BinaryPacketCompressor {
+
+	private static final ThreadLocal<Deflater> DEFLATERS = ThreadLocal
+			.withInitial(() -> new Deflater(Deflater.BEST_SPEED, true));
+	private static final ThreadLocal<Inflater> INFLATERS = ThreadLocal.withInitial(() -> new Inflater(true));
+	private static final ThreadLocal<byte[]> OUTPUT_BUFFERS = ThreadLocal.withInitial(() -> new byte[1024]);
+
+	@Override
+	public byte[] compress(byte[] binary) {
+		// the deflated data can be slightly bigger than the input in the worst case
+		int maxLength = Integer.BYTES + binary.length + (binary.length >> 12) + (binary.length >> 14)
+				+ (binary.length >> 25) + 13;
+		byte[] output = OUTPUT_BUFFERS.get();
+		if (output.length < maxLength) {
+			output = new byte[maxLength];
+			OUTPUT_BUFFERS.set(output);
+		}
+
+		output[0] = (byte) (binary.length >>> 24);
+		output[1] = (byte) (binary.length >>> 16);
+		output[2] = (byte) (binary.length >>> 8);
+		output[3] = (byte) binary.length;
+
+		var deflater = DEFLATERS.get();
+		try {
+			deflater.setInput(binary);
+			deflater.finish();
+			int outputLength = Integer.BYTES;
+			while (!deflater.finished()) {
+				if (outputLength == output.length) {
+					output = Arrays.copyOf(output, output.length * 2);
+					OUTPUT_BUFFERS.set(output);
+				}
+				outputLength += deflater.deflate(output, outputLength, output.length - outputLength);
+			}
+
+			return Arrays.copyOf(output, outputLength);
+		} finally {
+			deflater.reset();
+		}
+	}
+
+	@Override
+	public byte[] uncompress(byte[] binary) {
+		if (binary.length < Integer.BYTES) {
+			throw new PacketCompressorException("Invalid compressed data, missing the original length");
+		}
+		int originalLength = (binary[0] & 0xFF) << 24 | (binary[1] & 0xFF) << 16 | (binary[2] & 0xFF) << 8
+				| (binary[3] & 0xFF);
+		// deflate can not reach a ratio higher than 1032:1
+		if (originalLength < 0 || originalLength > (long) binary.length * 1032) {
+			throw new PacketCompressorException(String.format("Invalid original length: %d", originalLength));
+		}
+
+		byte[] output = new byte[originalLength];
+		var inflater = INFLATERS.get();
+		try {
+			inflater.setInput(binary, Integer.BYTES, binary.length - Integer.BYTES);
+			int outputLength = 0;
+			while (outputLength < originalLength) {
+				int inflatedLength = inflater.inflate(output, outputLength, originalLength - outputLength);
+				if (inflatedLength == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+				outputLength += inflatedLength;
+			}
+
+			if (outputLength != originalLength) {
+				throw new PacketCompressorException(
+						String.format("Uncompressed %d bytes, expected %d bytes", outputLength, originalLength));
+			}
+		} catch (DataFormatException e) {
+			throw new PacketCompressorException(String.format("Malformed compressed data: %s", e.getMessage()));
+		} finally {
+			inflater.reset();
+		}
+
+		return output;
+	}
+
+}
@@ -0,0 +1,255 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.network.zero.codec.compression;
+
+import java.util.Arrays;
+
+import com.tenio.core.exceptions.PacketCompressorException;
+
+/**
+ * A pure Java implementation of the LZ4 block format, it trades some
+ * compression ratio for speed. The compressed data is prefixed by its original
+ * length (4 bytes), so the uncompressing side can allocate the exact result
+ * array.
+ * 
+ * Each thread keeps its own hash table and output buffer, so compressing does
+ * not need any synchronization or temporary allocation except the result.
+ */
+public final class Lz4BinaryPacketCompressor implements BinaryPacketCompressor {
+
+	private static final int MIN_MATCH = 4;
+	// the last 5 bytes are always literals, the last match must start 12 bytes
+	// before the end of input
+	private static final int LAST_LITERALS = 5;
+	private static final int MF_LIMIT = 12;
+	private static final int MAX_DISTANCE = 65535;
+	private static final int HASH_LOG = 12;
+	private static final int ML_BITS = 4;
+	private static final int ML_MASK = (1 << ML_BITS) - 1;
+	private static final int RUN_MASK = (1 << (8 - ML_BITS)) - 1;
+
+	private static final ThreadLocal<int[]> HASH_TABLES = ThreadLocal.withInitial(() -> new int[1 << HASH_LOG]);
+	private static final ThreadLocal<byte[]> OUTPUT_BUFFERS = ThreadLocal.withInitial(() -> new byte[1024]);
+
+	@Override
+	public byte[] compress(byte[] binary) {
+		int maxLength = Integer.BYTES + binary.length + binary.length / 255 + 16;
+		byte[] output = OUTPUT_BUFFERS.get();
+		if (output.length < maxLength) {
+			output = new byte[maxLength];
+			OUTPUT_BUFFERS.set(output);
+		}
+
+		__writeInt(output, 0, binary.length);
+		int outputLength = __compressBlock(binary, output, Integer.BYTES);
+
+		return Arrays.copyOf(output, outputLength);
+	}
+
+	@Override
+	public byte[] uncompress(byte[] binary) {
+		if (binary.length < Integer.BYTES) {
+			throw new PacketCompressorException("Invalid compressed data, missing the original length");
+		}
+		int originalLength = __readInt(binary, 0);
+		// a byte of compressed data can not produce more than 255 bytes
+		if (originalLength < 0 || originalLength > (long) binary.length * 255) {
+			throw new PacketCompressorException(String.format("Invalid original length: %d", originalLength));
+		}
+
+		byte[] output = new byte[originalLength];
+		try {
+			__uncompressBlock(binary, Integer.BYTES, output);
+		} catch (ArrayIndexOutOfBoundsException e) {
+			throw new PacketCompressorException("Malformed compressed data");
+		}
+
+		return output;
+	}
+
+	private int __compressBlock(byte[] source, byte[] destination, int destinationOffset) {
+		int sourceLength = source.length;
+		int outputIndex = destinationOffset;
+		int anchor = 0;
+
+		if (sourceLength >= MF_LIMIT + 1) {
+			int[] hashTable = HASH_TABLES.get();
+			Arrays.fill(hashTable, -1);
+
+			int matchLimit = sourceLength - LAST_LITERALS;
+			int inputLimit = sourceLength - MF_LIMIT;
+			int inputIndex = 0;
+
+			while (inputIndex < inputLimit) {
+				int sequence = __readInt(source, inputIndex);
+				int hash = __hash(sequence);
+				int reference = hashTable[hash];
+				hashTable[hash] = inputIndex;
+
+				if (reference < 0 || inputIndex - reference > MAX_DISTANCE
+						|| __readInt(source, reference) != sequence) {
+					inputIndex++;
+					continue;
+				}
+
+				// extends the match backward over the pending literals
+				while (inputIndex > anchor && reference > 0 && source[inputIndex - 1] == source[reference - 1]) {
+					inputIndex--;
+					reference--;
+				}
+
+				// then forward
+				int matchLength = MIN_MATCH;
+				while (inputIndex + matchLength < matchLimit
+						&& source[reference + matchLength] == source[inputIndex + matchLength]) {
+					matchLength++;
+				}
+
+				outputIndex = __writeSequence(source, anchor, inputIndex - anchor, destination, outputIndex,
+						inputIndex - reference, matchLength);
+
+				inputIndex += matchLength;
+				anchor = inputIndex;
+			}
+		}
+
+		// the last literals
+		return __writeLiterals(source, anchor, sourceLength - anchor, destination, outputIndex, 0);
+	}
+
+	private int __writeSequence(byte[] source, int literalOffset, int literalLength, byte[] destination,
+			int outputIndex, int matchOffset, int matchLength) {
+		int matchToken = matchLength - MIN_MATCH;
+		outputIndex = __writeLiterals(source, literalOffset, literalLength, destination, outputIndex,
+				Math.min(matchToken, ML_MASK));
+
+		destination[outputIndex++] = (byte) matchOffset;
+		destination[outputIndex++] = (byte) (matchOffset >>> 8);
+
+		if (matchToken >= ML_MASK) {
+			outputIndex = __writeLength(destination, outputIndex, matchToken - ML_MASK);
+		}
+
+		return outputIndex;
+	}
+
+	private int __writeLiterals(byte[] source, int literalOffset, int literalLength, byte[] destination,
+			int outputIndex, int matchToken) {
+		int token = Math.min(literalLength, RUN_MASK) << ML_BITS | matchToken;
+		destination[outputIndex++] = (byte) token;
+
+		if (literalLength >= RUN_MASK) {
+			outputIndex = __writeLength(destination, outputIndex, literalLength - RUN_MASK);
+		}
+
+		System.arraycopy(source, literalOffset, destination, outputIndex, literalLength);
+
+		return outputIndex + literalLength;
+	}
+
+	private int __writeLength(byte[] destination, int outputIndex, int length) {
+		while (length >= 255) {
+			destination[outputIndex++] = (byte) 255;
+			length -= 255;
+		}
+		destination[outputIndex++] = (byte) length;
+
+		return outputIndex;
+	}
+
+	private void __uncompressBlock(byte[] source, int sourceOffset, byte[] destination) {
+		int inputIndex = sourceOffset;
+		int outputIndex = 0;
+
+		while (true) {
+			int token = source[inputIndex++] & 0xFF;
+
+			// copies the literals
+			int literalLength = token >>> ML_BITS;
+			if (literalLength == RUN_MASK) {
+				int length;
+				do {
+					length = source[inputIndex++] & 0xFF;
+					literalLength += length;
+				} while (length == 255);
+			}
+			System.arraycopy(source, inputIndex, destination, outputIndex, literalLength);
+			inputIndex += literalLength;
+			outputIndex += literalLength;
+
+			// the last sequence has no match part
+			if (inputIndex >= source.length) {
+				break;
+			}
+
+			int matchOffset = (source[inputIndex++] & 0xFF) | (source[inputIndex++] & 0xFF) << 8;
+			int matchLength = token & ML_MASK;
+			if (matchLength == ML_MASK) {
+				int length;
+				do {
+					length = source[inputIndex++] & 0xFF;
+					matchLength += length;
+				} while (length == 255);
+			}
+			matchLength += MIN_MATCH;
+
+			int reference = outputIndex - matchOffset;
+			if (matchOffset == 0 || reference < 0) {
+				throw new PacketCompressorException(String.format("Invalid match offset: %d", matchOffset));
+			}
+
+			// the match can overlap the output, so it must be copied byte by byte
+			if (matchOffset >= matchLength) {
+				System.arraycopy(destination, reference, destination, outputIndex, matchLength);
+				outputIndex += matchLength;
+			} else {
+				for (int i = 0; i < matchLength; i++) {
+					destination[outputIndex++] = destination[reference++];
+				}
+			}
+		}
+
+		if (outputIndex != destination.length) {
+			throw new PacketCompressorException(String.format("Uncompressed %d bytes, expected %d bytes", outputIndex,
+					destination.length));
+		}
+	}
+
+	private int __hash(int sequence) {
+		return (sequence * -1640531535) >>> (Integer.SIZE - HASH_LOG);
+	}
+
+	private int __readInt(byte[] source, int index) {
+		return (source[index] & 0xFF) << 24 | (source[index + 1] & 0xFF) << 16 | (source[index + 2] & 0xFF) << 8
+				| (source[index + 3] & 0xFF);
+	}
+
+	private void __writeInt(byte[] destination, int index, int value) {
+		destination[index] = (byte) (value >>> 24);
+		destination[index + 1] = (byte) (value >>> 16);
+		destination[index + 2] = (byte) (value >>> 8);
+		destination[index + 3] = (byte) value;
+	}
+
+}
@@ -23,6 +23,8 @@ THE SOFTWARE.
 */
 package com.tenio.core.network.zero.codec.decoder;
 
+import java.nio.ByteBuffer;
+
 import com.tenio.core.network.entities.session.Session;
 import com.tenio.core.network.zero.codec.compression.BinaryPacketCompressor;
 import com.tenio.core.network.zero.codec.encryption.BinaryPacketEncrypter;
@@ -31,6 +33,8 @@ public interface BinaryPacketDecoder {
 
 	void decode(Session session, byte[] data) throws RuntimeException;
 
+	void decode(Session session, ByteBuffer data) throws RuntimeException;
+
 	void setResultListener(PacketDecoderResultListener resultListener);
 
 	void setCompressor(BinaryPacketCompressor compressor);
@@ -79,6 +79,14 @@ public final class DefaultBinaryPacketDecoder implements BinaryPacketDecoder {
 		session.setPacketReadState(readState);
 	}
 
+	@Override
+	public void decode(Session session, ByteBuffer data) {
+		byte[] binary = new byte[data.remaining()];
+		data.get(binary);
+
+		decode(session, binary);
+	}
+
 	@Override
 	public void setResultListener(PacketDecoderResultListener resultListener) {
 		__resultListener = resultListener;
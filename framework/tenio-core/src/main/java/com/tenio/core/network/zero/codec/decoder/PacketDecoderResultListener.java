@@ -23,12 +23,29 @@ THE SOFTWARE.
 */
 package com.tenio.core.network.zero.codec.decoder;
 
+import java.nio.ByteBuffer;
+
 import com.tenio.core.network.entities.session.Session;
 
 public interface PacketDecoderResultListener {
 
 	void resultFrame(Session session, byte[] binary);
 
+	/**
+	 * A framed packet data is ready, the buffer is a read-only view which is only
+	 * valid until this method returns, it must not be kept for later use. By
+	 * default, the data is copied and passed to
+	 * {@link #resultFrame(Session, byte[])}.
+	 * 
+	 * @param session the owner session
+	 * @param binary  the framed data between position and limit
+	 */
+	default void resultFrame(Session session, ByteBuffer binary) {
+		byte[] frame = new byte[binary.remaining()];
+		binary.get(frame);
+		resultFrame(session, frame);
+	}
+
 	void updateDroppedPackets(long numberPackets);
 
 	void updateReadPackets(long numberPackets);
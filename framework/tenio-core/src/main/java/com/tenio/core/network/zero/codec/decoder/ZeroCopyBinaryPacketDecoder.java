@@ -0,0 +1,276 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.network.zero.codec.decoder;
+
+import java.nio.ByteBuffer;
+
+import com.tenio.common.loggers.AbstractLogger;
+import com.tenio.core.network.entities.session.Session;
+import com.tenio.core.network.zero.codec.CodecUtility;
+import com.tenio.core.network.zero.codec.compression.BinaryPacketCompressor;
+import com.tenio.core.network.zero.codec.encryption.BinaryPacketEncrypter;
+import com.tenio.core.network.zero.codec.packet.PacketHeader;
+import com.tenio.core.network.zero.codec.packet.PacketHeaderType;
+import com.tenio.core.network.zero.codec.packet.PacketReadState;
+import com.tenio.core.network.zero.codec.packet.PendingPacket;
+
+/**
+ * This decoder works directly on the reader's buffer. A packet which is
+ * completely contained in the incoming buffer is handed to the result listener
+ * as a read-only slice of that buffer, without any copy. Only fragmented
+ * packets are accumulated in a per-session buffer, which is reused between
+ * packets and only grows when a bigger packet comes. Compressed or encrypted
+ * packets still need to be copied for the transformation. The header byte is
+ * checked before the data size is read, so a broken packet is dropped without
+ * waiting for its data.
+ */
+public final class ZeroCopyBinaryPacketDecoder extends AbstractLogger implements BinaryPacketDecoder {
+
+	private static final int KNOWN_HEADER_BITS = PacketHeaderType.BINARY.getValue()
+			| PacketHeaderType.BIG_SIZE.getValue() | PacketHeaderType.COMPRESSION.getValue()
+			| PacketHeaderType.ENCRYPTION.getValue();
+
+	private BinaryPacketCompressor __compressor;
+	private BinaryPacketEncrypter __encrypter;
+	private PacketDecoderResultListener __resultListener;
+
+	@Override
+	public void decode(Session session, byte[] data) {
+		decode(session, ByteBuffer.wrap(data));
+	}
+
+	@Override
+	public void decode(Session session, ByteBuffer data) {
+
+		var readState = session.getPacketReadState();
+
+		try {
+			while (data.hasRemaining()) {
+				if (readState == PacketReadState.WAIT_NEW_PACKET) {
+					readState = __handleNewPacket(session, data);
+				}
+
+				if (readState == PacketReadState.WAIT_DATA_SIZE) {
+					readState = __handleDataSize(session, data);
+				}
+
+				if (readState == PacketReadState.WAIT_DATA_SIZE_FRAGMENT) {
+					readState = __handleDataSizeFragment(session, data);
+				}
+
+				if (readState == PacketReadState.WAIT_DATA) {
+					readState = __handlePacketData(session, data);
+				}
+			}
+		} catch (Exception e) {
+			error(e, "Dropped a broken packet of the session: ", session.toString());
+			// the left bytes can not be trusted anymore
+			data.position(data.limit());
+			__resultListener.updateDroppedPackets(1);
+			readState = PacketReadState.WAIT_NEW_PACKET;
+		}
+
+		session.setPacketReadState(readState);
+	}
+
+	@Override
+	public void setResultListener(PacketDecoderResultListener resultListener) {
+		__resultListener = resultListener;
+	}
+
+	@Override
+	public void setCompressor(BinaryPacketCompressor compressor) {
+		__compressor = compressor;
+	}
+
+	@Override
+	public void setEncrypter(BinaryPacketEncrypter encrypter) {
+		__encrypter = encrypter;
+	}
+
+	private PacketReadState __handleNewPacket(Session session, ByteBuffer data) {
+		byte headerByte = data.get();
+		var packetHeader = CodecUtility.decodeFirstHeaderByte(headerByte);
+		__validateHeader(headerByte, packetHeader);
+		session.getPendingPacket().setPacketHeader(packetHeader);
+
+		return PacketReadState.WAIT_DATA_SIZE;
+	}
+
+	private PacketReadState __handleDataSize(Session session, ByteBuffer data) {
+		var pendingPacket = session.getPendingPacket();
+		boolean isBigSized = pendingPacket.getPacketHeader().isBigSized();
+		int headerBytes = isBigSized ? Integer.BYTES : Short.BYTES;
+
+		// got data size, can wait to collect packet data bytes
+		if (data.remaining() >= headerBytes) {
+			__prepareData(pendingPacket, __readDataSize(data, isBigSized));
+			return PacketReadState.WAIT_DATA;
+		}
+
+		// still need to wait to know the length of packet data, keep the current bytes
+		// in the pending buffer
+		var headerBytesBuffer = __prepareBuffer(pendingPacket, headerBytes);
+		headerBytesBuffer.put(data);
+
+		return PacketReadState.WAIT_DATA_SIZE_FRAGMENT;
+	}
+
+	private PacketReadState __handleDataSizeFragment(Session session, ByteBuffer data) {
+		var pendingPacket = session.getPendingPacket();
+		var headerBytesBuffer = pendingPacket.getBuffer();
+
+		__transfer(data, headerBytesBuffer, Math.min(headerBytesBuffer.remaining(), data.remaining()));
+
+		// still need to wait more bytes for forming headerBytes
+		if (headerBytesBuffer.hasRemaining()) {
+			return PacketReadState.WAIT_DATA_SIZE_FRAGMENT;
+		}
+
+		headerBytesBuffer.flip();
+		__prepareData(pendingPacket, __readDataSize(headerBytesBuffer, pendingPacket.getPacketHeader().isBigSized()));
+
+		return PacketReadState.WAIT_DATA;
+	}
+
+	private PacketReadState __handlePacketData(Session session, ByteBuffer data) throws Exception {
+		var pendingPacket = session.getPendingPacket();
+		var dataBuffer = pendingPacket.getBuffer();
+		int expectedLength = pendingPacket.getExpectedLength();
+		boolean isAccumulating = dataBuffer != null && dataBuffer.position() > 0;
+
+		// the whole packet data is in the incoming buffer, take a view on it
+		if (!isAccumulating && data.remaining() >= expectedLength) {
+			int limit = data.limit();
+			int end = data.position() + expectedLength;
+
+			data.limit(end);
+			var frame = data.slice();
+			data.limit(limit);
+			data.position(end);
+
+			__resultFrame(session, pendingPacket.getPacketHeader(), frame);
+
+			return PacketReadState.WAIT_NEW_PACKET;
+		}
+
+		if (!isAccumulating) {
+			dataBuffer = __prepareBuffer(pendingPacket, expectedLength);
+		}
+
+		__transfer(data, dataBuffer, Math.min(dataBuffer.remaining(), data.remaining()));
+
+		// need to wait more data to generate packet data
+		if (dataBuffer.hasRemaining()) {
+			return PacketReadState.WAIT_DATA;
+		}
+
+		dataBuffer.flip();
+		// the buffer is cleared afterwards, so the next packet won't be considered as
+		// an accumulating one
+		try {
+			__resultFrame(session, pendingPacket.getPacketHeader(), dataBuffer.slice());
+		} finally {
+			dataBuffer.clear();
+		}
+
+		return PacketReadState.WAIT_NEW_PACKET;
+	}
+
+	private void __resultFrame(Session session, PacketHeader packetHeader, ByteBuffer frame) throws Exception {
+		if (packetHeader.isCompressed() || packetHeader.isEncrypted()) {
+			byte[] binary = new byte[frame.remaining()];
+			frame.get(binary);
+
+			// check if data needs to be uncompressed
+			if (packetHeader.isCompressed()) {
+				binary = __compressor.uncompress(binary);
+			}
+
+			// check if data needs to be unencrypted
+			if (packetHeader.isEncrypted()) {
+				binary = __encrypter.decrypt(binary);
+			}
+
+			__resultListener.resultFrame(session, binary);
+		} else {
+			// result a framed packet data
+			__resultListener.resultFrame(session, frame.asReadOnlyBuffer());
+		}
+
+		// counting read packets
+		__resultListener.updateReadPackets(1);
+	}
+
+	private void __validateHeader(byte headerByte, PacketHeader packetHeader) {
+		if (!packetHeader.isBinary() || (headerByte & ~KNOWN_HEADER_BITS) != 0) {
+			throw new IllegalStateException("Invalid packet header: " + headerByte);
+		}
+
+		// the packet data could not be restored
+		if ((packetHeader.isCompressed() && __compressor == null)
+				|| (packetHeader.isEncrypted() && __encrypter == null)) {
+			throw new IllegalStateException("Unsupported packet header: " + headerByte);
+		}
+	}
+
+	private int __readDataSize(ByteBuffer buffer, boolean isBigSized) {
+		int dataSize = isBigSized ? buffer.getInt() : Short.toUnsignedInt(buffer.getShort());
+		if (dataSize < 0) {
+			throw new IllegalStateException("Invalid data size: " + dataSize);
+		}
+
+		return dataSize;
+	}
+
+	private void __prepareData(PendingPacket pendingPacket, int dataSize) {
+		pendingPacket.setExpectedLength(dataSize);
+		// the buffer is only used when the packet data is fragmented, mark it as empty
+		var buffer = pendingPacket.getBuffer();
+		if (buffer != null) {
+			buffer.clear();
+		}
+	}
+
+	private ByteBuffer __prepareBuffer(PendingPacket pendingPacket, int length) {
+		var buffer = pendingPacket.getBuffer();
+		if (buffer == null || buffer.capacity() < length) {
+			buffer = ByteBuffer.allocate(length);
+			pendingPacket.setBuffer(buffer);
+		} else {
+			buffer.clear();
+		}
+		buffer.limit(length);
+
+		return buffer;
+	}
+
+	private void __transfer(ByteBuffer source, ByteBuffer destination, int length) {
+		int limit = source.limit();
+		source.limit(source.position() + length);
+		destination.put(source);
+		source.limit(limit);
+	}
+
+}
@@ -24,6 +24,7 @@ THE SOFTWARE.
 package com.tenio.core.network.zero.codec.encoder;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 import com.tenio.core.network.entities.packet.Packet;
 import com.tenio.core.network.zero.codec.CodecUtility;
@@ -35,17 +36,49 @@ public final class DefaultBinaryPacketEncoder implements BinaryPacketEncoder {
 
 	private static final int DEFAULT_COMPRESSION_THRESHOLD_BYTES = 3000;
 	private static final int MAX_BYTES_FOR_NORMAL_SIZE = Short.MAX_VALUE * 2 + 1;
+	// the compression is only worth its CPU cost when it saves at least 10% bytes
+	private static final float MAX_WORTH_COMPRESSION_RATIO = 0.9f;
+	private static final float COMPRESSION_RATIO_WEIGHT = 0.1f;
+	private static final int MAX_THRESHOLD_MULTIPLIER = 64;
+	// one of these payloads, which are bigger than the configured threshold but
+	// under the raised one, is still compressed to sample the ratio
+	private static final int COMPRESSION_SAMPLING_INTERVAL = 64;
+	// the room reserved in front of a content for its header: the indicated byte
+	// and the biggest data size
+	private static final int MAX_HEADER_BYTES = Byte.BYTES + Integer.BYTES;
+	private static final int FRAMING_BUFFER_BYTES = 2048;
+	private static final int MAX_CACHED_BUFFER_BYTES = 1024 * 1024;
+	private static final ThreadLocal<ByteBuffer> FRAMING_BUFFERS = ThreadLocal
+			.withInitial(() -> ByteBuffer.allocate(FRAMING_BUFFER_BYTES));
 
 	private BinaryPacketCompressor __compressor;
 	private BinaryPacketEncrypter __encrypter;
 	private int __compressionThresholdBytes;
+	// the encoder is shared by all threads, these statistic values are only
+	// estimations, so a lost update does no harm
+	private volatile int __adaptiveThresholdBytes;
+	private volatile float __compressionRatio;
+	private volatile int __skippedCompressions;
 
 	public DefaultBinaryPacketEncoder() {
-		__compressionThresholdBytes = DEFAULT_COMPRESSION_THRESHOLD_BYTES;
+		setCompressionThresholdBytes(DEFAULT_COMPRESSION_THRESHOLD_BYTES);
 	}
 
 	@Override
 	public Packet encode(Packet packet) {
+		// the not yet serialized content can be framed without any intermediate copy
+		if (packet.getContent() != null && !packet.isEncrypted()) {
+			if (__encodeContent(packet)) {
+				return packet;
+			}
+			// the content was serialized to be compressed
+			return __encodeData(packet, true);
+		}
+
+		return __encodeData(packet, false);
+	}
+
+	private Packet __encodeData(Packet packet, boolean isCompressing) {
 		// retrieve the packet data first
 		byte[] binary = packet.getData();
 
@@ -62,10 +95,15 @@ public final class DefaultBinaryPacketEncoder implements BinaryPacketEncoder {
 
 		// check if the data needs to be compressed
 		boolean isCompressed = false;
-		if (binary.length > __compressionThresholdBytes) {
+		if (isCompressing || __isCompressing(binary.length)) {
 			try {
-				binary = __compressor.compress(binary);
-				isCompressed = true;
+				byte[] compressedBinary = __compressor.compress(binary);
+				__updateCompressionRatio((float) compressedBinary.length / (float) binary.length);
+				// only use the compressed data when it actually saves bytes
+				if (compressedBinary.length < binary.length) {
+					binary = compressedBinary;
+					isCompressed = true;
+				}
 			} catch (Exception e) {
 				isCompressed = false;
 			}
@@ -104,6 +142,49 @@ public final class DefaultBinaryPacketEncoder implements BinaryPacketEncoder {
 		return packet;
 	}
 
+	/**
+	 * Writes the packet content straight behind the reserved header bytes of a
+	 * reusable buffer, then puts the header right in front of it. Only the final
+	 * framed data is copied out.
+	 * 
+	 * @return <b>false</b> when the content needs to be compressed, then it is
+	 *         serialized as the packet data for the normal process
+	 */
+	private boolean __encodeContent(Packet packet) {
+		var buffer = FRAMING_BUFFERS.get();
+		buffer.clear();
+		buffer.position(MAX_HEADER_BYTES);
+
+		buffer = packet.getContent().writeTo(buffer);
+		if (buffer.capacity() <= MAX_CACHED_BUFFER_BYTES) {
+			FRAMING_BUFFERS.set(buffer);
+		}
+
+		int dataLength = buffer.position() - MAX_HEADER_BYTES;
+		if (__isCompressing(dataLength)) {
+			packet.setData(Arrays.copyOfRange(buffer.array(), MAX_HEADER_BYTES, buffer.position()));
+			return false;
+		}
+
+		int headerSize = Short.BYTES;
+		if (dataLength > MAX_BYTES_FOR_NORMAL_SIZE) {
+			headerSize = Integer.BYTES;
+		}
+
+		var packetHeader = PacketHeader.newInstance(true, false, headerSize > Short.BYTES, false);
+		int start = MAX_HEADER_BYTES - Byte.BYTES - headerSize;
+		buffer.put(start, CodecUtility.encodeFirstHeaderByte(packetHeader));
+		if (headerSize > Short.BYTES) {
+			buffer.putInt(start + Byte.BYTES, dataLength);
+		} else {
+			buffer.putShort(start + Byte.BYTES, (short) dataLength);
+		}
+
+		packet.setData(Arrays.copyOfRange(buffer.array(), start, buffer.position()));
+
+		return true;
+	}
+
 	@Override
 	public void setCompressor(BinaryPacketCompressor compressor) {
 		__compressor = compressor;
@@ -117,6 +198,44 @@ public final class DefaultBinaryPacketEncoder implements BinaryPacketEncoder {
 	@Override
 	public void setCompressionThresholdBytes(int numberBytes) {
 		__compressionThresholdBytes = numberBytes;
+		__adaptiveThresholdBytes = numberBytes;
+		// no sample yet, the first one is taken as it is
+		__compressionRatio = Float.NaN;
+		__skippedCompressions = 0;
+	}
+
+	private boolean __isCompressing(int numberBytes) {
+		if (numberBytes > __adaptiveThresholdBytes) {
+			return true;
+		}
+		if (numberBytes <= __compressionThresholdBytes) {
+			return false;
+		}
+
+		// a raised threshold only goes back with new samples, so the payloads under it
+		// must be sampled from time to time too
+		int skippedCompressions = __skippedCompressions + 1;
+		__skippedCompressions = skippedCompressions;
+		return skippedCompressions % COMPRESSION_SAMPLING_INTERVAL == 0;
+	}
+
+	/**
+	 * Raises the threshold while the payloads do not compress well, so the CPU is
+	 * not wasted on them, and moves it back to the configured value when they do.
+	 */
+	private void __updateCompressionRatio(float ratio) {
+		float previousRatio = __compressionRatio;
+		float compressionRatio = Float.isNaN(previousRatio) ? ratio
+				: previousRatio * (1.0f - COMPRESSION_RATIO_WEIGHT) + ratio * COMPRESSION_RATIO_WEIGHT;
+		__compressionRatio = compressionRatio;
+
+		int thresholdBytes = __adaptiveThresholdBytes;
+		if (compressionRatio > MAX_WORTH_COMPRESSION_RATIO) {
+			long maxThresholdBytes = (long) Math.max(__compressionThresholdBytes, 1) * MAX_THRESHOLD_MULTIPLIER;
+			__adaptiveThresholdBytes = (int) Math.min((long) Math.max(thresholdBytes, 1) * 2, maxThresholdBytes);
+		} else if (thresholdBytes > __compressionThresholdBytes) {
+			__adaptiveThresholdBytes = Math.max(thresholdBytes / 2, __compressionThresholdBytes);
+		}
 	}
 
 }
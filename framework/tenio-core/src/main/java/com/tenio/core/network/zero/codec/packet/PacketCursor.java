@@ -0,0 +1,98 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.network.zero.codec.packet;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+
+import com.tenio.core.network.entities.packet.Packet;
+
+/**
+ * Holds the packets which were taken from a session's queue but are not
+ * completely written yet, in writing order. The packets themselves can be
+ * shared by many sessions (broadcasting), so the written offset of the first
+ * packet must be kept by each session.
+ */
+public final class PacketCursor {
+
+	private final Deque<Packet> __packets;
+	private int __offset;
+
+	public static PacketCursor newInstance() {
+		return new PacketCursor();
+	}
+
+	private PacketCursor() {
+		__packets = new ArrayDeque<Packet>();
+	}
+
+	public Packet getPacket() {
+		return __packets.peekFirst();
+	}
+
+	public Collection<Packet> getPackets() {
+		return __packets;
+	}
+
+	public void addPacket(Packet packet) {
+		__packets.addLast(packet);
+	}
+
+	/**
+	 * Removes the first packet, which was completely written, the offset is reset
+	 * for the next one.
+	 */
+	public void removePacket() {
+		__packets.pollFirst();
+		__offset = 0;
+	}
+
+	public int getSize() {
+		return __packets.size();
+	}
+
+	public int getOffset() {
+		return __offset;
+	}
+
+	public void setOffset(int offset) {
+		__offset = offset;
+	}
+
+	public boolean isPending() {
+		return !__packets.isEmpty();
+	}
+
+	public void clear() {
+		__packets.clear();
+		__offset = 0;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("{ packets: %d, offset: %d }", __packets.size(), __offset);
+	}
+
+}
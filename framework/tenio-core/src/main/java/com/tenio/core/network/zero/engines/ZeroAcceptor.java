@@ -39,4 +39,15 @@ public interface ZeroAcceptor extends ZeroEngine {
 
 	void setSocketConfigs(List<SocketConfig> socketConfigs);
 
+	/**
+	 * Sets the number of datagram channels which are bound on each UDP port. More
+	 * than one channel needs the SO_REUSEPORT option (Linux), the channels are then
+	 * read by different reader threads, so it should not be greater than the number
+	 * of socket reader threads.
+	 * 
+	 * @param numberChannels the number of datagram channels per port, <b>1</b> by
+	 *                       default
+	 */
+	void setDatagramChannelsPerPort(int numberChannels);
+
 }
\ No newline at end of file
@@ -37,4 +37,17 @@ public interface ZeroReader extends ZeroEngine {
 
 	public void setNetworkReaderStatistic(NetworkReaderStatistic networkReaderStatistic);
 
+	boolean isDatagramConnectionIdEnabled();
+
+	/**
+	 * When it's enabled, every incoming datagram starts with an 8 bytes connection
+	 * id which identifies the session (<b>0</b> before the datagram channel is
+	 * attached). The session is then found without hashing the remote address and
+	 * it keeps receiving datagrams when the client's address changes.
+	 * 
+	 * @param enabled <code>true</code> if the incoming datagrams carry a
+	 *                connection id
+	 */
+	void setDatagramConnectionIdEnabled(boolean enabled);
+
 }
@@ -37,4 +37,29 @@ public interface ZeroWriter extends ZeroEngine {
 
 	void setPacketEncoder(BinaryPacketEncoder packetEncoder);
 
+	int getBatchSize();
+
+	/**
+	 * Sets the maximum number of packets which can be drained from a session's
+	 * queue and written in one gathering write. The total bytes of a batch are
+	 * limited by the writer buffer size, but a batch always contains at least one
+	 * packet.
+	 * 
+	 * @param batchSize the maximum number of packets per write, 1 means one write
+	 *                  per packet
+	 */
+	void setBatchSize(int batchSize);
+
+	/**
+	 * Sets the flow control of the sessions' packet queues. When a queue is filled
+	 * up to the high watermark, the reading from its session is suspended until
+	 * the queue is drained down to the low watermark.
+	 * 
+	 * @param highWatermark the percentage of a queue's max size which suspends the
+	 *                      reading
+	 * @param lowWatermark  the percentage of a queue's max size which resumes the
+	 *                      reading
+	 */
+	void setPacketQueueWatermarks(int highWatermark, int lowWatermark);
+
 }
@@ -27,6 +27,7 @@ import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.StandardSocketOptions;
 import java.nio.channels.DatagramChannel;
 import java.nio.channels.SelectableChannel;
 import java.nio.channels.SelectionKey;
@@ -58,6 +59,7 @@ public final class ZeroAcceptorImpl extends AbstractZeroEngine implements ZeroAc
 	private ZeroReaderListener __zeroReaderListener;
 	private String __serverAddress;
 	private List<SocketConfig> __socketConfigs;
+	private int __datagramChannelsPerPort;
 
 	public static ZeroAcceptor newInstance(EventManager eventManager) {
 		return new ZeroAcceptorImpl(eventManager);
@@ -69,6 +71,7 @@ public final class ZeroAcceptorImpl extends AbstractZeroEngine implements ZeroAc
 		__acceptableSockets = new ArrayList<SocketChannel>();
 		__boundSockets = new ArrayList<SelectableChannel>();
 		__serverAddress = CoreConstant.LOCAL_HOST;
+		__datagramChannelsPerPort = 1;
 
 		setName("acceptor");
 	}
@@ -118,24 +121,45 @@ public final class ZeroAcceptorImpl extends AbstractZeroEngine implements ZeroAc
 
 	private void __bindUdpSocket(int port) throws ServiceRuntimeException {
 		try {
-			DatagramChannel datagramChannel = DatagramChannel.open();
-			datagramChannel.socket().bind(new InetSocketAddress(__serverAddress, port));
-			datagramChannel.socket().setReuseAddress(true);
-			datagramChannel.configureBlocking(false);
-			// udp datagram is a connectionless protocol, we don't need to create
-			// bi-direction connection, that why it's not necessary to register it to
-			// acceptable selector. Just leave it to the reader selector later
-			__zeroReaderListener.acceptDatagramChannel(datagramChannel);
-			synchronized (__boundSockets) {
-				__boundSockets.add(datagramChannel);
+			int numberChannels = __datagramChannelsPerPort;
+			if (numberChannels > 1 && !__isReusePortSupported()) {
+				info("UDP SOCKET", "SO_REUSEPORT is not supported, uses only one datagram channel per port");
+				numberChannels = 1;
+			}
+
+			// with SO_REUSEPORT, the kernel spreads the incoming datagrams across the
+			// channels by hashing their source addresses, so one client always reaches the
+			// same channel and each channel is read by a different reader thread
+			for (int i = 0; i < numberChannels; i++) {
+				DatagramChannel datagramChannel = DatagramChannel.open();
+				datagramChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+				if (numberChannels > 1) {
+					datagramChannel.setOption(StandardSocketOptions.SO_REUSEPORT, true);
+				}
+				datagramChannel.bind(new InetSocketAddress(__serverAddress, port));
+				datagramChannel.configureBlocking(false);
+				// udp datagram is a connectionless protocol, we don't need to create
+				// bi-direction connection, that why it's not necessary to register it to
+				// acceptable selector. Just leave it to the reader selector later
+				__zeroReaderListener.acceptDatagramChannel(datagramChannel);
+				synchronized (__boundSockets) {
+					__boundSockets.add(datagramChannel);
+				}
 			}
 
-			info("UDP SOCKET", buildgen("Started at address: ", __serverAddress, ", port: ", port));
+			info("UDP SOCKET", buildgen("Started at address: ", __serverAddress, ", port: ", port, ", channels: ",
+					numberChannels));
 		} catch (IOException e) {
 			throw new ServiceRuntimeException(e.getMessage());
 		}
 	}
 
+	private boolean __isReusePortSupported() throws IOException {
+		try (var datagramChannel = DatagramChannel.open()) {
+			return datagramChannel.supportedOptions().contains(StandardSocketOptions.SO_REUSEPORT);
+		}
+	}
+
 	private void __acceptableLoop() throws IOException {
 		// blocks until at least one channel is ready for the events you registered for
 		__acceptableSelector.select();
@@ -317,6 +341,11 @@ public final class ZeroAcceptorImpl extends AbstractZeroEngine implements ZeroAc
 		__socketConfigs = socketConfigs;
 	}
 
+	@Override
+	public void setDatagramChannelsPerPort(int numberChannels) {
+		__datagramChannelsPerPort = Math.max(numberChannels, 1);
+	}
+
 	@Override
 	public void setZeroReaderListener(ZeroReaderListener zeroReaderListener) {
 		__zeroReaderListener = zeroReaderListener;
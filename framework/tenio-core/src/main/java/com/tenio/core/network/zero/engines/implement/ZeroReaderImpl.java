@@ -36,10 +36,12 @@ import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.exceptions.ServiceRuntimeException;
 import com.tenio.core.network.entities.session.Session;
+import com.tenio.core.network.security.DatagramPathUtility;
 import com.tenio.core.network.statistics.NetworkReaderStatistic;
 import com.tenio.core.network.zero.engines.ZeroReader;
 import com.tenio.core.network.zero.engines.listeners.ZeroAcceptorListener;
@@ -52,8 +54,14 @@ public final class ZeroReaderImpl extends AbstractZeroEngine implements ZeroRead
 
 	private ZeroAcceptorListener __zeroAcceptorListener;
 	private ZeroWriterListener __zeroWriterListener;
-	private Selector __readableSelector;
+	// each reader thread owns one selector, the channels are spread across them
+	private Selector[] __readableSelectors;
+	private final AtomicInteger __readerIndexCounter;
+	private final AtomicInteger __registeredIndexCounter;
+	private final AtomicInteger __datagramIndexCounter;
+	private final AtomicInteger __wakeupIndexCounter;
 	private NetworkReaderStatistic __networkReaderStatistic;
+	private volatile boolean __datagramConnectionIdEnabled;
 
 	public static ZeroReader newInstance(EventManager eventManager) {
 		return new ZeroReaderImpl(eventManager);
@@ -62,61 +70,73 @@ public final class ZeroReaderImpl extends AbstractZeroEngine implements ZeroRead
 	private ZeroReaderImpl(EventManager eventManager) {
 		super(eventManager);
 
+		__readerIndexCounter = new AtomicInteger();
+		__registeredIndexCounter = new AtomicInteger();
+		__datagramIndexCounter = new AtomicInteger();
+		__wakeupIndexCounter = new AtomicInteger();
+
 		setName("reader");
 	}
 
-	private void __initializeSelector() throws ServiceRuntimeException {
+	private void __initializeSelectors() throws ServiceRuntimeException {
+		__readableSelectors = new Selector[getThreadPoolSize()];
 		try {
-			__readableSelector = Selector.open();
+			for (int i = 0; i < __readableSelectors.length; i++) {
+				__readableSelectors[i] = Selector.open();
+			}
 		} catch (IOException e) {
 			throw new ServiceRuntimeException(e.getMessage());
 		}
 	}
 
-	private void __readableLoop(ByteBuffer readerBuffer) {
+	private Selector __nextSelector(AtomicInteger indexCounter) {
+		return __readableSelectors[Math.floorMod(indexCounter.getAndIncrement(), __readableSelectors.length)];
+	}
+
+	private void __readableLoop(Selector readableSelector, ByteBuffer readerBuffer) {
 		__zeroAcceptorListener.handleAcceptableChannels();
-		__readIncomingSocketData(readerBuffer);
+		__readIncomingSocketData(readableSelector, readerBuffer);
 	}
 
-	private void __readIncomingSocketData(ByteBuffer readerBuffer) {
+	private void __readIncomingSocketData(Selector readableSelector, ByteBuffer readerBuffer) {
 		SocketChannel socketChannel = null;
 		DatagramChannel datagramChannel = null;
 		SelectionKey selectionKey = null;
 
 		try {
-			// blocks until at least one channel is ready for the events you registered for
-			int countReadyKeys = __readableSelector.selectNow();
+			// blocks until at least one channel is ready for the events you registered
+			// for, or the selector is woken up by the acceptor or the writer
+			int countReadyKeys = readableSelector.select();
 
 			if (countReadyKeys == 0) {
 				return;
 			}
 
-			synchronized (__readableSelector) {
-				// readable selector was registered by OP_READ interested only socket channels,
-				// but in some cases, we can received "can writable" signal from those sockets
-				Set<SelectionKey> readyKeys = __readableSelector.selectedKeys();
-				Iterator<SelectionKey> keyIterator = readyKeys.iterator();
-
-				while (keyIterator.hasNext()) {
-					selectionKey = keyIterator.next();
-					// once a key is proceeded, it should be removed from the process to prevent
-					// duplicating manipulation
-					keyIterator.remove();
-
-					if (selectionKey.isValid()) {
-						SelectableChannel channel = selectionKey.channel();
-						// we already registered 2 types of channels for this selector and need to
-						// separate the processes
-						if (channel instanceof SocketChannel) {
-							socketChannel = (SocketChannel) channel;
-							__readTcpData(socketChannel, selectionKey, readerBuffer);
-						} else if (channel instanceof DatagramChannel) {
-							datagramChannel = (DatagramChannel) channel;
-							__readUpdData(datagramChannel, selectionKey, readerBuffer);
-						}
+			// the selector is owned by this thread only, so there is no need to lock it
+			// readable selector was registered by OP_READ interested only socket channels,
+			// but in some cases, we can received "can writable" signal from those sockets
+			Set<SelectionKey> readyKeys = readableSelector.selectedKeys();
+			Iterator<SelectionKey> keyIterator = readyKeys.iterator();
+
+			while (keyIterator.hasNext()) {
+				selectionKey = keyIterator.next();
+				// once a key is proceeded, it should be removed from the process to prevent
+				// duplicating manipulation
+				keyIterator.remove();
+
+				if (selectionKey.isValid()) {
+					SelectableChannel channel = selectionKey.channel();
+					// we already registered 2 types of channels for this selector and need to
+					// separate the processes
+					if (channel instanceof SocketChannel) {
+						socketChannel = (SocketChannel) channel;
+						__readTcpData(socketChannel, selectionKey, readerBuffer);
+					} else if (channel instanceof DatagramChannel) {
+						datagramChannel = (DatagramChannel) channel;
+						__readUpdData(datagramChannel, selectionKey, readerBuffer);
 					}
-
 				}
+
 			}
 
 		} catch (ClosedSelectorException e1) {
@@ -132,8 +152,12 @@ public final class ZeroReaderImpl extends AbstractZeroEngine implements ZeroRead
 	}
 
 	private void __readTcpData(SocketChannel socketChannel, SelectionKey selectionKey, ByteBuffer readerBuffer) {
-		// retrieves session by its socket channel
-		Session session = getSessionManager().getSessionBySocket(socketChannel);
+		// the session is attached to its selection key once it's created, but the key
+		// can be selected before that, then fall back to the session manager
+		Session session = (Session) selectionKey.attachment();
+		if (session == null) {
+			session = getSessionManager().getSessionBySocket(socketChannel);
+		}
 
 		if (session == null) {
 			debug("READ CHANNEL", "Reader handle a null session with the socket channel: ", socketChannel.toString());
@@ -143,13 +167,16 @@ public final class ZeroReaderImpl extends AbstractZeroEngine implements ZeroRead
 		// when a socket channel is writable, should make it highest priority
 		// manipulation
 		if (selectionKey.isWritable()) {
+			// now we should remove the OP_WRITE interest, it must be done before
+			// scheduling the session, the writer could ask for OP_WRITE again
+			selectionKey.interestOpsAnd(~SelectionKey.OP_WRITE);
 			// should continue put this session for sending all left packets first
 			__zeroWriterListener.continueWriteInterestOp(session);
-			// now we should set it back to interest in OP_READ
-			selectionKey.interestOps(SelectionKey.OP_READ);
 		}
 
-		if (selectionKey.isReadable()) {
+		// the key could be selected before its reading was suspended, leave the data in
+		// the socket's buffer then
+		if (selectionKey.isReadable() && !session.isReadingSuspended()) {
 			// prepares the buffer first
 			readerBuffer.clear();
 			// reads data from socket and write them to buffer
@@ -169,11 +196,9 @@ public final class ZeroReaderImpl extends AbstractZeroEngine implements ZeroRead
 				__networkReaderStatistic.updateReadBytes(byteCount);
 				// ready to read data from buffer
 				readerBuffer.flip();
-				// reads data from buffer and transfers them to the next process
-				byte[] binary = new byte[readerBuffer.limit()];
-				readerBuffer.get(binary);
-
-				getSocketIOHandler().sessionRead(session, binary);
+				// transfers the buffer itself to the next process, the decoder should consume
+				// it before the next read on this thread
+				getSocketIOHandler().sessionRead(session, readerBuffer);
 			}
 
 		}
@@ -223,15 +248,37 @@ public final class ZeroReaderImpl extends AbstractZeroEngine implements ZeroRead
 			__networkReaderStatistic.updateReadBytes(byteCount);
 			// ready to read data from buffer
 			readerBuffer.flip();
+
+			if (__datagramConnectionIdEnabled) {
+				if (readerBuffer.remaining() < Long.BYTES) {
+					debug("READ DATAGRAM", "Dropped a datagram without connection id from: ", remoteAddress);
+					return;
+				}
+				// the connection id is 0 until the datagram channel is attached
+				long header = readerBuffer.getLong();
+				long connectionId = DatagramPathUtility.getConnectionId(header);
+				if (connectionId != 0L) {
+					session = getSessionManager().getSessionByDatagramConnectionId(connectionId);
+				}
+				// the client's address can be changed (e.g. a new NAT mapping), but the id
+				// travels in clear, so nothing from a new address is read until that address
+				// proved it belongs to the session
+				if (session != null && (DatagramPathUtility.isPathValidation(header)
+						|| !remoteAddress.equals(session.getDatagramRemoteSocketAddress()))) {
+					__validateDatagramPath(datagramChannel, remoteAddress, session, header, readerBuffer);
+					return;
+				}
+			} else {
+				// retrieves session by its datagram channel, hence we are using only one
+				// datagram channel for all sessions, we use incoming request remote address to
+				// distinguish them
+				session = getSessionManager().getSessionByDatagram(remoteAddress);
+			}
+
 			// reads data from buffer and transfers them to the next process
-			byte[] binary = new byte[readerBuffer.limit()];
+			byte[] binary = new byte[readerBuffer.remaining()];
 			readerBuffer.get(binary);
 
-			// retrieves session by its datagram channel, hence we are using only one
-			// datagram channel for all sessions, we use incoming request remote address to
-			// distinguish them
-			session = getSessionManager().getSessionByDatagram(remoteAddress);
-
 			if (session == null) {
 				getDatagramIOHandler().channelRead(datagramChannel, remoteAddress, binary);
 			} else {
@@ -241,22 +288,59 @@ public final class ZeroReaderImpl extends AbstractZeroEngine implements ZeroRead
 		}
 
 		if (selectionKey.isWritable() && session != null) {
+			// now we should set it back to interest in OP_READ, it must be done before
+			// scheduling the session, the writer could ask for OP_WRITE again
+			selectionKey.interestOps(SelectionKey.OP_READ);
 			// should continue put this session for sending all left packets first
 			__zeroWriterListener.continueWriteInterestOp(session);
-			// now we should set it back to interest in OP_READ
-			selectionKey.interestOps(SelectionKey.OP_READ);
 		}
 
 	}
 
+	private void __validateDatagramPath(DatagramChannel datagramChannel, SocketAddress remoteAddress, Session session,
+			long header, ByteBuffer readerBuffer) {
+		// an answer to a challenge, the session follows the new address once the proof
+		// is valid
+		if (DatagramPathUtility.isPathValidation(header)) {
+			if (readerBuffer.remaining() >= Long.BYTES && getSessionManager()
+					.validateDatagramPath(datagramChannel, remoteAddress, session, readerBuffer.getLong())) {
+				debug("READ DATAGRAM", "Moved the session: ", session.toString(), " to the new address: ",
+						remoteAddress);
+			}
+			return;
+		}
+
+		long challenge = getSessionManager().createDatagramPathChallenge(session, remoteAddress);
+		if (challenge == 0L) {
+			return;
+		}
+		try {
+			datagramChannel.send(
+					DatagramPathUtility.newPathValidationDatagram(session.getDatagramConnectionId(), challenge),
+					remoteAddress);
+		} catch (IOException e) {
+			error(e, "Unable to send a path challenge to: ", remoteAddress);
+		}
+	}
+
 	@Override
 	public void acceptDatagramChannel(DatagramChannel datagramChannel) throws ClosedChannelException {
-		datagramChannel.register(__readableSelector, SelectionKey.OP_READ);
+		// the datagram channels have their own round-robin order, so the channels bound
+		// on the same port are owned by different reader threads
+		var readableSelector = __nextSelector(__datagramIndexCounter);
+		datagramChannel.register(readableSelector, SelectionKey.OP_READ);
+		readableSelector.wakeup();
 	}
 
 	@Override
 	public SelectionKey acceptSocketChannel(SocketChannel socketChannel) throws ClosedChannelException {
-		return socketChannel.register(__readableSelector, SelectionKey.OP_READ);
+		// spreads the accepted channels across the reader selectors in round-robin
+		// order, the owner thread picks up the new key once its selector is woken up
+		var readableSelector = __nextSelector(__registeredIndexCounter);
+		var selectionKey = socketChannel.register(readableSelector, SelectionKey.OP_READ);
+		readableSelector.wakeup();
+
+		return selectionKey;
 	}
 
 	@Override
@@ -274,10 +358,21 @@ public final class ZeroReaderImpl extends AbstractZeroEngine implements ZeroRead
 		return __networkReaderStatistic;
 	}
 
+	@Override
+	public boolean isDatagramConnectionIdEnabled() {
+		return __datagramConnectionIdEnabled;
+	}
+
+	@Override
+	public void setDatagramConnectionIdEnabled(boolean enabled) {
+		__datagramConnectionIdEnabled = enabled;
+	}
+
 	@Override
 	public void wakeup() {
+		// only one reader is needed to handle the new acceptable channels
 		if (isActivated()) {
-			__readableSelector.wakeup();
+			__nextSelector(__wakeupIndexCounter).wakeup();
 		}
 	}
 
@@ -288,7 +383,7 @@ public final class ZeroReaderImpl extends AbstractZeroEngine implements ZeroRead
 
 	@Override
 	public void onInitialized() {
-		__initializeSelector();
+		__initializeSelectors();
 	}
 
 	@Override
@@ -299,10 +394,11 @@ public final class ZeroReaderImpl extends AbstractZeroEngine implements ZeroRead
 	@Override
 	public void onRunning() {
 		ByteBuffer readerBuffer = ByteBuffer.allocate(getMaxBufferSize());
+		int readerIndex = __readerIndexCounter.getAndIncrement();
 
 		while (true) {
 			if (isActivated()) {
-				__readableLoop(readerBuffer);
+				__readableLoop(__readableSelectors[readerIndex % __readableSelectors.length], readerBuffer);
 			}
 		}
 	}
@@ -311,7 +407,9 @@ public final class ZeroReaderImpl extends AbstractZeroEngine implements ZeroRead
 	public void onShutdown() {
 		try {
 			Thread.sleep(500L);
-			__readableSelector.close();
+			for (var readableSelector : __readableSelectors) {
+				readableSelector.close();
+			}
 		} catch (IOException | InterruptedException e) {
 			error(e, "Exception while closing the selector");
 		}
@@ -319,7 +417,7 @@ public final class ZeroReaderImpl extends AbstractZeroEngine implements ZeroRead
 
 	@Override
 	public void onDestroyed() {
-		__readableSelector = null;
+		__readableSelectors = null;
 	}
 
 }
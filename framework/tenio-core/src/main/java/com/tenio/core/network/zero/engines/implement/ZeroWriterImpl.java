@@ -27,10 +27,12 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.exceptions.PacketQueueFullException;
 import com.tenio.core.exceptions.PacketQueuePolicyViolationException;
+import com.tenio.core.network.defines.ReadingSuspendReason;
 import com.tenio.core.network.entities.packet.Packet;
 import com.tenio.core.network.entities.packet.PacketQueue;
 import com.tenio.core.network.entities.session.Session;
@@ -44,9 +46,20 @@ import com.tenio.core.network.zero.engines.writers.WriterHandler;
 
 public final class ZeroWriterImpl extends AbstractZeroEngine implements ZeroWriter, ZeroWriterListener {
 
-	private BlockingQueue<Session> __sessionTicketsQueue;
+	private static final int DEFAULT_BATCH_SIZE = 1;
+	private static final int DEFAULT_HIGH_WATERMARK = 80;
+	private static final int DEFAULT_LOW_WATERMARK = 50;
+
+	// each writer thread owns one queue, a session always goes to the same queue
+	// so its packets are only written by one thread
+	private BlockingQueue<Session>[] __sessionTicketsQueues;
+	private final AtomicInteger __writerIndexCounter;
 	private NetworkWriterStatistic __networkWriterStatistic;
 	private BinaryPacketEncoder __packetEncoder;
+	private int __batchSize;
+	// in percentages of a packet queue's max size
+	private int __highWatermark;
+	private int __lowWatermark;
 
 	public static ZeroWriter newInstance(EventManager eventManager) {
 		return new ZeroWriterImpl(eventManager);
@@ -55,16 +68,27 @@ public final class ZeroWriterImpl extends AbstractZeroEngine implements ZeroWrit
 	private ZeroWriterImpl(EventManager eventManager) {
 		super(eventManager);
 
-		__sessionTicketsQueue = new LinkedBlockingQueue<Session>();
-		
+		__writerIndexCounter = new AtomicInteger();
+		__batchSize = DEFAULT_BATCH_SIZE;
+		__highWatermark = DEFAULT_HIGH_WATERMARK;
+		__lowWatermark = DEFAULT_LOW_WATERMARK;
+
 		setName("writer");
 	}
 
+	@SuppressWarnings("unchecked")
+	private void __initializeSessionTicketsQueues() {
+		__sessionTicketsQueues = new BlockingQueue[getThreadPoolSize()];
+		for (int i = 0; i < __sessionTicketsQueues.length; i++) {
+			__sessionTicketsQueues[i] = new LinkedBlockingQueue<Session>();
+		}
+	}
+
 	private WriterHandler __createSocketWriterHandler() {
 		var socketWriterHandler = SocketWriterHandler.newInstance();
 		socketWriterHandler.setNetworkWriterStatistic(__networkWriterStatistic);
-		socketWriterHandler.setSessionTicketsQueue(__sessionTicketsQueue);
-		socketWriterHandler.allocateBuffer(getMaxBufferSize());
+		socketWriterHandler.setZeroWriterListener(this);
+		socketWriterHandler.setMaxBatch(__batchSize, getMaxBufferSize());
 
 		return socketWriterHandler;
 	}
@@ -72,15 +96,18 @@ public final class ZeroWriterImpl extends AbstractZeroEngine implements ZeroWrit
 	private WriterHandler __createDatagramWriterHandler() {
 		var datagramWriterHandler = DatagramWriterHandler.newInstance();
 		datagramWriterHandler.setNetworkWriterStatistic(__networkWriterStatistic);
-		datagramWriterHandler.setSessionTicketsQueue(__sessionTicketsQueue);
+		datagramWriterHandler.setZeroWriterListener(this);
 		datagramWriterHandler.allocateBuffer(getMaxBufferSize());
 
 		return datagramWriterHandler;
 	}
 
-	private void __writableLoop(WriterHandler socketWriterHandler, WriterHandler datagramWriterHandler) {
+	private void __writableLoop(BlockingQueue<Session> sessionTicketsQueue, WriterHandler socketWriterHandler,
+			WriterHandler datagramWriterHandler) {
 		try {
-			Session session = __sessionTicketsQueue.take();
+			Session session = sessionTicketsQueue.take();
+			// from now, new packets should bring the session back to the queue
+			session.clearScheduledWrite();
 			__processSessionQueue(session, socketWriterHandler, datagramWriterHandler);
 		} catch (InterruptedException e) {
 			error(e, "Interruption occured when process a session and its packet");
@@ -95,35 +122,50 @@ public final class ZeroWriterImpl extends AbstractZeroEngine implements ZeroWrit
 			return;
 		}
 
-		// now we can iterate packets from queue to proceed
+		// now we can iterate packets from queue to proceed, only this thread takes
+		// packets from the session's queue
 		PacketQueue packetQueue = session.getPacketQueue();
-		synchronized (packetQueue) {
-			// ignore the empty queue
-			if (packetQueue.isEmpty()) {
-				return;
-			}
+		if (packetQueue == null) {
+			return;
+		}
+
+		var packetCursor = session.getPacketCursor();
+		boolean isPending = packetCursor != null && packetCursor.isPending();
 
-			// when the session is in-activated, just ignore its packets
-			if (!session.isActivated()) {
+		// ignore the empty queue
+		if (!isPending && packetQueue.isEmpty()) {
+			return;
+		}
+
+		// when the session is in-activated, just ignore its packets
+		if (!session.isActivated()) {
+			if (isPending) {
+				packetCursor.clear();
+			} else {
 				packetQueue.take();
-				return;
 			}
+			return;
+		}
 
-			Packet packet = packetQueue.peek();
-			// ignore the null packet and remove it from queue
-			if (packet == null) {
-				if (!packetQueue.isEmpty()) {
-					packetQueue.take();
-				}
+		// a partially written packet must be completed before sending any other one,
+		// otherwise the packet is taken now, so the handlers send exactly the packet
+		// which was removed from the queue
+		Packet packet = isPending ? packetCursor.getPacket() : packetQueue.take();
+		// ignore the null packet
+		if (packet == null) {
+			return;
+		}
 
-				return;
-			}
+		if (packet.isTcp()) {
+			socketWriterHandler.send(packetQueue, session, packet);
+		} else if (packet.isUdp()) {
+			datagramWriterHandler.send(packetQueue, session, packet);
+		}
 
-			if (packet.isTcp()) {
-				socketWriterHandler.send(packetQueue, session, packet);
-			} else if (packet.isUdp()) {
-				datagramWriterHandler.send(packetQueue, session, packet);
-			}
+		// the client can send its requests again once it has received enough responses
+		if (session.isReadingSuspended(ReadingSuspendReason.PACKET_QUEUE)
+				&& packetQueue.getPercentageUsed() <= __lowWatermark) {
+			session.resumeReading(ReadingSuspendReason.PACKET_QUEUE);
 		}
 	}
 
@@ -139,19 +181,15 @@ public final class ZeroWriterImpl extends AbstractZeroEngine implements ZeroWrit
 			packet = __packetEncoder.encode(packet);
 		}
 
-		// when there is only one recipient, no need to create clone packets
-		if (recipients.size() == 1) {
-			__enqueuePacket(recipients.iterator().next(), packet);
-		} else {
-			Iterator<Session> sessionIterator = recipients.iterator();
-
-			// one session needs one packet in its queue, need to clone the packet
-			while (sessionIterator.hasNext()) {
-				Session session = sessionIterator.next();
-				__enqueuePacket(session, packet.clone());
-			}
+		// the encoded packet is immutable from now, so all recipients can share it,
+		// each session keeps its own writing progress in its packet cursor
+		Iterator<Session> sessionIterator = recipients.iterator();
+		while (sessionIterator.hasNext()) {
+			Session session = sessionIterator.next();
+			__enqueuePacket(session, packet);
 		}
 
+		packet.setRecipients(null);
 	}
 
 	private void __enqueuePacket(Session session, Packet packet) {
@@ -163,36 +201,41 @@ public final class ZeroWriterImpl extends AbstractZeroEngine implements ZeroWrit
 		// loops through the packet queue and handles its packets
 		PacketQueue packetQueue = session.getPacketQueue();
 		if (packetQueue != null) {
-			synchronized (packetQueue) {
-				try {
-					// get the current state first
-					boolean isEmpty = packetQueue.isEmpty();
-					// now can put new item into the queue
-					packetQueue.put(packet);
-
-					// only need when the packet queue is empty or the session was not in the
-					// tickets queue
-					if (isEmpty || !__sessionTicketsQueue.contains(session)) {
-						__sessionTicketsQueue.add(session);
-					}
-
-					packet.setRecipients(null);
-				} catch (PacketQueuePolicyViolationException e) {
-					session.addDroppedPackets(1);
-					__networkWriterStatistic.updateWrittenDroppedPacketsByPolicy(1);
-				} catch (PacketQueueFullException e) {
-					session.addDroppedPackets(1);
-					__networkWriterStatistic.updateWrittenDroppedPacketsByFull(1);
+			try {
+				// now can put new item into the queue
+				packetQueue.put(packet);
+
+				// the client does not read its responses fast enough, stop reading its
+				// requests (and producing more responses) until the queue is drained
+				if (packetQueue.getPercentageUsed() >= __highWatermark
+						&& !session.isReadingSuspended(ReadingSuspendReason.PACKET_QUEUE)) {
+					session.suspendReading(ReadingSuspendReason.PACKET_QUEUE);
 				}
+
+				// only need when the session is not waiting in its writer's queue
+				__scheduleSession(session);
+			} catch (PacketQueuePolicyViolationException e) {
+				session.addDroppedPackets(1);
+				__networkWriterStatistic.updateWrittenDroppedPacketsByPolicy(1);
+			} catch (PacketQueueFullException e) {
+				session.addDroppedPackets(1);
+				__networkWriterStatistic.updateWrittenDroppedPacketsByFull(1);
 			}
 		}
 
 	}
 
+	private void __scheduleSession(Session session) {
+		if (session.tryScheduleWrite()) {
+			int index = (int) Math.floorMod(session.getId(), (long) __sessionTicketsQueues.length);
+			__sessionTicketsQueues[index].add(session);
+		}
+	}
+
 	@Override
 	public void continueWriteInterestOp(Session session) {
 		if (session != null) {
-			__sessionTicketsQueue.add(session);
+			__scheduleSession(session);
 		}
 	}
 
@@ -211,9 +254,25 @@ public final class ZeroWriterImpl extends AbstractZeroEngine implements ZeroWrit
 		__packetEncoder = packetEncoder;
 	}
 
+	@Override
+	public int getBatchSize() {
+		return __batchSize;
+	}
+
+	@Override
+	public void setBatchSize(int batchSize) {
+		__batchSize = batchSize;
+	}
+
+	@Override
+	public void setPacketQueueWatermarks(int highWatermark, int lowWatermark) {
+		__highWatermark = highWatermark;
+		__lowWatermark = Math.min(lowWatermark, highWatermark);
+	}
+
 	@Override
 	public void onInitialized() {
-		// do nothing
+		__initializeSessionTicketsQueues();
 	}
 
 	@Override
@@ -225,22 +284,25 @@ public final class ZeroWriterImpl extends AbstractZeroEngine implements ZeroWrit
 	public void onRunning() {
 		var socketWriterHandler = __createSocketWriterHandler();
 		var datagramWriterHandler = __createDatagramWriterHandler();
+		int writerIndex = __writerIndexCounter.getAndIncrement();
 
 		while (true) {
 			if (isActivated()) {
-				__writableLoop(socketWriterHandler, datagramWriterHandler);
+				__writableLoop(__sessionTicketsQueues[writerIndex], socketWriterHandler, datagramWriterHandler);
 			}
 		}
 	}
 
 	@Override
 	public void onShutdown() {
-		__sessionTicketsQueue.clear();
+		for (var sessionTicketsQueue : __sessionTicketsQueues) {
+			sessionTicketsQueue.clear();
+		}
 	}
 
 	@Override
 	public void onDestroyed() {
-		__sessionTicketsQueue = null;
+		__sessionTicketsQueues = null;
 	}
 
 }
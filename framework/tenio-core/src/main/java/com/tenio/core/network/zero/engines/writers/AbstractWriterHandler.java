@@ -24,26 +24,25 @@ THE SOFTWARE.
 package com.tenio.core.network.zero.engines.writers;
 
 import java.nio.ByteBuffer;
-import java.util.concurrent.BlockingQueue;
 
 import com.tenio.common.loggers.SystemLogger;
-import com.tenio.core.network.entities.session.Session;
 import com.tenio.core.network.statistics.NetworkWriterStatistic;
+import com.tenio.core.network.zero.engines.listeners.ZeroWriterListener;
 
 public abstract class AbstractWriterHandler extends SystemLogger implements WriterHandler {
 
-	private BlockingQueue<Session> __sessionTicketsQueue;
+	private ZeroWriterListener __zeroWriterListener;
 	private NetworkWriterStatistic __networkWriterStatistic;
 	private ByteBuffer __buffer;
 
 	@Override
-	public BlockingQueue<Session> getSessionTicketsQueue() {
-		return __sessionTicketsQueue;
+	public ZeroWriterListener getZeroWriterListener() {
+		return __zeroWriterListener;
 	}
 
 	@Override
-	public void setSessionTicketsQueue(BlockingQueue<Session> sessionTicketsQueue) {
-		__sessionTicketsQueue = sessionTicketsQueue;
+	public void setZeroWriterListener(ZeroWriterListener zeroWriterListener) {
+		__zeroWriterListener = zeroWriterListener;
 	}
 
 	@Override
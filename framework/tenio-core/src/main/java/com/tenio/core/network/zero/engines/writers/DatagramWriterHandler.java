@@ -43,7 +43,9 @@ public final class DatagramWriterHandler extends AbstractWriterHandler {
 
 	@Override
 	public void send(PacketQueue packetQueue, Session session, Packet packet) {
-		// retrieve the datagram channel instance from session
+		// retrieve the datagram channel instance from session, it's the channel which
+		// received the client's datagrams, so when many channels are bound on the same
+		// port, the sending is spread over them as well as the receiving
 		DatagramChannel datagramChannel = session.getDatagramChannel();
 
 		// the InetSocketAddress should be saved when the datagram channel receive first
@@ -92,13 +94,10 @@ public final class DatagramWriterHandler extends AbstractWriterHandler {
 			error(e, "Error occured in writing on session: ", session.toString());
 		}
 
-		// it is always safe to remove the packet from queue hence it should be sent
-		packetQueue.take();
-
 		// if the packet queue still contains more packets then put the session back to
-		// the tickets queue
+		// its writer's queue
 		if (!packetQueue.isEmpty()) {
-			getSessionTicketsQueue().add(session);
+			getZeroWriterListener().continueWriteInterestOp(session);
 		}
 	}
 
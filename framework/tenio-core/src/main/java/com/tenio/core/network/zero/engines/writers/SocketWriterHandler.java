@@ -24,21 +24,39 @@ THE SOFTWARE.
 package com.tenio.core.network.zero.engines.writers;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.SocketChannel;
 
 import com.tenio.core.network.entities.packet.Packet;
 import com.tenio.core.network.entities.packet.PacketQueue;
 import com.tenio.core.network.entities.session.Session;
+import com.tenio.core.network.zero.codec.packet.PacketCursor;
 
 public final class SocketWriterHandler extends AbstractWriterHandler {
 
+	private ByteBuffer[] __sendingBuffers;
+	private int __maxBatchBytes;
+
 	public static SocketWriterHandler newInstance() {
 		return new SocketWriterHandler();
 	}
 
 	private SocketWriterHandler() {
+		setMaxBatch(1, 0);
+	}
 
+	/**
+	 * Limits the number of packets and the total bytes which can be written in one
+	 * gathering write. The first packet is always taken, even if it exceeds the
+	 * bytes limit.
+	 * 
+	 * @param maxBatchPackets the maximum number of packets per write
+	 * @param maxBatchBytes   the maximum number of bytes per write
+	 */
+	public void setMaxBatch(int maxBatchPackets, int maxBatchBytes) {
+		__sendingBuffers = new ByteBuffer[Math.max(maxBatchPackets, 1)];
+		__maxBatchBytes = maxBatchBytes;
 	}
 
 	@Override
@@ -52,31 +70,30 @@ public final class SocketWriterHandler extends AbstractWriterHandler {
 			return;
 		}
 
-		// clear the buffer first
-		getBuffer().clear();
-
-		// set priority for packet left unsent data (fragment)
-		byte[] sendingData = packet.isFragmented() ? packet.getFragmentBuffer() : packet.getData();
-
-		// buffer size is not enough, need to be allocated more bytes
-		if (getBuffer().capacity() < sendingData.length) {
-			debug("SOCKET CHANNEL SEND", "Allocate new buffer from ", getBuffer().capacity(), " to ",
-					sendingData.length, " bytes");
-			allocateBuffer(sendingData.length);
+		// the packets data can be shared by other sessions, so the left unsent data
+		// (fragment) is only tracked by this session's cursor, a not pending packet was
+		// already taken from the queue
+		var packetCursor = session.getPacketCursor();
+		if (!packetCursor.isPending()) {
+			packetCursor.addPacket(packet);
 		}
 
-		// start to read data to buffer
-		getBuffer().put(sendingData);
-
-		// ready to write on socket
-		getBuffer().flip();
-
-		// expect to write all data in buffer
-		int expectedWrittingBytes = getBuffer().remaining();
+		// drain more packets from the queue to write them all at once
+		__fillPacketCursor(packetQueue, packetCursor);
+
+		// the buffers only wrap the data, which can be shared with other sessions, no
+		// need to copy it since the channel only reads from them
+		int numberBuffers = 0;
+		int offset = packetCursor.getOffset();
+		for (var sendingPacket : packetCursor.getPackets()) {
+			byte[] sendingData = sendingPacket.getData();
+			__sendingBuffers[numberBuffers++] = ByteBuffer.wrap(sendingData, offset, sendingData.length - offset);
+			offset = 0;
+		}
 
 		// but it's up to the channel, so it's possible to get left unsent bytes
 		try {
-			int realWrittenBytes = channel.write(getBuffer());
+			long realWrittenBytes = channel.write(__sendingBuffers, 0, numberBuffers);
 
 			// update statistic data
 			getNetworkWriterStatistic().updateWrittenBytes(realWrittenBytes);
@@ -84,41 +101,75 @@ public final class SocketWriterHandler extends AbstractWriterHandler {
 			// update statistic data for the session too
 			session.addWrittenBytes(realWrittenBytes);
 
-			// the left unwritten bytes should be remain to the queue for next process
-			if (realWrittenBytes < expectedWrittingBytes) {
-				// create new bytes array to hold the left unsent bytes
-				byte[] leftUnwrittenBytes = new byte[getBuffer().remaining()];
-
-				// get bytes array value from buffer
-				getBuffer().get(leftUnwrittenBytes);
+			// completely written packets can be safely removed, the left unwritten bytes
+			// should be remain in the cursor for next process
+			int writtenPackets = 0;
+			for (int i = 0; i < numberBuffers; i++) {
+				if (__sendingBuffers[i].hasRemaining()) {
+					packetCursor.setOffset(__sendingBuffers[i].position());
+					break;
+				}
+				packetCursor.removePacket();
+				writtenPackets++;
+			}
 
-				// save those bytes to the packet for next manipulation
-				packet.setFragmentBuffer(leftUnwrittenBytes);
+			// update the statistic data
+			getNetworkWriterStatistic().updateWrittenPackets(writtenPackets);
 
+			if (packetCursor.isPending()) {
 				// want to know when the socket can write, which should be noticed on
 				// isWritable() method
-				// when that event occurred, re-add the session to the tickets queue
+				// when that event occurred, re-add the session to its writer's queue
 				SelectionKey selectionKey = session.getSelectionKey();
 				if (selectionKey != null && selectionKey.isValid()) {
-					selectionKey.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+					// the OP_READ bit is left as it is, the reading can be suspended
+					selectionKey.interestOpsOr(SelectionKey.OP_WRITE);
+					// the reader thread may be blocked on its selector, wake it up to apply the
+					// new interest set
+					selectionKey.selector().wakeup();
 				} else {
 					debug("SOCKET CHANNEL SEND", "Something went wrong with OP_WRITE key for session: ", session);
 				}
-			} else {
-				// update the statistic data
-				getNetworkWriterStatistic().updateWrittenPackets(1);
-
-				// now the packet can be safely removed
-				packetQueue.take();
-
+			} else if (!packetQueue.isEmpty()) {
 				// if the packet queue still contains more packets then put the session back to
-				// the tickets queue
-				if (!packetQueue.isEmpty()) {
-					getSessionTicketsQueue().add(session);
-				}
+				// its writer's queue
+				getZeroWriterListener().continueWriteInterestOp(session);
 			}
 		} catch (IOException e) {
 			error(e, "Error occured in writing on session: ", session.toString());
+		} finally {
+			// do not keep references to the packets
+			for (int i = 0; i < numberBuffers; i++) {
+				__sendingBuffers[i] = null;
+			}
+		}
+	}
+
+	private void __fillPacketCursor(PacketQueue packetQueue, PacketCursor packetCursor) {
+		int batchBytes = 0;
+		for (var pendingPacket : packetCursor.getPackets()) {
+			batchBytes += pendingPacket.getData().length;
+		}
+		batchBytes -= packetCursor.getOffset();
+
+		while (packetCursor.getSize() < __sendingBuffers.length && !packetQueue.isEmpty()) {
+			var nextPacket = packetQueue.peek();
+			// only the packets for this channel can be gathered
+			if (nextPacket == null || !nextPacket.isTcp()) {
+				return;
+			}
+
+			batchBytes += nextPacket.getData().length;
+			if (batchBytes > __maxBatchBytes) {
+				return;
+			}
+
+			// a packet with a higher priority could come after peeking, it is left for
+			// the next write
+			if (!packetQueue.take(nextPacket)) {
+				return;
+			}
+			packetCursor.addPacket(nextPacket);
 		}
 	}
 
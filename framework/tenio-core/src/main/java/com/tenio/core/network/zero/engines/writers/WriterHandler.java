@@ -24,20 +24,28 @@ THE SOFTWARE.
 package com.tenio.core.network.zero.engines.writers;
 
 import java.nio.ByteBuffer;
-import java.util.concurrent.BlockingQueue;
 
 import com.tenio.core.network.entities.packet.Packet;
 import com.tenio.core.network.entities.packet.PacketQueue;
 import com.tenio.core.network.entities.session.Session;
 import com.tenio.core.network.statistics.NetworkWriterStatistic;
+import com.tenio.core.network.zero.engines.listeners.ZeroWriterListener;
 
 public interface WriterHandler {
 
+	/**
+	 * Sends a packet to the session. The packet was already removed from the
+	 * queue, unless it is the pending packet of the session's cursor.
+	 * 
+	 * @param packetQueue the session's packet queue
+	 * @param session     the recipient session
+	 * @param packet      the packet to send
+	 */
 	void send(PacketQueue packetQueue, Session session, Packet packet);
 
-	BlockingQueue<Session> getSessionTicketsQueue();
+	ZeroWriterListener getZeroWriterListener();
 
-	void setSessionTicketsQueue(BlockingQueue<Session> sessionTicketsQueue);
+	void setZeroWriterListener(ZeroWriterListener zeroWriterListener);
 
 	NetworkWriterStatistic getNetworkWriterStatistic();
 
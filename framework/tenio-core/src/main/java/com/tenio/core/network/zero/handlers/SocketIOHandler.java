@@ -23,6 +23,7 @@ THE SOFTWARE.
 */
 package com.tenio.core.network.zero.handlers;
 
+import java.nio.ByteBuffer;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.SocketChannel;
 
@@ -35,6 +36,8 @@ public interface SocketIOHandler extends BaseIOHandler {
 
 	void sessionRead(Session session, byte[] binary);
 
+	void sessionRead(Session session, ByteBuffer binary);
+
 	void channelInactive(SocketChannel socketChannel);
 
 	void channelException(SocketChannel socketChannel, Exception exception);
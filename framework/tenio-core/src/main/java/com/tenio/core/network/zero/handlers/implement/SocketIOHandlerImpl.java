@@ -24,9 +24,12 @@ THE SOFTWARE.
 package com.tenio.core.network.zero.handlers.implement;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.SocketChannel;
 
+import com.tenio.common.data.ZeroDataType;
+import com.tenio.common.data.ZeroElement;
 import com.tenio.common.data.utilities.ZeroDataSerializerUtility;
 import com.tenio.core.configuration.defines.ServerEvent;
 import com.tenio.core.entities.data.ServerMessage;
@@ -53,7 +56,57 @@ public final class SocketIOHandlerImpl extends AbstractIOHandler
 
 	@Override
 	public void resultFrame(Session session, byte[] binary) {
-		var data = ZeroDataSerializerUtility.binaryToElement(binary);
+		// the frame array belongs to this packet only, so it can back a lazily decoded
+		// object, the handlers usually read a few fields only
+		if (__validateFrame(ByteBuffer.wrap(binary)) == ZeroDataType.ZERO_OBJECT) {
+			__resultData(session, ZeroDataSerializerUtility.binaryToLazyObject(binary));
+		} else {
+			__resultData(session, ZeroDataSerializerUtility.binaryToElement(binary));
+		}
+	}
+
+	@Override
+	public void resultFrame(Session session, ByteBuffer binary) {
+		// the buffer is only available in this scope, only a lazily decoded object
+		// needs to keep the bytes, an array is fully decoded right here
+		if (__validateFrame(binary) == ZeroDataType.ZERO_OBJECT) {
+			byte[] frame = new byte[binary.remaining()];
+			binary.get(frame);
+			__resultData(session, ZeroDataSerializerUtility.binaryToLazyObject(frame));
+		} else {
+			__resultData(session, ZeroDataSerializerUtility.binaryToElement(binary));
+		}
+	}
+
+	/**
+	 * Walks over the whole frame without decoding its values, so a malformed frame
+	 * is rejected on the reader thread instead of failing later when a handler
+	 * reads a lazily decoded value.
+	 * 
+	 * @param frame the framed data between position and limit, the position is not
+	 *              changed
+	 * @return the type of the root element
+	 */
+	private ZeroDataType __validateFrame(ByteBuffer frame) {
+		if (!frame.hasRemaining()) {
+			throw new IllegalStateException("Empty frame");
+		}
+
+		var type = ZeroDataType.getByValue(frame.get(frame.position()));
+		if (type != ZeroDataType.ZERO_OBJECT && type != ZeroDataType.ZERO_ARRAY) {
+			throw new IllegalStateException("Invalid frame type: " + frame.get(frame.position()));
+		}
+
+		var view = frame.duplicate();
+		ZeroDataSerializerUtility.skipData(view);
+		if (view.hasRemaining()) {
+			throw new IllegalStateException("Invalid frame length, unused bytes: " + view.remaining());
+		}
+
+		return type;
+	}
+
+	private void __resultData(Session session, ZeroElement data) {
 		var message = ServerMessage.newInstance().setData(data);
 
 		if (!session.isConnected()) {
@@ -84,6 +137,11 @@ public final class SocketIOHandlerImpl extends AbstractIOHandler
 		__packetDecoder.decode(session, binary);
 	}
 
+	@Override
+	public void sessionRead(Session session, ByteBuffer binary) {
+		__packetDecoder.decode(session, binary);
+	}
+
 	@Override
 	public void channelInactive(SocketChannel socketChannel) {
 		Session session = __sessionManager.getSessionBySocket(socketChannel);
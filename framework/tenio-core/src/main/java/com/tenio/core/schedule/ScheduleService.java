@@ -31,6 +31,15 @@ import com.tenio.core.service.Service;
 
 public interface ScheduleService extends Service {
 
+	/**
+	 * Subscribes the events which put the sessions and rooms under their
+	 * timeouts, it must be called before the event manager collects its
+	 * subscribers.
+	 */
+	void subscribe();
+
+	void setMaxPlayerIdleTime(int seconds);
+
 	void setRemovedRoomScanInterval(int interval);
 
 	void setDisconnectedPlayerScanInterval(int interval);
@@ -23,8 +23,12 @@ THE SOFTWARE.
 */
 package com.tenio.core.schedule;
 
+import java.util.concurrent.TimeUnit;
+
 import com.tenio.common.task.TaskManager;
 import com.tenio.common.task.TaskManagerImpl;
+import com.tenio.common.task.wheel.HashedTimingWheel;
+import com.tenio.common.utilities.TimeUtility;
 import com.tenio.core.entities.managers.PlayerManager;
 import com.tenio.core.entities.managers.RoomManager;
 import com.tenio.core.event.implement.EventManager;
@@ -36,11 +40,17 @@ import com.tenio.core.schedule.tasks.AutoRemoveRoomTask;
 import com.tenio.core.schedule.tasks.CcuReportTask;
 import com.tenio.core.schedule.tasks.DeadlockScanTask;
 import com.tenio.core.schedule.tasks.SystemMonitoringTask;
+import com.tenio.core.schedule.tasks.TimingWheelTask;
 import com.tenio.core.schedule.tasks.TrafficCounterTask;
 
 public final class ScheduleServiceImpl extends AbstractManager implements ScheduleService {
 
+	private static final long TIMING_WHEEL_TICK_DURATION = TimeUnit.SECONDS.toMillis(1);
+	// covers the idle timeouts up to more than 8 minutes in one round
+	private static final int TIMING_WHEEL_SIZE = 512;
+
 	private TaskManager __taskManager;
+	private HashedTimingWheel __timingWheel;
 
 	private AutoDisconnectPlayerTask __autoDisconnectPlayerTask;
 	private AutoRemoveRoomTask __autoRemoveRoomTask;
@@ -48,6 +58,7 @@ public final class ScheduleServiceImpl extends AbstractManager implements Schedu
 	private DeadlockScanTask __deadlockScanTask;
 	private SystemMonitoringTask __systemMonitoringTask;
 	private TrafficCounterTask __trafficCounterTask;
+	private TimingWheelTask __timingWheelTask;
 
 	private boolean __initialized;
 
@@ -58,16 +69,26 @@ public final class ScheduleServiceImpl extends AbstractManager implements Schedu
 	private ScheduleServiceImpl(EventManager eventManager) {
 		super(eventManager);
 
-		__autoDisconnectPlayerTask = AutoDisconnectPlayerTask.newInstance(__eventManager);
-		__autoRemoveRoomTask = AutoRemoveRoomTask.newInstance(__eventManager);
+		__timingWheel = HashedTimingWheel.newInstance(TIMING_WHEEL_TICK_DURATION, TIMING_WHEEL_SIZE,
+				TimeUtility.currentTimeMillis());
+
+		__autoDisconnectPlayerTask = AutoDisconnectPlayerTask.newInstance(__eventManager, __timingWheel);
+		__autoRemoveRoomTask = AutoRemoveRoomTask.newInstance(__eventManager, __timingWheel);
 		__ccuReportTask = CcuReportTask.newInstance(__eventManager);
 		__deadlockScanTask = DeadlockScanTask.newInstance(__eventManager);
 		__systemMonitoringTask = SystemMonitoringTask.newInstance(__eventManager);
 		__trafficCounterTask = TrafficCounterTask.newInstance(__eventManager);
+		__timingWheelTask = TimingWheelTask.newInstance(__eventManager, __timingWheel);
 
 		__initialized = false;
 	}
 
+	@Override
+	public void subscribe() {
+		__autoDisconnectPlayerTask.subscribe();
+		__autoRemoveRoomTask.subscribe();
+	}
+
 	@Override
 	public void initialize() {
 		__initializeTasks();
@@ -82,9 +103,8 @@ public final class ScheduleServiceImpl extends AbstractManager implements Schedu
 	public void start() {
 		info("START SERVICE", buildgen(getName(), " (", 1, ")"));
 
-		// __taskManager.create("auto-disconnect-player",
-		// __autoDisconnectPlayerTask.run());
-		// __taskManager.create("auto-remove-room", __autoRemoveRoomTask.run());
+		// the idle sessions and empty rooms are handled on the timing wheel's ticks
+		__taskManager.create("timing-wheel", __timingWheelTask.run());
 		__taskManager.create("ccu-report", __ccuReportTask.run());
 		__taskManager.create("dead-lock", __deadlockScanTask.run());
 		__taskManager.create("system-monitoring", __systemMonitoringTask.run());
@@ -114,6 +134,7 @@ public final class ScheduleServiceImpl extends AbstractManager implements Schedu
 		__deadlockScanTask = null;
 		__systemMonitoringTask = null;
 		__trafficCounterTask = null;
+		__timingWheelTask = null;
 	}
 
 	@Override
@@ -141,6 +162,11 @@ public final class ScheduleServiceImpl extends AbstractManager implements Schedu
 		__autoDisconnectPlayerTask.setInterval(interval);
 	}
 
+	@Override
+	public void setMaxPlayerIdleTime(int seconds) {
+		__autoDisconnectPlayerTask.setMaxIdleTimeInSeconds(seconds);
+	}
+
 	@Override
 	public void setCcuReportInterval(int interval) {
 		__ccuReportTask.setInterval(interval);
@@ -23,32 +23,103 @@ THE SOFTWARE.
 */
 package com.tenio.core.schedule.tasks;
 
+import java.io.IOException;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
+import com.tenio.common.task.wheel.HashedTimingWheel;
+import com.tenio.core.configuration.defines.ServerEvent;
+import com.tenio.core.entities.defines.modes.ConnectionDisconnectMode;
+import com.tenio.core.entities.defines.modes.PlayerDisconnectMode;
 import com.tenio.core.entities.managers.PlayerManager;
 import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.network.entities.session.Session;
 
 /**
  * For a player which is in IDLE mode, that means for a long time without
- * receiving or sending any data from the server or from a client. This task
- * will scan those IDLE players in period time and force them to log out. Those
- * players got a "timeout" error.
+ * receiving or sending any data from the server or from a client. Every new
+ * session gets a timeout in the shared {@link HashedTimingWheel}, when it
+ * expires the session is re-armed with its last activity time, or closed with
+ * the {@link ConnectionDisconnectMode#IDLE} mode. So the activities only record
+ * their times and the wheel never scans all the sessions.
  */
 public final class AutoDisconnectPlayerTask extends AbstractTask {
 
-	public static AutoDisconnectPlayerTask newInstance(EventManager eventManager) {
-		return new AutoDisconnectPlayerTask(eventManager);
+	private final HashedTimingWheel __timingWheel;
+	private volatile int __maxIdleTimeInSeconds;
+
+	public static AutoDisconnectPlayerTask newInstance(EventManager eventManager, HashedTimingWheel timingWheel) {
+		return new AutoDisconnectPlayerTask(eventManager, timingWheel);
 	}
 
-	private AutoDisconnectPlayerTask(EventManager eventManager) {
+	private AutoDisconnectPlayerTask(EventManager eventManager, HashedTimingWheel timingWheel) {
 		super(eventManager);
+
+		__timingWheel = timingWheel;
+	}
+
+	/**
+	 * Watches the new sessions, it must be called before the event manager
+	 * collects its subscribers.
+	 */
+	public void subscribe() {
+		__eventManager.on(ServerEvent.SESSION_CREATED, params -> {
+			watch((Session) params[0]);
+			return null;
+		});
 	}
 
+	/**
+	 * Puts a session under the idle timeout.
+	 * 
+	 * @param session the watched {@link Session}
+	 */
+	public void watch(Session session) {
+		int maxIdleTimeInSeconds = __maxIdleTimeInSeconds;
+		if (maxIdleTimeInSeconds <= 0) {
+			return;
+		}
+
+		session.setMaxIdleTimeInSeconds(maxIdleTimeInSeconds);
+		__timingWheel.schedule(__getDeadline(session), now -> __expire(session, now));
+	}
+
+	private long __expire(Session session, long now) {
+		// the closed sessions are not watched anymore, a session is only deactivated
+		// on closing
+		if (session.getInactivatedTime() > 0L) {
+			return 0L;
+		}
+
+		long deadline = __getDeadline(session);
+		if (deadline > now) {
+			return deadline;
+		}
+
+		try {
+			session.close(ConnectionDisconnectMode.IDLE, PlayerDisconnectMode.IDLE);
+		} catch (IOException e) {
+			error(e, "Session closed with error: ", session.toString());
+		}
+		return 0L;
+	}
+
+	private long __getDeadline(Session session) {
+		return session.getLastActivityTime() + TimeUnit.SECONDS.toMillis(session.getMaxIdleTimeInSeconds());
+	}
+
+	/**
+	 * The sessions are disconnected by the {@link TimingWheelTask}.
+	 */
 	@Override
 	public ScheduledFuture<?> run() {
 		return null;
 	}
 
+	public void setMaxIdleTimeInSeconds(int seconds) {
+		__maxIdleTimeInSeconds = seconds;
+	}
+
 	public void setPlayerManager(PlayerManager playerManager) {
 		
 	}
@@ -23,33 +23,162 @@ THE SOFTWARE.
 */
 package com.tenio.core.schedule.tasks;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
+import com.tenio.common.task.wheel.ExpirationHandler;
+import com.tenio.common.task.wheel.HashedTimingWheel;
+import com.tenio.common.utilities.TimeUtility;
 import com.tenio.core.configuration.CoreConfiguration;
+import com.tenio.core.configuration.defines.ServerEvent;
+import com.tenio.core.entities.Room;
+import com.tenio.core.entities.defines.modes.RoomRemoveMode;
+import com.tenio.core.entities.defines.results.PlayerLeftRoomResult;
+import com.tenio.core.entities.defines.results.RoomCreatedResult;
 import com.tenio.core.entities.managers.RoomManager;
 import com.tenio.core.event.implement.EventManager;
 
 /**
  * To remove the empty room (a room without any players) in period time. You can
- * configure this time in your own configurations, see {@link CoreConfiguration}
+ * configure this time in your own configurations, see {@link CoreConfiguration}.
+ * A room gets a timeout in the shared {@link HashedTimingWheel} when it becomes
+ * empty, and it is removed if it is still empty when the timeout expires,
+ * according to its {@link RoomRemoveMode}.
  */
 public final class AutoRemoveRoomTask extends AbstractTask {
 
-	public static AutoRemoveRoomTask newInstance(EventManager eventManager) {
-		return new AutoRemoveRoomTask(eventManager);
+	private final HashedTimingWheel __timingWheel;
+	// one timeout per empty room, becoming empty again only postpones it
+	private final Map<Long, EmptyRoomTimeout> __emptyRoomTimeouts;
+	private RoomManager __roomManager;
+
+	public static AutoRemoveRoomTask newInstance(EventManager eventManager, HashedTimingWheel timingWheel) {
+		return new AutoRemoveRoomTask(eventManager, timingWheel);
 	}
 
-	private AutoRemoveRoomTask(EventManager eventManager) {
+	private AutoRemoveRoomTask(EventManager eventManager, HashedTimingWheel timingWheel) {
 		super(eventManager);
+
+		__timingWheel = timingWheel;
+		__emptyRoomTimeouts = new ConcurrentHashMap<Long, EmptyRoomTimeout>();
+	}
+
+	/**
+	 * Watches the new and left rooms, it must be called before the event manager
+	 * collects its subscribers.
+	 */
+	public void subscribe() {
+		__eventManager.on(ServerEvent.ROOM_CREATED_RESULT, params -> {
+			if (params[2] == RoomCreatedResult.SUCCESS) {
+				watch((Room) params[0]);
+			}
+			return null;
+		});
+
+		__eventManager.on(ServerEvent.PLAYER_AFTER_LEFT_ROOM, params -> {
+			if (params[2] == PlayerLeftRoomResult.SUCCESS) {
+				watch((Room) params[1]);
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * Puts a room under the removal timeout if it is empty and removable.
+	 * 
+	 * @param room the watched {@link Room}
+	 */
+	public void watch(Room room) {
+		if (room == null || !room.isEmpty() || !__isRemovable(room)) {
+			return;
+		}
+
+		long deadline = TimeUtility.currentTimeMillis() + TimeUnit.SECONDS.toMillis(__interval);
+		while (true) {
+			var newTimeout = new EmptyRoomTimeout(room, deadline);
+			var timeout = __emptyRoomTimeouts.putIfAbsent(room.getId(), newTimeout);
+			if (timeout == null) {
+				__timingWheel.schedule(deadline, newTimeout);
+				return;
+			}
+
+			synchronized (timeout) {
+				// a finished timeout is already out of the map, so try again
+				if (!timeout.finished) {
+					timeout.deadline = deadline;
+					return;
+				}
+			}
+		}
+	}
+
+	private boolean __isRemovable(Room room) {
+		var roomRemoveMode = room.getRoomRemoveMode();
+		return roomRemoveMode == RoomRemoveMode.WHEN_EMPTY
+				|| roomRemoveMode == RoomRemoveMode.WHEN_EMPTY_AND_CREATOR_IS_GONE;
+	}
+
+	private long __expire(EmptyRoomTimeout timeout, long now) {
+		var room = timeout.room;
+
+		if (timeout.deadline > now) {
+			return timeout.deadline;
+		}
+
+		// the room was refilled or removed, it is watched again when it becomes empty
+		if (__roomManager == null || __roomManager.getRoomById(room.getId()) != room || !room.isEmpty()) {
+			__finish(timeout);
+			return 0L;
+		}
+
+		var owner = room.getOwner();
+		if (room.getRoomRemoveMode() == RoomRemoveMode.WHEN_EMPTY_AND_CREATOR_IS_GONE && owner != null
+				&& owner.containsSession()) {
+			timeout.deadline = now + TimeUnit.SECONDS.toMillis(__interval);
+			return timeout.deadline;
+		}
+
+		__finish(timeout);
+		__eventManager.emit(ServerEvent.ROOM_WILL_BE_REMOVED, room, room.getRoomRemoveMode());
+		__roomManager.removeRoomById(room.getId());
+		return 0L;
 	}
 
+	private void __finish(EmptyRoomTimeout timeout) {
+		timeout.finished = true;
+		__emptyRoomTimeouts.remove(timeout.room.getId(), timeout);
+	}
+
+	/**
+	 * The rooms are removed by the {@link TimingWheelTask}.
+	 */
 	@Override
 	public ScheduledFuture<?> run() {
 		return null;
 	}
 
 	public void setRoomManager(RoomManager roomManager) {
-		
+		__roomManager = roomManager;
 	}
-	
+
+	private final class EmptyRoomTimeout implements ExpirationHandler {
+
+		private final Room room;
+		private long deadline;
+		private boolean finished;
+
+		private EmptyRoomTimeout(Room room, long deadline) {
+			this.room = room;
+			this.deadline = deadline;
+		}
+
+		@Override
+		public synchronized long expire(long now) {
+			return __expire(this, now);
+		}
+
+	}
+
 }
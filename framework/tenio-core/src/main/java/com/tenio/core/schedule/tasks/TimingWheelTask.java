@@ -0,0 +1,60 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.schedule.tasks;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.tenio.common.task.wheel.HashedTimingWheel;
+import com.tenio.common.utilities.TimeUtility;
+import com.tenio.core.event.implement.EventManager;
+
+/**
+ * Drives the {@link HashedTimingWheel} shared by the timeouts of idle sessions
+ * and empty rooms, it ticks once per tick duration of the wheel.
+ */
+public final class TimingWheelTask extends AbstractTask {
+
+	private final HashedTimingWheel __timingWheel;
+
+	public static TimingWheelTask newInstance(EventManager eventManager, HashedTimingWheel timingWheel) {
+		return new TimingWheelTask(eventManager, timingWheel);
+	}
+
+	private TimingWheelTask(EventManager eventManager, HashedTimingWheel timingWheel) {
+		super(eventManager);
+
+		__timingWheel = timingWheel;
+	}
+
+	@Override
+	public ScheduledFuture<?> run() {
+		long tickDuration = __timingWheel.getTickDuration();
+		return Executors.newSingleThreadScheduledExecutor().scheduleAtFixedRate(() -> {
+			__timingWheel.tick(TimeUtility.currentTimeMillis());
+		}, tickDuration, tickDuration, TimeUnit.MILLISECONDS);
+	}
+
+}
@@ -37,6 +37,9 @@ import com.tenio.core.bootstrap.BootstrapHandler;
 import com.tenio.core.configuration.constant.CoreConstant;
 import com.tenio.core.configuration.defines.CoreConfigurationType;
 import com.tenio.core.configuration.defines.ServerEvent;
+import com.tenio.core.controller.defines.RequestDispatchMode;
+import com.tenio.core.controller.defines.RequestExecutionMode;
+import com.tenio.core.controller.defines.RequestWaitStrategy;
 import com.tenio.core.entities.managers.PlayerManager;
 import com.tenio.core.entities.managers.RoomManager;
 import com.tenio.core.entities.managers.implement.PlayerManagerImpl;
@@ -47,6 +50,7 @@ import com.tenio.core.network.NetworkService;
 import com.tenio.core.network.NetworkServiceImpl;
 import com.tenio.core.network.defines.data.HttpConfig;
 import com.tenio.core.network.defines.data.SocketConfig;
+import com.tenio.core.network.entities.packet.PacketQueue;
 import com.tenio.core.network.entities.packet.policy.PacketQueuePolicy;
 import com.tenio.core.network.entities.protocols.Response;
 import com.tenio.core.network.security.filter.ConnectionFilter;
@@ -130,6 +134,7 @@ public final class ServerImpl extends SystemLogger implements Server {
 
 		// subscribing for processes and handlers
 		__internalProcessorService.subscribe();
+		__scheduleService.subscribe();
 
 		bootstrapHandler.getEventHandler().initialize(__eventManager);
 
@@ -179,6 +184,11 @@ public final class ServerImpl extends SystemLogger implements Server {
 		__scheduleService
 				.setTrafficCounterInterval(configuration.getInt(CoreConfigurationType.INTERVAL_TRAFFIC_COUNTER));
 
+		if (configuration.isDefined(CoreConfigurationType.PROP_MAX_PLAYER_IDLE_TIME)) {
+			__scheduleService
+					.setMaxPlayerIdleTime(configuration.getInt(CoreConfigurationType.PROP_MAX_PLAYER_IDLE_TIME));
+		}
+
 		__scheduleService.setPlayerManager(__playerManager);
 		__scheduleService.setRoomManager(__roomManager);
 		__scheduleService.setNetworkReaderStatistic(__networkService.getNetworkReaderStatistic());
@@ -203,14 +213,26 @@ public final class ServerImpl extends SystemLogger implements Server {
 				configuration.getInt(CoreConfigurationType.NETWORK_PROP_SOCKET_ACCEPTOR_BUFFER_SIZE));
 		__networkService.setSocketAcceptorWorkers(configuration.getInt(CoreConfigurationType.THREADS_SOCKET_ACCEPTOR));
 
+		if (configuration.isDefined(CoreConfigurationType.NETWORK_PROP_DATAGRAM_CHANNELS_PER_PORT)) {
+			__networkService.setDatagramChannelsPerPort(
+					configuration.getInt(CoreConfigurationType.NETWORK_PROP_DATAGRAM_CHANNELS_PER_PORT));
+		}
 		__networkService.setSocketConfigs((List<SocketConfig>) configuration.get(CoreConfigurationType.SOCKET_CONFIGS));
 
 		__networkService.setSocketReaderBufferSize(
 				configuration.getInt(CoreConfigurationType.NETWORK_PROP_SOCKET_READER_BUFFER_SIZE));
 		__networkService.setSocketReaderWorkers(configuration.getInt(CoreConfigurationType.THREADS_SOCKET_READER));
+		if (configuration.isDefined(CoreConfigurationType.NETWORK_PROP_DATAGRAM_CONNECTION_ID)) {
+			__networkService.setDatagramConnectionIdEnabled(
+					configuration.getBoolean(CoreConfigurationType.NETWORK_PROP_DATAGRAM_CONNECTION_ID));
+		}
 
 		__networkService.setSocketWriterBufferSize(
 				configuration.getInt(CoreConfigurationType.NETWORK_PROP_SOCKET_WRITER_BUFFER_SIZE));
+		if (configuration.isDefined(CoreConfigurationType.NETWORK_PROP_SOCKET_WRITER_BATCH_SIZE)) {
+			__networkService.setSocketWriterBatchSize(
+					configuration.getInt(CoreConfigurationType.NETWORK_PROP_SOCKET_WRITER_BATCH_SIZE));
+		}
 		__networkService.setSocketWriterWorkers(configuration.getInt(CoreConfigurationType.THREADS_SOCKET_WRITER));
 
 		__networkService
@@ -229,6 +251,19 @@ public final class ServerImpl extends SystemLogger implements Server {
 				.forName(configuration.getString(CoreConfigurationType.CLASS_PACKET_QUEUE_POLICY).strip());
 		__networkService.setPacketQueuePolicy((Class<? extends PacketQueuePolicy>) packetQueuePolicyClazz);
 		__networkService.setPacketQueueSize(configuration.getInt(CoreConfigurationType.PROP_MAX_PACKET_QUEUE_SIZE));
+		if (configuration.isDefined(CoreConfigurationType.PROP_BACKPRESSURE_HIGH_WATERMARK)
+				&& configuration.isDefined(CoreConfigurationType.PROP_BACKPRESSURE_LOW_WATERMARK)) {
+			__networkService.setPacketQueueWatermarks(
+					configuration.getInt(CoreConfigurationType.PROP_BACKPRESSURE_HIGH_WATERMARK),
+					configuration.getInt(CoreConfigurationType.PROP_BACKPRESSURE_LOW_WATERMARK));
+		}
+		// the queue implementation is optional, old configuration files fall back to
+		// the default one
+		if (configuration.isDefined(CoreConfigurationType.CLASS_PACKET_QUEUE)) {
+			var packetQueueClazz = Class
+					.forName(configuration.getString(CoreConfigurationType.CLASS_PACKET_QUEUE).strip());
+			__networkService.setPacketQueueClass((Class<? extends PacketQueue>) packetQueueClazz);
+		}
 
 		var binaryPacketCompressorClazz = Class
 				.forName(configuration.getString(CoreConfigurationType.CLASS_PACKET_COMPRESSOR).strip());
@@ -265,6 +300,24 @@ public final class ServerImpl extends SystemLogger implements Server {
 				.setMaxRequestQueueSize(configuration.getInt(CoreConfigurationType.PROP_MAX_REQUEST_QUEUE_SIZE));
 		__internalProcessorService
 				.setThreadPoolSize(configuration.getInt(CoreConfigurationType.THREADS_INTERNAL_PROCESSOR));
+		if (configuration.isDefined(CoreConfigurationType.PROP_REQUEST_EXECUTION_MODE)) {
+			__internalProcessorService.setExecutionMode(RequestExecutionMode
+					.valueOf(configuration.getString(CoreConfigurationType.PROP_REQUEST_EXECUTION_MODE).strip()));
+		}
+		if (configuration.isDefined(CoreConfigurationType.PROP_REQUEST_WAIT_STRATEGY)) {
+			__internalProcessorService.setWaitStrategy(RequestWaitStrategy
+					.valueOf(configuration.getString(CoreConfigurationType.PROP_REQUEST_WAIT_STRATEGY).strip()));
+		}
+		if (configuration.isDefined(CoreConfigurationType.PROP_REQUEST_DISPATCH_MODE)) {
+			__internalProcessorService.setDispatchMode(RequestDispatchMode
+					.valueOf(configuration.getString(CoreConfigurationType.PROP_REQUEST_DISPATCH_MODE).strip()));
+		}
+		if (configuration.isDefined(CoreConfigurationType.PROP_BACKPRESSURE_HIGH_WATERMARK)
+				&& configuration.isDefined(CoreConfigurationType.PROP_BACKPRESSURE_LOW_WATERMARK)) {
+			__internalProcessorService.setRequestQueueWatermarks(
+					configuration.getInt(CoreConfigurationType.PROP_BACKPRESSURE_HIGH_WATERMARK),
+					configuration.getInt(CoreConfigurationType.PROP_BACKPRESSURE_LOW_WATERMARK));
+		}
 	}
 
 	@Override
@@ -36,19 +36,13 @@ import com.tenio.core.entities.defines.results.AttachedConnectionResult;
 import com.tenio.core.entities.defines.results.ConnectionEstablishedResult;
 import com.tenio.core.entities.defines.results.PlayerReconnectedResult;
 import com.tenio.core.entities.managers.PlayerManager;
+import com.tenio.core.event.Subscriber;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.network.entities.protocols.Request;
-import com.tenio.core.network.entities.protocols.implement.RequestImpl;
 import com.tenio.core.network.entities.session.Session;
 
 public final class InternalProcessorServiceImpl extends AbstractController implements InternalProcessorService {
 
-	private static final String EVENT_KEY_DATAGRAM_CHANNEL = "datagram-channel";
-	private static final String EVENT_KEY_CONNECTION_DISCONNECTED_MODE = "connection-disconnected-mode";
-	private static final String EVENT_KEY_PLAYER_DISCONNECTED_MODE = "player-disconnected-mode";
-	private static final String EVENT_KEY_SERVER_MESSAGE = "server-message";
-	private static final String EVENT_KEY_DATAGRAM_REMOTE_ADDRESS = "datagram-remote-address";
-
 	private PlayerManager __playerManager;
 	private int __maxNumberPlayers;
 	private boolean __keepPlayerOnDisconnection;
@@ -70,9 +64,11 @@ public final class InternalProcessorServiceImpl extends AbstractController imple
 		});
 
 		__eventManager.on(ServerEvent.SESSION_REQUEST_CONNECTION, params -> {
-			Request request = __createRequest(ServerEvent.SESSION_REQUEST_CONNECTION, (Session) params[0]);
-			request.setAttribute(EVENT_KEY_SERVER_MESSAGE, params[1]);
-			enqueueRequest(request);
+			var session = (Session) params[0];
+			var request = __tryCreateRequest(ServerEvent.SESSION_REQUEST_CONNECTION, session);
+			if (request != null) {
+				offerRequest(request.setMessage(params[1]));
+			}
 
 			return null;
 		});
@@ -83,36 +79,71 @@ public final class InternalProcessorServiceImpl extends AbstractController imple
 		});
 
 		__eventManager.on(ServerEvent.SESSION_WILL_BE_CLOSED, params -> {
-			Request request = __createRequest(ServerEvent.SESSION_WILL_BE_CLOSED, (Session) params[0]);
-			request.setAttribute(EVENT_KEY_CONNECTION_DISCONNECTED_MODE, params[1]);
-			request.setAttribute(EVENT_KEY_PLAYER_DISCONNECTED_MODE, params[2]);
-			enqueueRequest(request);
+			var session = (Session) params[0];
+			var connectionDisconnectMode = (ConnectionDisconnectMode) params[1];
+			var playerDisconnectMode = (PlayerDisconnectMode) params[2];
+			enqueueRequest(__createRequest(ServerEvent.SESSION_WILL_BE_CLOSED, session)
+					.setConnectionDisconnectMode(connectionDisconnectMode).setPlayerDisconnectMode(playerDisconnectMode));
 
 			return null;
 		});
 
-		__eventManager.on(ServerEvent.SESSION_READ_MESSAGE, params -> {
-			Request request = __createRequest(ServerEvent.SESSION_READ_MESSAGE, (Session) params[0]);
-			request.setAttribute(EVENT_KEY_SERVER_MESSAGE, params[1]);
-			enqueueRequest(request);
+		__eventManager.on(ServerEvent.SESSION_READ_MESSAGE, new Subscriber() {
 
-			return null;
+			@Override
+			public Object dispatch(Object... params) {
+				return dispatch(params[0], params[1]);
+			}
+
+			// the frequent event, no parameters array is allocated
+			@Override
+			public Object dispatch(Object param0, Object param1) {
+				var session = (Session) param0;
+				var request = __tryCreateRequest(ServerEvent.SESSION_READ_MESSAGE, session);
+				if (request != null) {
+					offerRequest(request.setMessage(param1));
+				}
+
+				return null;
+			}
 		});
 
-		__eventManager.on(ServerEvent.DATAGRAM_CHANNEL_READ_MESSAGE, params -> {
-			Request request = __createRequest(ServerEvent.DATAGRAM_CHANNEL_READ_MESSAGE, null);
-			request.setAttribute(EVENT_KEY_DATAGRAM_CHANNEL, params[0]);
-			request.setAttribute(EVENT_KEY_DATAGRAM_REMOTE_ADDRESS, params[1]);
-			request.setAttribute(EVENT_KEY_SERVER_MESSAGE, params[2]);
-			enqueueRequest(request);
+		__eventManager.on(ServerEvent.DATAGRAM_CHANNEL_READ_MESSAGE, new Subscriber() {
 
-			return null;
+			@Override
+			public Object dispatch(Object... params) {
+				return dispatch(params[0], params[1], params[2]);
+			}
+
+			// the frequent event, no parameters array is allocated
+			@Override
+			public Object dispatch(Object param0, Object param1, Object param2) {
+				var datagramChannel = (DatagramChannel) param0;
+				var remoteAddress = (SocketAddress) param1;
+				var request = __tryCreateRequest(ServerEvent.DATAGRAM_CHANNEL_READ_MESSAGE, null);
+				if (request != null) {
+					offerRequest(request.setDatagramChannel(datagramChannel).setRemoteAddress(remoteAddress)
+							.setMessage(param2));
+				}
+
+				return null;
+			}
 		});
 	}
 
 	private Request __createRequest(ServerEvent event, Session session) {
-		Request request = RequestImpl.newInstance().setEvent(event).setSender(session);
-		return request;
+		// the ring buffer mode reuses the requests, so the new one is taken from the
+		// controller, a claimed slot must always be published, then all the parameters
+		// are cast before and only the setters, which can not fail, are called between
+		// the creating and the enqueuing
+		return createRequest().setEvent(event).setSender(session);
+	}
+
+	private Request __tryCreateRequest(ServerEvent event, Session session) {
+		// the messages come from the reader threads, a full queue must not throw there,
+		// the request is dropped and the reading from its sender is suspended instead
+		var request = tryCreateRequest(session);
+		return request == null ? null : request.setEvent(event).setSender(session);
 	}
 
 	@Override
@@ -142,7 +173,7 @@ public final class InternalProcessorServiceImpl extends AbstractController imple
 	private void __processSessionRequestsConnection(Request request) {
 		// check if it's reconnection request first
 		var session = request.getSender();
-		var message = request.getAttribute(EVENT_KEY_SERVER_MESSAGE);
+		var message = request.getMessage();
 
 		Player player = null;
 
@@ -186,9 +217,8 @@ public final class InternalProcessorServiceImpl extends AbstractController imple
 
 	private void __processSessionWillBeClosed(Request request) {
 		var session = request.getSender();
-		var connectionClosedMode = (ConnectionDisconnectMode) request
-				.getAttribute(EVENT_KEY_CONNECTION_DISCONNECTED_MODE);
-		var playerClosedMode = (PlayerDisconnectMode) request.getAttribute(EVENT_KEY_PLAYER_DISCONNECTED_MODE);
+		var connectionClosedMode = request.getConnectionDisconnectMode();
+		var playerClosedMode = request.getPlayerDisconnectMode();
 
 		var player = __playerManager.getPlayerBySession(session);
 		// the player maybe existed
@@ -220,15 +250,15 @@ public final class InternalProcessorServiceImpl extends AbstractController imple
 			return;
 		}
 
-		var message = request.getAttribute(EVENT_KEY_SERVER_MESSAGE);
+		var message = request.getMessage();
 
 		__eventManager.emit(ServerEvent.RECEIVED_MESSAGE_FROM_PLAYER, player, message);
 	}
 
 	private void __processDatagramChannelReadMessage(Request request) {
-		var datagramChannel = request.getAttribute(EVENT_KEY_DATAGRAM_CHANNEL);
-		var remoteAddress = request.getAttribute(EVENT_KEY_DATAGRAM_REMOTE_ADDRESS);
-		var message = request.getAttribute(EVENT_KEY_SERVER_MESSAGE);
+		var datagramChannel = request.getDatagramChannel();
+		var remoteAddress = request.getRemoteAddress();
+		var message = request.getMessage();
 
 		// the condition for creating sub-connection
 		var player = (Player) __eventManager.emit(ServerEvent.ATTACH_CONNECTION_REQUEST_VALIDATION, message);
@@ -245,8 +275,9 @@ public final class InternalProcessorServiceImpl extends AbstractController imple
 		} else {
 			var session = player.getSession();
 			var sessionManager = session.getSessionManager();
-			sessionManager.addDatagramForSession((DatagramChannel) datagramChannel, (SocketAddress) remoteAddress,
-					session);
+			// issues the datagram connection id of the session as well, the client can
+			// get it on the attached connection result by Session#getDatagramConnectionId()
+			sessionManager.addDatagramForSession(datagramChannel, remoteAddress, session);
 			__eventManager.emit(ServerEvent.ATTACHED_CONNECTION_RESULT, player, AttachedConnectionResult.SUCCESS);
 		}
 	}
@@ -28,6 +28,8 @@ import java.util.List;
 import com.tenio.common.configuration.Configuration;
 import com.tenio.core.configuration.defines.CoreConfigurationType;
 import com.tenio.core.configuration.defines.ServerEvent;
+import com.tenio.core.controller.defines.RequestDispatchMode;
+import com.tenio.core.controller.defines.RequestExecutionMode;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.exceptions.ConfigurationException;
 import com.tenio.core.exceptions.NotDefinedSubscribersException;
@@ -60,6 +62,7 @@ public final class ConfigurationAssessment {
 		__checkSubscriberConnectionAttach();
 		__checkDefinedMainSocketConnection();
 		__checkSubscriberHttpHandler();
+		__checkRequestDispatchMode();
 	}
 
 	private void __checkSubscriberReconnection() throws NotDefinedSubscribersException {
@@ -95,6 +98,24 @@ public final class ConfigurationAssessment {
 		}
 	}
 
+	private void __checkRequestDispatchMode() throws ConfigurationException {
+		if (!__configuration.isDefined(CoreConfigurationType.PROP_REQUEST_EXECUTION_MODE)
+				|| !__configuration.isDefined(CoreConfigurationType.PROP_REQUEST_DISPATCH_MODE)) {
+			return;
+		}
+
+		var executionMode = RequestExecutionMode
+				.valueOf(__configuration.getString(CoreConfigurationType.PROP_REQUEST_EXECUTION_MODE).strip());
+		var dispatchMode = RequestDispatchMode
+				.valueOf(__configuration.getString(CoreConfigurationType.PROP_REQUEST_DISPATCH_MODE).strip());
+		// the requests of a session would be processed concurrently
+		if (executionMode == RequestExecutionMode.SESSION_ORDERED
+				&& dispatchMode == RequestDispatchMode.VIRTUAL_THREAD) {
+			throw new ConfigurationException(
+					"SESSION_ORDERED execution mode can not be used with VIRTUAL_THREAD dispatch mode");
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private boolean __containsTcpSocketConfig() {
 		var socketConfigs = (List<SocketConfig>) __configuration.get(CoreConfigurationType.SOCKET_CONFIGS);
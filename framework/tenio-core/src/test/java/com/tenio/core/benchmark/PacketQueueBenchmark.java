@@ -0,0 +1,135 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.tenio.core.exceptions.PacketQueueFullException;
+import com.tenio.core.exceptions.PacketQueuePolicyViolationException;
+import com.tenio.core.network.defines.ResponsePriority;
+import com.tenio.core.network.entities.packet.Packet;
+import com.tenio.core.network.entities.packet.PacketQueue;
+import com.tenio.core.network.entities.packet.implement.PacketImpl;
+import com.tenio.core.network.entities.packet.implement.PacketQueueImpl;
+import com.tenio.core.network.entities.packet.implement.PriorityRingPacketQueue;
+import com.tenio.core.network.entities.packet.policy.DefaultPacketQueuePolicy;
+
+/**
+ * Compares the packet queue implementations. Run it with:
+ * 
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.tenio.core.benchmark.PacketQueueBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class PacketQueueBenchmark {
+
+	private static final int QUEUE_SIZE = 1024;
+	private static final ResponsePriority[] PRIORITIES = ResponsePriority.values();
+
+	@Param({ "tree", "ring" })
+	public String queueType;
+
+	private PacketQueue __packetQueue;
+	private Packet[] __packets;
+
+	@Setup(Level.Iteration)
+	public void setup() {
+		__packetQueue = queueType.equals("ring") ? new PriorityRingPacketQueue() : PacketQueueImpl.newInstance();
+		__packetQueue.setMaxSize(QUEUE_SIZE);
+		__packetQueue.setPacketQueuePolicy(new DefaultPacketQueuePolicy());
+
+		__packets = new Packet[PRIORITIES.length];
+		for (int i = 0; i < PRIORITIES.length; i++) {
+			__packets[i] = PacketImpl.newInstance();
+			__packets[i].setPriority(PRIORITIES[i]);
+		}
+	}
+
+	@Benchmark
+	@Group("uncontended")
+	@GroupThreads(1)
+	public Packet putThenTake() {
+		for (var packet : __packets) {
+			__packetQueue.put(packet);
+		}
+		Packet packet = null;
+		for (int i = 0; i < __packets.length; i++) {
+			packet = __packetQueue.take();
+		}
+		return packet;
+	}
+
+	@Benchmark
+	@Group("contended")
+	@GroupThreads(3)
+	public boolean produce() {
+		var packet = PacketImpl.newInstance();
+		packet.setPriority(PRIORITIES[(int) (packet.getId() % PRIORITIES.length)]);
+		try {
+			__packetQueue.put(packet);
+			return true;
+		} catch (PacketQueueFullException | PacketQueuePolicyViolationException e) {
+			return false;
+		}
+	}
+
+	@Benchmark
+	@Group("contended")
+	@GroupThreads(1)
+	public Packet consume() {
+		if (__packetQueue.isEmpty()) {
+			return null;
+		}
+		return __packetQueue.take();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(PacketQueueBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
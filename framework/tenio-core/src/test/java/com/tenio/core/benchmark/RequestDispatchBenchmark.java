@@ -0,0 +1,163 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.benchmark;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.tenio.core.controller.AbstractController;
+import com.tenio.core.controller.defines.RequestDispatchMode;
+import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.network.entities.protocols.Request;
+import com.tenio.core.network.entities.protocols.implement.RequestImpl;
+
+/**
+ * Compares the request dispatch modes when the handlers block, every operation
+ * is a batch of requests. The virtual threads need JDK 21+, on older JDKs the
+ * VIRTUAL_THREAD figures measure the fallback fixed thread pool instead. Run it
+ * with:
+ * 
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.tenio.core.benchmark.RequestDispatchBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestDispatchBenchmark {
+
+	private static final int NUMBER_WORKERS = 8;
+	private static final int BATCH_SIZE = 256;
+
+	@Param({ "PLATFORM_THREAD", "VIRTUAL_THREAD" })
+	public RequestDispatchMode dispatchMode;
+
+	@Param({ "5", "50" })
+	public long blockMillis;
+
+	private BlockingController __controller;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		__controller = new BlockingController(blockMillis);
+		__controller.setDispatchMode(dispatchMode);
+		__controller.setThreadPoolSize(NUMBER_WORKERS);
+		__controller.setMaxRequestQueueSize(BATCH_SIZE * 4);
+		__controller.initialize();
+		__controller.start();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		__controller.shutdown();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public void processBatch() throws InterruptedException {
+		var latch = new CountDownLatch(BATCH_SIZE);
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			__controller.enqueueRequest(RequestImpl.newInstance().setMessage(latch));
+		}
+		latch.await();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(RequestDispatchBenchmark.class.getSimpleName()).build()).run();
+	}
+
+	private static final class BlockingController extends AbstractController {
+
+		private final long __blockMillis;
+
+		BlockingController(long blockMillis) {
+			super(EventManager.newInstance());
+			__blockMillis = blockMillis;
+		}
+
+		@Override
+		public void processRequest(Request request) {
+			// simulates a handler waiting for a database
+			try {
+				Thread.sleep(__blockMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			((CountDownLatch) request.getMessage()).countDown();
+		}
+
+		@Override
+		public void subscribe() {
+			// do nothing
+		}
+
+		@Override
+		public void onInitialized() {
+			// do nothing
+		}
+
+		@Override
+		public void onStarted() {
+			// do nothing
+		}
+
+		@Override
+		public void onRunning() {
+			// do nothing
+		}
+
+		@Override
+		public void onShutdown() {
+			// do nothing
+		}
+
+		@Override
+		public void onDestroyed() {
+			// do nothing
+		}
+
+	}
+
+}
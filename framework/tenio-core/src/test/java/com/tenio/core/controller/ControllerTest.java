@@ -23,6 +23,372 @@ THE SOFTWARE.
 */
 package com.tenio.core.controller;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.tenio.common.data.ZeroObject;
+import com.tenio.common.data.implement.ZeroObjectImpl;
+import com.tenio.core.configuration.defines.ServerEvent;
+import com.tenio.core.controller.defines.RequestDispatchMode;
+import com.tenio.core.controller.defines.RequestExecutionMode;
+import com.tenio.core.controller.defines.RequestWaitStrategy;
+import com.tenio.core.controller.ring.RequestRingBuffer;
+import com.tenio.core.controller.ring.implement.BlockingWaitStrategy;
+import com.tenio.core.entities.data.ServerMessage;
+import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.exceptions.ConfigurationException;
+import com.tenio.core.network.defines.ReadingSuspendReason;
+import com.tenio.core.network.entities.packet.implement.PacketImpl;
+import com.tenio.core.network.entities.protocols.Request;
+import com.tenio.core.network.entities.protocols.implement.RequestImpl;
+import com.tenio.core.network.entities.session.Session;
+import com.tenio.core.network.entities.session.implement.SessionImpl;
+import com.tenio.core.network.statistics.NetworkReaderStatistic;
+import com.tenio.core.network.zero.codec.decoder.ZeroCopyBinaryPacketDecoder;
+import com.tenio.core.network.zero.codec.encoder.DefaultBinaryPacketEncoder;
+import com.tenio.core.network.zero.handlers.implement.SocketIOHandlerImpl;
+
 public final class ControllerTest {
 
+	private static final int NUMBER_SESSIONS = 8;
+	private static final int NUMBER_REQUESTS_PER_SESSION = 500;
+	private static final int NUMBER_BLOCKING_REQUESTS = 200;
+
+	@Test
+	public void sessionOrderedModeShouldKeepRequestsOrderPerSession() throws InterruptedException {
+		var controller = new OrderRecordingController();
+		controller.setExecutionMode(RequestExecutionMode.SESSION_ORDERED);
+		controller.setThreadPoolSize(3);
+		__assertRequestsOrderPerSession(controller);
+	}
+
+	@Test
+	public void requestQueueWatermarksShouldSuspendAndResumeTheSender() throws InterruptedException {
+		var controller = new OrderRecordingController();
+		controller.setThreadPoolSize(1);
+		controller.setBlockMillis(20L);
+		controller.setMaxRequestQueueSize(10);
+		controller.setRequestQueueWatermarks(80, 50);
+		controller.initialize();
+		controller.start();
+
+		var session = SessionImpl.newInstance();
+		// the worker holds one request, the others stay in the queue
+		for (int i = 0; i < 9; i++) {
+			controller.enqueueRequest(controller.createRequest().setSender(session).setMessage(i));
+		}
+		assertTrue(session.isReadingSuspended());
+
+		assertTrue(controller.await(9));
+		assertFalse(session.isReadingSuspended());
+		controller.shutdown();
+	}
+
+	@Test
+	public void requestQueueResumingShouldKeepOtherSuspendReasons() throws InterruptedException {
+		var controller = new OrderRecordingController();
+		controller.setThreadPoolSize(1);
+		controller.setBlockMillis(20L);
+		controller.setMaxRequestQueueSize(10);
+		controller.setRequestQueueWatermarks(80, 50);
+		controller.initialize();
+		controller.start();
+
+		var session = SessionImpl.newInstance();
+		// the writer suspended the session, its client does not read the responses
+		assertTrue(session.suspendReading(ReadingSuspendReason.PACKET_QUEUE));
+		for (int i = 0; i < 9; i++) {
+			controller.enqueueRequest(controller.createRequest().setSender(session).setMessage(i));
+		}
+		assertTrue(session.isReadingSuspended(ReadingSuspendReason.REQUEST_QUEUE));
+
+		// the drained request queue must not resume the writer's suspension
+		assertTrue(controller.await(9));
+		assertFalse(session.isReadingSuspended(ReadingSuspendReason.REQUEST_QUEUE));
+		assertTrue(session.isReadingSuspended());
+
+		// and the writer must not resume the controller's suspension
+		for (int i = 0; i < 9; i++) {
+			controller.enqueueRequest(controller.createRequest().setSender(session).setMessage(i));
+		}
+		assertTrue(session.resumeReading(ReadingSuspendReason.PACKET_QUEUE));
+		assertFalse(session.resumeReading(ReadingSuspendReason.PACKET_QUEUE));
+		assertTrue(session.isReadingSuspended());
+
+		assertTrue(controller.await(18));
+		assertFalse(session.isReadingSuspended());
+		controller.shutdown();
+	}
+
+	@Test
+	public void ringBufferModeShouldProcessAllRequestsWithEveryWaitStrategy() throws InterruptedException {
+		for (var waitStrategy : RequestWaitStrategy.values()) {
+			var controller = new OrderRecordingController();
+			controller.setExecutionMode(RequestExecutionMode.RING_BUFFER);
+			controller.setWaitStrategy(waitStrategy);
+			// only one worker, so the arrival order is kept
+			controller.setThreadPoolSize(1);
+			__assertRequestsOrderPerSession(controller);
+		}
+	}
+
+	@Test
+	public void virtualThreadDispatchModeShouldNotBeStalledByBlockingHandlers() throws InterruptedException {
+		for (var executionMode : new RequestExecutionMode[] { RequestExecutionMode.SHARED_QUEUE,
+				RequestExecutionMode.RING_BUFFER }) {
+			var controller = new OrderRecordingController();
+			controller.setExecutionMode(executionMode);
+			controller.setDispatchMode(RequestDispatchMode.VIRTUAL_THREAD);
+			controller.setThreadPoolSize(1);
+			controller.setBlockMillis(100L);
+			controller.setMaxRequestQueueSize(NUMBER_BLOCKING_REQUESTS);
+			controller.initialize();
+			controller.start();
+
+			// a single worker would need 20 seconds to process them one by one
+			long startTime = System.currentTimeMillis();
+			for (int i = 0; i < NUMBER_BLOCKING_REQUESTS; i++) {
+				controller.enqueueRequest(controller.createRequest().setMessage(i));
+			}
+			assertTrue(controller.await(NUMBER_BLOCKING_REQUESTS));
+			assertTrue(System.currentTimeMillis() - startTime < 5000L);
+			controller.shutdown();
+		}
+	}
+
+	@Test
+	public void fullRequestQueueShouldNotDropTheNextFramesOfTheReadBuffer() throws InterruptedException {
+		var controller = new OrderRecordingController();
+		controller.setThreadPoolSize(1);
+		controller.setMaxRequestQueueSize(2);
+		controller.initialize();
+
+		var session = SessionImpl.newInstance();
+		session.createPacketSocketHandle();
+		var suspended = new AtomicBoolean();
+
+		var eventManager = EventManager.newInstance();
+		eventManager.on(ServerEvent.SESSION_REQUEST_CONNECTION, params -> {
+			var data = (ZeroObject) ((ServerMessage) params[1]).getData();
+			var request = controller.tryCreateRequest(session);
+			if (!controller.offerRequest(request.setSender(session).setMessage(data.getInteger("i")))) {
+				suspended.set(session.isReadingSuspended(ReadingSuspendReason.REQUEST_QUEUE));
+				// lets the workers drain the queue, so the next frame can be put
+				controller.start();
+				try {
+					controller.await(2);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return null;
+		});
+		eventManager.subscribe();
+
+		var statistic = NetworkReaderStatistic.newInstannce();
+		var handler = SocketIOHandlerImpl.newInstance(eventManager);
+		handler.setNetworkReaderStatistic(statistic);
+		handler.setPacketDecoder(new ZeroCopyBinaryPacketDecoder());
+
+		// all the frames come in one read, the third one finds the queue full
+		var encoder = new DefaultBinaryPacketEncoder();
+		var buffer = ByteBuffer.allocate(1024);
+		for (int i = 0; i < 4; i++) {
+			var packet = PacketImpl.newInstance();
+			packet.setContent(ZeroObjectImpl.newInstance().putInteger("i", i));
+			buffer.put(encoder.encode(packet).getData());
+		}
+		buffer.flip();
+		handler.sessionRead(session, buffer);
+
+		assertTrue(controller.await(3));
+		controller.shutdown();
+
+		assertTrue(suspended.get());
+		assertEquals(1, controller.getNumberDroppedRequests());
+		assertEquals(4, statistic.getReadPackets());
+		assertEquals(0, statistic.getReadDroppedPackets());
+		assertEquals(List.of(0, 1, 3), controller.getOrders(session));
+		assertFalse(session.isReadingSuspended());
+	}
+
+	@Test
+	public void virtualThreadDispatchModeShouldRefuseSessionOrderedMode() {
+		var controller = new OrderRecordingController();
+		controller.setExecutionMode(RequestExecutionMode.SESSION_ORDERED);
+		controller.setDispatchMode(RequestDispatchMode.VIRTUAL_THREAD);
+
+		assertThrows(ConfigurationException.class, () -> controller.initialize());
+		assertFalse(controller.isActivated());
+	}
+
+	@Test
+	public void ringBufferShouldReuseReleasedSlots() throws InterruptedException {
+		var ringBuffer = RequestRingBuffer.newInstance(3, BlockingWaitStrategy.newInstance());
+		assertEquals(4, ringBuffer.getCapacity());
+
+		for (int round = 0; round < 3; round++) {
+			for (int i = 0; i < ringBuffer.getCapacity(); i++) {
+				var request = ringBuffer.claim();
+				assertNotNull(request);
+				request.setAttribute("order", i);
+				assertTrue(ringBuffer.publish(request));
+			}
+			assertNull(ringBuffer.claim());
+			assertEquals(ringBuffer.getCapacity(), ringBuffer.size());
+
+			for (int i = 0; i < ringBuffer.getCapacity(); i++) {
+				var request = ringBuffer.take();
+				assertEquals(i, request.getAttribute("order"));
+				ringBuffer.release(request);
+			}
+			assertTrue(ringBuffer.isEmpty());
+		}
+
+		// the requests created outside are copied into the slots
+		assertTrue(ringBuffer.publish(RequestImpl.newInstance().setMessage("message").setAttribute("custom", 1)));
+		var copiedRequest = ringBuffer.take();
+		assertEquals("message", copiedRequest.getMessage());
+		assertEquals(1, copiedRequest.getAttribute("custom"));
+	}
+
+	private void __assertRequestsOrderPerSession(OrderRecordingController controller) throws InterruptedException {
+		controller.setMaxRequestQueueSize(NUMBER_SESSIONS * NUMBER_REQUESTS_PER_SESSION);
+		controller.initialize();
+		controller.start();
+
+		var sessions = new ArrayList<Session>();
+		for (int i = 0; i < NUMBER_SESSIONS; i++) {
+			sessions.add(SessionImpl.newInstance());
+		}
+
+		for (int i = 0; i < NUMBER_REQUESTS_PER_SESSION; i++) {
+			for (var session : sessions) {
+				controller.enqueueRequest(controller.createRequest().setSender(session).setMessage(i));
+			}
+		}
+
+		assertTrue(controller.await());
+		controller.shutdown();
+
+		assertFalse(controller.hasOverlapped());
+		for (var session : sessions) {
+			var orders = controller.getOrders(session);
+			assertEquals(NUMBER_REQUESTS_PER_SESSION, orders.size());
+			for (int i = 0; i < NUMBER_REQUESTS_PER_SESSION; i++) {
+				assertEquals(i, orders.get(i));
+			}
+		}
+	}
+
+	private static final class OrderRecordingController extends AbstractController {
+
+		private final Map<Session, List<Integer>> __orders = new ConcurrentHashMap<Session, List<Integer>>();
+		private final Map<Session, AtomicBoolean> __processing = new ConcurrentHashMap<Session, AtomicBoolean>();
+		private final AtomicInteger __numberProcessedRequests = new AtomicInteger();
+		private volatile boolean __overlapped;
+		private long __blockMillis;
+
+		OrderRecordingController() {
+			super(EventManager.newInstance());
+		}
+
+		boolean await() throws InterruptedException {
+			return await(NUMBER_SESSIONS * NUMBER_REQUESTS_PER_SESSION);
+		}
+
+		boolean await(int numberRequests) throws InterruptedException {
+			long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+			while (__numberProcessedRequests.get() < numberRequests) {
+				if (System.currentTimeMillis() > deadline) {
+					return false;
+				}
+				Thread.sleep(10L);
+			}
+			return true;
+		}
+
+		void setBlockMillis(long blockMillis) {
+			__blockMillis = blockMillis;
+		}
+
+		boolean hasOverlapped() {
+			return __overlapped;
+		}
+
+		List<Integer> getOrders(Session session) {
+			return __orders.get(session);
+		}
+
+		@Override
+		public void processRequest(Request request) {
+			if (__blockMillis > 0) {
+				try {
+					Thread.sleep(__blockMillis);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				__numberProcessedRequests.incrementAndGet();
+				return;
+			}
+
+			var session = request.getSender();
+			var processing = __processing.computeIfAbsent(session, key -> new AtomicBoolean());
+			if (!processing.compareAndSet(false, true)) {
+				__overlapped = true;
+			}
+			// the list is only touched by the worker of this session
+			__orders.computeIfAbsent(session, key -> new ArrayList<Integer>())
+					.add((Integer) request.getMessage());
+			processing.set(false);
+			__numberProcessedRequests.incrementAndGet();
+		}
+
+		@Override
+		public void subscribe() {
+			// do nothing
+		}
+
+		@Override
+		public void onInitialized() {
+			// do nothing
+		}
+
+		@Override
+		public void onStarted() {
+			// do nothing
+		}
+
+		@Override
+		public void onRunning() {
+			// do nothing
+		}
+
+		@Override
+		public void onShutdown() {
+			// do nothing
+		}
+
+		@Override
+		public void onDestroyed() {
+			// do nothing
+		}
+
+	}
+
 }
@@ -0,0 +1,135 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tenio.core.entities.implement.PlayerImpl;
+import com.tenio.core.entities.implement.RoomImpl;
+import com.tenio.core.entities.managers.implement.PlayerManagerImpl;
+import com.tenio.core.entities.settings.strategies.implement.DefaultRoomCredentialValidatedStrategy;
+import com.tenio.core.entities.settings.strategies.implement.DefaultRoomPlayerSlotGeneratedStrategy;
+import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.network.entities.session.Session;
+import com.tenio.core.network.entities.session.implement.SessionImpl;
+
+public final class RoomRecipientsTest {
+
+	private Room __room;
+	private ServerSocketChannel __serverSocketChannel;
+	private SocketChannel __socketChannel;
+	private DatagramChannel __datagramChannel;
+
+	@BeforeEach
+	public void initialize() throws IOException {
+		__room = RoomImpl.newInstance();
+		__room.setRoomCredentialValidatedStrategy(new DefaultRoomCredentialValidatedStrategy());
+		__room.setPlayerSlotGeneratedStrategy(new DefaultRoomPlayerSlotGeneratedStrategy());
+		__room.setPlayerManager(PlayerManagerImpl.newInstance(EventManager.newInstance()));
+		__room.setCapacity(3, 3);
+
+		__serverSocketChannel = ServerSocketChannel.open();
+		__serverSocketChannel.bind(new InetSocketAddress("localhost", 0));
+		__socketChannel = SocketChannel.open(__serverSocketChannel.getLocalAddress());
+		__datagramChannel = DatagramChannel.open();
+	}
+
+	@AfterEach
+	public void tearDown() throws IOException {
+		__datagramChannel.close();
+		__socketChannel.close();
+		__serverSocketChannel.close();
+	}
+
+	@Test
+	public void switchingPlayerToSpectatorShouldUpdateTheRecipients() {
+		var player = PlayerImpl.newInstance("player");
+		var spectator = PlayerImpl.newInstance("spectator");
+
+		__room.addPlayer(player, false, RoomImpl.DEFAULT_SLOT);
+		__room.addPlayer(spectator, true, RoomImpl.DEFAULT_SLOT);
+
+		assertEquals(List.of(player), __room.getRecipients(false).getPlayers());
+		assertEquals(2, __room.getRecipients(true).getPlayers().size());
+
+		__room.switchPlayerToSpectator(player);
+
+		assertTrue(__room.getRecipients(false).getPlayers().isEmpty());
+		assertEquals(2, __room.getRecipients(true).getPlayers().size());
+		assertEquals(2, __room.getRecipients(true).getNonSessionPlayers().size());
+
+		__room.removePlayer(spectator);
+
+		assertEquals(List.of(player), __room.getRecipients(true).getPlayers());
+	}
+
+	@Test
+	public void recipientsShouldBeReusedUntilTheMembersChanged() throws IOException {
+		Session session = SessionImpl.newInstance();
+		session.setSocketChannel(__socketChannel);
+		__room.addPlayer(PlayerImpl.newInstance("player", session), false, RoomImpl.DEFAULT_SLOT);
+
+		var recipients = __room.getRecipients(true);
+		assertSame(recipients, __room.getRecipients(true));
+		assertEquals(List.of(session), recipients.getSocketSessions(true));
+		assertNull(recipients.getDatagramSessions(true));
+		assertNull(recipients.getNonSessionPlayers());
+		assertNull(recipients.getWebSocketSessions());
+	}
+
+	@Test
+	public void attachingUdpConnectionShouldRebuildTheRecipients() throws IOException {
+		Session session = SessionImpl.newInstance();
+		session.setSocketChannel(__socketChannel);
+		__room.addPlayer(PlayerImpl.newInstance("player", session), false, RoomImpl.DEFAULT_SLOT);
+
+		var recipients = __room.getRecipients(true);
+		session.setDatagramChannel(__datagramChannel, new InetSocketAddress("localhost", 8000));
+		assertTrue(recipients.isOutdated());
+
+		var rebuiltRecipients = __room.getRecipients(true);
+		assertFalse(rebuiltRecipients.isOutdated());
+		assertEquals(List.of(session), rebuiltRecipients.getDatagramSessions(true));
+		assertNull(rebuiltRecipients.getSocketSessions(true));
+		// without prioritizing UDP, the socket connection is still used
+		assertEquals(List.of(session), rebuiltRecipients.getSocketSessions(false));
+		assertNull(rebuiltRecipients.getDatagramSessions(false));
+	}
+
+}
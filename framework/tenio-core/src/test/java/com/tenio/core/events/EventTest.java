@@ -36,6 +36,7 @@ import com.tenio.core.configuration.defines.ServerEvent;
 import com.tenio.core.entities.implement.PlayerImpl;
 import com.tenio.core.entities.managers.PlayerManager;
 import com.tenio.core.entities.managers.implement.PlayerManagerImpl;
+import com.tenio.core.event.Subscriber;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.exceptions.AddedDuplicatedPlayerException;
 
@@ -95,4 +96,42 @@ public final class EventTest {
 		assertFalse(__eventManager.hasSubscriber(ServerEvent.FETCHED_CCU_INFO));
 	}
 
+	@Test
+	public void allSubscribersOfAnEventShouldBeInvoked() {
+		var invokedSubscribers = new int[2];
+		__eventManager.on(ServerEvent.SERVER_EXCEPTION, params -> {
+			invokedSubscribers[0]++;
+			return null;
+		});
+		__eventManager.on(ServerEvent.SERVER_EXCEPTION, params -> {
+			invokedSubscribers[1]++;
+			return "second";
+		});
+		__eventManager.subscribe();
+
+		assertEquals("second", __eventManager.emit(ServerEvent.SERVER_EXCEPTION, "exception"));
+		assertEquals(1, invokedSubscribers[0]);
+		assertEquals(1, invokedSubscribers[1]);
+	}
+
+	@Test
+	public void fixedArityEmitShouldUseFixedArityDispatch() {
+		__eventManager.on(ServerEvent.SEND_MESSAGE_TO_PLAYER, new Subscriber() {
+
+			@Override
+			public Object dispatch(Object... params) {
+				return "varargs";
+			}
+
+			@Override
+			public Object dispatch(Object param0, Object param1) {
+				return param1;
+			}
+		});
+		__eventManager.subscribe();
+
+		assertEquals("message", __eventManager.emit(ServerEvent.SEND_MESSAGE_TO_PLAYER, "player", "message"));
+		assertEquals("varargs", __eventManager.emit(ServerEvent.SEND_MESSAGE_TO_PLAYER, "player"));
+	}
+
 }
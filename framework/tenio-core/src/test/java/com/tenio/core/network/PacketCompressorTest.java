@@ -0,0 +1,198 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.network;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.tenio.core.exceptions.PacketCompressorException;
+import com.tenio.core.network.entities.packet.implement.PacketImpl;
+import com.tenio.core.network.entities.session.Session;
+import com.tenio.core.network.entities.session.implement.SessionImpl;
+import com.tenio.core.network.zero.codec.CodecUtility;
+import com.tenio.core.network.zero.codec.compression.BinaryPacketCompressor;
+import com.tenio.core.network.zero.codec.compression.DeflateBinaryPacketCompressor;
+import com.tenio.core.network.zero.codec.compression.Lz4BinaryPacketCompressor;
+import com.tenio.core.network.zero.codec.decoder.PacketDecoderResultListener;
+import com.tenio.core.network.zero.codec.decoder.ZeroCopyBinaryPacketDecoder;
+import com.tenio.core.network.zero.codec.encoder.DefaultBinaryPacketEncoder;
+
+public final class PacketCompressorTest {
+
+	@Test
+	public void lz4CompressorShouldRestoreOriginalData() throws PacketCompressorException {
+		__assertRoundTrip(new Lz4BinaryPacketCompressor());
+	}
+
+	@Test
+	public void deflateCompressorShouldRestoreOriginalData() throws PacketCompressorException {
+		__assertRoundTrip(new DeflateBinaryPacketCompressor());
+	}
+
+	@Test
+	public void lz4CompressorShouldRejectBrokenData() {
+		var compressor = new Lz4BinaryPacketCompressor();
+		assertThrows(PacketCompressorException.class, () -> compressor.uncompress(new byte[] { 0, 0, 1, 0, -1 }));
+	}
+
+	@Test
+	public void encoderShouldOnlyCompressWhenItSavesBytes() {
+		var compressor = new Lz4BinaryPacketCompressor();
+		var encoder = new DefaultBinaryPacketEncoder();
+		encoder.setCompressor(compressor);
+		encoder.setCompressionThresholdBytes(100);
+
+		var decoder = new ZeroCopyBinaryPacketDecoder();
+		decoder.setCompressor(compressor);
+		var frames = new ArrayList<byte[]>();
+		decoder.setResultListener(__createListener(frames));
+
+		var repetitive = __createRepetitiveData(5000);
+		var random = __createRandomData(5000);
+
+		var repetitiveFrame = __encode(encoder, repetitive);
+		var randomFrame = __encode(encoder, random);
+
+		assertTrue(CodecUtility.decodeFirstHeaderByte(repetitiveFrame[0]).isCompressed());
+		assertTrue(repetitiveFrame.length < repetitive.length);
+		assertFalse(CodecUtility.decodeFirstHeaderByte(randomFrame[0]).isCompressed());
+
+		var session = SessionImpl.newInstance();
+		session.createPacketSocketHandle();
+		decoder.decode(session, ByteBuffer.wrap(repetitiveFrame));
+		decoder.decode(session, ByteBuffer.wrap(randomFrame));
+
+		assertEquals(2, frames.size());
+		assertArrayEquals(repetitive, frames.get(0));
+		assertArrayEquals(random, frames.get(1));
+	}
+
+	@Test
+	public void encoderShouldStopCompressingIncompressiblePayloadsQuickly() {
+		var compressions = new AtomicInteger();
+		var compressor = new Lz4BinaryPacketCompressor();
+		var encoder = new DefaultBinaryPacketEncoder();
+		encoder.setCompressor(new BinaryPacketCompressor() {
+
+			@Override
+			public byte[] compress(byte[] binary) throws PacketCompressorException {
+				compressions.incrementAndGet();
+				return compressor.compress(binary);
+			}
+
+			@Override
+			public byte[] uncompress(byte[] binary) throws PacketCompressorException {
+				return compressor.uncompress(binary);
+			}
+		});
+		encoder.setCompressionThresholdBytes(100);
+
+		// the first sample already raises the threshold, it doubles until it skips
+		// the payloads, only a few of them are sampled afterwards
+		var random = __createRandomData(5000);
+		for (int i = 0; i < 200; i++) {
+			__encode(encoder, random);
+		}
+		assertTrue(compressions.get() <= 10);
+
+		// the sampled compressible payloads bring the threshold back
+		var repetitive = __createRepetitiveData(5000);
+		byte[] frame = null;
+		for (int i = 0; i < 200; i++) {
+			frame = __encode(encoder, repetitive);
+		}
+		assertTrue(CodecUtility.decodeFirstHeaderByte(frame[0]).isCompressed());
+	}
+
+	private void __assertRoundTrip(BinaryPacketCompressor compressor) throws PacketCompressorException {
+		var samples = new byte[][] { new byte[0], __createRandomData(1), __createRandomData(13),
+				__createRandomData(70000), __createRepetitiveData(20), __createRepetitiveData(70000) };
+		for (var sample : samples) {
+			var compressed = compressor.compress(sample);
+			assertArrayEquals(sample, compressor.uncompress(compressed));
+		}
+
+		var repetitive = __createRepetitiveData(70000);
+		assertTrue(compressor.compress(repetitive).length < repetitive.length / 10);
+	}
+
+	private PacketDecoderResultListener __createListener(List<byte[]> frames) {
+		return new PacketDecoderResultListener() {
+
+			@Override
+			public void updateReadPackets(long numberPackets) {
+				// do nothing
+			}
+
+			@Override
+			public void updateDroppedPackets(long numberPackets) {
+				// do nothing
+			}
+
+			@Override
+			public void resultFrame(Session session, ByteBuffer binary) {
+				byte[] frame = new byte[binary.remaining()];
+				binary.get(frame);
+				frames.add(frame);
+			}
+
+			@Override
+			public void resultFrame(Session session, byte[] binary) {
+				frames.add(binary);
+			}
+		};
+	}
+
+	private byte[] __encode(DefaultBinaryPacketEncoder encoder, byte[] data) {
+		var packet = PacketImpl.newInstance();
+		packet.setData(data);
+		return encoder.encode(packet).getData();
+	}
+
+	private byte[] __createRandomData(int length) {
+		byte[] data = new byte[length];
+		new Random(length).nextBytes(data);
+		return data;
+	}
+
+	private byte[] __createRepetitiveData(int length) {
+		byte[] data = new byte[length];
+		for (int i = 0; i < length; i++) {
+			data[i] = (byte) (i % 7 + 'a');
+		}
+		return data;
+	}
+
+}
@@ -0,0 +1,267 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.network;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tenio.common.data.ZeroArray;
+import com.tenio.common.data.ZeroObject;
+import com.tenio.common.data.implement.ZeroArrayImpl;
+import com.tenio.common.data.implement.ZeroObjectImpl;
+import com.tenio.core.configuration.defines.ServerEvent;
+import com.tenio.core.entities.data.ServerMessage;
+import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.network.entities.packet.implement.PacketImpl;
+import com.tenio.core.network.entities.session.Session;
+import com.tenio.core.network.entities.session.implement.SessionImpl;
+import com.tenio.core.network.zero.codec.decoder.BinaryPacketDecoder;
+import com.tenio.core.network.zero.codec.decoder.PacketDecoderResultListener;
+import com.tenio.core.network.zero.codec.decoder.ZeroCopyBinaryPacketDecoder;
+import com.tenio.core.network.statistics.NetworkReaderStatistic;
+import com.tenio.core.network.zero.codec.encoder.DefaultBinaryPacketEncoder;
+import com.tenio.core.network.zero.handlers.implement.SocketIOHandlerImpl;
+
+public final class PacketDecoderTest {
+
+	private final DefaultBinaryPacketEncoder __encoder = new DefaultBinaryPacketEncoder();
+	private final List<byte[]> __frames = new ArrayList<byte[]>();
+
+	private BinaryPacketDecoder __decoder;
+	private Session __session;
+	private long __readPackets;
+	private long __droppedPackets;
+
+	@BeforeEach
+	public void initialize() {
+		__decoder = new ZeroCopyBinaryPacketDecoder();
+		__decoder.setResultListener(new PacketDecoderResultListener() {
+
+			@Override
+			public void updateReadPackets(long numberPackets) {
+				__readPackets += numberPackets;
+			}
+
+			@Override
+			public void updateDroppedPackets(long numberPackets) {
+				__droppedPackets += numberPackets;
+			}
+
+			@Override
+			public void resultFrame(Session session, ByteBuffer binary) {
+				byte[] frame = new byte[binary.remaining()];
+				binary.get(frame);
+				__frames.add(frame);
+			}
+
+			@Override
+			public void resultFrame(Session session, byte[] binary) {
+				__frames.add(binary);
+			}
+		});
+
+		__session = SessionImpl.newInstance();
+		__session.createPacketSocketHandle();
+	}
+
+	@Test
+	public void decodeWholePacketsShouldReturnAllFrames() {
+		var first = __createData(10);
+		var second = __createData(0);
+		var third = __createData(200);
+
+		__decoder.decode(__session, __join(__encode(first), __encode(second), __encode(third)));
+
+		assertEquals(3, __readPackets);
+		assertArrayEquals(first, __frames.get(0));
+		assertArrayEquals(second, __frames.get(1));
+		assertArrayEquals(third, __frames.get(2));
+	}
+
+	@Test
+	public void decodeSplitPacketsShouldReturnAllFrames() {
+		var first = __createData(40000);
+		var second = __createData(70000);
+		var third = __createData(3);
+		var binary = __join(__encode(first), __encode(second), __encode(third));
+
+		// feeds the decoder with every possible kind of fragments, including the ones
+		// that split the header bytes
+		var buffer = ByteBuffer.allocate(7);
+		int position = 0;
+		while (position < binary.length) {
+			buffer.clear();
+			buffer.put(binary, position, Math.min(buffer.capacity(), binary.length - position));
+			buffer.flip();
+			position += buffer.remaining();
+			__decoder.decode(__session, buffer);
+		}
+
+		assertEquals(3, __readPackets);
+		assertArrayEquals(first, __frames.get(0));
+		assertArrayEquals(second, __frames.get(1));
+		assertArrayEquals(third, __frames.get(2));
+	}
+
+	@Test
+	public void decodeContentPacketsShouldReturnSerializedObjects() {
+		var small = __createObject(10);
+		var big = __createObject(5000);
+
+		var smallPacket = PacketImpl.newInstance();
+		smallPacket.setContent(small);
+		var bigPacket = PacketImpl.newInstance();
+		bigPacket.setContent(big);
+
+		__decoder.decode(__session,
+				__join(__encoder.encode(smallPacket).getData(), __encoder.encode(bigPacket).getData()));
+
+		assertEquals(2, __readPackets);
+		assertArrayEquals(small.toBinary(), __frames.get(0));
+		assertArrayEquals(big.toBinary(), __frames.get(1));
+		assertEquals(big.getString("s4999"), ZeroObjectImpl.newInstance(__frames.get(1)).getString("s4999"));
+	}
+
+	@Test
+	public void malformedHeaderShouldBeDroppedBeforeReadingData() {
+		var data = __createData(10);
+		var binary = __encode(data);
+		// clears the binary bit of the packet header
+		binary[0] = (byte) (binary[0] & ~1);
+
+		__decoder.decode(__session, binary);
+		__decoder.decode(__session, __encode(data));
+
+		assertEquals(1, __droppedPackets);
+		assertEquals(1, __readPackets);
+		assertEquals(1, __frames.size());
+		assertArrayEquals(data, __frames.get(0));
+	}
+
+	@Test
+	public void compressedHeaderWithoutCompressorShouldBeDropped() {
+		var binary = __encode(__createData(10));
+		// marks the packet as compressed, but the decoder has no compressor
+		binary[0] = (byte) (binary[0] | 8);
+
+		__decoder.decode(__session, binary);
+
+		assertEquals(1, __droppedPackets);
+		assertEquals(0, __readPackets);
+		assertTrue(__frames.isEmpty());
+	}
+
+	@Test
+	public void malformedFrameShouldBeRejectedByTheReader() {
+		var eventManager = EventManager.newInstance();
+		var messages = new ArrayList<ServerMessage>();
+		eventManager.on(ServerEvent.SESSION_REQUEST_CONNECTION, params -> {
+			messages.add((ServerMessage) params[1]);
+			return null;
+		});
+		eventManager.subscribe();
+
+		var statistic = NetworkReaderStatistic.newInstannce();
+		var handler = SocketIOHandlerImpl.newInstance(eventManager);
+		handler.setNetworkReaderStatistic(statistic);
+		handler.setPacketDecoder(__decoder);
+
+		var object = __createObject(10);
+		var truncated = object.toBinary();
+		truncated = Arrays.copyOf(truncated, truncated.length - 1);
+		var array = ZeroArrayImpl.newInstance().addLong(1L).addString("a");
+
+		var objectPacket = PacketImpl.newInstance();
+		objectPacket.setContent(object);
+		var objectFrame = __encoder.encode(objectPacket).getData();
+		var arrayPacket = PacketImpl.newInstance();
+		arrayPacket.setContent(array);
+		var arrayFrame = __encoder.encode(arrayPacket).getData();
+		var buffer = ByteBuffer.wrap(__join(__encode(truncated), objectFrame, arrayFrame));
+
+		// the truncated frame makes the left bytes of this read untrusted
+		handler.sessionRead(__session, buffer);
+		assertEquals(1, statistic.getReadDroppedPackets());
+		assertTrue(messages.isEmpty());
+
+		buffer = ByteBuffer.wrap(__join(objectFrame, arrayFrame));
+		handler.sessionRead(__session, buffer);
+		// the reader's buffer is reused afterward, the lazily decoded object must keep
+		// its own copy of the frame
+		Arrays.fill(buffer.array(), (byte) 0);
+
+		assertEquals(2, messages.size());
+		assertEquals("value9", ((ZeroObject) messages.get(0).getData()).getString("s9"));
+		assertEquals("a", ((ZeroArray) messages.get(1).getData()).getString(1));
+	}
+
+	private ZeroObject __createObject(int numberElements) {
+		var object = ZeroObjectImpl.newInstance();
+		var array = ZeroArrayImpl.newInstance();
+		for (int i = 0; i < numberElements; i++) {
+			object.putString("s" + i, "value" + i);
+			array.addLong(i);
+		}
+		object.putZeroArray("a", array);
+		object.putZeroObject("o", ZeroObjectImpl.newInstance().putInteger("i", numberElements));
+
+		return object;
+	}
+
+	private byte[] __createData(int length) {
+		byte[] data = new byte[length];
+		for (int i = 0; i < length; i++) {
+			data[i] = (byte) i;
+		}
+		return data;
+	}
+
+	private byte[] __encode(byte[] data) {
+		var packet = PacketImpl.newInstance();
+		packet.setData(data);
+		return __encoder.encode(packet).getData();
+	}
+
+	private byte[] __join(byte[]... binaries) {
+		int length = 0;
+		for (var binary : binaries) {
+			length += binary.length;
+		}
+		var buffer = ByteBuffer.allocate(length);
+		for (var binary : binaries) {
+			buffer.put(binary);
+		}
+		return buffer.array();
+	}
+
+}
@@ -0,0 +1,118 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tenio.core.exceptions.PacketQueueFullException;
+import com.tenio.core.network.defines.ResponsePriority;
+import com.tenio.core.network.entities.packet.Packet;
+import com.tenio.core.network.entities.packet.PacketQueue;
+import com.tenio.core.network.entities.packet.implement.PacketImpl;
+import com.tenio.core.network.entities.packet.implement.PriorityRingPacketQueue;
+import com.tenio.core.network.entities.packet.policy.PacketQueuePolicy;
+
+public final class PacketQueueTest {
+
+	private PacketQueue __packetQueue;
+
+	@BeforeEach
+	public void initialize() {
+		__packetQueue = new PriorityRingPacketQueue();
+		__packetQueue.setMaxSize(4);
+		__packetQueue.setPacketQueuePolicy(new PacketQueuePolicy() {
+
+			@Override
+			public void applyPolicy(PacketQueue packetQueue, Packet packet) {
+				// accept all packets
+			}
+		});
+	}
+
+	@Test
+	public void takePacketsShouldReturnHighestPriorityFirstInPuttingOrder() {
+		var first = __createPacket(ResponsePriority.NORMAL);
+		var second = __createPacket(ResponsePriority.NON_GUARANTEED);
+		var third = __createPacket(ResponsePriority.NORMAL);
+		var fourth = __createPacket(ResponsePriority.GUARANTEED_QUICKEST);
+
+		__packetQueue.put(first);
+		__packetQueue.put(second);
+		__packetQueue.put(third);
+		__packetQueue.put(fourth);
+
+		assertSame(fourth, __packetQueue.peek());
+		assertSame(fourth, __packetQueue.take());
+		assertSame(first, __packetQueue.take());
+		assertSame(third, __packetQueue.take());
+		assertSame(second, __packetQueue.take());
+		assertNull(__packetQueue.take());
+		assertTrue(__packetQueue.isEmpty());
+	}
+
+	@Test
+	public void putPacketsOverMaxSizeShouldThrowException() {
+		for (int i = 0; i < 4; i++) {
+			__packetQueue.put(__createPacket(ResponsePriority.NORMAL));
+		}
+
+		assertTrue(__packetQueue.isFull());
+		assertThrows(PacketQueueFullException.class, () -> __packetQueue.put(__createPacket(ResponsePriority.NORMAL)));
+
+		__packetQueue.clear();
+		assertEquals(0, __packetQueue.getSize());
+	}
+
+	@Test
+	public void takePeekedPacketShouldNotRemoveNewHigherPriorityPacket() {
+		var normal = __createPacket(ResponsePriority.NORMAL);
+		__packetQueue.put(normal);
+
+		var peekedPacket = __packetQueue.peek();
+		// another thread puts a higher priority packet before the peeked one is taken
+		var quickest = __createPacket(ResponsePriority.GUARANTEED_QUICKEST);
+		__packetQueue.put(quickest);
+
+		assertTrue(__packetQueue.take(peekedPacket));
+		assertFalse(__packetQueue.take(peekedPacket));
+		assertEquals(1, __packetQueue.getSize());
+		assertSame(quickest, __packetQueue.take());
+		assertTrue(__packetQueue.isEmpty());
+	}
+
+	private Packet __createPacket(ResponsePriority priority) {
+		var packet = PacketImpl.newInstance();
+		packet.setPriority(priority);
+		return packet;
+	}
+
+}
@@ -0,0 +1,242 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.core.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.network.entities.session.Session;
+import com.tenio.core.network.entities.session.SessionManager;
+import com.tenio.core.network.entities.session.implement.SessionManagerImpl;
+import com.tenio.core.network.security.DatagramPathUtility;
+
+public final class SessionManagerTest {
+
+	private SessionManager __sessionManager;
+	private ServerSocketChannel __serverSocketChannel;
+	private Selector __selector;
+	private List<SocketChannel> __socketChannels;
+
+	@BeforeEach
+	public void initialize() throws IOException {
+		__sessionManager = SessionManagerImpl.newInstance(EventManager.newInstance());
+		__serverSocketChannel = ServerSocketChannel.open();
+		__serverSocketChannel.bind(new InetSocketAddress("localhost", 0));
+		__selector = Selector.open();
+		__socketChannels = new ArrayList<SocketChannel>();
+	}
+
+	@AfterEach
+	public void tearDown() throws IOException {
+		for (var socketChannel : __socketChannels) {
+			socketChannel.close();
+		}
+		__selector.close();
+		__serverSocketChannel.close();
+	}
+
+	@Test
+	public void createSocketSessionShouldAttachItToTheSelectionKey() throws IOException {
+		var socketChannel = __connect();
+		var selectionKey = socketChannel.register(__selector, SelectionKey.OP_READ);
+
+		var session = __sessionManager.createSocketSession(socketChannel, selectionKey);
+
+		assertSame(session, selectionKey.attachment());
+		assertSame(session, __sessionManager.getSessionBySocket(socketChannel));
+		assertEquals(1, __sessionManager.getSessionCount());
+	}
+
+	@Test
+	public void removeSessionShouldCleanAllIndexes() throws IOException {
+		var socketChannel = __connect();
+		var selectionKey = socketChannel.register(__selector, SelectionKey.OP_READ);
+		var session = __sessionManager.createSocketSession(socketChannel, selectionKey);
+
+		var firstAddress = new InetSocketAddress("localhost", 10001);
+		var secondAddress = new InetSocketAddress("localhost", 10002);
+		try (var datagramChannel = DatagramChannel.open()) {
+			__sessionManager.addDatagramForSession(datagramChannel, firstAddress, session);
+			assertSame(session, __sessionManager.getSessionByDatagram(firstAddress));
+
+			// a new address replaces the old one
+			__sessionManager.addDatagramForSession(datagramChannel, secondAddress, session);
+			assertNull(__sessionManager.getSessionByDatagram(firstAddress));
+			assertSame(session, __sessionManager.getSessionByDatagram(secondAddress));
+
+			__sessionManager.removeSession(session);
+			// removing twice has no effect
+			__sessionManager.removeSession(session);
+
+			assertNull(__sessionManager.getSessionByDatagram(secondAddress));
+			assertNull(__sessionManager.getSessionBySocket(socketChannel));
+			assertNull(selectionKey.attachment());
+			assertEquals(0, __sessionManager.getSessionCount());
+		}
+	}
+
+	@Test
+	public void datagramConnectionIdShouldResolveUntilTheSessionIsRemoved() throws IOException {
+		var session = __sessionManager.createSocketSession(__connect(), null);
+		assertEquals(0L, session.getDatagramConnectionId());
+
+		try (var datagramChannel = DatagramChannel.open()) {
+			__sessionManager.addDatagramForSession(datagramChannel, new InetSocketAddress("localhost", 10001), session);
+			long connectionId = session.getDatagramConnectionId();
+			assertNotEquals(0L, connectionId);
+			assertSame(session, __sessionManager.getSessionByDatagramConnectionId(connectionId));
+
+			// the address migration keeps the id
+			__sessionManager.addDatagramForSession(datagramChannel, new InetSocketAddress("localhost", 10002), session);
+			assertEquals(connectionId, session.getDatagramConnectionId());
+
+			__sessionManager.removeSession(session);
+			assertNull(__sessionManager.getSessionByDatagramConnectionId(connectionId));
+
+			// the released slot is reused by another id
+			var otherSession = __sessionManager.createSocketSession(__connect(), null);
+			__sessionManager.addDatagramForSession(datagramChannel, new InetSocketAddress("localhost", 10003),
+					otherSession);
+			assertNull(__sessionManager.getSessionByDatagramConnectionId(connectionId));
+			assertSame(otherSession,
+					__sessionManager.getSessionByDatagramConnectionId(otherSession.getDatagramConnectionId()));
+		}
+	}
+
+	@Test
+	public void spoofedConnectionIdShouldNotMoveTheSession() throws IOException {
+		var session = __sessionManager.createSocketSession(__connect(), null);
+		var clientAddress = new InetSocketAddress("localhost", 10001);
+		var foreignAddress = new InetSocketAddress("localhost", 10002);
+
+		try (var datagramChannel = DatagramChannel.open()) {
+			__sessionManager.addDatagramForSession(datagramChannel, clientAddress, session);
+			long connectionKey = session.getDatagramConnectionKey();
+			assertNotEquals(0L, connectionKey);
+
+			// a valid id from a foreign address is only answered by a challenge
+			long challenge = __sessionManager.createDatagramPathChallenge(session, foreignAddress);
+			assertNotEquals(0L, challenge);
+			assertEquals(clientAddress, session.getDatagramRemoteSocketAddress());
+			assertSame(session, __sessionManager.getSessionByDatagram(clientAddress));
+			assertNull(__sessionManager.getSessionByDatagram(foreignAddress));
+
+			// the next spoofed datagrams do not trigger any other challenge
+			assertEquals(0L, __sessionManager.createDatagramPathChallenge(session, foreignAddress));
+
+			// the sender does not know the key
+			assertFalse(__sessionManager.validateDatagramPath(datagramChannel, foreignAddress, session,
+					DatagramPathUtility.computeProof(connectionKey + 1, challenge)));
+			assertEquals(clientAddress, session.getDatagramRemoteSocketAddress());
+
+			// a valid proof from another address than the challenged one
+			assertFalse(__sessionManager.validateDatagramPath(datagramChannel,
+					new InetSocketAddress("localhost", 10003), session,
+					DatagramPathUtility.computeProof(connectionKey, challenge)));
+			assertEquals(clientAddress, session.getDatagramRemoteSocketAddress());
+
+			// the real client moved to the new address
+			assertTrue(__sessionManager.validateDatagramPath(datagramChannel, foreignAddress, session,
+					DatagramPathUtility.computeProof(connectionKey, challenge)));
+			assertEquals(foreignAddress, session.getDatagramRemoteSocketAddress());
+			assertSame(session, __sessionManager.getSessionByDatagram(foreignAddress));
+			assertNull(__sessionManager.getSessionByDatagram(clientAddress));
+
+			// the answered challenge can not be replayed
+			assertFalse(__sessionManager.validateDatagramPath(datagramChannel, foreignAddress, session,
+					DatagramPathUtility.computeProof(connectionKey, challenge)));
+		}
+	}
+
+	@Test
+	public void concurrentCreateAndRemoveShouldKeepTheSessionCount() throws Exception {
+		int numberThreads = 4;
+		int numberSessions = 8;
+		var socketChannels = new SocketChannel[numberThreads * numberSessions];
+		for (int i = 0; i < socketChannels.length; i++) {
+			socketChannels[i] = __connect();
+		}
+
+		var startLatch = new CountDownLatch(1);
+		var doneLatch = new CountDownLatch(numberThreads);
+		var keptSessions = new Session[numberThreads];
+		for (int t = 0; t < numberThreads; t++) {
+			int threadIndex = t;
+			new Thread(() -> {
+				try {
+					startLatch.await();
+					for (int i = 0; i < numberSessions; i++) {
+						var session = __sessionManager
+								.createSocketSession(socketChannels[threadIndex * numberSessions + i], null);
+						if (i == 0) {
+							keptSessions[threadIndex] = session;
+						} else {
+							__sessionManager.removeSession(session);
+						}
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					doneLatch.countDown();
+				}
+			}).start();
+		}
+		startLatch.countDown();
+		doneLatch.await();
+
+		assertEquals(numberThreads, __sessionManager.getSessionCount());
+		for (int t = 0; t < numberThreads; t++) {
+			assertSame(keptSessions[t], __sessionManager.getSessionBySocket(socketChannels[t * numberSessions]));
+		}
+	}
+
+	private SocketChannel __connect() throws IOException {
+		var socketChannel = SocketChannel.open(__serverSocketChannel.getLocalAddress());
+		socketChannel.configureBlocking(false);
+		__socketChannels.add(socketChannel);
+		__socketChannels.add(__serverSocketChannel.accept());
+		return socketChannel;
+	}
+
+}
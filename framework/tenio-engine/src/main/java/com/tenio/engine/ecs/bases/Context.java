@@ -26,6 +26,9 @@ package com.tenio.engine.ecs.bases;
 import java.util.Map;
 
 import com.tenio.engine.ecs.bases.implement.ContextInfo;
+import com.tenio.engine.ecs.bases.implement.FloatColumns;
+import com.tenio.engine.ecs.bases.implement.Matcher;
+import com.tenio.engine.exceptions.EntityIsNotExistedException;
 
 /**
  * A context is used to manage all relative entities and components.
@@ -42,9 +45,18 @@ public interface Context<TEntity extends Entity> {
 	TEntity createEntity();
 
 	/**
-	 * Retrieves an entity by entity id
+	 * Retrieves an entity by its handle
 	 * 
-	 * @param entityId the entity id
+	 * @param handle the entity's handle, see {@link Entity#getHandle()}
+	 * @return the corresponding entity, or <b>null</b> if the handle is stale
+	 */
+	TEntity getEntity(long handle);
+
+	/**
+	 * Retrieves an entity by its label, it walks through all entities so it should
+	 * only be used for debugging
+	 * 
+	 * @param entityId the entity's label, see {@link Entity#getId()}
 	 * @return the corresponding entity
 	 */
 	TEntity getEntity(String entityId);
@@ -62,15 +74,48 @@ public interface Context<TEntity extends Entity> {
 	 * Remove this entity from the current context
 	 * 
 	 * @param entity the corresponding entity
+	 * @throws EntityIsNotExistedException when the entity was already destroyed
 	 */
 	void destroyEntity(TEntity entity);
 
 	/**
-	 * Retrieves all entities of the current context
+	 * Retrieves all entities of the current context. The map is created on each
+	 * call, use {@link #getGroup(Matcher)} to iterate entities frequently.
+	 * 
+	 * @return the map of entities by their handles
+	 */
+	Map<Long, TEntity> getEntities();
+
+	/**
+	 * Retrieves the group of entities which satisfy the matcher. A group is
+	 * created once per matcher and then maintained while the entities' components
+	 * change, so it should be used instead of walking through
+	 * {@link #getEntities()} on every tick.
+	 * 
+	 * @param matcher see {@link Matcher}
+	 * @return see {@link Group}
+	 */
+	Group<TEntity> getGroup(Matcher matcher);
+
+	/**
+	 * Stores a component which only contains <code>float</code> fields in columns
+	 * instead of pooled objects. It should be called before any entity takes the
+	 * component.
+	 * 
+	 * @param index        the component index
+	 * @param numberFields the number of the component's fields
+	 * @return see {@link FloatColumns}
+	 */
+	FloatColumns useFloatColumns(int index, int numberFields);
+
+	/**
+	 * Retrieves the column storage of a component
 	 * 
-	 * @return the map of entities
+	 * @param index the component index
+	 * @return see {@link FloatColumns}, or <b>null</b> if the component is not
+	 *         stored in columns
 	 */
-	Map<String, TEntity> getEntities();
+	FloatColumns getFloatColumns(int index);
 
 	/**
 	 * Retrieves the context information
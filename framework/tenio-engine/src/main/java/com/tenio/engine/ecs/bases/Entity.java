@@ -25,6 +25,7 @@ package com.tenio.engine.ecs.bases;
 
 import com.tenio.common.pool.ElementsPool;
 import com.tenio.engine.ecs.bases.implement.ContextInfo;
+import com.tenio.engine.ecs.bases.implement.EntityHandle;
 import com.tenio.engine.ecs.pool.ComponentPool;
 
 /**
@@ -37,19 +38,50 @@ import com.tenio.engine.ecs.pool.ComponentPool;
 public interface Entity {
 
 	/**
-	 * Set new id
+	 * Set a label for debugging, it is not used to identify the entity
 	 * 
 	 * @param id the desired id
 	 */
 	void setId(String id);
 
 	/**
-	 * Retrieves the entity's id
+	 * Retrieves the entity's label
 	 * 
-	 * @return entity's id
+	 * @return entity's id, or <b>null</b> if it was not set
 	 */
 	String getId();
 
+	/**
+	 * Retrieves the entity's handle, which is only valid until the entity is
+	 * destroyed
+	 * 
+	 * @return the handle, see {@link EntityHandle}
+	 */
+	long getHandle();
+
+	/**
+	 * Retrieves the number of times the entity has been reused by its pool, plus
+	 * <b>1</b>
+	 * 
+	 * @return entity's generation
+	 */
+	int getGeneration();
+
+	/**
+	 * Set the entity's index, it is unique in the context and stays the same while
+	 * the entity is reused by its pool
+	 * 
+	 * @param index the dense index
+	 */
+	void setIndex(int index);
+
+	/**
+	 * Retrieves the entity's index, which is used to access the column storages
+	 * 
+	 * @return entity's index
+	 */
+	int getIndex();
+
 	/**
 	 * Set context information
 	 * 
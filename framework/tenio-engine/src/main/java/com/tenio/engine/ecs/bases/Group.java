@@ -0,0 +1,67 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.ecs.bases;
+
+import com.tenio.engine.ecs.bases.implement.Matcher;
+
+/**
+ * A group holds the entities of a context which satisfy its {@link Matcher}.
+ * The members are kept in a dense array and updated while the entities' components
+ * change, so iterating a group costs as much as the number of its members.
+ * 
+ * <pre>
+ * for (int i = 0; i &lt; group.getCount(); i++) {
+ * 	var entity = group.getEntity(i);
+ * }
+ * </pre>
+ * 
+ * The order of members can change when an entity leaves the group.
+ * 
+ * @param <TEntity> the entity template
+ */
+public interface Group<TEntity extends Entity> {
+
+	/**
+	 * Retrieves the group's matcher
+	 * 
+	 * @return see {@link Matcher}
+	 */
+	Matcher getMatcher();
+
+	/**
+	 * Retrieves the number of entities in the group
+	 * 
+	 * @return the entities count
+	 */
+	int getCount();
+
+	/**
+	 * Retrieves an entity by its position in the group
+	 * 
+	 * @param index the position, it should be less than {@link #getCount()}
+	 * @return the corresponding entity
+	 */
+	TEntity getEntity(int index);
+
+}
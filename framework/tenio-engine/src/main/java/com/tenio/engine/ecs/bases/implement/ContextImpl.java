@@ -23,15 +23,23 @@ THE SOFTWARE.
 */
 package com.tenio.engine.ecs.bases.implement;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import com.tenio.common.configuration.constant.CommonConstant;
 import com.tenio.common.pool.ElementsPool;
 import com.tenio.engine.ecs.bases.Component;
 import com.tenio.engine.ecs.bases.Context;
 import com.tenio.engine.ecs.bases.Entity;
+import com.tenio.engine.ecs.bases.Group;
+import com.tenio.engine.ecs.pool.ColumnComponentPool;
 import com.tenio.engine.ecs.pool.ComponentPool;
 import com.tenio.engine.ecs.pool.EntityPool;
+import com.tenio.engine.exceptions.EntityIsNotExistedException;
 
 /**
  * A context manages the life-cycle of entities and groups. You can create and
@@ -41,16 +49,29 @@ import com.tenio.engine.ecs.pool.EntityPool;
  */
 public class ContextImpl<EntityExt extends EntityImpl> implements Context<EntityExt> {
 
-	private final Map<String, EntityExt> __entities;
+	/**
+	 * The alive entities by their indices
+	 */
+	private EntityImpl[] __entities;
+	private int __entitiesCount;
 	private final ContextInfo __contextInfo;
 	private final ElementsPool<Entity> __entityPool;
 	private final ElementsPool<Component>[] __componentPools;
+	private final Map<Matcher, GroupImpl<EntityExt>> __groupByMatchers;
+	private final List<GroupImpl<EntityExt>> __groups;
+	private final List<FloatColumns> __floatColumns;
 
+	@SuppressWarnings("unchecked")
 	public ContextImpl(ContextInfo contextInfo, Class<EntityExt> clazz) {
 		__contextInfo = contextInfo;
-		__entities = new HashMap<String, EntityExt>();
+		__entities = new EntityImpl[CommonConstant.DEFAULT_NUMBER_ELEMENTS_POOL];
+		__entitiesCount = 0;
+		__groupByMatchers = new HashMap<Matcher, GroupImpl<EntityExt>>();
+		__groups = new ArrayList<GroupImpl<EntityExt>>();
+		__floatColumns = new ArrayList<FloatColumns>();
 		__entityPool = new EntityPool(clazz, __contextInfo);
-		__componentPools = new ComponentPool[getContextInfo().getNumberComponents()];
+		// the array can contain the other pool types, see useFloatColumns()
+		__componentPools = new ElementsPool[getContextInfo().getNumberComponents()];
 		for (int i = 0; i < __contextInfo.getNumberComponents(); i++) {
 			if (__contextInfo.getComponentTypes()[i] != null) {
 				__componentPools[i] = new ComponentPool(__contextInfo.getComponentTypes()[i]);
@@ -63,30 +84,122 @@ public class ContextImpl<EntityExt extends EntityImpl> implements Context<Entity
 		@SuppressWarnings("unchecked")
 		EntityExt entity = (EntityExt) __entityPool.get();
 		entity.setComponentPools(__componentPools);
-		__entities.put(entity.getId(), entity);
+		int index = entity.getIndex();
+		if (index >= __entities.length) {
+			__entities = Arrays.copyOf(__entities, Math.max(index + 1, __entities.length << 1));
+		}
+		__entities[index] = entity;
+		__entitiesCount++;
+		// the columns always cover all entities, so the systems can index them without
+		// checking
+		for (int i = 0; i < __floatColumns.size(); i++) {
+			__floatColumns.get(i).ensureCapacity(entity.getIndex() + 1);
+		}
+		entity.setContext(this);
+		// an entity without components can still satisfy the matchers with only
+		// excluded components
+		onComponentChanged(entity);
 		return entity;
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	public EntityExt getEntity(long handle) {
+		int index = EntityHandle.getIndex(handle);
+		if (index < 0 || index >= __entities.length) {
+			return null;
+		}
+		var entity = __entities[index];
+		if (entity == null || entity.getGeneration() != EntityHandle.getGeneration(handle)) {
+			return null;
+		}
+		return (EntityExt) entity;
+	}
+
+	@SuppressWarnings("unchecked")
 	@Override
 	public EntityExt getEntity(String entityId) {
-		return __entities.get(entityId);
+		for (var entity : __entities) {
+			if (entity != null && entityId.equals(entity.getId())) {
+				return (EntityExt) entity;
+			}
+		}
+		return null;
 	}
 
 	@Override
 	public void destroyEntity(EntityExt entity) {
+		if (!hasEntity(entity)) {
+			throw new EntityIsNotExistedException();
+		}
+
+		for (var group : __groups) {
+			group.removeEntity(entity);
+		}
+		entity.setContext(null);
 		entity.reset();
-		__entities.remove(entity.getId());
+		__entities[entity.getIndex()] = null;
+		__entitiesCount--;
+		// the handles of this entity become stale
+		entity.increaseGeneration();
 		__entityPool.repay(entity);
 	}
 
 	@Override
 	public boolean hasEntity(EntityExt entity) {
-		return __entities.containsKey(entity.getId());
+		int index = entity.getIndex();
+		return index >= 0 && index < __entities.length && __entities[index] == entity;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Map<Long, EntityExt> getEntities() {
+		var entities = new HashMap<Long, EntityExt>();
+		for (var entity : __entities) {
+			if (entity != null) {
+				entities.put(entity.getHandle(), (EntityExt) entity);
+			}
+		}
+		return Collections.unmodifiableMap(entities);
+	}
+
+	@Override
+	public Group<EntityExt> getGroup(Matcher matcher) {
+		var group = __groupByMatchers.get(matcher);
+		if (group == null) {
+			group = new GroupImpl<EntityExt>(__groups.size(), matcher);
+			for (var entity : __entities) {
+				if (entity != null) {
+					group.handleEntity(entity);
+				}
+			}
+			__groupByMatchers.put(matcher, group);
+			__groups.add(group);
+		}
+		return group;
+	}
+
+	@Override
+	public FloatColumns useFloatColumns(int index, int numberFields) {
+		var columns = new FloatColumns(numberFields, __entityPool.getPoolSize());
+		__componentPools[index] = new ColumnComponentPool(columns);
+		__floatColumns.add(columns);
+		return columns;
 	}
 
 	@Override
-	public Map<String, EntityExt> getEntities() {
-		return __entities;
+	public FloatColumns getFloatColumns(int index) {
+		var componentPool = __componentPools[index];
+		if (componentPool instanceof ColumnComponentPool) {
+			return ((ColumnComponentPool) componentPool).getColumns();
+		}
+		return null;
+	}
+
+	void onComponentChanged(EntityImpl entity) {
+		for (int i = 0; i < __groups.size(); i++) {
+			__groups.get(i).handleEntity(entity);
+		}
 	}
 
 	@Override
@@ -96,15 +209,25 @@ public class ContextImpl<EntityExt extends EntityImpl> implements Context<Entity
 
 	@Override
 	public int getEntitesCount() {
-		return __entities.size();
+		return __entitiesCount;
 	}
 
 	@Override
 	public void destroyAllEntities() {
-		__entities.values().forEach(entity -> {
-			entity.reset();
-		});
-		__entities.clear();
+		for (var group : __groups) {
+			group.clear();
+		}
+		for (int i = 0; i < __entities.length; i++) {
+			var entity = __entities[i];
+			if (entity != null) {
+				entity.setContext(null);
+				entity.reset();
+				entity.increaseGeneration();
+				__entities[i] = null;
+				__entityPool.repay(entity);
+			}
+		}
+		__entitiesCount = 0;
 	}
 
 	@Override
@@ -0,0 +1,60 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.ecs.bases.implement;
+
+/**
+ * An entity handle packs the entity's index and its generation into a
+ * <code>long</code> value. The index is reused when the entity goes back to its
+ * pool, but the generation is increased, so a handle which was kept after the
+ * entity had been destroyed can be detected as stale.
+ */
+public final class EntityHandle {
+
+	/**
+	 * The handle which refers to no entities, the generations start from
+	 * <b>1</b>
+	 */
+	public static final long NULL = 0L;
+
+	private EntityHandle() {
+
+	}
+
+	public static long of(int index, int generation) {
+		return ((long) generation << 32) | (index & 0xFFFFFFFFL);
+	}
+
+	public static int getIndex(long handle) {
+		return (int) handle;
+	}
+
+	public static int getGeneration(long handle) {
+		return (int) (handle >>> 32);
+	}
+
+	public static String toString(long handle) {
+		return String.format("%d:%d", getIndex(handle), getGeneration(handle));
+	}
+
+}
@@ -23,6 +23,8 @@ THE SOFTWARE.
 */
 package com.tenio.engine.ecs.bases.implement;
 
+import java.util.Arrays;
+
 import com.tenio.common.loggers.AbstractLogger;
 import com.tenio.common.pool.ElementsPool;
 import com.tenio.engine.ecs.bases.Component;
@@ -45,6 +47,11 @@ public class EntityImpl extends AbstractLogger implements Entity {
 	private Component[] __components = null;
 	private ContextInfo __contextInfo = null;
 	private String __id = null;
+	private int __index = -1;
+	private int __generation = 1;
+	private long[] __componentMask = null;
+	private int[] __groupIndices = new int[0];
+	private ContextImpl<?> __context = null;
 
 	@Override
 	public void setId(String id) {
@@ -56,6 +63,33 @@ public class EntityImpl extends AbstractLogger implements Entity {
 		return __id;
 	}
 
+	@Override
+	public void setIndex(int index) {
+		__index = index;
+	}
+
+	@Override
+	public int getIndex() {
+		return __index;
+	}
+
+	@Override
+	public long getHandle() {
+		return EntityHandle.of(__index, __generation);
+	}
+
+	@Override
+	public int getGeneration() {
+		return __generation;
+	}
+
+	void increaseGeneration() {
+		// the generation 0 is never used, so a handle can not be EntityHandle.NULL
+		if (++__generation == 0) {
+			__generation = 1;
+		}
+	}
+
 	@Override
 	public void setContextInfo(ContextInfo contextInfo) {
 		if (__contextInfo == null) {
@@ -63,6 +97,7 @@ public class EntityImpl extends AbstractLogger implements Entity {
 		}
 		if (__components == null) {
 			__components = new Component[contextInfo.getNumberComponents()];
+			__componentMask = new long[(contextInfo.getNumberComponents() + 63) >>> 6];
 		}
 	}
 
@@ -92,6 +127,9 @@ public class EntityImpl extends AbstractLogger implements Entity {
 		}
 
 		__components[index] = component;
+		if (component != null) {
+			__onComponentChanged(index, true);
+		}
 	}
 
 	@Override
@@ -121,7 +159,54 @@ public class EntityImpl extends AbstractLogger implements Entity {
 
 		if (replacement != previousComponent) {
 			__components[index] = replacement;
+			// the columns are shared by all entities, a reused index must not keep the old
+			// values
+			if (replacement == null && previousComponent instanceof FloatColumns) {
+				((FloatColumns) previousComponent).clear(__index);
+			}
+			// only the adding or removing can change the groups which the entity belongs to
+			if ((previousComponent == null) != (replacement == null)) {
+				__onComponentChanged(index, replacement != null);
+			}
+		}
+	}
+
+	private void __onComponentChanged(int index, boolean added) {
+		if (added) {
+			__componentMask[index >>> 6] |= 1L << index;
+		} else {
+			__componentMask[index >>> 6] &= ~(1L << index);
+		}
+		if (__context != null) {
+			__context.onComponentChanged(this);
+		}
+	}
+
+	/**
+	 * Retrieves the bitset mask of the current components, each bit presents a
+	 * component index
+	 * 
+	 * @return the components mask
+	 */
+	public long[] getComponentMask() {
+		return __componentMask;
+	}
+
+	void setContext(ContextImpl<?> context) {
+		__context = context;
+	}
+
+	int getGroupIndex(int groupId) {
+		return groupId < __groupIndices.length ? __groupIndices[groupId] : -1;
+	}
+
+	void setGroupIndex(int groupId, int index) {
+		if (groupId >= __groupIndices.length) {
+			int oldLength = __groupIndices.length;
+			__groupIndices = Arrays.copyOf(__groupIndices, Math.max(groupId + 1, oldLength << 1));
+			Arrays.fill(__groupIndices, oldLength, __groupIndices.length, -1);
 		}
+		__groupIndices[groupId] = index;
 	}
 
 	@Override
@@ -182,12 +267,14 @@ public class EntityImpl extends AbstractLogger implements Entity {
 
 	@Override
 	public int hashCode() {
-		return __id.hashCode();
+		return Integer.hashCode(__index);
 	}
 
 	@Override
 	public void reset() {
 		removeAllComponents();
+		// a reused entity must not answer to its previous label
+		__id = null;
 	}
 
 }
@@ -0,0 +1,138 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.ecs.bases.implement;
+
+import java.util.Arrays;
+
+import com.tenio.engine.ecs.bases.Component;
+
+/**
+ * A struct-of-arrays storage for a component which only contains
+ * <code>float</code> fields. Each field is kept in its own primitive array
+ * indexed by the entity's index (see {@link EntityImpl#getIndex()}), so a
+ * system can iterate the values linearly instead of chasing component objects
+ * on the heap.
+ * 
+ * The same instance is set as the component of every entity which owns it, it
+ * works as a flyweight view and only marks the entity as having the component.
+ * 
+ * The columns always cover all entities of the context. The fields of an
+ * entity are reset to <b>0</b> when it loses the component, which also happens
+ * when it is destroyed. When the field values of entities without the
+ * component are harmless (for example, a zero velocity), a system can run a
+ * branch-free loop over the whole columns which the JIT is able to vectorize.
+ * Otherwise, it should iterate a group and read the values by the members'
+ * indices.
+ * 
+ * <pre>
+ * var x = positions.getColumn(X);
+ * var vx = motions.getColumn(X);
+ * for (int i = 0; i &lt; x.length; i++) {
+ * 	x[i] += vx[i] * deltaTime;
+ * }
+ * </pre>
+ */
+public final class FloatColumns implements Component {
+
+	private float[][] __columns;
+
+	public FloatColumns(int numberFields, int capacity) {
+		__columns = new float[numberFields][Math.max(capacity, 1)];
+	}
+
+	/**
+	 * Retrieves the number of fields
+	 * 
+	 * @return the number of columns
+	 */
+	public int getNumberFields() {
+		return __columns.length;
+	}
+
+	/**
+	 * Retrieves the number of entities which can be stored without growing
+	 * 
+	 * @return the length of each column
+	 */
+	public int getCapacity() {
+		return __columns[0].length;
+	}
+
+	/**
+	 * Retrieves the whole column of a field. The array is replaced when the
+	 * storage grows, so it should not be kept across ticks.
+	 * 
+	 * @param field the field index
+	 * @return the field's values indexed by entity indices
+	 */
+	public float[] getColumn(int field) {
+		return __columns[field];
+	}
+
+	public float get(int field, int entityIndex) {
+		return __columns[field][entityIndex];
+	}
+
+	public void set(int field, int entityIndex, float value) {
+		ensureCapacity(entityIndex + 1);
+		__columns[field][entityIndex] = value;
+	}
+
+	/**
+	 * Grows all columns geometrically to store at least the number of entities
+	 * 
+	 * @param capacity the required capacity
+	 */
+	public void ensureCapacity(int capacity) {
+		int currentCapacity = getCapacity();
+		if (capacity <= currentCapacity) {
+			return;
+		}
+
+		int newCapacity = Math.max(capacity, currentCapacity << 1);
+		for (int i = 0; i < __columns.length; i++) {
+			__columns[i] = Arrays.copyOf(__columns[i], newCapacity);
+		}
+	}
+
+	/**
+	 * Reset all fields of an entity to <b>0</b>
+	 * 
+	 * @param entityIndex the entity's index
+	 */
+	public void clear(int entityIndex) {
+		if (entityIndex < 0 || entityIndex >= getCapacity()) {
+			return;
+		}
+		for (int i = 0; i < __columns.length; i++) {
+			__columns[i][entityIndex] = 0f;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.format("FloatColumns{numberFields=%d, capacity=%d}", getNumberFields(), getCapacity());
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.ecs.bases.implement;
+
+import java.util.Arrays;
+
+import com.tenio.engine.ecs.bases.Group;
+
+/**
+ * The dense array implementation of a group. The entity's position in each
+ * group is stored on the entity itself, so both adding and removing take
+ * constant time.
+ * 
+ * @see Group
+ */
+public final class GroupImpl<EntityExt extends EntityImpl> implements Group<EntityExt> {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private final int __id;
+	private final Matcher __matcher;
+	private EntityImpl[] __entities;
+	private int __count;
+
+	GroupImpl(int id, Matcher matcher) {
+		__id = id;
+		__matcher = matcher;
+		__entities = new EntityImpl[DEFAULT_CAPACITY];
+		__count = 0;
+	}
+
+	@Override
+	public Matcher getMatcher() {
+		return __matcher;
+	}
+
+	@Override
+	public int getCount() {
+		return __count;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public EntityExt getEntity(int index) {
+		if (index >= __count) {
+			throw new IndexOutOfBoundsException(index);
+		}
+		return (EntityExt) __entities[index];
+	}
+
+	/**
+	 * Adds or removes the entity after its components were changed
+	 * 
+	 * @param entity the changed entity
+	 */
+	void handleEntity(EntityImpl entity) {
+		boolean matched = __matcher.matches(entity.getComponentMask());
+		boolean contained = entity.getGroupIndex(__id) >= 0;
+
+		if (matched && !contained) {
+			__addEntity(entity);
+		} else if (!matched && contained) {
+			removeEntity(entity);
+		}
+	}
+
+	void removeEntity(EntityImpl entity) {
+		int index = entity.getGroupIndex(__id);
+		if (index < 0) {
+			return;
+		}
+
+		// the last entity takes the removed one's position to keep the array dense
+		int lastIndex = --__count;
+		var lastEntity = __entities[lastIndex];
+		__entities[index] = lastEntity;
+		lastEntity.setGroupIndex(__id, index);
+		__entities[lastIndex] = null;
+		entity.setGroupIndex(__id, -1);
+	}
+
+	void clear() {
+		for (int i = 0; i < __count; i++) {
+			__entities[i].setGroupIndex(__id, -1);
+			__entities[i] = null;
+		}
+		__count = 0;
+	}
+
+	private void __addEntity(EntityImpl entity) {
+		if (__count == __entities.length) {
+			__entities = Arrays.copyOf(__entities, __entities.length << 1);
+		}
+		entity.setGroupIndex(__id, __count);
+		__entities[__count++] = entity;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Group{matcher=%s, count=%d}", __matcher, __count);
+	}
+
+}
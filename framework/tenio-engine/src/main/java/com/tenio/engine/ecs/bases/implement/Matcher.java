@@ -0,0 +1,168 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.ecs.bases.implement;
+
+import java.util.Arrays;
+
+/**
+ * A matcher describes which entities belong to a group by their component
+ * indices. The indices are converted to bitset masks once, so checking an
+ * entity only takes a few bitwise operations.
+ * 
+ * <pre>
+ * Matcher.allOf(POSITION, MOTION).noneOf(VIEW)
+ * </pre>
+ */
+public final class Matcher {
+
+	private static final long[] EMPTY_MASK = new long[0];
+
+	private final long[] __allOfMask;
+	private final long[] __anyOfMask;
+	private final long[] __noneOfMask;
+
+	/**
+	 * Creates a matcher for the entities which contain all of the components.
+	 * 
+	 * @param indices list of component indices
+	 * @return a new {@link Matcher}
+	 */
+	public static Matcher allOf(int... indices) {
+		return new Matcher(toMask(indices), EMPTY_MASK, EMPTY_MASK);
+	}
+
+	/**
+	 * Creates a matcher for the entities which contain at least one of the
+	 * components.
+	 * 
+	 * @param indices list of component indices
+	 * @return a new {@link Matcher}
+	 */
+	public static Matcher anyOf(int... indices) {
+		return new Matcher(EMPTY_MASK, toMask(indices), EMPTY_MASK);
+	}
+
+	private Matcher(long[] allOfMask, long[] anyOfMask, long[] noneOfMask) {
+		__allOfMask = allOfMask;
+		__anyOfMask = anyOfMask;
+		__noneOfMask = noneOfMask;
+	}
+
+	/**
+	 * Excludes the entities which contain one of the components.
+	 * 
+	 * @param indices list of component indices
+	 * @return a new {@link Matcher}
+	 */
+	public Matcher noneOf(int... indices) {
+		return new Matcher(__allOfMask, __anyOfMask, toMask(indices));
+	}
+
+	/**
+	 * Check if the components mask satisfies the matcher or not
+	 * 
+	 * @param componentMask the entity's components mask
+	 * @return <b>true</b> if the entity should be in the group, <b>false</b>
+	 *         otherwise
+	 */
+	public boolean matches(long[] componentMask) {
+		for (int i = 0; i < __allOfMask.length; i++) {
+			long word = i < componentMask.length ? componentMask[i] : 0L;
+			if ((word & __allOfMask[i]) != __allOfMask[i]) {
+				return false;
+			}
+		}
+
+		if (__anyOfMask.length > 0) {
+			boolean found = false;
+			for (int i = 0; i < __anyOfMask.length && i < componentMask.length; i++) {
+				if ((componentMask[i] & __anyOfMask[i]) != 0L) {
+					found = true;
+					break;
+				}
+			}
+			if (!found) {
+				return false;
+			}
+		}
+
+		for (int i = 0; i < __noneOfMask.length && i < componentMask.length; i++) {
+			if ((componentMask[i] & __noneOfMask[i]) != 0L) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Converts a list of component indices to its bitset mask
+	 * 
+	 * @param indices list of component indices
+	 * @return the bitset mask, each bit presents a component index
+	 */
+	public static long[] toMask(int... indices) {
+		int maxIndex = -1;
+		for (int index : indices) {
+			maxIndex = Math.max(maxIndex, index);
+		}
+		if (maxIndex < 0) {
+			return EMPTY_MASK;
+		}
+
+		var mask = new long[(maxIndex >>> 6) + 1];
+		for (int index : indices) {
+			mask[index >>> 6] |= 1L << index;
+		}
+		return mask;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		var matcher = (Matcher) o;
+		return Arrays.equals(__allOfMask, matcher.__allOfMask) && Arrays.equals(__anyOfMask, matcher.__anyOfMask)
+				&& Arrays.equals(__noneOfMask, matcher.__noneOfMask);
+	}
+
+	@Override
+	public int hashCode() {
+		int result = Arrays.hashCode(__allOfMask);
+		result = 31 * result + Arrays.hashCode(__anyOfMask);
+		result = 31 * result + Arrays.hashCode(__noneOfMask);
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Matcher{allOf=%s, anyOf=%s, noneOf=%s}", Arrays.toString(__allOfMask),
+				Arrays.toString(__anyOfMask), Arrays.toString(__noneOfMask));
+	}
+
+}
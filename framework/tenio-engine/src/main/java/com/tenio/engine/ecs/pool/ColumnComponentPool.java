@@ -0,0 +1,73 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.ecs.pool;
+
+import com.tenio.common.exceptions.NullElementPoolException;
+import com.tenio.common.loggers.SystemLogger;
+import com.tenio.common.pool.ElementsPool;
+import com.tenio.engine.ecs.bases.Component;
+import com.tenio.engine.ecs.bases.implement.FloatColumns;
+
+/**
+ * The pool for a component which is stored in {@link FloatColumns}. It always
+ * returns the same flyweight instance, so the generated accessors can keep
+ * taking and repaying components as they do with the {@link ComponentPool}.
+ */
+public final class ColumnComponentPool extends SystemLogger implements ElementsPool<Component> {
+
+	private FloatColumns __columns;
+
+	public ColumnComponentPool(FloatColumns columns) {
+		__columns = columns;
+	}
+
+	public FloatColumns getColumns() {
+		return __columns;
+	}
+
+	@Override
+	public Component get() {
+		return __columns;
+	}
+
+	@Override
+	public void repay(Component element) {
+		if (element != __columns) {
+			var e = new NullElementPoolException();
+			error(e);
+			throw e;
+		}
+	}
+
+	@Override
+	public void cleanup() {
+		__columns = null;
+	}
+
+	@Override
+	public int getPoolSize() {
+		return __columns != null ? 1 : -1;
+	}
+
+}
@@ -25,12 +25,11 @@ package com.tenio.engine.ecs.pool;
 
 import java.lang.reflect.InvocationTargetException;
 
-import javax.annotation.concurrent.GuardedBy;
-
 import com.tenio.common.configuration.constant.CommonConstant;
 import com.tenio.common.exceptions.NullElementPoolException;
 import com.tenio.common.loggers.SystemLogger;
 import com.tenio.common.pool.ElementsPool;
+import com.tenio.common.pool.FreeListElementsPool;
 import com.tenio.engine.ecs.bases.Component;
 
 /**
@@ -38,95 +37,50 @@ import com.tenio.engine.ecs.bases.Component;
  */
 public final class ComponentPool extends SystemLogger implements ElementsPool<Component> {
 
-	@GuardedBy("this")
-	private Component[] __pool;
-	@GuardedBy("this")
-	private boolean[] __used;
+	private final FreeListElementsPool<Component> __pool;
 	private final Class<?> __clazz;
 
 	public ComponentPool(Class<?> clazz) {
 		__clazz = clazz;
-		__pool = new Component[CommonConstant.DEFAULT_NUMBER_ELEMENTS_POOL];
-		__used = new boolean[CommonConstant.DEFAULT_NUMBER_ELEMENTS_POOL];
+		__pool = new FreeListElementsPool<Component>(index -> __createComponent(),
+				CommonConstant.DEFAULT_NUMBER_ELEMENTS_POOL, 0);
+		__pool.setGrowingListener(
+				poolSize -> info("COMPONENT POOL", buildgen("Increase the number of elements to ", poolSize)));
+	}
 
-		for (int i = 0; i < __pool.length; i++) {
-			try {
-				var component = (Component) __clazz.getDeclaredConstructor().newInstance();
-				__pool[i] = component;
-				__used[i] = false;
-			} catch (InstantiationException | IllegalAccessException | IllegalArgumentException
-					| InvocationTargetException | NoSuchMethodException | SecurityException e) {
-				error(e);
-			}
+	private Component __createComponent() {
+		try {
+			return (Component) __clazz.getDeclaredConstructor().newInstance();
+		} catch (InstantiationException | IllegalAccessException | IllegalArgumentException
+				| InvocationTargetException | NoSuchMethodException | SecurityException e) {
+			error(e);
+			return null;
 		}
 	}
 
 	@Override
-	public synchronized Component get() {
-		for (int i = 0; i < __used.length; i++) {
-			if (!__used[i]) {
-				__used[i] = true;
-				return __pool[i];
-			}
-		}
-		// If we got here, then all the Elements are in use. We will
-		// increase the number in our pool by @ADD_ELEMENT_POOL (arbitrary value for
-		// illustration purposes).
-		var oldUsed = __used;
-		__used = new boolean[oldUsed.length + CommonConstant.ADDITIONAL_NUMBER_ELEMENTS_POOL];
-		System.arraycopy(oldUsed, 0, __used, 0, oldUsed.length);
-
-		var oldPool = __pool;
-		__pool = new Component[oldPool.length + CommonConstant.ADDITIONAL_NUMBER_ELEMENTS_POOL];
-		System.arraycopy(oldPool, 0, __pool, 0, oldPool.length);
-
-		for (int i = oldPool.length; i < __pool.length; i++) {
-			try {
-				__pool[i] = (Component) __clazz.getDeclaredConstructor().newInstance();
-				__used[i] = false;
-			} catch (InstantiationException | IllegalAccessException | IllegalArgumentException
-					| InvocationTargetException | NoSuchMethodException | SecurityException e) {
-				error(e);
-			}
-		}
-
-		info("COMPONENT POOL", buildgen("Increase the number of elements by ",
-				CommonConstant.ADDITIONAL_NUMBER_ELEMENTS_POOL, " to ", __used.length));
-
-		// and allocate the last old ELement
-		__used[oldPool.length - 1] = true;
-		return __pool[oldPool.length - 1];
+	public Component get() {
+		return __pool.get();
 	}
 
 	@Override
-	public synchronized void repay(Component element) {
-		boolean flagFound = false;
-		for (int i = 0; i < __pool.length; i++) {
-			if (__pool[i] == element) {
-				__used[i] = false;
-				flagFound = true;
-				break;
-			}
-		}
-		if (!flagFound) {
-			var e = new NullElementPoolException();
+	public void repay(Component element) {
+		try {
+			__pool.repay(element);
+		} catch (NullElementPoolException e) {
 			error(e);
 			throw e;
 		}
 	}
 
 	@Override
-	public synchronized void cleanup() {
-		for (int i = 0; i < __pool.length; i++) {
-			__pool[i] = null;
-		}
-		__used = null;
-		__pool = null;
+	public void cleanup() {
+		__pool.cleanup();
 	}
 
 	@Override
-	public synchronized int getPoolSize() {
-		return (__pool.length == __used.length) ? __pool.length : -1;
+	public int getPoolSize() {
+		return __pool.getPoolSize();
 	}
 
 }
@@ -0,0 +1,66 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.ecs.systems;
+
+/**
+ * A parallel system which can split its entities into chunks, each chunk is
+ * executed by a different thread. The chunks of one system must work on
+ * different entities.
+ */
+public interface ChunkedExecuteSystem extends ParallelExecuteSystem {
+
+	int DEFAULT_CHUNK_SIZE = 1024;
+
+	/**
+	 * Retrieves the number of entities which should be split, for example, the
+	 * size of the system's group
+	 * 
+	 * @return the number of entities
+	 */
+	int getEntitiesCount();
+
+	/**
+	 * Retrieves the maximum number of entities in one chunk
+	 * 
+	 * @return the chunk size
+	 */
+	default int getChunkSize() {
+		return DEFAULT_CHUNK_SIZE;
+	}
+
+	/**
+	 * Executes the system on a range of entities
+	 * 
+	 * @param deltaTime the delta time
+	 * @param fromIndex the first entity position (inclusive)
+	 * @param toIndex   the last entity position (exclusive)
+	 */
+	void execute(float deltaTime, int fromIndex, int toIndex);
+
+	@Override
+	default void execute(float deltaTime) {
+		execute(deltaTime, 0, getEntitiesCount());
+	}
+
+}
@@ -0,0 +1,51 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.ecs.systems;
+
+/**
+ * An execute system which declares the components it reads and writes. The
+ * {@link com.tenio.engine.ecs.systems.implement.Systems} can then run it at the
+ * same time as the other systems which do not touch its written components.
+ * 
+ * A parallel system must not create or destroy entities, nor add or remove
+ * components, since these operations change the shared groups. A system which
+ * does it should only implement {@link ExecuteSystem}, then it runs alone.
+ */
+public interface ParallelExecuteSystem extends ExecuteSystem {
+
+	/**
+	 * Retrieves the indices of components which are only read by the system
+	 * 
+	 * @return list of component indices
+	 */
+	int[] getReadComponents();
+
+	/**
+	 * Retrieves the indices of components which are modified by the system
+	 * 
+	 * @return list of component indices
+	 */
+	int[] getWriteComponents();
+
+}
@@ -24,10 +24,16 @@ THE SOFTWARE.
 package com.tenio.engine.ecs.systems.implement;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
+import com.tenio.engine.ecs.bases.implement.Matcher;
+import com.tenio.engine.ecs.systems.ChunkedExecuteSystem;
 import com.tenio.engine.ecs.systems.ExecuteSystem;
 import com.tenio.engine.ecs.systems.InitializeSystem;
+import com.tenio.engine.ecs.systems.ParallelExecuteSystem;
 import com.tenio.engine.ecs.systems.RenderSystem;
 import com.tenio.engine.ecs.systems.System;
 import com.tenio.engine.ecs.systems.TearDownSystem;
@@ -38,6 +44,13 @@ import com.tenio.engine.physic2d.graphic.Paint;
  * {@link InitializeSystem}, {@link ExecuteSystem}, {@link RenderSystem},
  * {@link TearDownSystem}, initialized and executed based on the order you added
  * them.
+ * 
+ * When an executor is given, the execute systems are arranged into stages. A
+ * {@link ParallelExecuteSystem} joins the earliest stage after all the
+ * previously added systems which conflict with it, a conflict occurs when one
+ * of them writes a component which the other reads or writes. The systems in
+ * a stage run concurrently, the stages run one by one. A system which does not
+ * declare its components conflicts with all the others.
  */
 public final class Systems implements InitializeSystem, ExecuteSystem, RenderSystem, TearDownSystem {
 
@@ -45,6 +58,8 @@ public final class Systems implements InitializeSystem, ExecuteSystem, RenderSys
 	private final List<ExecuteSystem> __executeSystems;
 	private final List<RenderSystem> __renderSystems;
 	private final List<TearDownSystem> __tearDownSystems;
+	private final ForkJoinPool __executor;
+	private StageAction[] __executeStages;
 
 	/**
 	 * Check if systems is running or not
@@ -52,9 +67,23 @@ public final class Systems implements InitializeSystem, ExecuteSystem, RenderSys
 	private boolean __flagRunning = true;
 
 	/**
-	 * Creates a new systems instance.
+	 * Creates a new systems instance, all the systems are executed on the calling
+	 * thread.
 	 */
 	public Systems() {
+		this(null);
+	}
+
+	/**
+	 * Creates a new systems instance which executes the non-conflicting systems
+	 * concurrently.
+	 * 
+	 * @param executor the pool which executes the systems, <b>null</b> to execute
+	 *                 them sequentially
+	 */
+	public Systems(ForkJoinPool executor) {
+		__executor = executor;
+		__executeStages = null;
 		__initializeSystems = new ArrayList<InitializeSystem>();
 		__executeSystems = new ArrayList<ExecuteSystem>();
 		__renderSystems = new ArrayList<RenderSystem>();
@@ -74,6 +103,7 @@ public final class Systems implements InitializeSystem, ExecuteSystem, RenderSys
 			}
 			if (system instanceof ExecuteSystem) {
 				__executeSystems.add((ExecuteSystem) system);
+				__executeStages = null;
 			}
 			if (system instanceof RenderSystem) {
 				__renderSystems.add((RenderSystem) system);
@@ -106,13 +136,85 @@ public final class Systems implements InitializeSystem, ExecuteSystem, RenderSys
 	 * @param deltaTime the delta time
 	 */
 	public void execute(float deltaTime) {
-		if (__flagRunning) {
+		if (!__flagRunning) {
+			return;
+		}
+
+		if (__executor == null) {
 			for (var system : __executeSystems) {
 				system.execute(deltaTime);
 			}
+			return;
+		}
+
+		for (var stage : __getExecuteStages()) {
+			stage.execute(__executor, deltaTime);
 		}
 	}
 
+	private StageAction[] __getExecuteStages() {
+		if (__executeStages != null) {
+			return __executeStages;
+		}
+
+		int numberSystems = __executeSystems.size();
+		var readMasks = new long[numberSystems][];
+		var writeMasks = new long[numberSystems][];
+		var stageIndices = new int[numberSystems];
+		int numberStages = 0;
+
+		for (int i = 0; i < numberSystems; i++) {
+			var system = __executeSystems.get(i);
+			if (system instanceof ParallelExecuteSystem) {
+				readMasks[i] = Matcher.toMask(((ParallelExecuteSystem) system).getReadComponents());
+				writeMasks[i] = Matcher.toMask(((ParallelExecuteSystem) system).getWriteComponents());
+			}
+
+			int stageIndex = 0;
+			for (int j = 0; j < i; j++) {
+				if (__isConflicted(readMasks, writeMasks, i, j)) {
+					stageIndex = Math.max(stageIndex, stageIndices[j] + 1);
+				}
+			}
+			stageIndices[i] = stageIndex;
+			numberStages = Math.max(numberStages, stageIndex + 1);
+		}
+
+		// the actions are reused in every tick, so the executing does not allocate
+		var stages = new StageAction[numberStages];
+		for (int stageIndex = 0; stageIndex < numberStages; stageIndex++) {
+			var systemActions = new ArrayList<SystemAction>();
+			for (int i = 0; i < numberSystems; i++) {
+				if (stageIndices[i] == stageIndex) {
+					systemActions.add(new SystemAction(__executeSystems.get(i)));
+				}
+			}
+			stages[stageIndex] = new StageAction(systemActions.toArray(new SystemAction[systemActions.size()]));
+		}
+
+		__executeStages = stages;
+		return __executeStages;
+	}
+
+	private boolean __isConflicted(long[][] readMasks, long[][] writeMasks, int first, int second) {
+		// the systems without declared components can touch anything
+		if (writeMasks[first] == null || writeMasks[second] == null) {
+			return true;
+		}
+		return __isIntersected(writeMasks[first], writeMasks[second])
+				|| __isIntersected(writeMasks[first], readMasks[second])
+				|| __isIntersected(readMasks[first], writeMasks[second]);
+	}
+
+	private boolean __isIntersected(long[] first, long[] second) {
+		for (int i = 0; i < first.length && i < second.length; i++) {
+			if ((first[i] & second[i]) != 0L) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Calls {@code render()} on all {@link RenderSystem} and other nested systems
 	 * instances in the order you added them.
@@ -148,6 +250,7 @@ public final class Systems implements InitializeSystem, ExecuteSystem, RenderSys
 	public void clearSystems() {
 		__initializeSystems.clear();
 		__executeSystems.clear();
+		__executeStages = null;
 		__renderSystems.clear();
 		__tearDownSystems.clear();
 	}
@@ -173,4 +276,144 @@ public final class Systems implements InitializeSystem, ExecuteSystem, RenderSys
 		return __flagRunning;
 	}
 
+	/**
+	 * Runs all systems of a stage, it is reinitialized and invoked again in every
+	 * tick
+	 */
+	private static final class StageAction extends RecursiveAction {
+
+		private static final long serialVersionUID = 2383734498373423548L;
+
+		private final SystemAction[] __systemActions;
+
+		StageAction(SystemAction[] systemActions) {
+			__systemActions = systemActions;
+		}
+
+		void execute(ForkJoinPool executor, float deltaTime) {
+			// a single system does not need to be handed over to the executor
+			if (__systemActions.length == 1 && !__systemActions[0].isChunked()) {
+				__systemActions[0].getSystem().execute(deltaTime);
+				return;
+			}
+
+			for (var systemAction : __systemActions) {
+				systemAction.prepare(deltaTime);
+			}
+			reinitialize();
+			executor.invoke(this);
+		}
+
+		@Override
+		protected void compute() {
+			invokeAll(__systemActions);
+		}
+
+	}
+
+	/**
+	 * Runs a system, a chunked system is split into reused chunk actions
+	 */
+	private static final class SystemAction extends RecursiveAction {
+
+		private static final long serialVersionUID = -6482390129447610324L;
+
+		private final ExecuteSystem __system;
+		private ChunkAction[] __chunkActions;
+		private float __deltaTime;
+
+		SystemAction(ExecuteSystem system) {
+			__system = system;
+			__chunkActions = new ChunkAction[0];
+		}
+
+		ExecuteSystem getSystem() {
+			return __system;
+		}
+
+		boolean isChunked() {
+			return __system instanceof ChunkedExecuteSystem;
+		}
+
+		void prepare(float deltaTime) {
+			__deltaTime = deltaTime;
+			reinitialize();
+		}
+
+		@Override
+		protected void compute() {
+			if (!isChunked()) {
+				__system.execute(__deltaTime);
+				return;
+			}
+
+			var chunkedSystem = (ChunkedExecuteSystem) __system;
+			int entitiesCount = chunkedSystem.getEntitiesCount();
+			int chunkSize = Math.max(chunkedSystem.getChunkSize(), 1);
+			int numberChunks = (int) ((entitiesCount + (long) chunkSize - 1) / chunkSize);
+			if (numberChunks <= 0) {
+				return;
+			}
+
+			// only grows when there are more chunks than ever before
+			if (numberChunks > __chunkActions.length) {
+				int oldLength = __chunkActions.length;
+				__chunkActions = Arrays.copyOf(__chunkActions, Math.max(numberChunks, oldLength << 1));
+				for (int i = oldLength; i < __chunkActions.length; i++) {
+					__chunkActions[i] = new ChunkAction(chunkedSystem);
+				}
+			}
+
+			// the other chunks are forked, the first one runs on this thread
+			for (int i = numberChunks - 1; i > 0; i--) {
+				var chunkAction = __chunkActions[i];
+				chunkAction.prepare(__deltaTime, i * chunkSize, Math.min((i + 1) * chunkSize, entitiesCount));
+				chunkAction.fork();
+			}
+			try {
+				chunkedSystem.execute(__deltaTime, 0, Math.min(chunkSize, entitiesCount));
+			} finally {
+				// the forked chunks must be completed before they are reused
+				for (int i = 1; i < numberChunks; i++) {
+					__chunkActions[i].quietlyJoin();
+				}
+			}
+			for (int i = 1; i < numberChunks; i++) {
+				// rethrows the exception of a failed chunk
+				__chunkActions[i].join();
+			}
+		}
+
+	}
+
+	/**
+	 * Runs a chunked system on a range of entities
+	 */
+	private static final class ChunkAction extends RecursiveAction {
+
+		private static final long serialVersionUID = 5271149628379215536L;
+
+		private final ChunkedExecuteSystem __system;
+		private float __deltaTime;
+		private int __fromIndex;
+		private int __toIndex;
+
+		ChunkAction(ChunkedExecuteSystem system) {
+			__system = system;
+		}
+
+		void prepare(float deltaTime, int fromIndex, int toIndex) {
+			__deltaTime = deltaTime;
+			__fromIndex = fromIndex;
+			__toIndex = toIndex;
+			reinitialize();
+		}
+
+		@Override
+		protected void compute() {
+			__system.execute(__deltaTime, __fromIndex, __toIndex);
+		}
+
+	}
+
 }
\ No newline at end of file
@@ -21,20 +21,12 @@ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
 OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
 THE SOFTWARE.
 */
-package com.tenio.core.event;
-
-/**
- * This function interface provides one method for invoking an event.
- */
-@FunctionalInterface
-public interface Emitter<T> {
+package com.tenio.engine.exceptions;
 
+public final class EntityIsNotExistedException extends RuntimeException {
 	/**
-	 * To invoke an event.
 	 * 
-	 * @param params the parameters those will be sent to subscribers
-	 * @return the subsribe's result
 	 */
-	Object emit(@SuppressWarnings("unchecked") T... params);
+	private static final long serialVersionUID = -4178605718329640723L;
 
 }
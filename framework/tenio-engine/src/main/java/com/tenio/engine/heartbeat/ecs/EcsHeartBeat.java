@@ -23,6 +23,8 @@ THE SOFTWARE.
 */
 package com.tenio.engine.heartbeat.ecs;
 
+import java.util.concurrent.ForkJoinPool;
+
 import com.tenio.engine.ecs.systems.System;
 import com.tenio.engine.ecs.systems.implement.Systems;
 import com.tenio.engine.heartbeat.AbstractHeartBeat;
@@ -36,10 +38,21 @@ import com.tenio.engine.physic2d.graphic.Paint;
  */
 public class EcsHeartBeat extends AbstractHeartBeat {
 
-	private final Systems __systems = new Systems();
+	private final Systems __systems;
 
 	public EcsHeartBeat(int viewWidth, int viewHeight) {
+		this(viewWidth, viewHeight, null);
+	}
+
+	/**
+	 * @param viewWidth  the view's width
+	 * @param viewHeight the view's height
+	 * @param executor   the pool which executes the non-conflicting systems
+	 *                   concurrently, see {@link Systems#Systems(ForkJoinPool)}
+	 */
+	public EcsHeartBeat(int viewWidth, int viewHeight, ForkJoinPool executor) {
 		super(viewWidth, viewHeight);
+		__systems = new Systems(executor);
 	}
 
 	public void addSystem(System system) {
@@ -0,0 +1,133 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.ecs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tenio.engine.ecs.bases.implement.ContextInfo;
+import com.tenio.engine.ecs.bases.implement.FloatColumns;
+import com.tenio.engine.ecs.bases.implement.Matcher;
+import com.tenio.engine.ecs.model.GameComponents;
+import com.tenio.engine.ecs.model.GameContext;
+import com.tenio.engine.ecs.model.GameEntity;
+
+public final class EcsColumnsTest {
+
+	private static final int VELOCITY = 2;
+	private static final int X = 0;
+	private static final int Y = 1;
+
+	private GameContext __context;
+	private FloatColumns __velocities;
+
+	@BeforeEach
+	public void initialize() {
+		ContextInfo info = new ContextInfo("Game", GameComponents.getComponentNames(),
+				GameComponents.getComponentTypes(), GameComponents.getNumberComponents());
+		__context = new GameContext(info);
+		__velocities = __context.useFloatColumns(VELOCITY, 2);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		__context.reset();
+	}
+
+	@Test
+	public void columnsShouldBeSharedAsComponent() {
+		var entity = __setVelocity(__context.createEntity(), 1f, 2f);
+		var otherEntity = __setVelocity(__context.createEntity(), 3f, 4f);
+
+		assertSame(__velocities, __context.getFloatColumns(VELOCITY));
+		assertNull(__context.getFloatColumns(GameComponents.POSITION));
+		assertSame(entity.getComponent(VELOCITY), otherEntity.getComponent(VELOCITY));
+		assertEquals(1f, __velocities.get(X, entity.getIndex()));
+		assertEquals(4f, __velocities.get(Y, otherEntity.getIndex()));
+		assertEquals(2, __context.getGroup(Matcher.allOf(VELOCITY).noneOf(GameComponents.POSITION)).getCount());
+	}
+
+	@Test
+	public void columnsShouldCoverAllEntities() {
+		GameEntity lastEntity = null;
+		for (int i = 0; i < 200; i++) {
+			lastEntity = __context.createEntity();
+		}
+
+		assertTrue(__velocities.getCapacity() > lastEntity.getIndex());
+	}
+
+	@Test
+	public void columnsShouldBeIteratedLinearly() {
+		for (int i = 0; i < 10; i++) {
+			__setVelocity(__context.createEntity(), i, 0f);
+		}
+
+		var x = __velocities.getColumn(X);
+		for (int i = 0; i < x.length; i++) {
+			x[i] *= 2f;
+		}
+
+		var group = __context.getGroup(Matcher.allOf(VELOCITY));
+		float sum = 0f;
+		for (int i = 0; i < group.getCount(); i++) {
+			sum += __velocities.get(X, group.getEntity(i).getIndex());
+		}
+		assertEquals(90f, sum);
+	}
+
+	@Test
+	public void reusedEntityShouldNotKeepOldColumnValues() {
+		var entity = __setVelocity(__context.createEntity(), 1f, 2f);
+		int index = entity.getIndex();
+		__context.destroyEntity(entity);
+
+		assertEquals(0f, __velocities.get(X, index));
+		assertEquals(0f, __velocities.get(Y, index));
+
+		var reusedEntity = __context.createEntity();
+		assertEquals(index, reusedEntity.getIndex());
+		assertEquals(0f, __velocities.get(X, index));
+
+		__setVelocity(reusedEntity, 3f, 4f);
+		reusedEntity.getComponentPools()[VELOCITY].repay(reusedEntity.getComponent(VELOCITY));
+		reusedEntity.removeComponent(VELOCITY);
+		assertEquals(0f, __velocities.get(Y, index));
+	}
+
+	private GameEntity __setVelocity(GameEntity entity, float x, float y) {
+		var columns = (FloatColumns) entity.getComponentPools()[VELOCITY].get();
+		columns.set(X, entity.getIndex(), x);
+		columns.set(Y, entity.getIndex(), y);
+		entity.setComponent(VELOCITY, columns);
+		return entity;
+	}
+
+}
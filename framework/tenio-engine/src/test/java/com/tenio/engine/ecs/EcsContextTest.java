@@ -27,6 +27,9 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.AfterEach;
@@ -34,11 +37,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import com.tenio.engine.ecs.bases.implement.ContextInfo;
+import com.tenio.engine.ecs.bases.implement.EntityHandle;
 import com.tenio.engine.ecs.model.GameComponents;
 import com.tenio.engine.ecs.model.GameContext;
 import com.tenio.engine.ecs.model.GameEntity;
 import com.tenio.engine.ecs.model.component.Position;
 import com.tenio.engine.exceptions.DuplicatedComponentException;
+import com.tenio.engine.exceptions.EntityIsNotExistedException;
 
 /**
  * @author kong
@@ -78,6 +83,15 @@ public final class EcsContextTest {
 		assertFalse(__context.hasEntity(__entity));
 	}
 
+	@Test
+	public void removeDestroyedEntityShouldCauseException() {
+		__context.destroyEntity(__entity);
+
+		assertThrows(EntityIsNotExistedException.class, () -> {
+			__context.destroyEntity(__entity);
+		});
+	}
+
 	@Test
 	public void countEntitesShouldMatchValue() {
 		assertAll("countEntities", () -> assertEquals(1, __context.getEntitesCount()),
@@ -122,6 +136,46 @@ public final class EcsContextTest {
 				() -> assertEquals(position.y, ((Position) __entity.getComponent(GameComponents.POSITION)).y));
 	}
 
+	@Test
+	public void findEntityByHandleShouldReturnTheEntity() {
+		assertSame(__entity, __context.getEntity(__entity.getHandle()));
+		assertNull(__context.getEntity(EntityHandle.NULL));
+	}
+
+	@Test
+	public void handleOfDestroyedEntityShouldBeStale() {
+		long handle = __entity.getHandle();
+		__context.destroyEntity(__entity);
+
+		var reusedEntity = __context.createEntity();
+
+		assertSame(__entity, reusedEntity);
+		assertEquals(EntityHandle.getIndex(handle), reusedEntity.getIndex());
+		assertNotEquals(handle, reusedEntity.getHandle());
+		assertNull(__context.getEntity(handle));
+		assertSame(reusedEntity, __context.getEntity(reusedEntity.getHandle()));
+	}
+
+	@Test
+	public void findEntityByLabelShouldReturnTheEntity() {
+		__entity.setId("hero");
+
+		assertSame(__entity, __context.getEntity("hero"));
+		assertNull(__context.getEntity("villain"));
+	}
+
+	@Test
+	public void reusedEntityShouldNotKeepItsOldLabel() {
+		__entity.setId("hero");
+		__context.destroyEntity(__entity);
+
+		var reusedEntity = __context.createEntity();
+
+		assertSame(__entity, reusedEntity);
+		assertNull(reusedEntity.getId());
+		assertNull(__context.getEntity("hero"));
+	}
+
 	@Test
 	public void removeAllEntitiesShouldReturnSucess() {
 		__context.destroyAllEntities();
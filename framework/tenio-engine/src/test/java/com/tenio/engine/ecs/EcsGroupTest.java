@@ -0,0 +1,131 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.ecs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.HashSet;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tenio.engine.ecs.bases.Group;
+import com.tenio.engine.ecs.bases.implement.ContextInfo;
+import com.tenio.engine.ecs.bases.implement.Matcher;
+import com.tenio.engine.ecs.model.GameComponents;
+import com.tenio.engine.ecs.model.GameContext;
+import com.tenio.engine.ecs.model.GameEntity;
+
+public final class EcsGroupTest {
+
+	private GameContext __context;
+
+	@BeforeEach
+	public void initialize() {
+		ContextInfo info = new ContextInfo("Game", GameComponents.getComponentNames(),
+				GameComponents.getComponentTypes(), GameComponents.getNumberComponents());
+		__context = new GameContext(info);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		__context.reset();
+	}
+
+	@Test
+	public void groupShouldBeCachedByMatcher() {
+		var group = __context.getGroup(Matcher.allOf(GameComponents.POSITION, GameComponents.MOTION));
+
+		assertSame(group, __context.getGroup(Matcher.allOf(GameComponents.MOTION, GameComponents.POSITION)));
+	}
+
+	@Test
+	public void groupShouldContainExistingEntities() {
+		var entity = __context.createEntity().setPosition(0, 0).setMotion(true);
+		__context.createEntity().setPosition(0, 0);
+
+		var group = __context.getGroup(Matcher.allOf(GameComponents.POSITION, GameComponents.MOTION));
+
+		assertEquals(1, group.getCount());
+		assertSame(entity, group.getEntity(0));
+	}
+
+	@Test
+	public void groupShouldFollowComponentsChanges() {
+		var group = __context.getGroup(Matcher.allOf(GameComponents.POSITION).noneOf(GameComponents.VIEW));
+		var entity = __context.createEntity();
+		assertEquals(0, group.getCount());
+
+		entity.setPosition(1, 1);
+		assertEquals(1, group.getCount());
+
+		// replacing a component does not change the membership
+		entity.replacePosition(2, 2);
+		assertEquals(1, group.getCount());
+
+		entity.setView(true);
+		assertEquals(0, group.getCount());
+
+		entity.setView(false);
+		assertEquals(1, group.getCount());
+
+		entity.removePosition();
+		assertEquals(0, group.getCount());
+	}
+
+	@Test
+	public void destroyedEntitiesShouldLeaveTheirGroups() {
+		var group = __context.getGroup(Matcher.anyOf(GameComponents.ANIMATION, GameComponents.MOTION));
+		var emptyGroup = __context.getGroup(Matcher.allOf().noneOf(GameComponents.VIEW));
+
+		var entities = new GameEntity[10];
+		for (int i = 0; i < entities.length; i++) {
+			entities[i] = __context.createEntity().setMotion(true);
+		}
+		assertEquals(10, group.getCount());
+		assertEquals(10, emptyGroup.getCount());
+
+		for (int i = 0; i < entities.length; i += 2) {
+			__context.destroyEntity(entities[i]);
+		}
+		assertEquals(5, group.getCount());
+		assertEquals(5, emptyGroup.getCount());
+		assertEquals(__members(group), __members(emptyGroup));
+
+		__context.destroyAllEntities();
+		assertEquals(0, group.getCount());
+		assertEquals(0, emptyGroup.getCount());
+	}
+
+	private HashSet<GameEntity> __members(Group<GameEntity> group) {
+		var members = new HashSet<GameEntity>();
+		for (int i = 0; i < group.getCount(); i++) {
+			members.add(group.getEntity(i));
+		}
+		return members;
+	}
+
+}
@@ -0,0 +1,199 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2021 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.ecs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tenio.engine.ecs.model.GameComponents;
+import com.tenio.engine.ecs.systems.ChunkedExecuteSystem;
+import com.tenio.engine.ecs.systems.ExecuteSystem;
+import com.tenio.engine.ecs.systems.ParallelExecuteSystem;
+import com.tenio.engine.ecs.systems.implement.Systems;
+
+public final class EcsSchedulerTest {
+
+	private ForkJoinPool __executor;
+	private Systems __systems;
+	private List<String> __executedSystems;
+
+	@BeforeEach
+	public void initialize() {
+		__executor = new ForkJoinPool(4);
+		__systems = new Systems(__executor);
+		__executedSystems = new CopyOnWriteArrayList<String>();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		__systems.clearSystems();
+		__executor.shutdownNow();
+	}
+
+	@Test
+	public void nonConflictingSystemsShouldRunConcurrently() {
+		var latch = new CountDownLatch(2);
+		var waitingSystem = new ParallelExecuteSystem() {
+
+			@Override
+			public void execute(float deltaTime) {
+				latch.countDown();
+				try {
+					// only passes when the other system is running at the same time
+					if (latch.await(5, TimeUnit.SECONDS)) {
+						__executedSystems.add("concurrent");
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+
+			@Override
+			public int[] getReadComponents() {
+				return new int[] { GameComponents.POSITION };
+			}
+
+			@Override
+			public int[] getWriteComponents() {
+				return new int[] { GameComponents.VIEW };
+			}
+
+		};
+
+		__systems.add(waitingSystem);
+		__systems.add(new ParallelExecuteSystem() {
+
+			@Override
+			public void execute(float deltaTime) {
+				latch.countDown();
+			}
+
+			@Override
+			public int[] getReadComponents() {
+				return new int[] { GameComponents.POSITION };
+			}
+
+			@Override
+			public int[] getWriteComponents() {
+				return new int[] { GameComponents.ANIMATION };
+			}
+
+		});
+		__systems.execute(1);
+
+		assertEquals(List.of("concurrent"), __executedSystems);
+	}
+
+	@Test
+	public void conflictingSystemsShouldKeepTheirOrder() {
+		__systems.add(__newSystem("move", new int[] { GameComponents.MOTION }, new int[] { GameComponents.POSITION }));
+		__systems.add(__newSystem("render", new int[] { GameComponents.POSITION }, new int[] { GameComponents.VIEW }));
+		__systems.add((ExecuteSystem) deltaTime -> __executedSystems.add("barrier"));
+		__systems.add(__newSystem("animate", new int[] {}, new int[] { GameComponents.ANIMATION }));
+
+		for (int i = 0; i < 10; i++) {
+			__executedSystems.clear();
+			__systems.execute(1);
+
+			assertEquals(List.of("move", "render", "barrier", "animate"), __executedSystems);
+		}
+	}
+
+	@Test
+	public void chunkedSystemShouldExecuteAllEntitiesOncePerTick() {
+		int entitiesCount = 10000;
+		var executedEntities = new AtomicIntegerArray(entitiesCount);
+
+		__systems.add(new ChunkedExecuteSystem() {
+
+			@Override
+			public void execute(float deltaTime, int fromIndex, int toIndex) {
+				for (int i = fromIndex; i < toIndex; i++) {
+					executedEntities.incrementAndGet(i);
+				}
+			}
+
+			@Override
+			public int getEntitiesCount() {
+				return entitiesCount;
+			}
+
+			@Override
+			public int getChunkSize() {
+				return 300;
+			}
+
+			@Override
+			public int[] getReadComponents() {
+				return new int[] { GameComponents.MOTION };
+			}
+
+			@Override
+			public int[] getWriteComponents() {
+				return new int[] { GameComponents.POSITION };
+			}
+
+		});
+		// the chunk actions are reused in the next ticks
+		for (int i = 0; i < 3; i++) {
+			__systems.execute(1);
+		}
+
+		for (int i = 0; i < entitiesCount; i++) {
+			assertEquals(3, executedEntities.get(i));
+		}
+	}
+
+	private ParallelExecuteSystem __newSystem(String name, int[] readComponents, int[] writeComponents) {
+		return new ParallelExecuteSystem() {
+
+			@Override
+			public void execute(float deltaTime) {
+				__executedSystems.add(name);
+			}
+
+			@Override
+			public int[] getReadComponents() {
+				return readComponents;
+			}
+
+			@Override
+			public int[] getWriteComponents() {
+				return writeComponents;
+			}
+
+		};
+	}
+
+}